@@ -48,6 +48,9 @@ import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ProtocolKeyword;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.TracedCommand;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.TraceContextProvider;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -737,7 +740,7 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
     }
 
     public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
-        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(cmd);
+        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(attachTraceContext(cmd));
         RedisCommand<K, V, T> dispatched = connection.dispatch(asyncCommand);
         if (dispatched instanceof AsyncCommand) {
             return (AsyncCommand<K, V, T>) dispatched;
@@ -745,6 +748,26 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisAclAsyncC
         return asyncCommand;
     }
 
+    /**
+     * Attach the trace context of the {@link TraceContextProvider} that is bound to the calling thread, if any. Callers that
+     * dispatch commands without {@link #dispatch(RedisCommand)} use this method to retain the trace context.
+     *
+     * @param command the command.
+     * @return the {@link TracedCommand} carrying the trace context or {@code command} if no trace context is bound.
+     * @since 6.7
+     */
+    protected <T> RedisCommand<K, V, T> attachTraceContext(RedisCommand<K, V, T> command) {
+
+        TraceContextProvider provider = TraceContextScope.current();
+
+        if (provider == null) {
+            return command;
+        }
+
+        TraceContext traceContext = provider.getTraceContext();
+        return traceContext != null ? new TracedCommand<>(command, traceContext) : command;
+    }
+
     @Override
     public RedisFuture<byte[]> dump(K key) {
         return dispatch(commandBuilder.dump(key));
@@ -54,11 +54,15 @@ import io.lettuce.core.tracing.TraceContextProvider;
 import io.lettuce.core.tracing.Tracing;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.reactivestreams.Publisher;
+
+import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -691,12 +695,78 @@ public abstract class AbstractRedisReactiveCommands<K, V>
     public <T> Mono<T> createMono(Supplier<RedisCommand<K, V, T>> commandSupplier) {
 
         if (tracingEnabled) {
+            return new TracedMono<>(commandSupplier).assemble();
+        }
+
+        return RedisMono.create(commandSupplier, connection, getScheduler().next());
+    }
+
+    /**
+     * Create a {@link Flux} that dispatches the commands of {@code commandSuppliers} as a single batch upon subscription and
+     * emits their results in the order of {@code commandSuppliers}. Each command emits its complete output value, including
+     * commands using a {@link io.lettuce.core.output.StreamingOutput}. Cancelling the {@link Flux} cancels the commands that
+     * have not completed yet.
+     *
+     * @param commandSuppliers the command suppliers.
+     * @param <T> result type.
+     * @return the {@link Flux} emitting the command results.
+     * @since 6.7
+     */
+    protected <T> Flux<T> createBatchedFlux(List<Supplier<RedisCommand<K, V, T>>> commandSuppliers) {
+
+        if (tracingEnabled) {
+            return withTraceContext().flatMapMany(it -> pipelineBatch(toMonos(commandSuppliers, it)));
+        }
+
+        return Flux.defer(() -> pipelineBatch(toMonos(commandSuppliers, null)));
+    }
 
-            return withTraceContext().flatMap(it -> Mono
-                    .from(new RedisPublisher<>(decorate(commandSupplier, it), connection, false, getScheduler().next())));
+    private <T> List<Mono<T>> toMonos(List<Supplier<RedisCommand<K, V, T>>> commandSuppliers, TraceContext traceContext) {
+
+        List<Mono<T>> monos = new ArrayList<>(commandSuppliers.size());
+
+        for (Supplier<RedisCommand<K, V, T>> commandSupplier : commandSuppliers) {
+            // not subject to assembly hooks to retain the RedisMono for batching
+            monos.add(new RedisMono<>(traceContext != null ? decorate(commandSupplier, traceContext) : commandSupplier,
+                    connection, getScheduler().next(), false));
         }
 
-        return Mono.from(new RedisPublisher<>(commandSupplier, connection, false, getScheduler().next()));
+        return monos;
+    }
+
+    public <T> Flux<T> pipeline(Publisher<? extends Publisher<? extends T>> commands, int batchSize) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+        LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+        return Flux.from(commands).buffer(batchSize).concatMap(this::pipelineBatch, 1);
+    }
+
+    public <T> Flux<T> pipeline(Publisher<? extends Publisher<? extends T>> commands, int batchSize, Duration batchWindow) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+        LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+        LettuceAssert.notNull(batchWindow, "Batch window must not be null");
+        LettuceAssert.isTrue(!batchWindow.isNegative() && !batchWindow.isZero(), "Batch window must be positive");
+
+        return Flux.from(commands).bufferTimeout(batchSize, batchWindow, true).concatMap(this::pipelineBatch, 1);
+    }
+
+    private <T> Flux<T> pipelineBatch(List<? extends Publisher<? extends T>> batch) {
+
+        return Flux.from(subscriber -> {
+
+            RedisMono.CommandBatch commandBatch = new RedisMono.CommandBatch(connection);
+            List<Publisher<? extends T>> members = new ArrayList<>(batch.size());
+
+            for (Publisher<? extends T> command : batch) {
+                members.add(commandBatch.enlist(command));
+            }
+
+            // subscribing requests each member and enlists its command, dispatch the batch afterwards
+            Flux.<T> mergeSequential(members, batch.size(), 1).subscribe(subscriber);
+            commandBatch.dispatch();
+        });
     }
 
     private <T> Supplier<RedisCommand<K, V, T>> decorate(Supplier<RedisCommand<K, V, T>> commandSupplier,
@@ -704,6 +774,56 @@ public abstract class AbstractRedisReactiveCommands<K, V>
         return () -> new TracedCommand<>(commandSupplier.get(), traceContext);
     }
 
+    /**
+     * {@link Mono} that obtains the {@link TraceContext} upon subscription and emits the result of the traced command. Remains
+     * {@link BatchablePublisher batchable} so that {@link #pipeline(Publisher, int) pipelining} does not fall back to
+     * dispatching commands individually when tracing is enabled.
+     */
+    class TracedMono<T> extends Mono<T> implements BatchablePublisher<T> {
+
+        private final Supplier<RedisCommand<K, V, T>> commandSupplier;
+
+        TracedMono(Supplier<RedisCommand<K, V, T>> commandSupplier) {
+            this.commandSupplier = commandSupplier;
+        }
+
+        Mono<T> assemble() {
+            return onAssembly(this);
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super T> actual) {
+            subscribe(actual, null);
+        }
+
+        @Override
+        public Publisher<T> batched(RedisMono.CommandBatch batch) {
+
+            if (batch.connection != connection) {
+                return this;
+            }
+
+            return new Mono<T>() {
+
+                @Override
+                public void subscribe(CoreSubscriber<? super T> actual) {
+                    TracedMono.this.subscribe(actual, batch);
+                }
+
+            };
+        }
+
+        private void subscribe(CoreSubscriber<? super T> actual, RedisMono.CommandBatch batch) {
+
+            withTraceContext().flatMap(it -> {
+
+                RedisMono<K, V, T> mono = new RedisMono<>(decorate(commandSupplier, it), connection, getScheduler().next());
+                return batch != null ? mono.batched(batch) : mono;
+            }).subscribe(actual);
+        }
+
+    }
+
     @Override
     public Mono<Long> dbsize() {
         return createMono(commandBuilder::dbsize);
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control how commands are flushed to the transport when auto-flushing is enabled.
+ * <p>
+ * By default, each command is written and flushed individually. Write coalescing defers the flush of a command to the end of
+ * the current event loop turn so that all commands written in the meantime are flushed with a single flush. This reduces the
+ * number of {@code write} system calls under concurrent load without requiring application code to manage flushing through
+ * {@link io.lettuce.core.api.StatefulConnection#setAutoFlushCommands(boolean)}. A flush is issued early if the number of
+ * pending commands or the number of pending bytes exceed the configured bounds.
+ * <p>
+ * The submission queue replaces per-command writes from application threads with a lock-free multi-producer queue that is
+ * drained by the channel's event loop. Commands are encoded in bulk and flushed once per drained batch of at most
+ * {@link #getMaxPendingCommands()} commands. This avoids submitting a write task per command to the event loop when many
+ * threads share a single connection.
+ *
+ * @since 6.7
+ */
+@SuppressWarnings("serial")
+public class AutoFlushOptions implements Serializable {
+
+    public static final boolean DEFAULT_COALESCE_WRITES = false;
+
+    public static final boolean DEFAULT_SUBMISSION_QUEUE = false;
+
+    public static final int DEFAULT_MAX_PENDING_COMMANDS = 1024;
+
+    public static final long DEFAULT_MAX_PENDING_BYTES = 1024 * 1024;
+
+    private final boolean coalesceWrites;
+
+    private final boolean submissionQueue;
+
+    private final int maxPendingCommands;
+
+    private final long maxPendingBytes;
+
+    private AutoFlushOptions(boolean coalesceWrites, boolean submissionQueue, int maxPendingCommands, long maxPendingBytes) {
+
+        this.coalesceWrites = coalesceWrites;
+        this.submissionQueue = submissionQueue;
+        this.maxPendingCommands = maxPendingCommands;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Returns a new {@link AutoFlushOptions.Builder} to construct {@link AutoFlushOptions}.
+     *
+     * @return a new {@link AutoFlushOptions.Builder} to construct {@link AutoFlushOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link AutoFlushOptions} with default settings.
+     *
+     * @return a new instance of {@link AutoFlushOptions} with default settings.
+     */
+    public static AutoFlushOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link AutoFlushOptions} with enabled write coalescing using default bounds.
+     *
+     * @return a new instance of {@link AutoFlushOptions} with enabled write coalescing.
+     */
+    public static AutoFlushOptions coalescing() {
+        return builder().coalesceWrites().build();
+    }
+
+    /**
+     * Create a new instance of {@link AutoFlushOptions} with an enabled submission queue using default bounds.
+     *
+     * @return a new instance of {@link AutoFlushOptions} with an enabled submission queue.
+     */
+    public static AutoFlushOptions submissionQueue() {
+        return builder().submissionQueue().build();
+    }
+
+    /**
+     * Builder for {@link AutoFlushOptions}.
+     */
+    public static class Builder {
+
+        private boolean coalesceWrites = DEFAULT_COALESCE_WRITES;
+
+        private boolean submissionQueue = DEFAULT_SUBMISSION_QUEUE;
+
+        private int maxPendingCommands = DEFAULT_MAX_PENDING_COMMANDS;
+
+        private long maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+
+        /**
+         * Enable write coalescing. Disabled by default, see {@link #DEFAULT_COALESCE_WRITES}.
+         *
+         * @return {@code this}
+         */
+        public Builder coalesceWrites() {
+            return coalesceWrites(true);
+        }
+
+        /**
+         * Configure whether writes should be coalesced into a single flush per event loop turn. Disabled by default, see
+         * {@link #DEFAULT_COALESCE_WRITES}.
+         *
+         * @param enabled {@code true} to enable write coalescing; {@code false} to flush each command individually.
+         * @return {@code this}
+         */
+        public Builder coalesceWrites(boolean enabled) {
+
+            this.coalesceWrites = enabled;
+            return this;
+        }
+
+        /**
+         * Enable the submission queue. Disabled by default, see {@link #DEFAULT_SUBMISSION_QUEUE}.
+         *
+         * @return {@code this}
+         */
+        public Builder submissionQueue() {
+            return submissionQueue(true);
+        }
+
+        /**
+         * Configure whether commands should be submitted through a multi-producer queue that is drained by the channel's event
+         * loop. Disabled by default, see {@link #DEFAULT_SUBMISSION_QUEUE}.
+         *
+         * @param enabled {@code true} to enable the submission queue; {@code false} to write each command individually.
+         * @return {@code this}
+         */
+        public Builder submissionQueue(boolean enabled) {
+
+            this.submissionQueue = enabled;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of commands that are written without a flush before a flush is issued. Defaults to
+         * {@code 1024}, see {@link #DEFAULT_MAX_PENDING_COMMANDS}.
+         *
+         * @param maxPendingCommands the maximum number of pending commands, must be greater {@code 0}.
+         * @return {@code this}
+         */
+        public Builder maxPendingCommands(int maxPendingCommands) {
+
+            LettuceAssert.isTrue(maxPendingCommands > 0, "Max pending commands must be greater 0");
+
+            this.maxPendingCommands = maxPendingCommands;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of bytes that are pending in the outbound buffer before a flush is issued. Defaults to
+         * {@code 1 MiB}, see {@link #DEFAULT_MAX_PENDING_BYTES}.
+         *
+         * @param maxPendingBytes the maximum number of pending bytes, must be greater {@code 0}.
+         * @return {@code this}
+         */
+        public Builder maxPendingBytes(long maxPendingBytes) {
+
+            LettuceAssert.isTrue(maxPendingBytes > 0, "Max pending bytes must be greater 0");
+
+            this.maxPendingBytes = maxPendingBytes;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link AutoFlushOptions}.
+         *
+         * @return new instance of {@link AutoFlushOptions}
+         */
+        public AutoFlushOptions build() {
+            return new AutoFlushOptions(coalesceWrites, submissionQueue, maxPendingCommands, maxPendingBytes);
+        }
+
+    }
+
+    /**
+     * Returns whether writes are coalesced into a single flush per event loop turn.
+     *
+     * @return {@code true} if write coalescing is enabled.
+     */
+    public boolean isCoalesceWrites() {
+        return coalesceWrites;
+    }
+
+    /**
+     * Returns whether commands are submitted through a multi-producer queue that is drained by the channel's event loop.
+     *
+     * @return {@code true} if the submission queue is enabled.
+     */
+    public boolean isSubmissionQueue() {
+        return submissionQueue;
+    }
+
+    /**
+     * Returns the maximum number of commands that are written without a flush.
+     *
+     * @return the maximum number of pending commands.
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * Returns the maximum number of bytes that are pending in the outbound buffer before a flush is issued.
+     *
+     * @return the maximum number of pending bytes.
+     */
+    public long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+}
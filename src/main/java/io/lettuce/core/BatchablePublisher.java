@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * {@link Publisher} of a single command that can enlist its command with a {@link RedisMono.CommandBatch} instead of
+ * dispatching it individually.
+ *
+ * @param <T> Result type.
+ * @since 6.7
+ */
+interface BatchablePublisher<T> extends Publisher<T> {
+
+    /**
+     * Return a {@link Publisher} that enlists its command with {@code batch} instead of dispatching it individually. Returns
+     * {@code this} if {@code batch} belongs to a different connection.
+     *
+     * @param batch the batch to enlist commands with.
+     * @return the {@link Publisher}.
+     */
+    Publisher<T> batched(RedisMono.CommandBatch batch);
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import io.lettuce.core.api.reactive.BaseRedisReactiveCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.ChunkedValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Chunked retrieval of large values exposed through {@link Flux} and {@link InputStream}.
+ * <p>
+ * {@link ChunkedValueStream} reads values using {@code GET} and {@code HGET} and emits the value in chunks as they are read
+ * from the connection. Values are not aggregated in the connection's read buffer, so memory consumption per connection remains
+ * bounded regardless of the value size. Reading is demand-aware: the connection stops reading from the socket if the subscriber
+ * does not request more chunks.
+ * <p>
+ * The codec is only used to encode the key and field arguments, value chunks are emitted as raw bytes. A non-existent key or
+ * field completes the stream without emitting chunks.
+ *
+ * @since 6.7
+ */
+public abstract class ChunkedValueStream {
+
+    private static final int DEFAULT_PREFETCH = 8;
+
+    private ChunkedValueStream() {
+    }
+
+    /**
+     * Retrieve the value of {@code key} in chunks using {@code GET}.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param codec the codec used to encode the key, must not be {@code null}.
+     * @param key the key, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux} emitting value chunks.
+     */
+    public static <K, V> Flux<ByteBuffer> get(BaseRedisReactiveCommands<K, V> commands, RedisCodec<K, V> codec, K key) {
+
+        LettuceAssert.notNull(commands, "RedisCommands must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return commands.dispatch(CommandType.GET, new ChunkedValueOutput<>(codec), new CommandArgs<>(codec).addKey(key));
+    }
+
+    /**
+     * Retrieve the value of a hash {@code field} in chunks using {@code HGET}.
+     *
+     * @param commands the commands interface, must not be {@code null}.
+     * @param codec the codec used to encode the key and field, must not be {@code null}.
+     * @param key the key, must not be {@code null}.
+     * @param field the field, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux} emitting value chunks.
+     */
+    public static <K, V> Flux<ByteBuffer> hget(BaseRedisReactiveCommands<K, V> commands, RedisCodec<K, V> codec, K key,
+            K field) {
+
+        LettuceAssert.notNull(commands, "RedisCommands must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+        LettuceAssert.notNull(field, "Field must not be null");
+
+        return commands.dispatch(CommandType.HGET, new ChunkedValueOutput<>(codec),
+                new CommandArgs<>(codec).addKey(key).addKey(field));
+    }
+
+    /**
+     * Adapt a chunk {@link Publisher} to a blocking {@link InputStream}. The stream subscribes to {@code chunks} upon first
+     * read and prefetches a bounded number of chunks. Closing the stream cancels the subscription.
+     *
+     * @param chunks the chunk publisher, must not be {@code null}.
+     * @return the {@link InputStream}.
+     */
+    public static InputStream toInputStream(Publisher<ByteBuffer> chunks) {
+        return toInputStream(chunks, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Adapt a chunk {@link Publisher} to a blocking {@link InputStream}. The stream subscribes to {@code chunks} upon first
+     * read and prefetches up to {@code prefetch} chunks. Closing the stream cancels the subscription.
+     *
+     * @param chunks the chunk publisher, must not be {@code null}.
+     * @param prefetch number of chunks to prefetch, must be greater {@code 0}.
+     * @return the {@link InputStream}.
+     */
+    public static InputStream toInputStream(Publisher<ByteBuffer> chunks, int prefetch) {
+
+        LettuceAssert.notNull(chunks, "Publisher must not be null");
+        LettuceAssert.isTrue(prefetch > 0, "Prefetch must be greater 0");
+
+        return new ChunkInputStream(Flux.from(chunks).toStream(prefetch));
+    }
+
+    static class ChunkInputStream extends InputStream {
+
+        private final Stream<ByteBuffer> stream;
+
+        private Iterator<ByteBuffer> iterator;
+
+        private ByteBuffer current;
+
+        private boolean closed;
+
+        ChunkInputStream(Stream<ByteBuffer> stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            if (!advance()) {
+                return -1;
+            }
+
+            return current.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!advance()) {
+                return -1;
+            }
+
+            int count = Math.min(len, current.remaining());
+            current.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.remaining() : 0;
+        }
+
+        @Override
+        public void close() {
+
+            if (!closed) {
+                closed = true;
+                stream.close();
+            }
+        }
+
+        private boolean advance() throws IOException {
+
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+
+            if (iterator == null) {
+                iterator = stream.iterator();
+            }
+
+            while (current == null || !current.hasRemaining()) {
+
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+
+                current = iterator.next();
+            }
+
+            return true;
+        }
+
+    }
+
+}
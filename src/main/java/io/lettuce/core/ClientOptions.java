@@ -94,6 +94,16 @@ public class ClientOptions implements Serializable {
 
     public static final boolean DEFAULT_USE_HASH_INDEX_QUEUE = true;
 
+    public static final boolean DEFAULT_COMPLETE_ON_SCHEDULER = false;
+
+    public static final boolean DEFAULT_PARKING_SYNC_EXECUTION = false;
+
+    public static final boolean DEFAULT_REQUEST_QUEUE_BACKPRESSURE = false;
+
+    public static final boolean DEFAULT_USE_ARRAY_INDEXED_QUEUE = false;
+
+    public static final AutoFlushOptions DEFAULT_AUTO_FLUSH_OPTIONS = AutoFlushOptions.create();
+
     private final boolean autoReconnect;
 
     private final Predicate<RedisCommand<?, ?, ?>> replayFilter;
@@ -130,6 +140,16 @@ public class ClientOptions implements Serializable {
 
     private final boolean useHashIndexedQueue;
 
+    private final boolean completeOnScheduler;
+
+    private final boolean parkingSyncExecution;
+
+    private final boolean requestQueueBackpressure;
+
+    private final boolean useArrayIndexedQueue;
+
+    private final AutoFlushOptions autoFlushOptions;
+
     protected ClientOptions(Builder builder) {
         this.autoReconnect = builder.autoReconnect;
         this.replayFilter = builder.replayFilter;
@@ -149,6 +169,11 @@ public class ClientOptions implements Serializable {
         this.suspendReconnectOnProtocolFailure = builder.suspendReconnectOnProtocolFailure;
         this.timeoutOptions = builder.timeoutOptions;
         this.useHashIndexedQueue = builder.useHashIndexedQueue;
+        this.completeOnScheduler = builder.completeOnScheduler;
+        this.parkingSyncExecution = builder.parkingSyncExecution;
+        this.requestQueueBackpressure = builder.requestQueueBackpressure;
+        this.useArrayIndexedQueue = builder.useArrayIndexedQueue;
+        this.autoFlushOptions = builder.autoFlushOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -170,6 +195,11 @@ public class ClientOptions implements Serializable {
         this.suspendReconnectOnProtocolFailure = original.isSuspendReconnectOnProtocolFailure();
         this.timeoutOptions = original.getTimeoutOptions();
         this.useHashIndexedQueue = original.isUseHashIndexedQueue();
+        this.completeOnScheduler = original.isCompleteOnScheduler();
+        this.parkingSyncExecution = original.isParkingSyncExecution();
+        this.requestQueueBackpressure = original.isRequestQueueBackpressure();
+        this.useArrayIndexedQueue = original.isUseArrayIndexedQueue();
+        this.autoFlushOptions = original.getAutoFlushOptions();
     }
 
     /**
@@ -241,6 +271,16 @@ public class ClientOptions implements Serializable {
 
         private boolean useHashIndexedQueue = DEFAULT_USE_HASH_INDEX_QUEUE;
 
+        private boolean completeOnScheduler = DEFAULT_COMPLETE_ON_SCHEDULER;
+
+        private boolean parkingSyncExecution = DEFAULT_PARKING_SYNC_EXECUTION;
+
+        private boolean requestQueueBackpressure = DEFAULT_REQUEST_QUEUE_BACKPRESSURE;
+
+        private boolean useArrayIndexedQueue = DEFAULT_USE_ARRAY_INDEXED_QUEUE;
+
+        private AutoFlushOptions autoFlushOptions = DEFAULT_AUTO_FLUSH_OPTIONS;
+
         protected Builder() {
         }
 
@@ -529,6 +569,95 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link AutoFlushOptions} to control how commands are flushed when auto-flushing is enabled. See
+         * {@link #DEFAULT_AUTO_FLUSH_OPTIONS}.
+         *
+         * @param autoFlushOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder autoFlushOptions(AutoFlushOptions autoFlushOptions) {
+
+            LettuceAssert.notNull(autoFlushOptions, "AutoFlushOptions must not be null");
+
+            this.autoFlushOptions = autoFlushOptions;
+            return this;
+        }
+
+        /**
+         * Use an array-backed command stack that tracks the stack position on the command itself. Removal of a command is O(1)
+         * by leaving a tombstone in its slot and the stack does not allocate per command. Takes precedence over
+         * {@link #useHashIndexQueue(boolean)} when enabled. Defaults to {@code false}. See
+         * {@link #DEFAULT_USE_ARRAY_INDEXED_QUEUE}.
+         *
+         * @param useArrayIndexedQueue true/false
+         * @return {@code this}
+         * @see io.lettuce.core.protocol.CommandHandler.AddToStack
+         * @since 6.7
+         */
+        @SuppressWarnings("JavadocReference")
+        public Builder useArrayIndexedQueue(boolean useArrayIndexedQueue) {
+
+            this.useArrayIndexedQueue = useArrayIndexedQueue;
+            return this;
+        }
+
+        /**
+         * Apply backpressure instead of rejecting commands once the {@link #requestQueueSize(int) request queue size} is
+         * reached. When enabled, the number of in-flight commands (written but not yet completed) is limited to the request
+         * queue size. Commands exceeding that limit are held back and written in order as soon as earlier commands complete.
+         * Callers see a delayed response instead of a {@link io.lettuce.core.RedisException}; synchronous callers remain
+         * bounded by their command timeout. Has no effect with an unbounded request queue. Defaults to {@code false}. See
+         * {@link #DEFAULT_REQUEST_QUEUE_BACKPRESSURE}.
+         *
+         * @param requestQueueBackpressure true/false
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder requestQueueBackpressure(boolean requestQueueBackpressure) {
+
+            this.requestQueueBackpressure = requestQueueBackpressure;
+            return this;
+        }
+
+        /**
+         * Await synchronous commands by parking the calling thread and unparking it directly from the command completion
+         * instead of blocking on the command's {@link java.util.concurrent.CompletableFuture}. Parking does not allocate a wait
+         * node per call and does not hold a monitor, which makes it a good fit for callers running on virtual threads. Defaults
+         * to {@code false}. See {@link #DEFAULT_PARKING_SYNC_EXECUTION}.
+         *
+         * @param parkingSyncExecution true/false
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder parkingSyncExecution(boolean parkingSyncExecution) {
+
+            this.parkingSyncExecution = parkingSyncExecution;
+            return this;
+        }
+
+        /**
+         * Complete commands on a dedicated thread instead of the I/O thread. Future callbacks (e.g. of
+         * {@link io.lettuce.core.RedisFuture}) run on the thread that completes the command, so slow callbacks delay decoding
+         * of all subsequent responses of the connection when they run on the I/O thread.
+         * <p>
+         * When enabled, each connection is assigned one {@link io.netty.util.concurrent.EventExecutor} of
+         * {@link ClientResources#eventExecutorGroup()}. Commands decoded from a single read are handed off to that executor as
+         * one batch and completed in response order. Defaults to {@code false}, see {@link #DEFAULT_COMPLETE_ON_SCHEDULER}.
+         *
+         * @param completeOnScheduler true/false
+         * @return {@code this}
+         * @see ClientResources#eventExecutorGroup()
+         * @see #publishOnScheduler(boolean)
+         * @since 6.7
+         */
+        public Builder completeOnScheduler(boolean completeOnScheduler) {
+
+            this.completeOnScheduler = completeOnScheduler;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -558,7 +687,10 @@ public class ClientOptions implements Serializable {
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).protocolVersion(getConfiguredProtocolVersion())
                 .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).jsonParser(getJsonParser())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
-                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .autoFlushOptions(getAutoFlushOptions()).useArrayIndexedQueue(isUseArrayIndexedQueue())
+                .requestQueueBackpressure(isRequestQueueBackpressure()).parkingSyncExecution(isParkingSyncExecution())
+                .completeOnScheduler(isCompleteOnScheduler());
 
         return builder;
     }
@@ -822,6 +954,57 @@ public class ClientOptions implements Serializable {
         return useHashIndexedQueue;
     }
 
+    /**
+     * Returns the {@link AutoFlushOptions}.
+     *
+     * @return the {@link AutoFlushOptions}.
+     * @since 6.7
+     */
+    public AutoFlushOptions getAutoFlushOptions() {
+        return autoFlushOptions;
+    }
+
+    /**
+     * Whether we should use the array-backed command stack, which provides O(1) remove(Object) without allocating per command.
+     *
+     * @return if the array indexed queue should be used
+     * @since 6.7
+     */
+    public boolean isUseArrayIndexedQueue() {
+        return useArrayIndexedQueue;
+    }
+
+    /**
+     * Whether commands exceeding the request queue size are held back until capacity frees up instead of being rejected.
+     *
+     * @return {@code true} if request queue backpressure is enabled
+     * @since 6.7
+     */
+    public boolean isRequestQueueBackpressure() {
+        return requestQueueBackpressure;
+    }
+
+    /**
+     * Whether synchronous commands are awaited by parking the calling thread until the command completes.
+     *
+     * @return {@code true} if parking sync execution is enabled
+     * @since 6.7
+     */
+    public boolean isParkingSyncExecution() {
+        return parkingSyncExecution;
+    }
+
+    /**
+     * Whether commands are completed on a dedicated thread of {@link ClientResources#eventExecutorGroup()} instead of the I/O
+     * thread. Commands decoded from a single read are completed as one batch in response order.
+     *
+     * @return {@code true} if commands are completed on a dedicated thread
+     * @since 6.7
+     */
+    public boolean isCompleteOnScheduler() {
+        return completeOnScheduler;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -48,6 +48,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.socket.nio.NioChannelOption;
@@ -97,6 +98,8 @@ public class ConnectionBuilder {
 
     private RedisURI redisURI;
 
+    private EventLoop eventLoop;
+
     public static ConnectionBuilder connectionBuilder() {
         return new ConnectionBuilder();
     }
@@ -228,6 +231,20 @@ public class ConnectionBuilder {
         return this;
     }
 
+    /**
+     * Register the connection with the given {@link EventLoop} instead of an event loop of the client's
+     * {@link io.lettuce.core.resource.EventLoopGroupProvider}. Must be configured before
+     * {@link #configureBootstrap(boolean, Function) configuring the bootstrap}.
+     *
+     * @param eventLoop the event loop, may be {@code null} to use the client's event loops.
+     * @return {@code this} {@link ConnectionBuilder}.
+     * @since 6.7
+     */
+    public ConnectionBuilder eventLoop(EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+        return this;
+    }
+
     public ConnectionBuilder clientResources(ClientResources clientResources) {
         this.clientResources = clientResources;
         return this;
@@ -260,10 +277,14 @@ public class ConnectionBuilder {
             channelClass = Transports.NativeTransports.domainSocketChannelClass();
         } else {
             bootstrap.resolver(clientResources.addressResolverGroup());
+
+            if (eventLoop != null) {
+                channelClass = Transports.socketChannelClass(eventLoop);
+            }
         }
 
         SocketOptions options = clientOptions.getSocketOptions();
-        EventLoopGroup eventLoopGroup = eventLoopGroupProvider.apply(eventLoopGroupClass);
+        EventLoopGroup eventLoopGroup = eventLoop != null ? eventLoop : eventLoopGroupProvider.apply(eventLoopGroupClass);
 
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(options.getConnectTimeout().toMillis()));
 
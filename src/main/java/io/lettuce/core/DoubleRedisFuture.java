@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link RedisFuture} for replies of type {@code double} that provides access to the result as primitive {@code double}. The
+ * primitive accessors read the result directly from the underlying {@link io.lettuce.core.output.DoubleOutput} and do not unbox
+ * the completed value.
+ *
+ * @since 6.7
+ */
+public interface DoubleRedisFuture extends RedisFuture<Double> {
+
+    /**
+     * Waits if necessary for the computation to complete, and then retrieves its result as primitive {@code double}.
+     *
+     * @return the computed result or {@link Double#NaN} if the reply was {@code null}.
+     * @throws java.util.concurrent.CancellationException if the computation was cancelled.
+     * @throws ExecutionException if the computation threw an exception.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     */
+    double getDouble() throws InterruptedException, ExecutionException;
+
+    /**
+     * Waits if necessary for at most the given time for the computation to complete, and then retrieves its result as primitive
+     * {@code double}.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the time unit of the timeout argument.
+     * @return the computed result or {@link Double#NaN} if the reply was {@code null}.
+     * @throws java.util.concurrent.CancellationException if the computation was cancelled.
+     * @throws ExecutionException if the computation threw an exception.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     * @throws TimeoutException if the wait timed out.
+     */
+    double getDouble(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException;
+
+}
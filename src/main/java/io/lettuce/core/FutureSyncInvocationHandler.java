@@ -76,7 +76,8 @@ class FutureSyncInvocationHandler extends AbstractInvocationHandler {
 
                 long timeout = getTimeoutNs(command);
 
-                return Futures.awaitOrCancel(command, timeout, TimeUnit.NANOSECONDS);
+                return Futures.awaitOrCancel(command, timeout, TimeUnit.NANOSECONDS,
+                        connection.getOptions().isParkingSyncExecution());
             }
 
             return result;
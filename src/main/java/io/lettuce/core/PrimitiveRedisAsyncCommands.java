@@ -0,0 +1,129 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.DoubleAsyncCommand;
+import io.lettuce.core.protocol.LongAsyncCommand;
+
+/**
+ * Asynchronous variants of counter and score commands returning {@link LongRedisFuture} and {@link DoubleRedisFuture}. Results
+ * can be obtained as primitives through {@link LongRedisFuture#getLong()} and {@link DoubleRedisFuture#getDouble()}. Note that
+ * the futures complete their {@link java.util.concurrent.CompletionStage} with a boxed value; use
+ * {@link PrimitiveRedisCommands} to avoid boxing entirely.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ * @see PrimitiveRedisCommands
+ */
+public class PrimitiveRedisAsyncCommands<K, V> {
+
+    private final StatefulConnection<K, V> connection;
+
+    private final RedisCommandBuilder<K, V> commandBuilder;
+
+    PrimitiveRedisAsyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+        this.connection = connection;
+        this.commandBuilder = new RedisCommandBuilder<>(codec);
+    }
+
+    /**
+     * Create a new {@link PrimitiveRedisAsyncCommands} for the given {@link StatefulConnection}.
+     *
+     * @param connection the connection, must not be {@code null}.
+     * @param codec the codec used by {@code connection}, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link PrimitiveRedisAsyncCommands}.
+     */
+    public static <K, V> PrimitiveRedisAsyncCommands<K, V> create(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "StatefulConnection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        return new PrimitiveRedisAsyncCommands<>(connection, codec);
+    }
+
+    /**
+     * Increment the integer value of a key by one.
+     *
+     * @param key the key.
+     * @return the value of {@code key} after the increment.
+     */
+    public LongRedisFuture incr(K key) {
+        return dispatch(new LongAsyncCommand<>(commandBuilder.incr(key)));
+    }
+
+    /**
+     * Increment the integer value of a hash field by the given number.
+     *
+     * @param key the key.
+     * @param field the field type: key.
+     * @param amount the increment type: long.
+     * @return the value at {@code field} after the increment operation.
+     */
+    public LongRedisFuture hincrby(K key, K field, long amount) {
+        return dispatch(new LongAsyncCommand<>(commandBuilder.hincrby(key, field, amount)));
+    }
+
+    /**
+     * Determine how many keys exist.
+     *
+     * @param keys the keys.
+     * @return number of existing keys.
+     */
+    @SafeVarargs
+    public final LongRedisFuture exists(K... keys) {
+        return dispatch(new LongAsyncCommand<>(commandBuilder.exists(keys)));
+    }
+
+    /**
+     * Return the approximated cardinality of the set(s) observed by the HyperLogLog at key(s).
+     *
+     * @param keys the keys.
+     * @return the approximated number of unique elements observed via {@code PFADD}.
+     */
+    @SafeVarargs
+    public final LongRedisFuture pfcount(K... keys) {
+        return dispatch(new LongAsyncCommand<>(commandBuilder.pfcount(keys)));
+    }
+
+    /**
+     * Get the score associated with the given member in a sorted set.
+     *
+     * @param key the key.
+     * @param member the member type: value.
+     * @return the score of {@code member} or {@link Double#NaN} if {@code member} or {@code key} does not exist.
+     */
+    public DoubleRedisFuture zscore(K key, V member) {
+        return dispatch(new DoubleAsyncCommand<>(commandBuilder.zscore(key, member)));
+    }
+
+    private <T, C extends AsyncCommand<K, V, T>> C dispatch(C command) {
+
+        connection.dispatch(command);
+        return command;
+    }
+
+}
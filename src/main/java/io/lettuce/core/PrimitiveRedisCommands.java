@@ -0,0 +1,311 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.DoubleOutput;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.protocol.BlockingCommand;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+import io.netty.util.ResourceLeakTracker;
+
+/**
+ * Synchronous variants of counter and score commands returning primitive {@code long} and {@code double} results. Commands are
+ * awaited through a {@link BlockingCommand} instead of a {@link java.util.concurrent.CompletableFuture} and results are read
+ * from the primitive-backed {@link IntegerOutput} and {@link DoubleOutput} so that no result is boxed.
+ * <p>
+ * Instances are thread-safe and can be shared across threads as long as the underlying connection is not used in a transaction
+ * or with disabled auto-flushing.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ * @see PrimitiveRedisAsyncCommands
+ */
+public class PrimitiveRedisCommands<K, V> {
+
+    private static final ResourceLeakDetector<CommandResources> LEAK_DETECTOR = ResourceLeakDetectorFactory.instance()
+            .newResourceLeakDetector(CommandResources.class);
+
+    private final StatefulConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final ThreadLocal<CommandResources<K, V>> resources;
+
+    PrimitiveRedisCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec, boolean pooled) {
+        this.connection = connection;
+        this.codec = codec;
+        this.resources = pooled ? ThreadLocal.withInitial(() -> new CommandResources<>(codec, true)) : null;
+    }
+
+    /**
+     * Create a new {@link PrimitiveRedisCommands} for the given {@link StatefulConnection}.
+     *
+     * @param connection the connection, must not be {@code null}.
+     * @param codec the codec used by {@code connection}, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link PrimitiveRedisCommands}.
+     */
+    public static <K, V> PrimitiveRedisCommands<K, V> create(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "StatefulConnection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        return new PrimitiveRedisCommands<>(connection, codec, false);
+    }
+
+    /**
+     * Create a new {@link PrimitiveRedisCommands} for the given {@link StatefulConnection} that reuses command arguments and
+     * outputs per calling thread.
+     * <p>
+     * This is an experiment, not part of the public API. It is scoped to the commands of this class and exists to measure with
+     * {@code RedisClientBenchmark} how much reusing {@link CommandArgs} and outputs saves per call. The {@link BlockingCommand}
+     * is still allocated per call, and the sync API obtained through {@link io.lettuce.core.api.StatefulRedisConnection#sync()}
+     * does not pool anything. The experiment may change or be removed without notice.
+     * <p>
+     * Reusable resources are only returned to the calling thread if the command was completed by a reply. Commands that time
+     * out, get cancelled or fail with an exception may still be referenced by the transport, their resources are discarded.
+     * Setting Netty's leak detection level to {@code advanced} or {@code paranoid} reports resources that were acquired but
+     * never released.
+     *
+     * @param connection the connection, must not be {@code null}.
+     * @param codec the codec used by {@code connection}, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new pooled {@link PrimitiveRedisCommands}.
+     */
+    static <K, V> PrimitiveRedisCommands<K, V> pooled(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "StatefulConnection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        return new PrimitiveRedisCommands<>(connection, codec, true);
+    }
+
+    /**
+     * Increment the integer value of a key by one.
+     *
+     * @param key the key.
+     * @return the value of {@code key} after the increment.
+     */
+    public long incr(K key) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        CommandResources<K, V> resources = acquire();
+        resources.args.addKey(key);
+        return awaitLong(INCR, resources);
+    }
+
+    /**
+     * Increment the integer value of a hash field by the given number.
+     *
+     * @param key the key.
+     * @param field the field type: key.
+     * @param amount the increment type: long.
+     * @return the value at {@code field} after the increment operation.
+     */
+    public long hincrby(K key, K field, long amount) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+        LettuceAssert.notNull(field, "Field must not be null");
+
+        CommandResources<K, V> resources = acquire();
+        resources.args.addKey(key).addKey(field).add(amount);
+        return awaitLong(HINCRBY, resources);
+    }
+
+    /**
+     * Determine how many keys exist.
+     *
+     * @param keys the keys.
+     * @return number of existing keys.
+     */
+    @SafeVarargs
+    public final long exists(K... keys) {
+
+        LettuceAssert.notEmpty(keys, "Keys must not be empty");
+
+        CommandResources<K, V> resources = acquire();
+        resources.args.addKeys(keys);
+        return awaitLong(EXISTS, resources);
+    }
+
+    /**
+     * Return the approximated cardinality of the set(s) observed by the HyperLogLog at key(s).
+     *
+     * @param keys the keys.
+     * @return the approximated number of unique elements observed via {@code PFADD}.
+     */
+    @SafeVarargs
+    public final long pfcount(K... keys) {
+
+        LettuceAssert.notEmpty(keys, "Keys must not be empty");
+
+        CommandResources<K, V> resources = acquire();
+        resources.args.addKeys(keys);
+        return awaitLong(PFCOUNT, resources);
+    }
+
+    /**
+     * Get the score associated with the given member in a sorted set.
+     *
+     * @param key the key.
+     * @param member the member type: value.
+     * @return the score of {@code member} or {@link Double#NaN} if {@code member} or {@code key} does not exist.
+     */
+    public double zscore(K key, V member) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        CommandResources<K, V> resources = acquire();
+        resources.args.addKey(key).addValue(member);
+        return awaitDouble(ZSCORE, resources);
+    }
+
+    private long awaitLong(CommandType type, CommandResources<K, V> resources) {
+
+        BlockingCommand<K, V, Long> command = new BlockingCommand<>(type, resources.integerOutput, resources.args);
+
+        try {
+            await(command);
+            return resources.integerOutput.getLong();
+        } finally {
+            release(resources, command);
+        }
+    }
+
+    private double awaitDouble(CommandType type, CommandResources<K, V> resources) {
+
+        BlockingCommand<K, V, Double> command = new BlockingCommand<>(type, resources.doubleOutput, resources.args);
+
+        try {
+            await(command);
+            return resources.doubleOutput.getDouble();
+        } finally {
+            release(resources, command);
+        }
+    }
+
+    private void await(BlockingCommand<K, V, ?> command) {
+
+        connection.dispatch(command);
+        command.await(connection.getTimeout());
+    }
+
+    private CommandResources<K, V> acquire() {
+
+        if (this.resources == null) {
+            return new CommandResources<>(codec, false);
+        }
+
+        CommandResources<K, V> resources = this.resources.get();
+
+        if (resources.inUse) {
+            // re-entrant call, e.g. from within a command callback
+            return new CommandResources<>(codec, false);
+        }
+
+        resources.acquire();
+        return resources;
+    }
+
+    private void release(CommandResources<K, V> resources, BlockingCommand<K, V, ?> command) {
+
+        if (!resources.pooled) {
+            return;
+        }
+
+        if (command.isCompletedByReply()) {
+            command.detach();
+            resources.release();
+        } else {
+            // the command may still be referenced by the transport, do not reuse its resources
+            resources.discard();
+            this.resources.remove();
+        }
+    }
+
+    /**
+     * Reusable {@link CommandArgs} and outputs of a single thread.
+     */
+    static class CommandResources<K, V> {
+
+        final CommandArgs<K, V> args;
+
+        final IntegerOutput<K, V> integerOutput;
+
+        final DoubleOutput<K, V> doubleOutput;
+
+        final boolean pooled;
+
+        boolean inUse;
+
+        private ResourceLeakTracker<CommandResources> leak;
+
+        CommandResources(RedisCodec<K, V> codec, boolean pooled) {
+            this.args = new CommandArgs<>(codec);
+            this.integerOutput = new IntegerOutput<>(codec);
+            this.doubleOutput = new DoubleOutput<>(codec);
+            this.pooled = pooled;
+        }
+
+        void acquire() {
+
+            args.clear();
+            integerOutput.reset();
+            doubleOutput.reset();
+            inUse = true;
+
+            if (ResourceLeakDetector.getLevel().ordinal() >= ResourceLeakDetector.Level.ADVANCED.ordinal()) {
+                leak = LEAK_DETECTOR.track(this);
+            }
+        }
+
+        void release() {
+
+            inUse = false;
+            closeLeak();
+        }
+
+        void discard() {
+            closeLeak();
+        }
+
+        private void closeLeak() {
+
+            if (leak != null) {
+                leak.close(this);
+                leak = null;
+            }
+        }
+
+    }
+
+}
@@ -25,6 +25,7 @@ import static io.lettuce.core.internal.LettuceStrings.*;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -33,10 +34,12 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
 
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.internal.Exceptions;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.masterreplica.MasterReplica;
@@ -52,6 +55,7 @@ import io.lettuce.core.pubsub.StatefulRedisPubSubConnectionImpl;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.sentinel.StatefulRedisSentinelConnectionImpl;
 import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
+import io.netty.channel.EventLoop;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import reactor.core.publisher.Mono;
@@ -268,8 +272,57 @@ public class RedisClient extends AbstractRedisClient {
         return transformAsyncConnectionException(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout()));
     }
 
+    /**
+     * Open a new connection to a Redis server using the supplied {@link RedisURI} and the supplied {@link RedisCodec codec} to
+     * encode/decode keys. The connection is registered with the given {@link EventLoop} instead of an event loop of the
+     * client's {@link ClientResources}. Reconnects retain the event loop. The event loop is not shut down by the client and
+     * must use a transport that is available to this client (NIO or the native transport in use).
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}
+     * @param redisURI the Redis server to connect to, must not be {@code null}
+     * @param eventLoop the event loop to register the connection with, must not be {@code null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new connection
+     * @since 6.7
+     */
+    public <K, V> StatefulRedisConnection<K, V> connect(RedisCodec<K, V> codec, RedisURI redisURI, EventLoop eventLoop) {
+
+        assertNotNull(redisURI);
+        LettuceAssert.notNull(eventLoop, "EventLoop must not be null");
+
+        return getConnection(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout(), eventLoop));
+    }
+
+    /**
+     * Open asynchronously a new connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys. The connection is registered with the given {@link EventLoop}, see
+     * {@link #connect(RedisCodec, RedisURI, EventLoop)}.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}
+     * @param redisURI the Redis server to connect to, must not be {@code null}
+     * @param eventLoop the event loop to register the connection with, must not be {@code null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return {@link ConnectionFuture} to indicate success or failure to connect.
+     * @since 6.7
+     */
+    public <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectAsync(RedisCodec<K, V> codec, RedisURI redisURI,
+            EventLoop eventLoop) {
+
+        assertNotNull(redisURI);
+        LettuceAssert.notNull(eventLoop, "EventLoop must not be null");
+
+        return transformAsyncConnectionException(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout(), eventLoop));
+    }
+
     private <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec,
             RedisURI redisURI, Duration timeout) {
+        return connectStandaloneAsync(codec, redisURI, timeout, null);
+    }
+
+    private <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI, Duration timeout, EventLoop eventLoop) {
 
         assertNotNull(codec);
         checkValidRedisURI(redisURI);
@@ -290,7 +343,7 @@ public class RedisClient extends AbstractRedisClient {
         StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, endpoint, codec, timeout);
 
         ConnectionFuture<StatefulRedisConnection<K, V>> future = connectStatefulAsync(connection, endpoint, redisURI,
-                () -> new CommandHandler(getOptions(), getResources(), endpoint), false);
+                () -> new CommandHandler(getOptions(), getResources(), endpoint), false, eventLoop);
 
         future.whenComplete((channelHandler, throwable) -> {
 
@@ -302,9 +355,88 @@ public class RedisClient extends AbstractRedisClient {
         return future;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Open a new striped connection to a Redis server using the supplied {@link RedisURI} and the supplied {@link RedisCodec
+     * codec} to encode/decode keys and values. A striped connection opens {@code stripes} connections, each with its own
+     * channel that is typically bound to a different event loop, and exposes them as a single {@link StatefulRedisConnection}.
+     * Commands are routed to a stripe by their key so that commands for the same key retain their order. Transactions are
+     * confined to an additional connection dedicated to transactions and blocking commands such as {@code BLPOP} to another
+     * dedicated connection. Commands without a key are distributed round-robin. Ordering across stripes is not guaranteed.
+     * {@code WAIT} is not supported outside of transactions as it only accounts for writes on a single connection.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}
+     * @param redisURI the Redis server to connect to, must not be {@code null}
+     * @param stripes number of connections to distribute non-transactional commands across, must be greater than zero
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new striped connection
+     * @since 6.7
+     */
+    public <K, V> StatefulRedisConnection<K, V> connectStriped(RedisCodec<K, V> codec, RedisURI redisURI, int stripes) {
+
+        assertNotNull(redisURI);
+
+        return getConnection(connectStripedAsync(codec, redisURI, stripes));
+    }
+
+    /**
+     * Open asynchronously a new striped connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys and values. See {@link #connectStriped(RedisCodec, RedisURI, int)} for
+     * routing details.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}
+     * @param redisURI the Redis server to connect to, must not be {@code null}
+     * @param stripes number of connections to distribute non-transactional commands across, must be greater than zero
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return {@link ConnectionFuture} to indicate success or failure to connect.
+     * @since 6.7
+     */
+    public <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStripedAsync(RedisCodec<K, V> codec, RedisURI redisURI,
+            int stripes) {
+
+        assertNotNull(codec);
+        assertNotNull(redisURI);
+        LettuceAssert.isTrue(stripes > 0, "Stripes must be greater than zero");
+
+        // the last two connections are dedicated to transactions and blocking commands
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(stripes + 2);
+
+        for (int i = 0; i < stripes + 2; i++) {
+            futures.add(transformAsyncConnectionException(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout()))
+                    .toCompletableFuture());
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = Futures.allOf(futures).handle((v, throwable) -> {
+
+            if (throwable != null) {
+                futures.forEach(it -> it.thenAccept(StatefulConnection::closeAsync));
+                throw new CompletionException(Exceptions.unwrap(throwable));
+            }
+
+            List<StatefulRedisConnection<K, V>> connections = new ArrayList<>(stripes);
+            futures.subList(0, stripes).forEach(it -> connections.add(it.join()));
+
+            StripedChannelWriter writer = new StripedChannelWriter(connections, futures.get(stripes).join(),
+                    futures.get(stripes + 1).join(), codec, getResources());
+            StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, writer.getPushHandler(), codec,
+                    redisURI.getTimeout());
+            connection.setOptions(getOptions());
+
+            return connection;
+        });
+
+        return ConnectionFuture.from(null, future);
+    }
+
     private <K, V, S> ConnectionFuture<S> connectStatefulAsync(StatefulRedisConnectionImpl<K, V> connection, Endpoint endpoint,
             RedisURI redisURI, Supplier<CommandHandler> commandHandlerSupplier, Boolean isPubSub) {
+        return connectStatefulAsync(connection, endpoint, redisURI, commandHandlerSupplier, isPubSub, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V, S> ConnectionFuture<S> connectStatefulAsync(StatefulRedisConnectionImpl<K, V> connection, Endpoint endpoint,
+            RedisURI redisURI, Supplier<CommandHandler> commandHandlerSupplier, Boolean isPubSub, EventLoop eventLoop) {
 
         ConnectionBuilder connectionBuilder;
         if (redisURI.isSsl()) {
@@ -324,6 +456,7 @@ public class RedisClient extends AbstractRedisClient {
         connectionBuilder.clientOptions(getOptions());
         connectionBuilder.clientResources(getResources());
         connectionBuilder.commandHandler(commandHandlerSupplier).endpoint(endpoint);
+        connectionBuilder.eventLoop(eventLoop);
 
         connectionBuilder(getSocketAddressSupplier(redisURI), connectionBuilder, connection.getConnectionEvents(), redisURI);
         connectionBuilder.connectionInitializer(createHandshake(state));
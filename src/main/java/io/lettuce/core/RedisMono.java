@@ -0,0 +1,408 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.StreamingOutput;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Reactive command {@link Mono} for commands that complete with a single value.
+ * <p>
+ * Other than {@link RedisPublisher}, this publisher does not track demand or buffer data. The command is dispatched upon the
+ * first request and its result is emitted straight from command completion. Commands using a {@link StreamingOutput} are
+ * subscribed through {@link RedisPublisher} as their elements are emitted while decoding. This publisher allows multiple
+ * subscriptions as it's backed by a {@link Supplier command supplier}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Result type.
+ * @since 6.7
+ * @see RedisPublisher
+ */
+class RedisMono<K, V, T> extends Mono<T> implements BatchablePublisher<T> {
+
+    private final Supplier<? extends RedisCommand<K, V, T>> commandSupplier;
+
+    private final AtomicReference<RedisCommand<K, V, T>> ref;
+
+    private final StatefulConnection<K, V> connection;
+
+    private final Executor executor;
+
+    private final boolean streaming;
+
+    /**
+     * Creates a new {@link RedisMono} for a command supplier.
+     *
+     * @param commandSupplier command supplier, must not be {@code null}.
+     * @param connection the connection, must not be {@code null}.
+     * @param publishOn executor to use for publishOn signals.
+     */
+    RedisMono(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection, Executor publishOn) {
+        this(commandSupplier, connection, publishOn, true);
+    }
+
+    /**
+     * Creates a new {@link RedisMono} for a command supplier.
+     *
+     * @param commandSupplier command supplier, must not be {@code null}.
+     * @param connection the connection, must not be {@code null}.
+     * @param publishOn executor to use for publishOn signals.
+     * @param streaming {@code true} to subscribe commands using a {@link StreamingOutput} through {@link RedisPublisher};
+     *        {@code false} to emit their complete output value.
+     */
+    RedisMono(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection, Executor publishOn,
+            boolean streaming) {
+
+        LettuceAssert.notNull(commandSupplier, "CommandSupplier must not be null");
+        LettuceAssert.notNull(connection, "StatefulConnection must not be null");
+        LettuceAssert.notNull(publishOn, "Executor must not be null");
+
+        this.commandSupplier = commandSupplier;
+        this.connection = connection;
+        this.executor = publishOn;
+        this.streaming = streaming;
+        this.ref = new AtomicReference<>(commandSupplier.get());
+    }
+
+    /**
+     * Create a new {@link RedisMono} for a command supplier applying {@link Mono} assembly hooks.
+     *
+     * @param commandSupplier command supplier, must not be {@code null}.
+     * @param connection the connection, must not be {@code null}.
+     * @param publishOn executor to use for publishOn signals.
+     * @return the {@link Mono}.
+     */
+    static <K, V, T> Mono<T> create(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection,
+            Executor publishOn) {
+        return onAssembly(new RedisMono<>(commandSupplier, connection, publishOn));
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+        subscribe(actual, null);
+    }
+
+    /**
+     * Return a {@link Mono} that enlists its command with {@code batch} instead of dispatching it individually. Returns
+     * {@code this} if {@code batch} belongs to a different connection.
+     *
+     * @param batch the batch to enlist commands with.
+     * @return the {@link Mono}.
+     */
+    @Override
+    public Mono<T> batched(CommandBatch batch) {
+
+        if (batch.connection != connection) {
+            return this;
+        }
+
+        return new Mono<T>() {
+
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                RedisMono.this.subscribe(actual, batch);
+            }
+
+        };
+    }
+
+    private void subscribe(CoreSubscriber<? super T> actual, CommandBatch batch) {
+
+        // Reuse the first command but then discard it.
+        RedisCommand<K, V, T> command = ref.get();
+
+        if (command != null) {
+            if (!ref.compareAndSet(command, null)) {
+                command = commandSupplier.get();
+            }
+        } else {
+            command = commandSupplier.get();
+        }
+
+        if (streaming && command.getOutput() instanceof StreamingOutput<?>) {
+            Mono.from(new RedisPublisher<>(command, connection, false, executor)).subscribe(actual);
+            return;
+        }
+
+        actual.onSubscribe(new MonoSubscription<>(connection, command, actual, executor, batch));
+    }
+
+    /**
+     * {@link Subscription} that dispatches its command on the first request and emits the command result upon completion.
+     *
+     * @param <T> Result type.
+     */
+    static class MonoSubscription<T> implements Subscription {
+
+        static final int ST_NEW = 0;
+
+        static final int ST_DISPATCHED = 1;
+
+        static final int ST_TERMINATED = 2;
+
+        @SuppressWarnings("rawtypes")
+        static final AtomicIntegerFieldUpdater<MonoSubscription> STATE = AtomicIntegerFieldUpdater
+                .newUpdater(MonoSubscription.class, "state");
+
+        final StatefulConnection<?, ?> connection;
+
+        final RedisCommand<?, ?, T> command;
+
+        final MonoCommand<?, ?, T> monoCommand;
+
+        final CoreSubscriber<? super T> actual;
+
+        final Executor executor;
+
+        final CommandBatch batch;
+
+        // accessed via AtomicIntegerFieldUpdater
+        @SuppressWarnings("unused")
+        volatile int state = ST_NEW;
+
+        MonoSubscription(StatefulConnection<?, ?> connection, RedisCommand<?, ?, T> command, CoreSubscriber<? super T> actual,
+                Executor executor, CommandBatch batch) {
+
+            this.connection = connection;
+            this.command = command;
+            this.monoCommand = new MonoCommand<>(command, this);
+            this.actual = actual;
+            this.executor = executor;
+            this.batch = batch;
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public void request(long n) {
+
+            if (n <= 0) {
+                onError(Exceptions.nullOrNegativeRequestException(n));
+                return;
+            }
+
+            if (STATE.compareAndSet(this, ST_NEW, ST_DISPATCHED)) {
+                if (batch != null && batch.enlist(monoCommand)) {
+                    return;
+                }
+
+                try {
+                    connection.dispatch((RedisCommand) monoCommand);
+                } catch (Exception e) {
+                    onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+
+            command.cancel();
+            STATE.set(this, ST_TERMINATED);
+        }
+
+        @SuppressWarnings("unchecked")
+        void onCommandComplete(CommandOutput<?, ?, T> output) {
+
+            T result = null;
+
+            if (output != null) {
+
+                result = output.get();
+
+                if (output.hasError()) {
+                    onError(ExceptionFactory.createExecutionException(output.getError()));
+                    return;
+                }
+            }
+
+            if (!STATE.compareAndSet(this, ST_DISPATCHED, ST_TERMINATED)) {
+                return;
+            }
+
+            if (executor == ImmediateEventExecutor.INSTANCE) {
+
+                if (result != null) {
+                    try {
+                        actual.onNext(result);
+                    } catch (Exception e) {
+                        actual.onError(e);
+                        return;
+                    }
+                }
+
+                actual.onComplete();
+                return;
+            }
+
+            if (result != null) {
+                executor.execute(RedisPublisher.OnNext.newInstance(result, actual));
+            }
+
+            executor.execute(RedisPublisher.OnComplete.newInstance(actual));
+        }
+
+        void onError(Throwable throwable) {
+
+            if (STATE.getAndSet(this, ST_TERMINATED) == ST_TERMINATED) {
+                return;
+            }
+
+            if (executor == ImmediateEventExecutor.INSTANCE) {
+                actual.onError(throwable);
+            } else {
+                executor.execute(RedisPublisher.OnComplete.newInstance(throwable, actual));
+            }
+        }
+
+    }
+
+    /**
+     * Batch of commands that are dispatched together with a single write and flush. Commands are {@link #enlist(RedisCommand)
+     * enlisted} while subscribing to the batch members and {@link #dispatch() dispatched} once all members are subscribed.
+     * Commands enlisted after dispatching the batch are rejected so that callers dispatch them individually.
+     */
+    static class CommandBatch {
+
+        final StatefulConnection<?, ?> connection;
+
+        private final Queue<RedisCommand<?, ?, ?>> commands = new ConcurrentLinkedQueue<>();
+
+        private volatile boolean open = true;
+
+        CommandBatch(StatefulConnection<?, ?> connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Return a {@link Publisher} that enlists its command with this batch if it is {@link BatchablePublisher} and belongs
+         * to the same connection.
+         *
+         * @param publisher the publisher.
+         * @return the batched publisher or {@code publisher} itself if it cannot be batched.
+         */
+        @SuppressWarnings("unchecked")
+        <T> Publisher<T> enlist(Publisher<T> publisher) {
+
+            if (publisher instanceof BatchablePublisher) {
+                return ((BatchablePublisher<T>) publisher).batched(this);
+            }
+
+            return publisher;
+        }
+
+        /**
+         * Enlist a command.
+         *
+         * @param command the command.
+         * @return {@code true} if the command was enlisted; {@code false} if the batch was already dispatched.
+         */
+        boolean enlist(RedisCommand<?, ?, ?> command) {
+
+            if (!open) {
+                return false;
+            }
+
+            commands.add(command);
+
+            // lost the race against dispatch() if we can still remove the command
+            return open || !commands.remove(command);
+        }
+
+        /**
+         * Dispatch all enlisted commands. Commands are completed exceptionally if the dispatch fails.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        void dispatch() {
+
+            open = false;
+
+            List<RedisCommand<?, ?, ?>> toDispatch = new ArrayList<>(commands.size());
+            RedisCommand<?, ?, ?> command;
+            while ((command = commands.poll()) != null) {
+                toDispatch.add(command);
+            }
+
+            if (toDispatch.isEmpty()) {
+                return;
+            }
+
+            try {
+                connection.dispatch((Collection) toDispatch);
+            } catch (Exception e) {
+                for (RedisCommand<?, ?, ?> failed : toDispatch) {
+                    failed.completeExceptionally(e);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Command that notifies its {@link MonoSubscription} upon completion.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @param <T> response type
+     */
+    static class MonoCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        private final MonoSubscription<T> subscription;
+
+        MonoCommand(RedisCommand<K, V, T> command, MonoSubscription<T> subscription) {
+            super(command);
+            this.subscription = subscription;
+        }
+
+        @Override
+        protected void doOnComplete() {
+            subscription.onCommandComplete(getOutput());
+        }
+
+        @Override
+        protected void doOnError(Throwable throwable) {
+            subscription.onError(throwable);
+        }
+
+    }
+
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandArgsAccessor;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.ConnectionFacade;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.PushHandler;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.TransactionalCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Channel writer that distributes commands across multiple connections (stripes) to the same Redis server. Each stripe is a
+ * regular {@link StatefulRedisConnection} with its own channel, and typically its own event loop, so that encoding, decoding
+ * and completion are no longer limited by a single event loop thread.
+ * <p>
+ * Commands are routed as follows:
+ * <ul>
+ * <li>Commands with a key are routed by the key's {@link SlotHash slot} so that commands for the same key (or the same hash
+ * tag) are written to the same stripe in order.</li>
+ * <li>Blocking commands ({@code BLPOP}, {@code BRPOP}, {@code BZPOPMIN}, {@code XREAD … BLOCK} and similar) are written to a
+ * dedicated blocking connection so they do not stall the commands of a stripe. Blocking commands queue behind each other on
+ * that connection.</li>
+ * <li>Transactions ({@code WATCH}, {@code MULTI}, {@link TransactionalCommand transactional commands} and
+ * {@code EXEC}/{@code DISCARD}) are confined to a dedicated transaction connection that does not serve any other commands.
+ * Commands are identified as transactional by the connection that wraps them while a transaction is open, so routing does not
+ * depend on shared writer state.</li>
+ * <li>Connection-scoped commands without a key such as {@code CLIENT} are pinned to the first stripe.</li>
+ * <li>{@code WAIT} is rejected outside of transactions as it only accounts for writes issued on the connection it is sent on
+ * and writes are spread across stripes.</li>
+ * <li>{@code SELECT} and {@code AUTH} are applied to all stripes, the transaction and the blocking connection to keep the
+ * connection state aligned. The command result reflects the first stripe.</li>
+ * <li>Commands without a key are distributed round-robin.</li>
+ * </ul>
+ * Ordering is guaranteed only for commands routed to the same stripe. The {@link ConnectionFacade} is activated once all
+ * connections are active and deactivated as soon as one connection is disconnected.
+ *
+ * @since 6.7
+ */
+class StripedChannelWriter implements RedisChannelWriter {
+
+    private static final Set<? extends ProtocolKeyword> TRANSACTION = EnumSet.of(WATCH, UNWATCH, MULTI, EXEC, DISCARD);
+
+    // connection-scoped commands, pinned to the first stripe unless they have a key
+    private static final Set<? extends ProtocolKeyword> PINNED = EnumSet.of(CLIENT, MONITOR);
+
+    private static final Set<? extends ProtocolKeyword> BLOCKING = EnumSet.of(BLPOP, BRPOP, BRPOPLPUSH, BLMOVE, BLMPOP,
+            BZPOPMIN, BZPOPMAX, BZMPOP);
+
+    // blocking only if BLOCK is present
+    private static final Set<? extends ProtocolKeyword> BLOCKING_STREAM = EnumSet.of(XREAD, XREADGROUP);
+
+    private static final Set<? extends ProtocolKeyword> BROADCAST = EnumSet.of(SELECT, AUTH);
+
+    private final StatefulRedisConnection<?, ?>[] stripes;
+
+    // stripes followed by the transaction and the blocking connection
+    private final StatefulRedisConnection<?, ?>[] connections;
+
+    private final int transactionIndex;
+
+    private final int blockingIndex;
+
+    private final RedisCodec<?, ?> codec;
+
+    private final ClientResources clientResources;
+
+    private final StripedPushHandler pushHandler = new StripedPushHandler();
+
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private final AtomicInteger activeConnections;
+
+    private volatile ConnectionFacade connectionFacade;
+
+    private volatile boolean closed = false;
+
+    StripedChannelWriter(List<? extends StatefulRedisConnection<?, ?>> stripes, StatefulRedisConnection<?, ?> transactions,
+            StatefulRedisConnection<?, ?> blocking, RedisCodec<?, ?> codec, ClientResources clientResources) {
+
+        LettuceAssert.notNull(stripes, "Stripes must not be null");
+        LettuceAssert.isTrue(!stripes.isEmpty(), "Stripes must not be empty");
+        LettuceAssert.notNull(transactions, "Transaction connection must not be null");
+        LettuceAssert.notNull(blocking, "Blocking connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        this.stripes = stripes.toArray(new StatefulRedisConnection[0]);
+        this.connections = Stream.concat(stripes.stream(), Stream.of(transactions, blocking))
+                .toArray(StatefulRedisConnection[]::new);
+        this.transactionIndex = this.stripes.length;
+        this.blockingIndex = this.stripes.length + 1;
+        this.activeConnections = new AtomicInteger(connections.length);
+        this.codec = codec;
+        this.clientResources = clientResources;
+    }
+
+    @Override
+    public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        ProtocolKeyword type = command.getType();
+
+        if (BROADCAST.contains(type) && !isTransactional(command)) {
+            broadcast(command);
+            return command;
+        }
+
+        if (isRejected(command)) {
+            reject(command);
+            return command;
+        }
+
+        writeCommand(command, getConnection(stripeFor(command)));
+        return command;
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (BROADCAST.contains(command.getType()) && !isTransactional(command)) {
+                // preserve ordering relative to the state change by writing commands one by one
+                commands.forEach(this::write);
+                return (Collection) commands;
+            }
+        }
+
+        List<RedisCommand<K, V, ?>>[] partitions = new List[connections.length];
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (isRejected(command)) {
+                reject(command);
+                continue;
+            }
+
+            int stripe = stripeFor(command);
+
+            if (partitions[stripe] == null) {
+                partitions[stripe] = new ArrayList<>();
+            }
+
+            partitions[stripe].add(command);
+        }
+
+        for (int i = 0; i < partitions.length; i++) {
+            if (partitions[i] != null) {
+                writeCommands(partitions[i], getConnection(i));
+            }
+        }
+
+        return (Collection) commands;
+    }
+
+    /**
+     * Determine the connection index for {@code command}. Indexes below {@link #getStripeCount()} refer to stripes, the index
+     * {@link #getStripeCount()} refers to the transaction connection and the index {@code getStripeCount() + 1} refers to the
+     * blocking connection.
+     *
+     * @param command the command.
+     * @return the connection index.
+     */
+    int stripeFor(RedisCommand<?, ?, ?> command) {
+
+        if (isTransactional(command)) {
+            return transactionIndex;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+
+        if (isBlocking(command.getType(), args)) {
+            return blockingIndex;
+        }
+
+        if (stripes.length == 1) {
+            return 0;
+        }
+
+        ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+        if (encodedKey != null) {
+            return SlotHash.getSlot(encodedKey) % stripes.length;
+        }
+
+        if (PINNED.contains(command.getType())) {
+            return 0;
+        }
+
+        return (roundRobin.getAndIncrement() & Integer.MAX_VALUE) % stripes.length;
+    }
+
+    private static boolean isTransactional(RedisCommand<?, ?, ?> command) {
+        return TRANSACTION.contains(command.getType()) || CommandWrapper.unwrap(command, TransactionalCommand.class) != null;
+    }
+
+    private static boolean isBlocking(ProtocolKeyword type, CommandArgs<?, ?> args) {
+
+        if (BLOCKING.contains(type)) {
+            return true;
+        }
+
+        return BLOCKING_STREAM.contains(type) && args != null
+                && CommandArgsAccessor.containsKeyword(args, CommandKeyword.BLOCK);
+    }
+
+    private static boolean isRejected(RedisCommand<?, ?, ?> command) {
+        return command.getType() == WAIT && !isTransactional(command);
+    }
+
+    private static void reject(RedisCommand<?, ?, ?> command) {
+        command.completeExceptionally(new RedisException(
+                "WAIT is not supported on striped connections as writes are distributed across multiple connections"));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <K, V, T> void broadcast(RedisCommand<K, V, T> command) {
+
+        for (int i = 1; i < connections.length; i++) {
+            writeCommand(new Command<>(command.getType(), new StatusOutput<>((RedisCodec) codec), command.getArgs()),
+                    getConnection(i));
+        }
+
+        writeCommand(command, getConnection(0));
+    }
+
+    private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection) {
+
+        try {
+            connection.dispatch(command);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    private static <K, V> void writeCommands(Collection<? extends RedisCommand<K, V, ?>> commands,
+            StatefulRedisConnection<K, V> connection) {
+
+        try {
+            connection.dispatch(commands);
+        } catch (Exception e) {
+            commands.forEach(c -> c.completeExceptionally(e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> StatefulRedisConnection<K, V> getConnection(int index) {
+        return (StatefulRedisConnection<K, V>) connections[index];
+    }
+
+    /**
+     * @return the number of stripes.
+     */
+    int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * @return the {@link PushHandler} that registers {@link PushListener push listeners} with all stripes.
+     */
+    PushHandler getPushHandler() {
+        return pushHandler;
+    }
+
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        closed = true;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(connections.length);
+        for (StatefulRedisConnection<?, ?> connection : connections) {
+            futures.add(connection.closeAsync());
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    @Override
+    public void setConnectionFacade(ConnectionFacade connection) {
+
+        this.connectionFacade = connection;
+
+        for (StatefulRedisConnection<?, ?> stripe : connections) {
+            if (stripe instanceof RedisChannelHandler) {
+                RedisChannelHandler<?, ?> handler = (RedisChannelHandler<?, ?>) stripe;
+                handler.getChannelWriter().setConnectionFacade(new StripeConnectionFacade(handler));
+            }
+        }
+    }
+
+    @Override
+    public ClientResources getClientResources() {
+        return clientResources;
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+
+        for (StatefulRedisConnection<?, ?> connection : connections) {
+            connection.setAutoFlushCommands(autoFlush);
+        }
+    }
+
+    @Override
+    public void flushCommands() {
+
+        for (StatefulRedisConnection<?, ?> connection : connections) {
+            connection.flushCommands();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void reset() {
+
+        for (StatefulRedisConnection<?, ?> connection : connections) {
+            connection.reset();
+        }
+    }
+
+    /**
+     * {@link ConnectionFacade} of a single connection that notifies the connection itself and propagates the aggregated
+     * activation state to the {@link ConnectionFacade} of the striped connection. Resets are not propagated as resetting the
+     * striped connection resets all connections.
+     */
+    class StripeConnectionFacade implements ConnectionFacade {
+
+        private final ConnectionFacade delegate;
+
+        StripeConnectionFacade(ConnectionFacade delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void activated() {
+
+            delegate.activated();
+
+            ConnectionFacade connectionFacade = StripedChannelWriter.this.connectionFacade;
+            if (activeConnections.incrementAndGet() == connections.length && connectionFacade != null) {
+                connectionFacade.activated();
+            }
+        }
+
+        @Override
+        public void deactivated() {
+
+            delegate.deactivated();
+
+            ConnectionFacade connectionFacade = StripedChannelWriter.this.connectionFacade;
+            if (activeConnections.getAndDecrement() == connections.length && connectionFacade != null) {
+                connectionFacade.deactivated();
+            }
+        }
+
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+
+    }
+
+    /**
+     * {@link PushHandler} that registers listeners with each connection.
+     */
+    class StripedPushHandler implements PushHandler {
+
+        private final List<PushListener> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void addListener(PushListener listener) {
+
+            listeners.add(listener);
+
+            for (StatefulRedisConnection<?, ?> connection : connections) {
+                connection.addListener(listener);
+            }
+        }
+
+        @Override
+        public void removeListener(PushListener listener) {
+
+            listeners.remove(listener);
+
+            for (StatefulRedisConnection<?, ?> connection : connections) {
+                connection.removeListener(listener);
+            }
+        }
+
+        @Override
+        public Collection<PushListener> getPushListeners() {
+            return Collections.unmodifiableList(listeners);
+        }
+
+    }
+
+}
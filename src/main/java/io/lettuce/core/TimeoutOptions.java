@@ -26,17 +26,23 @@ public class TimeoutOptions implements Serializable {
 
     public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
 
+    public static final Duration DEFAULT_DEADLINE_BUCKET_DURATION = Duration.ofMillis(100);
+
     private final boolean timeoutCommands;
 
     private final boolean applyConnectionTimeout;
 
     private final TimeoutSource source;
 
-    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, TimeoutSource source) {
+    private final Duration deadlineBucketDuration;
+
+    private TimeoutOptions(boolean timeoutCommands, boolean applyConnectionTimeout, TimeoutSource source,
+            Duration deadlineBucketDuration) {
 
         this.timeoutCommands = timeoutCommands;
         this.applyConnectionTimeout = applyConnectionTimeout;
         this.source = source;
+        this.deadlineBucketDuration = deadlineBucketDuration;
     }
 
     /**
@@ -86,6 +92,8 @@ public class TimeoutOptions implements Serializable {
 
         private TimeoutSource source;
 
+        private Duration deadlineBucketDuration;
+
         /**
          * Enable command timeouts. Disabled by default, see {@link #DEFAULT_TIMEOUT_COMMANDS}.
          *
@@ -145,6 +153,37 @@ public class TimeoutOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Track command deadlines in coarse per-connection buckets of {@link #DEFAULT_DEADLINE_BUCKET_DURATION} instead of
+         * scheduling a timer task per command. See {@link #deadlineBuckets(Duration)}.
+         *
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder deadlineBuckets() {
+            return deadlineBuckets(DEFAULT_DEADLINE_BUCKET_DURATION);
+        }
+
+        /**
+         * Track command deadlines in coarse per-connection buckets instead of scheduling a timer task per command. Deadlines
+         * are rounded up to the bucket duration and the in-flight commands of a connection are swept once per bucket on the
+         * channel's event loop, so commands may time out up to one bucket later than their timeout. Commands are tracked
+         * without allocation. While the connection is disconnected, the timer is used as fallback.
+         *
+         * @param bucketDuration the bucket duration, must not be {@code null} and greater than zero.
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder deadlineBuckets(Duration bucketDuration) {
+
+            LettuceAssert.notNull(bucketDuration, "Bucket duration must not be null");
+            LettuceAssert.isTrue(!bucketDuration.isZero() && !bucketDuration.isNegative(),
+                    "Bucket duration must be greater than zero");
+
+            this.deadlineBucketDuration = bucketDuration;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link TimeoutOptions}.
          *
@@ -158,7 +197,7 @@ public class TimeoutOptions implements Serializable {
                 }
             }
 
-            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, source);
+            return new TimeoutOptions(timeoutCommands, applyConnectionTimeout, source, deadlineBucketDuration);
         }
 
     }
@@ -185,6 +224,22 @@ public class TimeoutOptions implements Serializable {
         return source;
     }
 
+    /**
+     * @return {@code true} if command deadlines are tracked in per-connection buckets instead of timer tasks.
+     * @since 6.7
+     */
+    public boolean isDeadlineBuckets() {
+        return deadlineBucketDuration != null;
+    }
+
+    /**
+     * @return the duration of a deadline bucket. Can be {@code null} if {@link #isDeadlineBuckets()} is {@code false}.
+     * @since 6.7
+     */
+    public Duration getDeadlineBucketDuration() {
+        return deadlineBucketDuration;
+    }
+
     private static class DefaultTimeoutSource extends TimeoutSource {
 
         private final long timeout = -1;
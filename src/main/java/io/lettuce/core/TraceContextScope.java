@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.tracing.TraceContextProvider;
+
+/**
+ * Holder binding a {@link TraceContextProvider} to the calling thread while commands are dispatched through the asynchronous
+ * API. Commands dispatched within the scope carry the trace context of the bound provider. The Kotlin coroutines API binds the
+ * provider obtained from the context of the calling coroutine.
+ *
+ * @since 6.7
+ */
+final class TraceContextScope {
+
+    private static final ThreadLocal<TraceContextProvider> CURRENT = new ThreadLocal<>();
+
+    private TraceContextScope() {
+    }
+
+    /**
+     * @return the {@link TraceContextProvider} bound to the calling thread, can be {@code null}.
+     */
+    static TraceContextProvider current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind {@code provider} to the calling thread.
+     *
+     * @param provider the provider to bind.
+     * @return the previously bound provider to {@link #restore(TraceContextProvider) restore} afterwards, can be {@code null}.
+     */
+    static TraceContextProvider bind(TraceContextProvider provider) {
+
+        TraceContextProvider previous = CURRENT.get();
+        CURRENT.set(provider);
+        return previous;
+    }
+
+    /**
+     * Restore the provider that was bound before {@link #bind(TraceContextProvider)}.
+     *
+     * @param previous the previously bound provider, can be {@code null}.
+     */
+    static void restore(TraceContextProvider previous) {
+
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+}
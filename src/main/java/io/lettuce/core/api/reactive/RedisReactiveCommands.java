@@ -19,8 +19,13 @@
  */
 package io.lettuce.core.api.reactive;
 
+import java.time.Duration;
+
+import org.reactivestreams.Publisher;
+
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -74,6 +79,35 @@ public interface RedisReactiveCommands<K, V> extends BaseRedisReactiveCommands<K
      */
     Mono<String> swapdb(int db1, int db2);
 
+    /**
+     * Pipeline the given commands. Commands are grouped into batches of up to {@code batchSize} commands, each batch is written
+     * with a single flush. Results are emitted in the order of {@code commands}; a batch is written once the previous batch has
+     * emitted all of its results so that at most one batch is in flight and downstream demand is respected. Commands must be
+     * obtained from this API and not be subscribed elsewhere. Commands that cannot be batched (e.g. commands emitting multiple
+     * elements) are dispatched individually. Other than {@link StatefulRedisConnection#setAutoFlushCommands(boolean)}, this
+     * method does not affect other users of the connection.
+     *
+     * @param commands the commands to pipeline, e.g. {@code Flux.fromIterable(keys).map(reactive::get)}.
+     * @param batchSize maximum number of commands per batch, must be greater than zero.
+     * @param <T> Result type.
+     * @return the command results.
+     * @since 6.7
+     */
+    <T> Flux<T> pipeline(Publisher<? extends Publisher<? extends T>> commands, int batchSize);
+
+    /**
+     * Pipeline the given commands. Commands are grouped into batches of up to {@code batchSize} commands or of the commands
+     * that arrived within {@code batchWindow}, whichever happens first. See {@link #pipeline(Publisher, int)} for details.
+     *
+     * @param commands the commands to pipeline.
+     * @param batchSize maximum number of commands per batch, must be greater than zero.
+     * @param batchWindow maximum time to wait for a batch to fill up, must be positive.
+     * @param <T> Result type.
+     * @return the command results.
+     * @since 6.7
+     */
+    <T> Flux<T> pipeline(Publisher<? extends Publisher<? extends T>> commands, int batchSize, Duration batchWindow);
+
     /**
      * @return the underlying connection.
      * @since 6.2, will be removed with Lettuce 7 to avoid exposing the underlying connection.
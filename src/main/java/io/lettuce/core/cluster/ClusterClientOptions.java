@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.function.Predicate;
 
+import io.lettuce.core.AutoFlushOptions;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
@@ -141,7 +142,11 @@ public class ClusterClientOptions extends ClientOptions {
                 .requestQueueSize(clientOptions.getRequestQueueSize()).scriptCharset(clientOptions.getScriptCharset())
                 .socketOptions(clientOptions.getSocketOptions()).sslOptions(clientOptions.getSslOptions())
                 .suspendReconnectOnProtocolFailure(clientOptions.isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(clientOptions.getTimeoutOptions());
+                .timeoutOptions(clientOptions.getTimeoutOptions()).autoFlushOptions(clientOptions.getAutoFlushOptions())
+                .useArrayIndexedQueue(clientOptions.isUseArrayIndexedQueue())
+                .requestQueueBackpressure(clientOptions.isRequestQueueBackpressure())
+                .parkingSyncExecution(clientOptions.isParkingSyncExecution())
+                .completeOnScheduler(clientOptions.isCompleteOnScheduler());
 
         return builder;
     }
@@ -298,6 +303,36 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder completeOnScheduler(boolean completeOnScheduler) {
+            super.completeOnScheduler(completeOnScheduler);
+            return this;
+        }
+
+        @Override
+        public Builder parkingSyncExecution(boolean parkingSyncExecution) {
+            super.parkingSyncExecution(parkingSyncExecution);
+            return this;
+        }
+
+        @Override
+        public Builder requestQueueBackpressure(boolean requestQueueBackpressure) {
+            super.requestQueueBackpressure(requestQueueBackpressure);
+            return this;
+        }
+
+        @Override
+        public Builder useArrayIndexedQueue(boolean useArrayIndexedQueue) {
+            super.useArrayIndexedQueue(useArrayIndexedQueue);
+            return this;
+        }
+
+        @Override
+        public Builder autoFlushOptions(AutoFlushOptions autoFlushOptions) {
+            super.autoFlushOptions(autoFlushOptions);
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -368,7 +403,10 @@ public class ClusterClientOptions extends ClientOptions {
                 .requestQueueSize(getRequestQueueSize()).scriptCharset(getScriptCharset()).socketOptions(getSocketOptions())
                 .sslOptions(getSslOptions()).suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure())
                 .timeoutOptions(getTimeoutOptions()).topologyRefreshOptions(getTopologyRefreshOptions())
-                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter());
+                .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter())
+                .autoFlushOptions(getAutoFlushOptions()).useArrayIndexedQueue(isUseArrayIndexedQueue())
+                .requestQueueBackpressure(isRequestQueueBackpressure()).parkingSyncExecution(isParkingSyncExecution())
+                .completeOnScheduler(isCompleteOnScheduler());
 
         return builder;
     }
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -88,6 +89,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private volatile Partitions partitions;
 
+    private volatile SlotRoutingTable routingTable = SlotRoutingTable.EMPTY;
+
     ClusterDistributionChannelWriter(RedisChannelWriter defaultWriter, ClientOptions clientOptions,
             ClusterEventListener clusterEventListener) {
 
@@ -177,15 +180,22 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
                 int hash = getSlot(encodedKey);
                 ConnectionIntent connectionIntent = getIntent(command);
+                SlotRoutingTable routingTable = this.routingTable;
+
+                RedisChannelWriter route = routingTable.getWriter(connectionIntent, hash);
+                if (route != null) {
+                    writeCommand(commandToSend, route);
+                    return commandToSend;
+                }
 
                 CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
                         .getConnectionAsync(connectionIntent, hash);
 
                 if (isSuccessfullyCompleted(connectFuture)) {
-                    writeCommand(commandToSend, false, connectFuture.join(), null);
+                    writeRoutedCommand(commandToSend, routingTable, connectionIntent, hash, connectFuture.join(), null);
                 } else {
-                    connectFuture
-                            .whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection, throwable));
+                    connectFuture.whenComplete((connection, throwable) -> writeRoutedCommand(commandToSend, routingTable,
+                            connectionIntent, hash, connection, throwable));
                 }
 
                 return commandToSend;
@@ -219,6 +229,20 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return new ClusterCommand<>(command, this, executionLimit);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <K, V> void writeRoutedCommand(RedisCommand<K, V, ?> command, SlotRoutingTable routingTable,
+            ConnectionIntent connectionIntent, int slot, StatefulRedisConnection<K, V> connection, Throwable throwable) {
+
+        if (throwable == null) {
+            RedisChannelWriter writer = ((RedisChannelHandler<K, V>) connection).getChannelWriter();
+            if (writer != null) {
+                routingTable.setWriter(connectionIntent, slot, getWriterToUse(writer));
+            }
+        }
+
+        writeCommand(command, false, connection, throwable);
+    }
+
     @SuppressWarnings("unchecked")
     private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, boolean asking,
             StatefulRedisConnection<K, V> connection, Throwable throwable) {
@@ -307,7 +331,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 continue;
             }
 
-            int hash = getSlot(args.getFirstEncodedKey());
+            int hash = getSlot(firstEncodedKey);
 
             List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(SlotIntent.of(connectionIntent, hash),
                     slotIntent -> new ArrayList<>());
@@ -315,29 +339,82 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
+        SlotRoutingTable routingTable = this.routingTable;
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> nodeBatches = new IdentityHashMap<>();
+
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
 
             SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider
-                    .getConnection(slotIntent.connectionIntent, slotIntent.slotHash);
+            RedisChannelWriter channelWriter = routingTable.getWriter(slotIntent.connectionIntent, slotIntent.slotHash);
+
+            if (channelWriter == null) {
+
+                CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
+                        .getConnectionAsync(slotIntent.connectionIntent, slotIntent.slotHash);
+
+                if (!isSuccessfullyCompleted(connectFuture)) {
 
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
+                    // do not block the caller while connecting, write the commands of this slot once connected
+                    List<ClusterCommand<K, V, ?>> slotCommands = entry.getValue();
+                    connectFuture.whenComplete((connection, throwable) -> writeSlotCommands(slotCommands, routingTable,
+                            slotIntent, connection, throwable));
+                    continue;
+                }
+
+                channelWriter = resolveSlotWriter(routingTable, slotIntent, connectFuture.join());
             }
 
-            if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
+            if (isNodeWriter(channelWriter)) {
+
+                List<ClusterCommand<K, V, ?>> nodeBatch = nodeBatches.get(channelWriter);
+                if (nodeBatch == null) {
+                    nodeBatches.put(channelWriter, entry.getValue());
+                } else {
+                    nodeBatch.addAll(entry.getValue());
+                }
             }
         }
 
+        // one write and flush per node regardless of how many slots it serves
+        nodeBatches.forEach((channelWriter, batch) -> channelWriter.write(batch));
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
         return (Collection) commands;
     }
 
+    private <K, V> void writeSlotCommands(List<ClusterCommand<K, V, ?>> commands, SlotRoutingTable routingTable,
+            SlotIntent slotIntent, StatefulRedisConnection<K, V> connection, Throwable throwable) {
+
+        if (throwable != null) {
+            commands.forEach(command -> command.completeExceptionally(throwable));
+            return;
+        }
+
+        RedisChannelWriter channelWriter = resolveSlotWriter(routingTable, slotIntent, connection);
+
+        if (isNodeWriter(channelWriter)) {
+            channelWriter.write(commands);
+        }
+    }
+
+    private <K, V> RedisChannelWriter resolveSlotWriter(SlotRoutingTable routingTable, SlotIntent slotIntent,
+            StatefulRedisConnection<K, V> connection) {
+
+        RedisChannelWriter channelWriter = getWriterToUse(((RedisChannelHandler<K, V>) connection).getChannelWriter());
+
+        if (isNodeWriter(channelWriter)) {
+            routingTable.setWriter(slotIntent.connectionIntent, slotIntent.slotHash, channelWriter);
+        }
+
+        return channelWriter;
+    }
+
+    private boolean isNodeWriter(RedisChannelWriter channelWriter) {
+        return channelWriter != null && channelWriter != this && channelWriter != defaultWriter;
+    }
+
     /**
      * Optimization: Determine command intents and optimize for bulk execution preferring one node.
      * <p>
@@ -515,6 +592,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         if (clusterConnectionProvider != null) {
             clusterConnectionProvider.setPartitions(partitions);
         }
+
+        this.routingTable = routingTable.rebuild(partitions);
     }
 
     public Partitions getPartitions() {
@@ -529,6 +608,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
      */
     public void setReadFrom(ReadFrom readFrom) {
         clusterConnectionProvider.setReadFrom(readFrom);
+        this.routingTable = routingTable.withReadFromUpstream(readFrom == null || readFrom == ReadFrom.UPSTREAM);
     }
 
     /**
@@ -132,7 +132,8 @@ class ClusterFutureSyncInvocationHandler<K, V> extends AbstractInvocationHandler
                         return null;
                     }
                 }
-                return Futures.awaitOrCancel(command, getTimeoutNs(command), TimeUnit.NANOSECONDS);
+                return Futures.awaitOrCancel(command, getTimeoutNs(command), TimeUnit.NANOSECONDS,
+                        connection.getOptions().isParkingSyncExecution());
             }
 
             return result;
@@ -50,6 +50,8 @@ public class ClusterTopologyRefreshOptions {
 
     public static final boolean DEFAULT_DYNAMIC_REFRESH_SOURCES = true;
 
+    public static final boolean DEFAULT_INCREMENTAL_REFRESH = false;
+
     public static final boolean DEFAULT_PERIODIC_REFRESH_ENABLED = false;
 
     public static final long DEFAULT_REFRESH_PERIOD = 60;
@@ -68,6 +70,8 @@ public class ClusterTopologyRefreshOptions {
 
     private final boolean dynamicRefreshSources;
 
+    private final boolean incrementalRefresh;
+
     private final boolean periodicRefreshEnabled;
 
     private final Duration refreshPeriod;
@@ -80,6 +84,7 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.closeStaleConnections = builder.closeStaleConnections;
         this.dynamicRefreshSources = builder.dynamicRefreshSources;
+        this.incrementalRefresh = builder.incrementalRefresh;
         this.periodicRefreshEnabled = builder.periodicRefreshEnabled;
         this.refreshPeriod = builder.refreshPeriod;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
@@ -91,6 +96,7 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.closeStaleConnections = original.closeStaleConnections;
         this.dynamicRefreshSources = original.dynamicRefreshSources;
+        this.incrementalRefresh = original.incrementalRefresh;
         this.periodicRefreshEnabled = original.periodicRefreshEnabled;
         this.refreshPeriod = original.refreshPeriod;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
@@ -146,6 +152,8 @@ public class ClusterTopologyRefreshOptions {
 
         private boolean dynamicRefreshSources = DEFAULT_DYNAMIC_REFRESH_SOURCES;
 
+        private boolean incrementalRefresh = DEFAULT_INCREMENTAL_REFRESH;
+
         private boolean periodicRefreshEnabled = DEFAULT_PERIODIC_REFRESH_ENABLED;
 
         private Duration refreshPeriod = DEFAULT_REFRESH_PERIOD_DURATION;
@@ -255,6 +263,22 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Retrieve the cluster topology using {@code CLUSTER SHARDS} and apply topology updates incrementally. Nodes that did
+         * not change retain their {@link io.lettuce.core.cluster.models.partitions.RedisClusterNode} instance and only slots of
+         * changed nodes are updated in the slot cache. Topology changes are published as
+         * {@link io.lettuce.core.cluster.event.ClusterTopologyDiffEvent}. Requires Redis 7.0 or newer. Defaults to
+         * {@code false}. See {@link ClusterTopologyRefreshOptions#DEFAULT_INCREMENTAL_REFRESH}.
+         *
+         * @param incrementalRefresh {@code true} to use {@code CLUSTER SHARDS} and apply topology changes incrementally
+         * @return {@code this}
+         * @since 6.7
+         */
+        public Builder incrementalRefresh(boolean incrementalRefresh) {
+            this.incrementalRefresh = incrementalRefresh;
+            return this;
+        }
+
         /**
          * Enables periodic cluster topology updates. The client starts updating the cluster topology in the intervals of
          * {@link Builder#refreshPeriod}. Defaults to {@code false}. See {@link #DEFAULT_PERIODIC_REFRESH_ENABLED}.
@@ -410,6 +434,17 @@ public class ClusterTopologyRefreshOptions {
         return dynamicRefreshSources;
     }
 
+    /**
+     * Flag, whether to retrieve the cluster topology using {@code CLUSTER SHARDS} and apply topology updates incrementally.
+     * Defaults to {@code false}. See {@link ClusterTopologyRefreshOptions#DEFAULT_INCREMENTAL_REFRESH}.
+     *
+     * @return {@code true} if topology updates are applied incrementally
+     * @since 6.7
+     */
+    public boolean isIncrementalRefresh() {
+        return incrementalRefresh;
+    }
+
     /**
      * Flag, whether regular cluster topology updates are updated. The client starts updating the cluster topology in the
      * intervals of {@link #getRefreshPeriod()}. Defaults to {@code false}.
@@ -59,11 +59,16 @@ import io.lettuce.core.json.JsonValue;
 import io.lettuce.core.json.arguments.JsonMsetArgs;
 import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.KeyStreamingChannel;
+import io.lettuce.core.output.KeyValueListOutput;
 import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.EncodedKey;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -209,20 +214,16 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.DEL, new IntegerOutput<>(codec), keyArgs(slotKeys)));
 
-        return MultiNodeExecution.aggregateAsync(executions);
+        return partitioned.size() < 2 ? singleOf(executions) : MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
@@ -232,20 +233,16 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        Map<Integer, RedisFuture<Long>> executions = dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.EXISTS, new IntegerOutput<>(codec), keyArgs(slotKeys)));
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return partitioned.size() < 2 ? singleOf(executions) : MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
@@ -351,21 +348,27 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<KeyValue<K, V>>> mget(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
+        Map<Integer, List<EncodedKey<K>>> encoded = SlotHash.partitionEncoded(codec, keys);
+
+        if (encoded.isEmpty()) {
             return super.mget(keys);
         }
 
+        Map<Integer, List<K>> partitioned = new HashMap<>(encoded.size());
+        encoded.forEach((slot, slotKeys) -> partitioned.put(slot, keysOf(slotKeys)));
+
+        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = dispatchPerSlot(encoded,
+                slotKeys -> new Command<>(CommandType.MGET, new KeyValueListOutput<>(codec, keysOf(slotKeys)),
+                        keyArgs(slotKeys)));
+
+        if (partitioned.size() < 2) {
+            return singleOf(executions);
+        }
+
         // For a given partition, maps the key to its index within the List<K> in partitioned for faster lookups below
         Map<Integer, Map<K, Integer>> partitionedKeysToIndexes = mapKeyToIndex(partitioned);
         Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>(partitioned.size());
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
@@ -432,24 +435,21 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
+        Map<Integer, RedisFuture<String>> executions = dispatchPerSlot(partitioned, slotKeys -> {
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+            CommandArgs<K, V> args = new CommandArgs<>(codec);
+            slotKeys.forEach(k -> args.addKey(k).addValue(map.get(k.getKey())));
 
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+            return new Command<>(CommandType.MSET, new StatusOutput<>(codec), args);
+        });
 
-        return MultiNodeExecution.firstOfAsync(executions);
+        return partitioned.size() < 2 ? singleOf(executions) : MultiNodeExecution.firstOfAsync(executions);
     }
 
     @Override
@@ -546,20 +546,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
 
-        if (partitioned.size() < 2) {
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
+
+        if (partitioned.isEmpty()) {
             return super.touch(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.TOUCH, new IntegerOutput<>(codec), keyArgs(slotKeys)));
 
-        return MultiNodeExecution.aggregateAsync(executions);
+        return partitioned.size() < 2 ? singleOf(executions) : MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
@@ -570,20 +567,16 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+        Map<Integer, RedisFuture<Long>> executions = dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.UNLINK, new IntegerOutput<>(codec), keyArgs(slotKeys)));
 
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return partitioned.size() < 2 ? singleOf(executions) : MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
@@ -700,6 +693,59 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return clusterScan(getStatefulConnection(), cursor, scanFunction, resultMapper);
     }
 
+    /**
+     * Dispatch one command per slot as a single batch. The cluster channel writer groups the batch by the node serving each
+     * slot so that all commands targeting the same node are written and flushed together instead of one flush per slot. Keys
+     * are passed on in their encoded form so they are not encoded again for routing and writing.
+     *
+     * @param partitioned encoded keys partitioned by slot.
+     * @param commandFactory function creating the command for the keys of a single slot.
+     * @return map of slot to the command future.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchPerSlot(Map<Integer, List<EncodedKey<K>>> partitioned,
+            Function<List<EncodedKey<K>>, RedisCommand<K, V, T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new HashMap<>(partitioned.size());
+
+        if (partitioned.size() == 1) {
+
+            Map.Entry<Integer, List<EncodedKey<K>>> entry = partitioned.entrySet().iterator().next();
+            executions.put(entry.getKey(), dispatch(commandFactory.apply(entry.getValue())));
+            return executions;
+        }
+
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.size());
+
+        for (Map.Entry<Integer, List<EncodedKey<K>>> entry : partitioned.entrySet()) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(attachTraceContext(commandFactory.apply(entry.getValue())));
+            commands.add(command);
+            executions.put(entry.getKey(), command);
+        }
+
+        getStatefulConnection().dispatch(commands);
+
+        return executions;
+    }
+
+    private CommandArgs<K, V> keyArgs(List<EncodedKey<K>> keys) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        keys.forEach(args::addKey);
+        return args;
+    }
+
+    private static <K> List<K> keysOf(List<EncodedKey<K>> keys) {
+
+        List<K> result = new ArrayList<>(keys.size());
+        keys.forEach(key -> result.add(key.getKey()));
+        return result;
+    }
+
+    private static <T> RedisFuture<T> singleOf(Map<Integer, RedisFuture<T>> executions) {
+        return executions.values().iterator().next();
+    }
+
     /**
      * Run a command on all available masters,
      *
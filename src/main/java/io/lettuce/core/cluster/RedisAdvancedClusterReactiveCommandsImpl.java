@@ -50,9 +50,17 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceLists;
+import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.KeyStreamingChannel;
+import io.lettuce.core.output.KeyValueListOutput;
 import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.EncodedKey;
+import io.lettuce.core.protocol.RedisCommand;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -190,19 +198,14 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Mono<Long> del(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.del(keys);
         }
 
-        List<Publisher<Long>> publishers = new ArrayList<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            publishers.add(super.del(entry.getValue()));
-        }
-
-        return Flux.merge(publishers).reduce((accu, next) -> accu + next);
+        return dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.DEL, new IntegerOutput<>(codec), keyArgs(slotKeys))).reduce(Long::sum);
     }
 
     @Override
@@ -214,19 +217,14 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
         List<K> keyList = LettuceLists.newList(keys);
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keyList);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keyList);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.exists(keyList);
         }
 
-        List<Publisher<Long>> publishers = new ArrayList<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            publishers.add(super.exists(entry.getValue()));
-        }
-
-        return Flux.merge(publishers).reduce((accu, next) -> accu + next);
+        return dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.EXISTS, new IntegerOutput<>(codec), keyArgs(slotKeys))).reduce(Long::sum);
     }
 
     @Override
@@ -283,34 +281,32 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
         return mget(Arrays.asList(keys));
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     public Flux<KeyValue<K, V>> mget(Iterable<K> keys) {
         List<K> keyList = LettuceLists.newList(keys);
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keyList);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keyList);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.mget(keyList);
         }
 
-        List<Publisher<KeyValue<K, V>>> publishers = partitioned.values().stream().map(super::mget)
-                .collect(Collectors.toList());
+        if (partitioned.size() == 1) {
 
-        return Flux.mergeSequential(publishers).collectList().map(results -> {
-            KeyValue<K, V>[] values = new KeyValue[keyList.size()];
-            int offset = 0;
+            List<EncodedKey<K>> slotKeys = partitioned.values().iterator().next();
+            return createDissolvingFlux(() -> mget(slotKeys));
+        }
 
-            for (List<K> partitionKeys : partitioned.values()) {
-                for (int i = 0; i < keyList.size(); i++) {
-                    int index = partitionKeys.indexOf(keyList.get(i));
-                    if (index != -1) {
-                        values[i] = results.get(offset + index);
-                    }
-                }
-                offset += partitionKeys.size();
-            }
+        Flux<List<KeyValue<K, V>>> results = createBatchedFlux(perSlot(partitioned, this::mget));
+
+        // restore order of keys
+        return results.collectList().flatMapIterable(slotResults -> {
 
-            return Arrays.asList(values);
-        }).flatMapMany(Flux::fromIterable);
+            Map<K, KeyValue<K, V>> values = new HashMap<>(keyList.size());
+            slotResults.forEach(slotResult -> slotResult.forEach(kv -> values.put(kv.getKey(), kv)));
+
+            List<KeyValue<K, V>> result = new ArrayList<>(keyList.size());
+            keyList.forEach(key -> result.add(values.get(key)));
+            return result;
+        });
     }
 
     @Override
@@ -347,8 +343,20 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
     @Override
     public Mono<String> mset(Map<K, V> map) {
-        return pipeliningWithMap(map, kvMap -> RedisAdvancedClusterReactiveCommandsImpl.super.mset(kvMap).flux(),
-                booleanFlux -> booleanFlux).last();
+
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, map.keySet());
+
+        if (partitioned.isEmpty()) {
+            return super.mset(map);
+        }
+
+        return dispatchPerSlot(partitioned, slotKeys -> {
+
+            CommandArgs<K, V> args = new CommandArgs<>(codec);
+            slotKeys.forEach(key -> args.addKey(key).addValue(map.get(key.getKey())));
+
+            return new Command<>(CommandType.MSET, new StatusOutput<>(codec), args);
+        }).last();
     }
 
     @Override
@@ -398,19 +406,14 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     public Mono<Long> touch(Iterable<K> keys) {
 
         List<K> keyList = LettuceLists.newList(keys);
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keyList);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keyList);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.touch(keyList);
         }
 
-        List<Publisher<Long>> publishers = new ArrayList<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            publishers.add(super.touch(entry.getValue()));
-        }
-
-        return Flux.merge(publishers).reduce((accu, next) -> accu + next);
+        return dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.TOUCH, new IntegerOutput<>(codec), keyArgs(slotKeys))).reduce(Long::sum);
     }
 
     @Override
@@ -421,19 +424,14 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Mono<Long> unlink(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        Map<Integer, List<EncodedKey<K>>> partitioned = SlotHash.partitionEncoded(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.isEmpty()) {
             return super.unlink(keys);
         }
 
-        List<Publisher<Long>> publishers = new ArrayList<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            publishers.add(super.unlink(entry.getValue()));
-        }
-
-        return Flux.merge(publishers).reduce((accu, next) -> accu + next);
+        return dispatchPerSlot(partitioned,
+                slotKeys -> new Command<>(CommandType.UNLINK, new IntegerOutput<>(codec), keyArgs(slotKeys))).reduce(Long::sum);
     }
 
     @Override
@@ -534,6 +532,62 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
         return resultFunction.apply(Flux.merge(publishers));
     }
 
+    /**
+     * Create one command per slot. The commands are dispatched as a single batch so that the cluster channel writer groups them
+     * by the node serving each slot and writes all commands targeting the same node with a single flush.
+     *
+     * @param partitioned encoded keys partitioned by slot.
+     * @param commandFactory function creating the command for the keys of a single slot.
+     * @param <T> result type
+     * @return the command suppliers.
+     */
+    private <T> List<Supplier<RedisCommand<K, V, T>>> perSlot(Map<Integer, List<EncodedKey<K>>> partitioned,
+            Function<List<EncodedKey<K>>, RedisCommand<K, V, T>> commandFactory) {
+
+        List<Supplier<RedisCommand<K, V, T>>> commands = new ArrayList<>(partitioned.size());
+
+        for (List<EncodedKey<K>> slotKeys : partitioned.values()) {
+            commands.add(() -> commandFactory.apply(slotKeys));
+        }
+
+        return commands;
+    }
+
+    /**
+     * Dispatch one command per slot. Multiple slots are dispatched as a single batch, see {@link #perSlot(Map, Function)}.
+     *
+     * @param partitioned encoded keys partitioned by slot.
+     * @param commandFactory function creating the command for the keys of a single slot.
+     * @param <T> result type
+     * @return the {@link Flux} emitting the result of each slot command.
+     */
+    private <T> Flux<T> dispatchPerSlot(Map<Integer, List<EncodedKey<K>>> partitioned,
+            Function<List<EncodedKey<K>>, RedisCommand<K, V, T>> commandFactory) {
+
+        List<Supplier<RedisCommand<K, V, T>>> commands = perSlot(partitioned, commandFactory);
+
+        if (commands.size() == 1) {
+            return createMono(commands.get(0)).flux();
+        }
+
+        return createBatchedFlux(commands);
+    }
+
+    private RedisCommand<K, V, List<KeyValue<K, V>>> mget(List<EncodedKey<K>> keys) {
+
+        List<K> outputKeys = new ArrayList<>(keys.size());
+        keys.forEach(key -> outputKeys.add(key.getKey()));
+
+        return new Command<>(CommandType.MGET, new KeyValueListOutput<>(codec, outputKeys), keyArgs(keys));
+    }
+
+    private CommandArgs<K, V> keyArgs(List<EncodedKey<K>> keys) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        keys.forEach(args::addKey);
+        return args;
+    }
+
     /**
      * Run a command on all available masters,
      *
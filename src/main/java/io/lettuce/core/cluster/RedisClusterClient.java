@@ -45,6 +45,7 @@ import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.event.ClusterTopologyDiffEvent;
 import io.lettuce.core.cluster.event.TopologyRefreshEvent;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
@@ -52,6 +53,7 @@ import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
 import io.lettuce.core.cluster.topology.ClusterTopologyRefresh;
 import io.lettuce.core.cluster.topology.NodeConnectionFactory;
 import io.lettuce.core.cluster.topology.TopologyComparators;
+import io.lettuce.core.cluster.topology.TopologyDiff;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.event.jfr.EventRecorder;
@@ -947,6 +949,11 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         return loadPartitionsAsync().thenAccept(loadedPartitions -> {
 
+            if (useIncrementalRefresh()) {
+                applyTopologyDiff(loadedPartitions);
+                return;
+            }
+
             if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
 
                 logger.debug("Using a new cluster topology");
@@ -962,6 +969,31 @@ public class RedisClusterClient extends AbstractRedisClient {
         }).whenComplete((unused, throwable) -> event.record());
     }
 
+    private void applyTopologyDiff(Partitions loadedPartitions) {
+
+        TopologyDiff diff = TopologyDiff.compute(getPartitions(), loadedPartitions);
+
+        if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
+
+            logger.debug("Using a new cluster topology");
+
+            List<RedisClusterNode> before = new ArrayList<>(getPartitions());
+            List<RedisClusterNode> after = new ArrayList<>(diff.getNodes());
+
+            getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
+        }
+
+        if (!diff.isEmpty()) {
+            getResources().eventBus().publish(new ClusterTopologyDiffEvent(diff.getAdded(), diff.getRemoved(),
+                    diff.getUpdated(), diff.getChangedSlots()));
+        }
+
+        this.partitions.reload(diff.getNodes(), diff.getChangedSlots());
+
+        // retained nodes received updated offsets and latencies that affect read candidates and their order
+        updatePartitionsInConnections();
+    }
+
     /**
      * Suspend periodic topology refresh if it was activated previously. Suspending cancels the periodic schedule without
      * interrupting any running topology refresh. Suspension is in place until obtaining a new {@link #connect connection}.
@@ -1087,8 +1119,10 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private CompletionStage<Partitions> fetchPartitions(Iterable<RedisURI> topologyRefreshSource) {
 
-        CompletionStage<Map<RedisURI, Partitions>> topology = refresh.loadViews(topologyRefreshSource,
-                getClusterClientOptions().getSocketOptions().getConnectTimeout(), useDynamicRefreshSources());
+        Duration connectTimeout = getClusterClientOptions().getSocketOptions().getConnectTimeout();
+        CompletionStage<Map<RedisURI, Partitions>> topology = useIncrementalRefresh()
+                ? refresh.loadViews(topologyRefreshSource, connectTimeout, useDynamicRefreshSources(), true)
+                : refresh.loadViews(topologyRefreshSource, connectTimeout, useDynamicRefreshSources());
 
         return topology.thenApply(partitions -> {
 
@@ -1268,6 +1302,17 @@ public class RedisClusterClient extends AbstractRedisClient {
         return topologyRefreshOptions.useDynamicRefreshSources();
     }
 
+    /**
+     * Returns {@code true} if {@link ClusterTopologyRefreshOptions#isIncrementalRefresh() incremental topology refresh} is
+     * enabled.
+     *
+     * @return {@code true} if topology updates are retrieved using {@code CLUSTER SHARDS} and applied incrementally.
+     * @see ClusterTopologyRefreshOptions#isIncrementalRefresh()
+     */
+    private boolean useIncrementalRefresh() {
+        return getClusterClientOptions().getTopologyRefreshOptions().isIncrementalRefresh();
+    }
+
     /**
      * Returns a {@link String} {@link RedisCodec codec}.
      *
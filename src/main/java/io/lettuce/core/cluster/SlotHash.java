@@ -4,11 +4,13 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import io.lettuce.core.codec.CRC16;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.EncodedKey;
 
 /**
  * Utility to calculate the slot from a key.
@@ -127,6 +129,31 @@ public class SlotHash {
         return partitioned;
     }
 
+    /**
+     * Partition keys by slot-hash retaining the encoded keys. The resulting map honors order of the keys: slots are iterated in
+     * the order of their first key and each list retains the order of its keys. Each key is encoded once so that its encoded
+     * form can be reused when adding it to {@link io.lettuce.core.protocol.CommandArgs} through
+     * {@link io.lettuce.core.protocol.CommandArgs#addKey(EncodedKey)}.
+     *
+     * @param codec codec to encode the key.
+     * @param keys iterable of keys.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return map between slot-hash and an ordered list of encoded keys.
+     * @since 6.7
+     */
+    public static <K, V> Map<Integer, List<EncodedKey<K>>> partitionEncoded(RedisCodec<K, V> codec, Iterable<K> keys) {
+
+        Map<Integer, List<EncodedKey<K>>> partitioned = new LinkedHashMap<>();
+
+        for (K key : keys) {
+            EncodedKey<K> encodedKey = EncodedKey.of(codec, key);
+            partitioned.computeIfAbsent(getSlot(encodedKey.getEncoded()), slot -> new ArrayList<>()).add(encodedKey);
+        }
+
+        return partitioned;
+    }
+
     /**
      * Create mapping between the Key and hash slot.
      *
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.protocol.ConnectionIntent;
+
+/**
+ * Routing table that maps each slot to the {@link RedisChannelWriter} of the upstream node serving the slot. Routes are
+ * installed once the connection to a node is established so routing a command to a known slot requires a single array read.
+ * <p>
+ * A table is immutable with respect to its slot ownership. Topology or {@link io.lettuce.core.ReadFrom} changes create a new
+ * table through {@link #rebuild(Partitions)} and {@link #withReadFromUpstream(boolean)} that retains the routes of slots whose
+ * owner did not change.
+ *
+ * @since 6.7
+ */
+class SlotRoutingTable {
+
+    static final SlotRoutingTable EMPTY = new SlotRoutingTable(new HostAndPort[SlotHash.SLOT_COUNT],
+            new AtomicReferenceArray<>(SlotHash.SLOT_COUNT), true);
+
+    private final HostAndPort[] owners;
+
+    private final AtomicReferenceArray<RedisChannelWriter> writers;
+
+    private final boolean readFromUpstream;
+
+    private SlotRoutingTable(HostAndPort[] owners, AtomicReferenceArray<RedisChannelWriter> writers, boolean readFromUpstream) {
+        this.owners = owners;
+        this.writers = writers;
+        this.readFromUpstream = readFromUpstream;
+    }
+
+    /**
+     * Create a new table for {@link Partitions} retaining routes of slots that are served by the same node as in this table.
+     *
+     * @param partitions the new partitions.
+     * @return the new {@link SlotRoutingTable}.
+     */
+    SlotRoutingTable rebuild(Partitions partitions) {
+
+        HostAndPort[] newOwners = new HostAndPort[SlotHash.SLOT_COUNT];
+        AtomicReferenceArray<RedisChannelWriter> newWriters = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+        Map<RedisClusterNode, HostAndPort> nodes = new IdentityHashMap<>();
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+            RedisClusterNode upstream = partitions.getMasterBySlot(slot);
+            if (upstream == null) {
+                continue;
+            }
+
+            HostAndPort owner = nodes.computeIfAbsent(upstream, it -> {
+                RedisURI uri = it.getUri();
+                return HostAndPort.of(uri.getHost(), uri.getPort());
+            });
+
+            newOwners[slot] = owner;
+
+            if (owner.equals(owners[slot])) {
+                newWriters.lazySet(slot, writers.get(slot));
+            }
+        }
+
+        return new SlotRoutingTable(newOwners, newWriters, readFromUpstream);
+    }
+
+    /**
+     * Create a new table sharing the routes of this table.
+     *
+     * @param readFromUpstream whether {@link ConnectionIntent#READ} is served by the upstream node.
+     * @return the new {@link SlotRoutingTable}.
+     */
+    SlotRoutingTable withReadFromUpstream(boolean readFromUpstream) {
+        return readFromUpstream == this.readFromUpstream ? this : new SlotRoutingTable(owners, writers, readFromUpstream);
+    }
+
+    /**
+     * Return the route for {@code slot}.
+     *
+     * @param connectionIntent the connection intent.
+     * @param slot the slot.
+     * @return the {@link RedisChannelWriter} or {@code null} if the slot has no route yet or reads are not served by the
+     *         upstream node.
+     */
+    RedisChannelWriter getWriter(ConnectionIntent connectionIntent, int slot) {
+
+        if (connectionIntent == ConnectionIntent.READ && !readFromUpstream) {
+            return null;
+        }
+
+        return writers.get(slot);
+    }
+
+    /**
+     * Install the route for {@code slot}. Slots without an owner and reads that are not served by the upstream node do not
+     * accept routes.
+     *
+     * @param connectionIntent the connection intent the {@code writer} was obtained for.
+     * @param slot the slot.
+     * @param writer the writer of the connection to the node serving {@code slot}.
+     */
+    void setWriter(ConnectionIntent connectionIntent, int slot, RedisChannelWriter writer) {
+
+        if (connectionIntent == ConnectionIntent.READ && !readFromUpstream) {
+            return;
+        }
+
+        if (owners[slot] != null) {
+            writers.lazySet(slot, writer);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.lettuce.core.cluster.event;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.event.Event;
+
+/**
+ * Signals a cluster topology change that was applied incrementally. The event carries the {@link #added()}, {@link #removed()}
+ * and {@link #updated()} nodes and the {@link #changedSlots() slots} whose owning node changed.
+ *
+ * @since 6.7
+ * @see io.lettuce.core.cluster.ClusterTopologyRefreshOptions#isIncrementalRefresh()
+ */
+public class ClusterTopologyDiffEvent implements Event {
+
+    private final List<RedisClusterNode> added;
+
+    private final List<RedisClusterNode> removed;
+
+    private final List<RedisClusterNode> updated;
+
+    private final BitSet changedSlots;
+
+    /**
+     * Creates a new {@link ClusterTopologyDiffEvent}.
+     *
+     * @param added nodes that joined the cluster topology view, must not be {@code null}
+     * @param removed nodes that left the cluster topology view, must not be {@code null}
+     * @param updated nodes whose role, slots, endpoint or replication source changed, must not be {@code null}
+     * @param changedSlots slots whose owning node changed, must not be {@code null}
+     */
+    public ClusterTopologyDiffEvent(List<RedisClusterNode> added, List<RedisClusterNode> removed,
+            List<RedisClusterNode> updated, BitSet changedSlots) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.updated = Collections.unmodifiableList(updated);
+        this.changedSlots = (BitSet) changedSlots.clone();
+    }
+
+    /**
+     * Returns the nodes that joined the cluster topology view.
+     *
+     * @return the nodes that joined the cluster topology view.
+     */
+    public List<RedisClusterNode> added() {
+        return added;
+    }
+
+    /**
+     * Returns the nodes that left the cluster topology view.
+     *
+     * @return the nodes that left the cluster topology view.
+     */
+    public List<RedisClusterNode> removed() {
+        return removed;
+    }
+
+    /**
+     * Returns the nodes whose role, slots, endpoint or replication source changed.
+     *
+     * @return the updated nodes.
+     */
+    public List<RedisClusterNode> updated() {
+        return updated;
+    }
+
+    /**
+     * Returns the slots whose owning node changed.
+     *
+     * @return the slots whose owning node changed.
+     */
+    public BitSet changedSlots() {
+        return (BitSet) changedSlots.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [added=").append(added.size());
+        sb.append(", removed=").append(removed.size());
+        sb.append(", updated=").append(updated.size());
+        sb.append(", changedSlots=").append(changedSlots.cardinality());
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
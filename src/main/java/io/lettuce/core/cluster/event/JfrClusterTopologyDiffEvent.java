@@ -0,0 +1,50 @@
+package io.lettuce.core.cluster.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.event.Event;
+
+/**
+ * Flight recorder event variant of {@link ClusterTopologyDiffEvent}.
+ *
+ * @since 6.7
+ */
+@Category({ "Lettuce", "Cluster Events" })
+@Label("Topology Diff")
+@StackTrace(false)
+class JfrClusterTopologyDiffEvent extends jdk.jfr.Event implements Event {
+
+    private final String added;
+
+    private final String removed;
+
+    private final String updated;
+
+    private final int changedSlots;
+
+    /**
+     * Creates a new {@link JfrClusterTopologyDiffEvent}.
+     */
+    public JfrClusterTopologyDiffEvent(ClusterTopologyDiffEvent event) {
+
+        this.added = toString(event.added());
+        this.removed = toString(event.removed());
+        this.updated = toString(event.updated());
+        this.changedSlots = event.changedSlots().cardinality();
+    }
+
+    private static String toString(Iterable<RedisClusterNode> nodes) {
+
+        StringBuilder builder = new StringBuilder();
+
+        for (RedisClusterNode redisClusterNode : nodes) {
+            builder.append(String.format("%s [%s] %s %s\n", redisClusterNode.getNodeId(), redisClusterNode.getUri(),
+                    redisClusterNode.getFlags(), redisClusterNode.getRole()));
+        }
+
+        return builder.toString();
+    }
+
+}
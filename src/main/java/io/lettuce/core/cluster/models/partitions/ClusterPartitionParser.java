@@ -1,5 +1,7 @@
 package io.lettuce.core.cluster.models.partitions;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import io.lettuce.core.RedisException;
@@ -25,6 +27,12 @@ public class ClusterPartitionParser {
 
     private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
 
+    private static final byte[][] FLAG_NAMES;
+
+    private static final RedisClusterNode.NodeFlag[] FLAG_VALUES;
+
+    private static final byte[] CONNECTED_BYTES = CONNECTED.getBytes(StandardCharsets.US_ASCII);
+
     static {
         Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
 
@@ -35,11 +43,22 @@ public class ClusterPartitionParser {
         map.put("replica", RedisClusterNode.NodeFlag.REPLICA);
         map.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
+        map.put("failed", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
         map.put("loading", RedisClusterNode.NodeFlag.LOADING);
         map.put("online", RedisClusterNode.NodeFlag.ONLINE);
         FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = new byte[map.size()][];
+        FLAG_VALUES = new RedisClusterNode.NodeFlag[map.size()];
+
+        int index = 0;
+        for (Map.Entry<String, RedisClusterNode.NodeFlag> entry : map.entrySet()) {
+            FLAG_NAMES[index] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            FLAG_VALUES[index] = entry.getValue();
+            index++;
+        }
     }
 
     /**
@@ -141,6 +160,7 @@ public class ClusterPartitionParser {
 
         flags.add(FLAG_MAPPING.get(nodeMap.<String> get("role")));
         flags.add(FLAG_MAPPING.get(nodeMap.<String> get("health")));
+        flags.remove(null);
 
         if (flags.contains(RedisClusterNode.NodeFlag.SLAVE)) {
             flags.add(RedisClusterNode.NodeFlag.REPLICA);
@@ -192,6 +212,307 @@ public class ClusterPartitionParser {
         return partitions;
     }
 
+    /**
+     * Parse the {@code CLUSTER NODES} reply bytes into a {@link Partitions} object. The reply is scanned in place without
+     * decoding it into a {@link String} and without splitting it into lines and tokens. Only node identifiers and endpoints are
+     * materialized as {@link String}.
+     *
+     * @param nodes output of CLUSTER NODES, the buffer position and limit remain unchanged.
+     * @return the partitions object.
+     * @since 6.7
+     */
+    public static Partitions parse(ByteBuffer nodes) {
+
+        Partitions partitions = new Partitions();
+
+        try {
+
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+            NodeTokenizer tokenizer = new NodeTokenizer(nodes);
+
+            int lineStart = nodes.position();
+            int limit = nodes.limit();
+
+            while (lineStart < limit) {
+
+                int lineEnd = indexOf(nodes, (byte) TOKEN_NODE_SEPARATOR, lineStart, limit);
+
+                if (lineEnd == -1) {
+                    lineEnd = limit;
+                }
+
+                if (tokenizer.reset(lineStart, lineEnd)) {
+                    mappedNodes.add(parseNode(tokenizer));
+                }
+
+                lineStart = lineEnd + 1;
+            }
+
+            partitions.addAll(mappedNodes);
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + StandardCharsets.UTF_8.decode(nodes.duplicate()), e);
+        }
+
+        return partitions;
+    }
+
+    private static RedisClusterNode parseNode(NodeTokenizer tokenizer) {
+
+        RedisClusterNode node = new RedisClusterNode();
+
+        node.setNodeId(tokenizer.getString());
+
+        RedisURI uri = readUri(tokenizer.nextRequired());
+        if (uri != null) {
+            node.setUri(uri);
+        }
+
+        node.setFlags(readFlags(tokenizer.nextRequired()));
+
+        tokenizer.nextRequired();
+        node.setSlaveOf(tokenizer.isDash() ? null : tokenizer.getString());
+        node.setPingSentTimestamp(tokenizer.next() ? tokenizer.getLong() : 0);
+        node.setPongReceivedTimestamp(tokenizer.next() ? tokenizer.getLong() : 0);
+        node.setConfigEpoch(tokenizer.next() ? tokenizer.getLong() : 0);
+        node.setConnected(tokenizer.nextRequired().equalTo(CONNECTED_BYTES));
+        node.setReplOffset(-1);
+
+        BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+
+        while (tokenizer.next()) {
+
+            if (tokenizer.startsWith((byte) '[')) {
+                // not interesting
+                continue;
+            }
+
+            int dash = tokenizer.indexOf((byte) '-');
+
+            if (dash == -1) {
+                slots.set((int) tokenizer.getLong());
+            } else {
+                slots.set((int) tokenizer.getLong(tokenizer.start, dash), (int) tokenizer.getLong(dash + 1, tokenizer.end) + 1);
+            }
+        }
+
+        node.setSlots(slots);
+
+        return node;
+    }
+
+    private static RedisURI readUri(NodeTokenizer tokenizer) {
+
+        int at = tokenizer.indexOf((byte) '@');
+        int hostAndPortEnd = at == -1 ? tokenizer.end : at;
+        String announcedHostName = null;
+
+        if (at != -1) {
+
+            int comma = indexOf(tokenizer.buffer, (byte) ',', at + 1, tokenizer.end);
+
+            if (comma != -1) {
+
+                int hostNameEnd = indexOf(tokenizer.buffer, (byte) ',', comma + 1, tokenizer.end);
+                announcedHostName = tokenizer.getString(comma + 1, hostNameEnd == -1 ? tokenizer.end : hostNameEnd);
+            }
+        }
+
+        HostAndPort hostAndPort = HostAndPort.parseCompat(tokenizer.getString(tokenizer.start, hostAndPortEnd));
+
+        if (LettuceStrings.isNotEmpty(announcedHostName)) {
+            hostAndPort = HostAndPort.of(announcedHostName, hostAndPort.getPort());
+        }
+
+        if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
+            return RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+        }
+
+        return null;
+    }
+
+    private static Set<RedisClusterNode.NodeFlag> readFlags(NodeTokenizer tokenizer) {
+
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+        int flagStart = tokenizer.start;
+
+        while (flagStart < tokenizer.end) {
+
+            int flagEnd = indexOf(tokenizer.buffer, (byte) ',', flagStart, tokenizer.end);
+
+            if (flagEnd == -1) {
+                flagEnd = tokenizer.end;
+            }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (regionEquals(tokenizer.buffer, flagStart, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAG_VALUES[i]);
+                    break;
+                }
+            }
+
+            flagStart = flagEnd + 1;
+        }
+
+        if (flags.contains(RedisClusterNode.NodeFlag.SLAVE)) {
+            flags.add(RedisClusterNode.NodeFlag.REPLICA);
+        }
+
+        return flags;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean regionEquals(ByteBuffer buffer, int from, int to, byte[] expected) {
+
+        if (to - from != expected.length) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tokenizer for a single {@code CLUSTER NODES} line using absolute buffer access. Tokens are separated by spaces.
+     */
+    private static class NodeTokenizer {
+
+        private final ByteBuffer buffer;
+
+        private int position;
+
+        private int lineEnd;
+
+        private int start;
+
+        private int end;
+
+        NodeTokenizer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reset the tokenizer to the given line and advance to its first token.
+         *
+         * @return {@code true} if the line contains at least one token.
+         */
+        boolean reset(int lineStart, int lineEnd) {
+
+            this.position = lineStart;
+            this.lineEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+            return next();
+        }
+
+        boolean next() {
+
+            while (position < lineEnd && buffer.get(position) == ' ') {
+                position++;
+            }
+
+            if (position >= lineEnd) {
+                return false;
+            }
+
+            start = position;
+
+            while (position < lineEnd && buffer.get(position) != ' ') {
+                position++;
+            }
+
+            end = position;
+            return true;
+        }
+
+        NodeTokenizer nextRequired() {
+
+            if (!next()) {
+                throw new NoSuchElementException("Incomplete node information");
+            }
+
+            return this;
+        }
+
+        boolean isDash() {
+            return end - start == 1 && buffer.get(start) == '-';
+        }
+
+        boolean startsWith(byte value) {
+            return buffer.get(start) == value;
+        }
+
+        boolean equalTo(byte[] value) {
+            return regionEquals(buffer, start, end, value);
+        }
+
+        int indexOf(byte value) {
+            return ClusterPartitionParser.indexOf(buffer, value, start, end);
+        }
+
+        String getString() {
+            return getString(start, end);
+        }
+
+        String getString(int from, int to) {
+
+            byte[] bytes = new byte[to - from];
+
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(from + i);
+            }
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        long getLong() {
+            return getLong(start, end);
+        }
+
+        long getLong(int from, int to) {
+
+            if (from >= to) {
+                throw new NumberFormatException("Empty number");
+            }
+
+            boolean negative = buffer.get(from) == '-';
+            int index = negative ? from + 1 : from;
+
+            if (index >= to) {
+                throw new NumberFormatException("Invalid number: -");
+            }
+
+            long result = 0;
+
+            for (; index < to; index++) {
+
+                int digit = buffer.get(index) - '0';
+
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("Invalid number: " + getString(from, to));
+                }
+
+                result = result * 10 + digit;
+            }
+
+            return negative ? -result : result;
+        }
+
+    }
+
     private static RedisClusterNode parseNode(String nodeInformation) {
 
         Iterator<String> iterator = Arrays.asList(nodeInformation.split(" ")).iterator();
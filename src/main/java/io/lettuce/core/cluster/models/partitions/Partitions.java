@@ -20,6 +20,7 @@
 package io.lettuce.core.cluster.models.partitions;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -284,6 +285,63 @@ public class Partitions implements Collection<RedisClusterNode> {
         }
     }
 
+    /**
+     * Update partitions and patch the slot cache for {@code changedSlots} only. Slots outside of {@code changedSlots} retain
+     * their cached {@link RedisClusterNode} which requires that nodes serving these slots are contained in {@code partitions}
+     * with the same instance. Falls back to a full cache rebuild if the cache was not initialized yet.
+     *
+     * @param partitions list of new partitions
+     * @param changedSlots slots whose owning node was added, removed or updated
+     * @since 6.7
+     */
+    public void reload(List<RedisClusterNode> partitions, BitSet changedSlots) {
+
+        LettuceAssert.noNullElements(partitions, "Partitions must not contain null elements");
+        LettuceAssert.notNull(changedSlots, "Changed slots must not be null");
+
+        lock.lock();
+        try {
+            this.partitions.clear();
+            this.partitions.addAll(partitions);
+
+            if (this.partitions.isEmpty() || slotCache == EMPTY) {
+                updateCache();
+                return;
+            }
+
+            if (!changedSlots.isEmpty()) {
+
+                RedisClusterNode[] slotCache = this.slotCache.clone();
+                RedisClusterNode[] masterCache = this.masterCache.clone();
+
+                for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+
+                    slotCache[slot] = null;
+                    masterCache[slot] = null;
+
+                    for (RedisClusterNode partition : this.partitions) {
+
+                        if (!partition.hasSlot(slot)) {
+                            continue;
+                        }
+
+                        if (partition.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                            masterCache[slot] = partition;
+                        }
+                        slotCache[slot] = partition;
+                    }
+                }
+
+                this.slotCache = slotCache;
+                this.masterCache = masterCache;
+            }
+
+            this.nodeReadView = Collections.unmodifiableCollection(new ArrayList<>(this.partitions));
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Returns {@code true} if this {@link Partitions} contains no elements using the read-view.
      *
@@ -38,4 +38,21 @@ public interface ClusterTopologyRefresh {
      */
     CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout, boolean discovery);
 
+    /**
+     * Load topology views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Retrieves the
+     * topology using {@code CLUSTER SHARDS} if {@code useClusterShards} is {@code true}. Implementations that do not support
+     * {@code CLUSTER SHARDS} fall back to {@link #loadViews(Iterable, Duration, boolean)}.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param connectTimeout connect timeout
+     * @param discovery {@code true} to discover additional nodes
+     * @param useClusterShards {@code true} to retrieve the topology using {@code CLUSTER SHARDS} (requires Redis 7.0 or newer)
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     * @since 6.7
+     */
+    default CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
+            boolean discovery, boolean useClusterShards) {
+        return loadViews(seed, connectTimeout, discovery);
+    }
+
 }
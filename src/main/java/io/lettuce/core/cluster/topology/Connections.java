@@ -2,6 +2,7 @@ package io.lettuce.core.cluster.topology;
 
 import java.time.Duration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -13,6 +14,8 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.output.ArrayOutput;
+import io.lettuce.core.output.ByteArrayOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
@@ -86,11 +89,41 @@ class Connections {
      * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
      * @return the {@link Requests}.
      */
-    public Requests requestTopology(long timeout, TimeUnit timeUnit) {
+    public Requests<byte[]> requestTopology(long timeout, TimeUnit timeUnit) {
 
         return doRequest(() -> {
 
             CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.NODES);
+            Command<String, String, byte[]> command = new Command<>(CommandType.CLUSTER,
+                    new ByteArrayOutput<>(StringCodec.UTF8), args);
+            return new TimedAsyncCommand<>(command);
+        }, timeout, timeUnit);
+    }
+
+    /*
+     * Initiate {@code CLUSTER SHARDS} on all connections and return the {@link Requests}.
+     * @return the {@link Requests}.
+     */
+    public Requests<List<Object>> requestShards(long timeout, TimeUnit timeUnit) {
+
+        return doRequest(() -> {
+
+            CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.SHARDS);
+            Command<String, String, List<Object>> command = new Command<>(CommandType.CLUSTER,
+                    new ArrayOutput<>(StringCodec.UTF8), args);
+            return new TimedAsyncCommand<>(command);
+        }, timeout, timeUnit);
+    }
+
+    /*
+     * Initiate {@code CLUSTER MYID} on all connections and return the {@link Requests}.
+     * @return the {@link Requests}.
+     */
+    public Requests<String> requestMyId(long timeout, TimeUnit timeUnit) {
+
+        return doRequest(() -> {
+
+            CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandType.MYID);
             Command<String, String, String> command = new Command<>(CommandType.CLUSTER, new StatusOutput<>(StringCodec.UTF8),
                     args);
             return new TimedAsyncCommand<>(command);
@@ -101,7 +134,7 @@ class Connections {
      * Initiate {@code INFO} on all connections and return the {@link Requests}.
      * @return the {@link Requests}.
      */
-    public Requests requestInfo(long timeout, TimeUnit timeUnit) {
+    public Requests<String> requestInfo(long timeout, TimeUnit timeUnit) {
 
         return doRequest(() -> {
 
@@ -115,17 +148,17 @@ class Connections {
      * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
      * @return the {@link Requests}.
      */
-    private Requests doRequest(Supplier<TimedAsyncCommand<String, String, String>> commandFactory, long timeout,
+    private <T> Requests<T> doRequest(Supplier<TimedAsyncCommand<String, String, T>> commandFactory, long timeout,
             TimeUnit timeUnit) {
 
-        Requests requests = new Requests();
+        Requests<T> requests = new Requests<>();
         Duration timeoutDuration = Duration.ofNanos(timeUnit.toNanos(timeout));
 
         try {
             lock.lock();
             for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
 
-                TimedAsyncCommand<String, String, String> timedCommand = commandFactory.get();
+                TimedAsyncCommand<String, String, T> timedCommand = commandFactory.get();
 
                 clientResources.timer().newTimeout(it -> {
                     timedCommand.completeExceptionally(ExceptionFactory.createTimeoutException(timeoutDuration));
@@ -92,6 +92,22 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
     @Override
     public CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
             boolean discovery) {
+        return loadViews(seed, connectTimeout, discovery, false);
+    }
+
+    /**
+     * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI} using either
+     * {@code CLUSTER NODES} or {@code CLUSTER SHARDS} to retrieve the topology.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param connectTimeout connect timeout
+     * @param discovery {@code true} to discover additional nodes
+     * @param useClusterShards {@code true} to use {@code CLUSTER SHARDS} instead of {@code CLUSTER NODES}
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     */
+    @Override
+    public CompletionStage<Map<RedisURI, Partitions>> loadViews(Iterable<RedisURI> seed, Duration connectTimeout,
+            boolean discovery, boolean useClusterShards) {
 
         if (!isEventLoopActive()) {
             return CompletableFuture.completedFuture(Collections.emptyMap());
@@ -106,11 +122,9 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
             return new Connections(clientResources, map);
         }).thenCompose(connections -> {
 
-            Requests requestedTopology = connections.requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS);
-            Requests requestedInfo = connections.requestInfo(commandTimeoutNs, TimeUnit.NANOSECONDS);
-            return CompletableFuture.allOf(requestedTopology.allCompleted(), requestedInfo.allCompleted())
-                    .thenApplyAsync(ignore -> getNodeSpecificViews(requestedTopology, requestedInfo),
-                            clientResources.eventExecutorGroup())
+            NodeRequests requested = NodeRequests.request(connections, useClusterShards, commandTimeoutNs);
+            return requested.allCompleted()
+                    .thenApplyAsync(ignore -> getNodeSpecificViews(requested), clientResources.eventExecutorGroup())
                     .thenCompose(views -> {
                         if (discovery && isEventLoopActive()) {
 
@@ -127,13 +141,10 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
                                 return new Connections(clientResources, map).retainAll(discoveredNodes);
                             }).thenCompose(newConnections -> {
 
-                                Requests additionalTopology = newConnections
-                                        .requestTopology(commandTimeoutNs, TimeUnit.NANOSECONDS).mergeWith(requestedTopology);
-                                Requests additionalInfo = newConnections.requestInfo(commandTimeoutNs, TimeUnit.NANOSECONDS)
-                                        .mergeWith(requestedInfo);
-                                return CompletableFuture.allOf(additionalTopology.allCompleted(), additionalInfo.allCompleted())
-                                        .thenApplyAsync(ignore2 -> getNodeSpecificViews(additionalTopology, additionalInfo),
-                                                clientResources.eventExecutorGroup());
+                                NodeRequests additional = NodeRequests
+                                        .request(newConnections, useClusterShards, commandTimeoutNs).mergeWith(requested);
+                                return additional.allCompleted().thenApplyAsync(ignore2 -> getNodeSpecificViews(additional),
+                                        clientResources.eventExecutorGroup());
                             });
                         }
 
@@ -150,7 +161,7 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
                     }).thenCompose((it) -> tracker.close().thenApply(ignore -> it)).thenCompose(it -> {
 
                         if (it.isEmpty()) {
-                            Exception exception = tryFail(requestedTopology, tracker, seed);
+                            Exception exception = tryFail(requested.topology(), tracker, seed);
                             return Futures.failed(exception);
                         }
 
@@ -161,14 +172,14 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         return composition.thenApply(NodeTopologyViews::toMap);
     }
 
-    private Exception tryFail(Requests requestedTopology, ConnectionTracker tracker, Iterable<RedisURI> seed) {
+    private Exception tryFail(Requests<?> requestedTopology, ConnectionTracker tracker, Iterable<RedisURI> seed) {
 
         Map<RedisURI, String> failures = new LinkedHashMap<>();
         CannotRetrieveClusterPartitions exception = new CannotRetrieveClusterPartitions(seed, failures);
 
         for (RedisURI node : requestedTopology.nodes()) {
 
-            TimedAsyncCommand<String, String, String> request = requestedTopology.getRequest(node);
+            TimedAsyncCommand<String, String, ?> request = requestedTopology.getRequest(node);
             if (request == null || !request.isCompletedExceptionally()) {
                 continue;
             }
@@ -217,19 +228,23 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         return StreamSupport.stream(seed.spliterator(), false).collect(Collectors.toCollection(HashSet::new));
     }
 
-    NodeTopologyViews getNodeSpecificViews(Requests requestedTopology, Requests requestedInfo) {
+    NodeTopologyViews getNodeSpecificViews(Requests<byte[]> requestedTopology, Requests<String> requestedInfo) {
+        return getNodeSpecificViews(new NodeRequests(requestedTopology, null, null, requestedInfo));
+    }
+
+    private NodeTopologyViews getNodeSpecificViews(NodeRequests requests) {
 
         List<RedisClusterNodeSnapshot> allNodes = new ArrayList<>();
 
         Map<String, NodeTopologyView> self = new HashMap<>();
 
-        Set<RedisURI> nodes = requestedTopology.nodes();
+        Set<RedisURI> nodes = requests.topology().nodes();
 
         List<NodeTopologyView> views = new ArrayList<>();
         for (RedisURI nodeUri : nodes) {
 
             try {
-                NodeTopologyView nodeTopologyView = NodeTopologyView.from(nodeUri, requestedTopology, requestedInfo);
+                NodeTopologyView nodeTopologyView = requests.getView(nodeUri);
 
                 if (!nodeTopologyView.isAvailable()) {
                     continue;
@@ -408,6 +423,75 @@ class DefaultClusterTopologyRefresh implements ClusterTopologyRefresh {
         return null;
     }
 
+    /**
+     * Topology and {@code INFO} requests issued to a set of nodes. Holds either {@code CLUSTER NODES} or {@code CLUSTER SHARDS}
+     * along with {@code CLUSTER MYID} requests.
+     */
+    static class NodeRequests {
+
+        private final Requests<byte[]> clusterNodes;
+
+        private final Requests<List<Object>> clusterShards;
+
+        private final Requests<String> myIds;
+
+        private final Requests<String> info;
+
+        NodeRequests(Requests<byte[]> clusterNodes, Requests<List<Object>> clusterShards, Requests<String> myIds,
+                Requests<String> info) {
+            this.clusterNodes = clusterNodes;
+            this.clusterShards = clusterShards;
+            this.myIds = myIds;
+            this.info = info;
+        }
+
+        static NodeRequests request(Connections connections, boolean useClusterShards, long timeoutNs) {
+
+            if (useClusterShards) {
+
+                Requests<List<Object>> shards = connections.requestShards(timeoutNs, TimeUnit.NANOSECONDS);
+                Requests<String> myIds = connections.requestMyId(timeoutNs, TimeUnit.NANOSECONDS);
+                return new NodeRequests(null, shards, myIds, connections.requestInfo(timeoutNs, TimeUnit.NANOSECONDS));
+            }
+
+            Requests<byte[]> nodes = connections.requestTopology(timeoutNs, TimeUnit.NANOSECONDS);
+            return new NodeRequests(nodes, null, null, connections.requestInfo(timeoutNs, TimeUnit.NANOSECONDS));
+        }
+
+        Requests<?> topology() {
+            return clusterShards != null ? clusterShards : clusterNodes;
+        }
+
+        CompletableFuture<Void> allCompleted() {
+
+            if (clusterShards != null) {
+                return CompletableFuture.allOf(clusterShards.allCompleted(), myIds.allCompleted(), info.allCompleted());
+            }
+
+            return CompletableFuture.allOf(clusterNodes.allCompleted(), info.allCompleted());
+        }
+
+        NodeRequests mergeWith(NodeRequests other) {
+
+            if (clusterShards != null) {
+                return new NodeRequests(null, clusterShards.mergeWith(other.clusterShards), myIds.mergeWith(other.myIds),
+                        info.mergeWith(other.info));
+            }
+
+            return new NodeRequests(clusterNodes.mergeWith(other.clusterNodes), null, null, info.mergeWith(other.info));
+        }
+
+        NodeTopologyView getView(RedisURI redisURI) {
+
+            if (clusterShards != null) {
+                return NodeTopologyView.from(redisURI, clusterShards, myIds, info);
+            }
+
+            return NodeTopologyView.from(redisURI, clusterNodes, info);
+        }
+
+    }
+
     static class ConnectionTracker {
 
         private final Map<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> connections = new LinkedHashMap<>();
@@ -19,6 +19,12 @@
  */
 package io.lettuce.core.cluster.topology;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -48,7 +54,7 @@ class NodeTopologyView {
 
     private final long latency;
 
-    private final String clusterNodes;
+    private final byte[] clusterNodes;
 
     private final String info;
 
@@ -76,11 +82,37 @@ class NodeTopologyView {
         this.partitions = ClusterPartitionParser.parse(clusterNodes);
         this.connectedClients = getClientCount(info);
         this.replicationOffset = getReplicationOffset(info);
+        this.clusterNodes = clusterNodes.getBytes(StandardCharsets.UTF_8);
+        this.info = info;
+        this.latency = latency;
+    }
+
+    NodeTopologyView(RedisURI redisURI, byte[] clusterNodes, String info, long latency) {
+
+        this.available = true;
+        this.redisURI = redisURI;
+
+        this.partitions = ClusterPartitionParser.parse(ByteBuffer.wrap(clusterNodes));
+        this.connectedClients = getClientCount(info);
+        this.replicationOffset = getReplicationOffset(info);
         this.clusterNodes = clusterNodes;
         this.info = info;
         this.latency = latency;
     }
 
+    NodeTopologyView(RedisURI redisURI, Partitions partitions, String info, long latency) {
+
+        this.available = true;
+        this.redisURI = redisURI;
+
+        this.partitions = partitions;
+        this.connectedClients = getClientCount(info);
+        this.replicationOffset = getReplicationOffset(info);
+        this.clusterNodes = null;
+        this.info = info;
+        this.latency = latency;
+    }
+
     private static Pattern patternFor(String propertyName) {
         return Pattern.compile(String.format("^%s:(.*)$", Pattern.quote(propertyName)), Pattern.MULTILINE);
     }
@@ -108,9 +140,9 @@ class NodeTopologyView {
         return defaultValue;
     }
 
-    static NodeTopologyView from(RedisURI redisURI, Requests clusterNodesRequests, Requests infoRequests) {
+    static NodeTopologyView from(RedisURI redisURI, Requests<byte[]> clusterNodesRequests, Requests<String> infoRequests) {
 
-        TimedAsyncCommand<String, String, String> nodes = clusterNodesRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, byte[]> nodes = clusterNodesRequests.getRequest(redisURI);
         TimedAsyncCommand<String, String, String> info = infoRequests.getRequest(redisURI);
 
         if (resultAvailable(nodes) && !nodes.isCompletedExceptionally() && resultAvailable(info)) {
@@ -119,6 +151,53 @@ class NodeTopologyView {
         return new NodeTopologyView(redisURI);
     }
 
+    static NodeTopologyView from(RedisURI redisURI, Requests<List<Object>> clusterShardsRequests, Requests<String> myIdRequests,
+            Requests<String> infoRequests) {
+
+        TimedAsyncCommand<String, String, List<Object>> shards = clusterShardsRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, String> myId = myIdRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, String> info = infoRequests.getRequest(redisURI);
+
+        if (resultAvailable(shards) && !shards.isCompletedExceptionally() && resultAvailable(myId)
+                && !myId.isCompletedExceptionally() && resultAvailable(info)) {
+
+            Partitions partitions = ClusterPartitionParser.parse(shards.join());
+
+            if (markMyself(partitions, myId.join())) {
+                return new NodeTopologyView(redisURI, partitions, optionallyGet(info), shards.duration());
+            }
+        }
+        return new NodeTopologyView(redisURI);
+    }
+
+    /**
+     * Align the {@code CLUSTER SHARDS} view with the {@code CLUSTER NODES} representation: {@code CLUSTER SHARDS} reports the
+     * shard slot ranges for replicas as well and does not flag the node that answered the request.
+     */
+    private static boolean markMyself(Partitions partitions, String myId) {
+
+        boolean found = false;
+
+        for (RedisClusterNode node : partitions) {
+
+            if (!node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                node.setSlots(Collections.emptyList());
+            }
+
+            if (node.getNodeId().equals(myId)) {
+
+                Set<RedisClusterNode.NodeFlag> flags = EnumSet.of(RedisClusterNode.NodeFlag.MYSELF);
+                flags.addAll(node.getFlags());
+                node.setFlags(flags);
+                found = true;
+            }
+        }
+
+        partitions.updateCache();
+
+        return found;
+    }
+
     private static <T> T optionallyGet(TimedAsyncCommand<?, ?, T> command) {
 
         if (command.isCompletedExceptionally()) {
@@ -212,7 +291,7 @@ class NodeTopologyView {
     }
 
     String getClusterNodes() {
-        return clusterNodes;
+        return clusterNodes != null ? new String(clusterNodes, StandardCharsets.UTF_8) : null;
     }
 
     void setPartitions(Partitions partitions) {
@@ -10,21 +10,22 @@ import io.lettuce.core.RedisURI;
 /**
  * Encapsulates asynchronously executed commands to multiple {@link RedisURI nodes}.
  *
+ * @param <T> command result type.
  * @author Mark Paluch
  */
-class Requests {
+class Requests<T> {
 
-    private final Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews;
+    private final Map<RedisURI, TimedAsyncCommand<String, String, T>> rawViews;
 
     protected Requests() {
         rawViews = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
     }
 
-    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews) {
+    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, T>> rawViews) {
         this.rawViews = rawViews;
     }
 
-    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, String> command) {
+    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, T> command) {
         rawViews.put(redisURI, command);
     }
 
@@ -35,26 +36,26 @@ class Requests {
      * @return
      */
     public CompletableFuture<Void> allCompleted() {
-        return CompletableFuture.allOf(rawViews.values().stream().map(it -> it.exceptionally(throwable -> "ignore"))
-                .toArray(CompletableFuture[]::new));
+        return CompletableFuture.allOf(
+                rawViews.values().stream().map(it -> it.exceptionally(throwable -> null)).toArray(CompletableFuture[]::new));
     }
 
     protected Set<RedisURI> nodes() {
         return rawViews.keySet();
     }
 
-    protected TimedAsyncCommand<String, String, String> getRequest(RedisURI redisURI) {
+    protected TimedAsyncCommand<String, String, T> getRequest(RedisURI redisURI) {
         return rawViews.get(redisURI);
     }
 
-    protected Requests mergeWith(Requests requests) {
+    protected Requests<T> mergeWith(Requests<T> requests) {
 
-        Map<RedisURI, TimedAsyncCommand<String, String, String>> result = new TreeMap<>(
+        Map<RedisURI, TimedAsyncCommand<String, String, T>> result = new TreeMap<>(
                 TopologyComparators.RedisURIComparator.INSTANCE);
         result.putAll(this.rawViews);
         result.putAll(requests.rawViews);
 
-        return new Requests(result);
+        return new Requests<>(result);
     }
 
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster.topology;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Difference between two {@link Partitions topology views}. A {@link TopologyDiff} retains {@link RedisClusterNode} instances
+ * of the current view for nodes whose role, slots, endpoint and replication source did not change and uses instances of the
+ * loaded view for added and updated nodes. The {@link #getNodes() merged node list} follows the order of the loaded view.
+ * <p>
+ * Computing the difference copies volatile node details (replication offset, ping/pong timestamps, config epoch, latency and
+ * connected clients) from the loaded view into the retained nodes.
+ *
+ * @since 6.7
+ * @see Partitions#reload(List, BitSet)
+ */
+public class TopologyDiff {
+
+    private final List<RedisClusterNode> nodes;
+
+    private final List<RedisClusterNode> added;
+
+    private final List<RedisClusterNode> removed;
+
+    private final List<RedisClusterNode> updated;
+
+    private final BitSet changedSlots;
+
+    private TopologyDiff(List<RedisClusterNode> nodes, List<RedisClusterNode> added, List<RedisClusterNode> removed,
+            List<RedisClusterNode> updated, BitSet changedSlots) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.updated = Collections.unmodifiableList(updated);
+        this.changedSlots = changedSlots;
+    }
+
+    /**
+     * Compute the difference between the {@code current} and the {@code loaded} topology view.
+     *
+     * @param current the current topology view, must not be {@code null}.
+     * @param loaded the loaded topology view, must not be {@code null}.
+     * @return the {@link TopologyDiff}.
+     */
+    public static TopologyDiff compute(Partitions current, Partitions loaded) {
+
+        LettuceAssert.notNull(current, "Current partitions must not be null");
+        LettuceAssert.notNull(loaded, "Loaded partitions must not be null");
+
+        List<RedisClusterNode> nodes = new ArrayList<>(loaded.size());
+        List<RedisClusterNode> added = new ArrayList<>();
+        List<RedisClusterNode> removed = new ArrayList<>();
+        List<RedisClusterNode> updated = new ArrayList<>();
+        BitSet changedSlots = new BitSet(SlotHash.SLOT_COUNT);
+
+        for (RedisClusterNode node : loaded) {
+
+            RedisClusterNode existing = current.getPartitionByNodeId(node.getNodeId());
+
+            if (existing == null) {
+                added.add(node);
+                node.forEachSlot(changedSlots::set);
+                nodes.add(node);
+                continue;
+            }
+
+            if (isUpdated(existing, node)) {
+                updated.add(node);
+                existing.forEachSlot(changedSlots::set);
+                node.forEachSlot(changedSlots::set);
+                nodes.add(node);
+                continue;
+            }
+
+            copyDetails(node, existing);
+            nodes.add(existing);
+        }
+
+        for (RedisClusterNode node : current) {
+            if (loaded.getPartitionByNodeId(node.getNodeId()) == null) {
+                removed.add(node);
+                node.forEachSlot(changedSlots::set);
+            }
+        }
+
+        return new TopologyDiff(nodes, added, removed, updated, changedSlots);
+    }
+
+    private static boolean isUpdated(RedisClusterNode existing, RedisClusterNode node) {
+
+        return !getFlags(existing).equals(getFlags(node)) || !existing.hasSameSlotsAs(node)
+                || !Objects.equals(existing.getUri(), node.getUri())
+                || !Objects.equals(existing.getSlaveOf(), node.getSlaveOf())
+                || !existing.getAliases().equals(node.getAliases());
+    }
+
+    /**
+     * The {@code MYSELF} flag depends on the node that reported the view and does not describe a topology change.
+     */
+    private static Set<RedisClusterNode.NodeFlag> getFlags(RedisClusterNode node) {
+
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+        flags.addAll(node.getFlags());
+        flags.remove(RedisClusterNode.NodeFlag.MYSELF);
+        return flags;
+    }
+
+    private static void copyDetails(RedisClusterNode source, RedisClusterNode target) {
+
+        target.setConnected(source.isConnected());
+        target.setReplOffset(source.getReplOffset());
+        target.setPingSentTimestamp(source.getPingSentTimestamp());
+        target.setPongReceivedTimestamp(source.getPongReceivedTimestamp());
+        target.setConfigEpoch(source.getConfigEpoch());
+
+        if (source instanceof RedisClusterNodeSnapshot && target instanceof RedisClusterNodeSnapshot) {
+
+            RedisClusterNodeSnapshot sourceSnapshot = (RedisClusterNodeSnapshot) source;
+            RedisClusterNodeSnapshot targetSnapshot = (RedisClusterNodeSnapshot) target;
+
+            targetSnapshot.setLatencyNs(sourceSnapshot.getLatencyNs());
+            targetSnapshot.setConnectedClients(sourceSnapshot.getConnectedClients());
+        }
+    }
+
+    /**
+     * @return the merged node list in the order of the loaded view.
+     */
+    public List<RedisClusterNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return nodes that are contained in the loaded view only.
+     */
+    public List<RedisClusterNode> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return nodes that are contained in the current view only.
+     */
+    public List<RedisClusterNode> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return nodes whose role, slots, endpoint or replication source changed. Contains the node instances of the loaded view.
+     */
+    public List<RedisClusterNode> getUpdated() {
+        return updated;
+    }
+
+    /**
+     * @return slots that were served by or are served by an added, removed or updated node.
+     */
+    public BitSet getChangedSlots() {
+        return (BitSet) changedSlots.clone();
+    }
+
+    /**
+     * @return {@code true} if no node was added, removed or updated.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && updated.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [added=").append(added.size());
+        sb.append(", removed=").append(removed.size());
+        sb.append(", updated=").append(updated.size());
+        sb.append(", changedSlots=").append(changedSlots.cardinality());
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A {@link RedisCodec} that uses {@link ByteBuf} for keys and values. Keys and values are written to the outbound buffer
+ * without intermediate copies. Bulk responses are decoded into a buffer allocated from the channel's
+ * {@link io.netty.buffer.ByteBufAllocator} avoiding {@code byte[]} and heap buffer allocation for large values.
+ * <p>
+ * Decoded {@link ByteBuf} instances are owned by the caller. The caller must {@link ByteBuf#release() release} the buffer after
+ * consuming its content. Encoding does not change the reader index of keys and values and does not release them, so the caller
+ * remains responsible for releasing buffers used as command arguments as well.
+ *
+ * @since 6.7
+ */
+public class ByteBufCodec
+        implements RedisCodec<ByteBuf, ByteBuf>, ToByteBufEncoder<ByteBuf, ByteBuf>, FromByteBufDecoder<ByteBuf, ByteBuf> {
+
+    public static final ByteBufCodec INSTANCE = new ByteBufCodec();
+
+    @Override
+    public void encodeKey(ByteBuf key, ByteBuf target) {
+
+        if (key != null) {
+            target.writeBytes(key, key.readerIndex(), key.readableBytes());
+        }
+    }
+
+    @Override
+    public void encodeValue(ByteBuf value, ByteBuf target) {
+        encodeKey(value, target);
+    }
+
+    @Override
+    public int estimateSize(Object keyOrValue) {
+
+        if (keyOrValue == null) {
+            return 0;
+        }
+
+        return ((ByteBuf) keyOrValue).readableBytes();
+    }
+
+    @Override
+    public boolean isEstimateExact() {
+        return true;
+    }
+
+    @Override
+    public ByteBuf decodeKey(ByteBuf bytes) {
+        return bytes.copy();
+    }
+
+    @Override
+    public ByteBuf decodeValue(ByteBuf bytes) {
+        return bytes.copy();
+    }
+
+    @Override
+    public ByteBuf decodeKey(ByteBuffer bytes) {
+        return copy(bytes);
+    }
+
+    @Override
+    public ByteBuf decodeValue(ByteBuffer bytes) {
+        return copy(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(ByteBuf key) {
+
+        if (key == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        return key.nioBuffer();
+    }
+
+    @Override
+    public ByteBuffer encodeValue(ByteBuf value) {
+        return encodeKey(value);
+    }
+
+    private static ByteBuf copy(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        return Unpooled.copiedBuffer(bytes);
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. This is the decoding counterpart to
+ * {@link ToByteBufEncoder} and allows codecs to consume response data without an intermediate {@link java.nio.ByteBuffer} view.
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well. Outputs that do not
+ * support {@link ByteBuf} decoding continue to use {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and
+ * {@link RedisCodec#decodeValue(java.nio.ByteBuffer)}.
+ * </p>
+ * The {@link ByteBuf} passed to the decode methods is a view on the connection's aggregation buffer. It is only valid for the
+ * duration of the method call and must not be retained by the decoder. Implementations that wish to hand out a {@link ByteBuf}
+ * must {@link ByteBuf#copy() copy} the content.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ * @see ByteBufCodec
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes Raw bytes of the key, must not be {@code null}.
+     * @return The decoded key, may be {@code null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes Raw bytes of the value, must not be {@code null}.
+     * @return The decoded value, may be {@code null}.
+     */
+    V decodeValue(ByteBuf bytes);
+
+}
@@ -0,0 +1,104 @@
+package io.lettuce.core.event.pool;
+
+import java.time.Duration;
+
+import io.lettuce.core.event.Event;
+
+/**
+ * Event that transports connection pool metrics sampled by an adaptive pool controller. Acquisition counters cover the period
+ * since the previous event.
+ *
+ * @since 6.7
+ */
+public class PoolMetricsEvent implements Event {
+
+    private final int objectCount;
+
+    private final int idle;
+
+    private final double utilization;
+
+    private final long acquisitions;
+
+    private final Duration averageAcquireWaitTime;
+
+    private final long exhausted;
+
+    private final int targetIdle;
+
+    public PoolMetricsEvent(int objectCount, int idle, double utilization, long acquisitions, Duration averageAcquireWaitTime,
+            long exhausted, int targetIdle) {
+        this.objectCount = objectCount;
+        this.idle = idle;
+        this.utilization = utilization;
+        this.acquisitions = acquisitions;
+        this.averageAcquireWaitTime = averageAcquireWaitTime;
+        this.exhausted = exhausted;
+        this.targetIdle = targetIdle;
+    }
+
+    /**
+     * @return number of pooled objects (idle and in use).
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * @return number of idle objects.
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return ratio of objects in use to pooled objects, between {@code 0} and {@code 1}.
+     */
+    public double getUtilization() {
+        return utilization;
+    }
+
+    /**
+     * @return number of acquisitions during the sampling period.
+     */
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * @return average time acquisitions waited for an object during the sampling period.
+     */
+    public Duration getAverageAcquireWaitTime() {
+        return averageAcquireWaitTime;
+    }
+
+    /**
+     * @return number of acquisitions that failed because the pool was exhausted during the sampling period.
+     */
+    public long getExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * @return the minimum number of idle objects the pool maintains after this sample.
+     */
+    public int getTargetIdle() {
+        return targetIdle;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [objectCount=").append(objectCount);
+        sb.append(", idle=").append(idle);
+        sb.append(", utilization=").append(utilization);
+        sb.append(", acquisitions=").append(acquisitions);
+        sb.append(", averageAcquireWaitTime=").append(averageAcquireWaitTime);
+        sb.append(", exhausted=").append(exhausted);
+        sb.append(", targetIdle=").append(targetIdle);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.lettuce.core.event.pool;
+
+import io.lettuce.core.event.Event;
+
+/**
+ * Event signalling that an adaptive pool controller changed the minimum number of idle objects of a connection pool.
+ *
+ * @since 6.7
+ */
+public class PoolResizedEvent implements Event {
+
+    private final int previousTargetIdle;
+
+    private final int targetIdle;
+
+    public PoolResizedEvent(int previousTargetIdle, int targetIdle) {
+        this.previousTargetIdle = previousTargetIdle;
+        this.targetIdle = targetIdle;
+    }
+
+    /**
+     * @return the minimum number of idle objects before the change.
+     */
+    public int getPreviousTargetIdle() {
+        return previousTargetIdle;
+    }
+
+    /**
+     * @return the minimum number of idle objects after the change.
+     */
+    public int getTargetIdle() {
+        return targetIdle;
+    }
+
+    /**
+     * @return {@code true} if the pool was grown, {@code false} if it was shrunk.
+     */
+    public boolean isGrown() {
+        return targetIdle > previousTargetIdle;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [previousTargetIdle=" + previousTargetIdle + ", targetIdle=" + targetIdle + ']';
+    }
+
+}
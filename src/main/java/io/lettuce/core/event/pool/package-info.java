@@ -0,0 +1,4 @@
+/**
+ * Connection pool events.
+ */
+package io.lettuce.core.event.pool;
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.concurrent.*;
 
 import io.lettuce.core.RedisFuture;
+import io.lettuce.core.protocol.AsyncCommand;
 import io.netty.channel.ChannelFuture;
 
 /**
@@ -238,4 +239,35 @@ public abstract class Futures {
         }
     }
 
+    /**
+     * Wait until futures are complete or the supplied timeout is reached. Commands are canceled if the timeout is reached but
+     * the command is not finished. If {@code parking} is enabled and {@code cmd} is an {@link AsyncCommand}, the calling thread
+     * is parked until the command completes, see {@link AsyncCommand#awaitParked(long, TimeUnit)}.
+     *
+     * @param cmd Command to wait for
+     * @param timeout Maximum time to wait for futures to complete
+     * @param unit Unit of time for the timeout
+     * @param parking whether to park the calling thread
+     * @param <T> Result type
+     * @return Result of the command.
+     * @since 6.7
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T awaitOrCancel(RedisFuture<T> cmd, long timeout, TimeUnit unit, boolean parking) {
+
+        if (!parking || !(cmd instanceof AsyncCommand)) {
+            return awaitOrCancel(cmd, timeout, unit);
+        }
+
+        try {
+            if (!((AsyncCommand<?, ?, T>) cmd).awaitParked(timeout, unit)) {
+                cmd.cancel(true);
+                throw ExceptionFactory.createTimeoutException(Duration.ofNanos(unit.toNanos(timeout)));
+            }
+            return cmd.get();
+        } catch (Exception e) {
+            throw Exceptions.bubble(e);
+        }
+    }
+
 }
@@ -8,6 +8,8 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import io.netty.util.internal.PlatformDependent;
+
 /**
  * This class is part of the internal API and may change without further notice.
  *
@@ -47,6 +49,17 @@ public class LettuceFactories {
         return new ArrayDeque<>();
     }
 
+    /**
+     * Creates a new, unbounded {@link Queue} for multiple producers/single consumer. Only a single thread may consume from the
+     * queue.
+     *
+     * @return a new, empty {@link Queue}.
+     * @since 6.7
+     */
+    public static <T> Queue<T> newMpScQueue() {
+        return PlatformDependent.newMpscQueue();
+    }
+
     /**
      * Creates a new {@link BlockingQueue}.
      *
@@ -84,6 +84,22 @@ public interface CommandLatencyRecorder {
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType, long firstResponseLatency,
             long completionLatency);
 
+    /**
+     * Record the time a command waited for admission to the request queue per {@code connectionPoint} and {@code commandType}.
+     * Only commands that were held back because of {@link io.lettuce.core.ClientOptions#isRequestQueueBackpressure() request
+     * queue backpressure} are recorded.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @param admissionLatency latency value in {@link java.util.concurrent.TimeUnit#NANOSECONDS} from submitting the command to
+     *        its admission to the request queue
+     * @since 6.7
+     */
+    default void recordAdmissionLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long admissionLatency) {
+    }
+
     /**
      * Returns {@code true} if the metric collector is enabled.
      *
@@ -45,6 +45,8 @@ public class MicrometerCommandLatencyRecorder implements CommandLatencyRecorder
 
     static final String LABEL_REMOTE = "remote";
 
+    static final String METRIC_ADMISSION = "lettuce.command.admission";
+
     static final String METRIC_COMPLETION = "lettuce.command.completion";
 
     static final String METRIC_FIRST_RESPONSE = "lettuce.command.firstresponse";
@@ -53,6 +55,8 @@ public class MicrometerCommandLatencyRecorder implements CommandLatencyRecorder
 
     private final MicrometerOptions options;
 
+    private final Map<CommandLatencyId, Timer> admissionTimers = new ConcurrentHashMap<>();
+
     private final Map<CommandLatencyId, Timer> completionTimers = new ConcurrentHashMap<>();
 
     private final Map<CommandLatencyId, Timer> firstResponseTimers = new ConcurrentHashMap<>();
@@ -98,6 +102,20 @@ public class MicrometerCommandLatencyRecorder implements CommandLatencyRecorder
         completionTimer.record(completionLatency, TimeUnit.NANOSECONDS);
     }
 
+    @Override
+    public void recordAdmissionLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+            long admissionLatency) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        CommandLatencyId commandLatencyId = createId(local, remote, commandType);
+
+        Timer admissionTimer = admissionTimers.computeIfAbsent(commandLatencyId, this::admissionTimer);
+        admissionTimer.record(admissionLatency, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public boolean isEnabled() {
         return options.isEnabled();
@@ -111,6 +129,22 @@ public class MicrometerCommandLatencyRecorder implements CommandLatencyRecorder
         return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
     }
 
+    protected Timer admissionTimer(CommandLatencyId commandLatencyId) {
+
+        Timer.Builder timer = Timer.builder(METRIC_ADMISSION)
+                .description("Latency between command submission and admission to the request queue (backpressure wait)")
+                .tag(LABEL_COMMAND, commandLatencyId.commandType().toString())
+                .tag(LABEL_LOCAL, commandLatencyId.localAddress().toString())
+                .tag(LABEL_REMOTE, commandLatencyId.remoteAddress().toString()).tags(options.tags());
+
+        if (options.isHistogram()) {
+            timer.publishPercentileHistogram().publishPercentiles(options.targetPercentiles())
+                    .minimumExpectedValue(options.minLatency()).maximumExpectedValue(options.maxLatency());
+        }
+
+        return timer.register(meterRegistry);
+    }
+
     protected Timer completionTimer(CommandLatencyId commandLatencyId) {
 
         Timer.Builder timer = Timer.builder(METRIC_COMPLETION)
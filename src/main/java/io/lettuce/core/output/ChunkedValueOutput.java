@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Streaming output for a single {@code bulk} value that emits the value in chunks as they are received instead of buffering the
+ * full value. Each chunk is copied into a new {@link ByteBuffer} and passed to the {@link StreamingOutput.Subscriber}. Returns
+ * the total number of bytes of the value or {@code null} if the value does not exist.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class ChunkedValueOutput<K, V> extends CommandOutput<K, V, Long> implements StreamingOutput<ByteBuffer> {
+
+    private Subscriber<ByteBuffer> subscriber;
+
+    private long length;
+
+    public ChunkedValueOutput(RedisCodec<K, V> codec) {
+        super(codec, null);
+        setSubscriber(DiscardingSubscriber.INSTANCE);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        output = null;
+    }
+
+    @Override
+    public void setChunk(ByteBuffer bytes, boolean last) {
+
+        int remaining = bytes.remaining();
+
+        if (remaining > 0) {
+
+            ByteBuffer chunk = ByteBuffer.allocate(remaining);
+            ((Buffer) chunk.put(bytes)).flip();
+            length += remaining;
+            subscriber.onNext(chunk);
+        }
+
+        if (last) {
+            output = length;
+        }
+    }
+
+    @Override
+    public boolean isChunkAware() {
+        return true;
+    }
+
+    @Override
+    public void setSubscriber(Subscriber<ByteBuffer> subscriber) {
+        LettuceAssert.notNull(subscriber, "Subscriber must not be null");
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public Subscriber<ByteBuffer> getSubscriber() {
+        return subscriber;
+    }
+
+    static class DiscardingSubscriber extends Subscriber<ByteBuffer> {
+
+        static final DiscardingSubscriber INSTANCE = new DiscardingSubscriber();
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+    }
+
+}
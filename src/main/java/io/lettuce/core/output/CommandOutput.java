@@ -24,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Base class for Redis command outputs.
@@ -81,6 +82,54 @@ public abstract class CommandOutput<K, V, T> {
         throw new UnsupportedOperationException(getClass().getName() + " does not support set(ByteBuffer)");
     }
 
+    /**
+     * Update the command output with a sequence of bytes backed by a {@link ByteBuf}. Only called for {@code bulk} response
+     * values if {@link #isByteBufAware()} returns {@code true}. The buffer is a view on the read buffer and is only valid for
+     * the duration of this call. Implementations must copy the content if they wish to keep it. Defaults to
+     * {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output.
+     * @since 6.7
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
+    /**
+     * Returns whether this output consumes {@code bulk} response values through {@link #setByteBuf(ByteBuf)} instead of
+     * {@link #set(ByteBuffer)}.
+     *
+     * @return {@code true} if this output accepts {@link ByteBuf} values.
+     * @since 6.7
+     */
+    public boolean isByteBufAware() {
+        return false;
+    }
+
+    /**
+     * Update the command output with a chunk of a {@code bulk} response value. Only called if {@link #isChunkAware()} returns
+     * {@code true}. Bulk values are delivered as they arrive without waiting for the full value to be received. The buffer is
+     * only valid for the duration of this call. Implementations must copy the content if they wish to keep it.
+     *
+     * @param bytes chunk of the bulk value.
+     * @param last {@code true} if this chunk completes the bulk value.
+     * @since 6.7
+     */
+    public void setChunk(ByteBuffer bytes, boolean last) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support setChunk(ByteBuffer, boolean)");
+    }
+
+    /**
+     * Returns whether this output consumes {@code bulk} response values in chunks through
+     * {@link #setChunk(ByteBuffer, boolean)} instead of {@link #set(ByteBuffer)}.
+     *
+     * @return {@code true} if this output accepts chunked values.
+     * @since 6.7
+     */
+    public boolean isChunkAware() {
+        return false;
+    }
+
     /**
      * Update the command output with a sequence of bytes, or {@code null} representing a simple string. Concrete
      * {@link CommandOutput} implementations must override this method to decode {@code single}/bytes response values.
@@ -34,18 +34,84 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class DoubleOutput<K, V> extends CommandOutput<K, V, Double> {
 
+    private double value = Double.NaN;
+
+    private boolean hasValue;
+
     public DoubleOutput(RedisCodec<K, V> codec) {
         super(codec, null);
     }
 
     @Override
     public void set(ByteBuffer bytes) {
-        output = (bytes == null) ? null : parseDouble(decodeString(bytes));
+
+        if (bytes == null) {
+            value = Double.NaN;
+            hasValue = false;
+            output = null;
+        } else {
+            set(parseDouble(decodeString(bytes)));
+        }
     }
 
     @Override
     public void set(double number) {
-        output = number;
+        value = number;
+        hasValue = true;
+        output = null;
+    }
+
+    /**
+     * Get the command output. The primitive value is boxed on first access.
+     *
+     * @return The command output, may be {@code null}.
+     */
+    @Override
+    public Double get() {
+
+        if (hasValue && output == null) {
+            output = value;
+        }
+
+        return output;
+    }
+
+    /**
+     * Get the command output as primitive {@code double} without boxing.
+     *
+     * @return The command output or {@link Double#NaN} if the reply was {@code null}.
+     * @since 6.7
+     */
+    public double getDouble() {
+        return value;
+    }
+
+    /**
+     * @return {@code true} if the reply was {@code null} or no reply was received yet.
+     * @since 6.7
+     */
+    public boolean isNull() {
+        return !hasValue;
+    }
+
+    /**
+     * Reset this output to its initial state so that it can be reused for another command.
+     *
+     * @since 6.7
+     */
+    public void reset() {
+        value = Double.NaN;
+        hasValue = false;
+        output = null;
+        error = null;
+    }
+
+    @Override
+    public String toString() {
+
+        // materialize the boxed value for the string representation
+        get();
+        return super.toString();
     }
 
 }
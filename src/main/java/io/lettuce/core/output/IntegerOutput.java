@@ -34,23 +34,83 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class IntegerOutput<K, V> extends CommandOutput<K, V, Long> {
 
+    private long value;
+
+    private boolean hasValue;
+
     public IntegerOutput(RedisCodec<K, V> codec) {
         super(codec, null);
     }
 
     @Override
     public void set(long integer) {
-        output = integer;
+        value = integer;
+        hasValue = true;
+        output = null;
     }
 
     @Override
     public void set(ByteBuffer bytes) {
         if (bytes == null) {
+            hasValue = false;
             output = null;
         } else {
             // fallback for long as ByteBuffer
-            output = Long.parseLong(StandardCharsets.UTF_8.decode(bytes).toString());
+            set(Long.parseLong(StandardCharsets.UTF_8.decode(bytes).toString()));
         }
     }
 
+    /**
+     * Get the command output. The primitive value is boxed on first access.
+     *
+     * @return The command output, may be {@code null}.
+     */
+    @Override
+    public Long get() {
+
+        if (hasValue && output == null) {
+            output = value;
+        }
+
+        return output;
+    }
+
+    /**
+     * Get the command output as primitive {@code long} without boxing.
+     *
+     * @return The command output or {@code 0} if the reply was {@code null}.
+     * @since 6.7
+     */
+    public long getLong() {
+        return value;
+    }
+
+    /**
+     * @return {@code true} if the reply was {@code null} or no reply was received yet.
+     * @since 6.7
+     */
+    public boolean isNull() {
+        return !hasValue;
+    }
+
+    /**
+     * Reset this output to its initial state so that it can be reused for another command.
+     *
+     * @since 6.7
+     */
+    public void reset() {
+        value = 0;
+        hasValue = false;
+        output = null;
+        error = null;
+    }
+
+    @Override
+    public String toString() {
+
+        // materialize the boxed value for the string representation
+        get();
+        return super.toString();
+    }
+
 }
@@ -29,6 +29,7 @@ import io.lettuce.core.TransactionResult;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceFactories;
 import io.lettuce.core.protocol.RedisCommand;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Output of all commands within a MULTI block.
@@ -109,6 +110,26 @@ public class MultiOutput<K, V> extends CommandOutput<K, V, TransactionResult> {
         }
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        RedisCommand<K, V, ?> command = queue.peek();
+        if (command != null && command.getOutput() != null) {
+            command.getOutput().setByteBuf(bytes);
+        }
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+
+        if (multi == null) {
+            return false;
+        }
+
+        RedisCommand<K, V, ?> command = queue.peek();
+        return command != null && command.getOutput() != null && command.getOutput().isByteBufAware();
+    }
+
     @Override
     public void multi(int count) {
 
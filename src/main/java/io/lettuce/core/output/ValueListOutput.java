@@ -23,8 +23,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -40,9 +42,13 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
 
     private Subscriber<V> subscriber;
 
+    private final FromByteBufDecoder<K, V> byteBufDecoder;
+
+    @SuppressWarnings("unchecked")
     public ValueListOutput(RedisCodec<K, V> codec) {
         super(codec, Collections.emptyList());
         setSubscriber(ListSubscriber.instance());
+        this.byteBufDecoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
@@ -56,6 +62,16 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, byteBufDecoder.decodeValue(bytes));
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return byteBufDecoder != null;
+    }
+
     @Override
     public void multi(int count) {
 
@@ -21,7 +21,9 @@ package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Value output.
@@ -34,8 +36,12 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
 
+    private final FromByteBufDecoder<K, V> byteBufDecoder;
+
+    @SuppressWarnings("unchecked")
     public ValueOutput(RedisCodec<K, V> codec) {
         super(codec, null);
+        this.byteBufDecoder = codec instanceof FromByteBufDecoder ? (FromByteBufDecoder<K, V>) codec : null;
     }
 
     @Override
@@ -43,4 +49,14 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        output = byteBufDecoder.decodeValue(bytes);
+    }
+
+    @Override
+    public boolean isByteBufAware() {
+        return byteBufDecoder != null;
+    }
+
 }
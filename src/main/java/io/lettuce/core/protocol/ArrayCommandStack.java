@@ -0,0 +1,338 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.AbstractQueue;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Array-backed command stack with O(1) removal. Commands are stored in a power-of-two sized ring buffer and addressed by a
+ * monotonically increasing position. {@link Command}, {@link CommandWrapper} and {@link AsyncCommand} remember their position
+ * so that {@link #remove(Object)} can clear the slot directly and leave a tombstone ({@code null}) that is skipped when
+ * polling. Other {@link RedisCommand} implementations are located by scanning from the tail as recently added commands are the
+ * most likely to be removed.
+ * <p>
+ * Unlike {@link io.lettuce.core.datastructure.queue.HashIndexedQueue}, adding a command does not allocate. This class is not
+ * thread-safe and is expected to be used from the channel's event loop only.
+ *
+ * @since 6.7
+ */
+final class ArrayCommandStack extends AbstractQueue<RedisCommand<?, ?, ?>> {
+
+    static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    private RedisCommand<?, ?, ?>[] elements;
+
+    private int mask;
+
+    // position of the first slot, may point to a tombstone
+    private long head;
+
+    // position of the next slot to write
+    private long tail;
+
+    // number of commands, excluding tombstones
+    private int size;
+
+    ArrayCommandStack() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    ArrayCommandStack(int initialCapacity) {
+
+        LettuceAssert.isTrue(initialCapacity > 0, "Initial capacity must be greater than zero");
+
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        this.elements = new RedisCommand[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public boolean offer(RedisCommand<?, ?, ?> command) {
+
+        LettuceAssert.notNull(command, "RedisCommand must not be null");
+
+        if (tail - head == elements.length) {
+            resize();
+        }
+
+        // keep the position of the first occurrence if the same command is added twice
+        if (!isAt(command, getPosition(command))) {
+            setPosition(command, tail);
+        }
+
+        elements[slot(tail)] = command;
+        tail++;
+        size++;
+        return true;
+    }
+
+    @Override
+    public RedisCommand<?, ?, ?> poll() {
+
+        skipTombstones();
+
+        if (head == tail) {
+            return null;
+        }
+
+        int slot = slot(head);
+        RedisCommand<?, ?, ?> command = elements[slot];
+        elements[slot] = null;
+        head++;
+        size--;
+
+        if (getPosition(command) == head - 1) {
+            setPosition(command, -1);
+        }
+
+        return command;
+    }
+
+    @Override
+    public RedisCommand<?, ?, ?> peek() {
+
+        skipTombstones();
+        return head == tail ? null : elements[slot(head)];
+    }
+
+    @Override
+    public boolean remove(Object o) {
+
+        if (o == null || size == 0) {
+            return false;
+        }
+
+        long position = getPosition(o);
+
+        if (!isAt(o, position)) {
+            position = lastIndexOf(o);
+        }
+
+        if (position == -1) {
+            return false;
+        }
+
+        removeAt(position);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && (isAt(o, getPosition(o)) || lastIndexOf(o) != -1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+
+        for (long position = head; position < tail; position++) {
+
+            int slot = slot(position);
+            RedisCommand<?, ?, ?> command = elements[slot];
+
+            if (command != null) {
+                setPosition(command, -1);
+                elements[slot] = null;
+            }
+        }
+
+        head = tail = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<RedisCommand<?, ?, ?>> iterator() {
+        return new Itr();
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    private void removeAt(long position) {
+
+        RedisCommand<?, ?, ?> command = elements[slot(position)];
+        elements[slot(position)] = null;
+        size--;
+
+        if (getPosition(command) == position) {
+            setPosition(command, -1);
+        }
+
+        // reclaim trailing tombstones, commands are usually removed right after they were added
+        while (tail > head && elements[slot(tail - 1)] == null) {
+            tail--;
+        }
+
+        skipTombstones();
+    }
+
+    private long lastIndexOf(Object o) {
+
+        for (long position = tail - 1; position >= head; position--) {
+            if (elements[slot(position)] == o) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private void skipTombstones() {
+
+        while (head < tail && elements[slot(head)] == null) {
+            head++;
+        }
+    }
+
+    private boolean isAt(Object o, long position) {
+        return position >= head && position < tail && elements[slot(position)] == o;
+    }
+
+    private int slot(long position) {
+        return (int) (position & mask);
+    }
+
+    /**
+     * Compact the stack and grow it if it is more than half full. Compaction assigns new positions so that tombstones do not
+     * occupy capacity.
+     */
+    private void resize() {
+
+        int capacity = size > elements.length >>> 1 ? elements.length << 1 : elements.length;
+        RedisCommand<?, ?, ?>[] target = new RedisCommand[capacity];
+
+        long position = head;
+
+        for (long source = head; source < tail; source++) {
+
+            RedisCommand<?, ?, ?> command = elements[slot(source)];
+
+            if (command == null) {
+                continue;
+            }
+
+            target[(int) (position & (capacity - 1))] = command;
+
+            if (getPosition(command) == source) {
+                setPosition(command, position);
+            }
+
+            position++;
+        }
+
+        this.elements = target;
+        this.mask = capacity - 1;
+        this.tail = position;
+    }
+
+    private static long getPosition(Object command) {
+
+        if (command instanceof Command) {
+            return ((Command<?, ?, ?>) command).stackPosition;
+        }
+
+        if (command instanceof CommandWrapper) {
+            return ((CommandWrapper<?, ?, ?>) command).stackPosition;
+        }
+
+        if (command instanceof AsyncCommand) {
+            return ((AsyncCommand<?, ?, ?>) command).stackPosition;
+        }
+
+        return -1;
+    }
+
+    private static void setPosition(Object command, long position) {
+
+        if (command instanceof Command) {
+            ((Command<?, ?, ?>) command).stackPosition = position;
+        } else if (command instanceof CommandWrapper) {
+            ((CommandWrapper<?, ?, ?>) command).stackPosition = position;
+        } else if (command instanceof AsyncCommand) {
+            ((AsyncCommand<?, ?, ?>) command).stackPosition = position;
+        }
+    }
+
+    private class Itr implements Iterator<RedisCommand<?, ?, ?>> {
+
+        private long cursor = head;
+
+        private long lastReturned = -1;
+
+        private final RedisCommand<?, ?, ?>[] expectedElements = elements;
+
+        @Override
+        public boolean hasNext() {
+
+            while (cursor < tail && elements[slot(cursor)] == null) {
+                cursor++;
+            }
+
+            return cursor < tail;
+        }
+
+        @Override
+        public RedisCommand<?, ?, ?> next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (expectedElements != elements) {
+                throw new ConcurrentModificationException();
+            }
+
+            lastReturned = cursor;
+            return elements[slot(cursor++)];
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+
+            if (expectedElements != elements) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeAt(lastReturned);
+            lastReturned = -1;
+        }
+
+    }
+
+}
@@ -24,6 +24,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -51,12 +53,26 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
     private static final AtomicIntegerFieldUpdater<AsyncCommand> COUNT_UPDATER = AtomicIntegerFieldUpdater
             .newUpdater(AsyncCommand.class, "count");
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AsyncCommand, Thread> WAITER_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(AsyncCommand.class, Thread.class, "waiter");
+
     private final RedisCommand<K, V, T> command;
 
     // access via COUNT_UPDATER
     @SuppressWarnings({ "unused" })
     private volatile int count = 1;
 
+    // thread parked in awaitParked(…), access via WAITER_UPDATER
+    @SuppressWarnings({ "unused" })
+    private volatile Thread waiter;
+
+    // position in ArrayCommandStack, only accessed from the event loop
+    long stackPosition = -1;
+
+    // System.nanoTime() deadline tracked by CommandDeadlines, 0 if not tracked
+    long deadline;
+
     /**
      * @param command the command, must not be {@code null}.
      */
@@ -96,6 +112,58 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
         }
     }
 
+    /**
+     * Wait up to the specified time for the command output to become available by parking the calling thread. The thread is
+     * unparked directly by the command completion. Other than {@link #await(long, TimeUnit)}, waiting does not allocate a wait
+     * node and does not hold a monitor so that virtual threads can unmount while waiting. Only a single thread can park on a
+     * command, additional threads fall back to {@link #await(long, TimeUnit)}.
+     *
+     * @param timeout Maximum time to wait for a result, zero or negative to wait indefinitely.
+     * @param unit Unit of time for the timeout.
+     * @return true if the output became available.
+     * @since 6.7
+     */
+    public boolean awaitParked(long timeout, TimeUnit unit) {
+
+        if (isDone()) {
+            return true;
+        }
+
+        if (!WAITER_UPDATER.compareAndSet(this, null, Thread.currentThread())) {
+            return timeout > 0 ? await(timeout, unit) : await(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+
+            long timeoutNanos = unit.toNanos(timeout);
+            long deadline = System.nanoTime() + timeoutNanos;
+
+            while (!isDone()) {
+
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisCommandInterruptedException(new InterruptedException());
+                }
+
+                if (timeoutNanos <= 0) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(this, remaining);
+            }
+
+            return true;
+        } finally {
+            WAITER_UPDATER.lazySet(this, null);
+        }
+    }
+
     /**
      * Get the object that holds this command's output.
      *
@@ -127,6 +195,14 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
         }
     }
 
+    @Override
+    public boolean complete(T value) {
+
+        boolean result = super.complete(value);
+        unparkWaiter();
+        return result;
+    }
+
     @Override
     public boolean completeExceptionally(Throwable ex) {
         boolean result = false;
@@ -140,7 +216,10 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
 
     private boolean doCompleteExceptionally(Throwable ex) {
         command.completeExceptionally(ex);
-        return super.completeExceptionally(ex);
+
+        boolean result = super.completeExceptionally(ex);
+        unparkWaiter();
+        return result;
     }
 
     @Override
@@ -150,6 +229,15 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
             return super.cancel(mayInterruptIfRunning);
         } finally {
             COUNT_UPDATER.set(this, 0);
+            unparkWaiter();
+        }
+    }
+
+    private void unparkWaiter() {
+
+        Thread waiter = this.waiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
         }
     }
 
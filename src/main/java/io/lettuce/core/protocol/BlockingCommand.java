@@ -0,0 +1,233 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.internal.ExceptionFactory;
+import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.output.CommandOutput;
+
+/**
+ * Command to synchronously await command completion without a {@link java.util.concurrent.CompletableFuture}. The awaiting
+ * thread is parked until the command completes. The command result remains in its {@link CommandOutput} so that callers can
+ * read primitive results without boxing. The result is only materialized through {@link CommandOutput#get()} to notify
+ * {@link #onComplete(BiConsumer) completion callbacks}.
+ * <p>
+ * Once completed, {@link #detach()} releases the references to {@link CommandArgs} and {@link CommandOutput} so that both can
+ * be reused for a subsequent command while parties that still hold on to this command (e.g. a scheduled expiry) can no longer
+ * touch them.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Command output type.
+ * @since 6.7
+ */
+public class BlockingCommand<K, V, T> extends Command<K, V, T> implements CompleteableCommand<T> {
+
+    private static final AtomicIntegerFieldUpdater<BlockingCommand> DONE = AtomicIntegerFieldUpdater
+            .newUpdater(BlockingCommand.class, "done");
+
+    // access via DONE, guards completion so that racing completions (e.g. timeout and reply) complete the command only once
+    @SuppressWarnings("unused")
+    private volatile int done;
+
+    private volatile Thread waiter;
+
+    private List<BiConsumer<? super T, Throwable>> callbacks;
+
+    /**
+     * Create a new {@link BlockingCommand}.
+     *
+     * @param type Command type, must not be {@code null}.
+     * @param output Command output, must not be {@code null}.
+     * @param args Command args, can be {@code null}
+     */
+    public BlockingCommand(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        super(type, output, args);
+    }
+
+    @Override
+    public void complete() {
+
+        if (!DONE.compareAndSet(this, 0, 1)) {
+            return;
+        }
+
+        super.complete();
+        onDone(null);
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable throwable) {
+
+        if (!DONE.compareAndSet(this, 0, 1)) {
+            return false;
+        }
+
+        super.completeExceptionally(throwable);
+        onDone(throwable);
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+
+        if (!DONE.compareAndSet(this, 0, 1)) {
+            return;
+        }
+
+        super.cancel();
+        onDone(new CancellationException());
+    }
+
+    @Override
+    public void onComplete(Consumer<? super T> action) {
+        onComplete((result, throwable) -> {
+            if (throwable == null) {
+                action.accept(result);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(BiConsumer<? super T, Throwable> action) {
+
+        synchronized (this) {
+            if (!isDone()) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>(1);
+                }
+                callbacks.add(action);
+                return;
+            }
+        }
+
+        action.accept(exception == null ? getResult() : null, exception);
+    }
+
+    /**
+     * Wait for command completion. Cancels the command if it does not complete within {@code timeout} or if the current thread
+     * is interrupted.
+     *
+     * @param timeout the maximum time to wait, {@link Duration#ZERO} or negative to wait indefinitely.
+     * @throws io.lettuce.core.RedisCommandTimeoutException if the command did not complete within {@code timeout}.
+     * @throws io.lettuce.core.RedisCommandExecutionException if Redis responded with an error.
+     * @throws RedisCommandInterruptedException if the current thread was interrupted while waiting.
+     */
+    public void await(Duration timeout) {
+
+        long timeoutNanos = timeout.toNanos();
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        this.waiter = Thread.currentThread();
+
+        try {
+            while (!isDone()) {
+
+                if (Thread.interrupted()) {
+                    cancel();
+                    Thread.currentThread().interrupt();
+                    throw new RedisCommandInterruptedException(new InterruptedException());
+                }
+
+                if (timeoutNanos <= 0) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    cancel();
+                    throw ExceptionFactory.createTimeoutException(timeout);
+                }
+
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            this.waiter = null;
+        }
+
+        if (exception != null) {
+            throw Exceptions.bubble(exception);
+        }
+
+        if (isCancelled()) {
+            throw new CancellationException();
+        }
+
+        if (output != null && output.hasError()) {
+            throw ExceptionFactory.createExecutionException(output.getError());
+        }
+    }
+
+    /**
+     * @return {@code true} if the command was completed by a reply (successful or error reply) and not by an exception or
+     *         cancellation.
+     */
+    public boolean isCompletedByReply() {
+        return isDone() && !isCancelled() && exception == null;
+    }
+
+    /**
+     * Release the references to {@link CommandArgs} and {@link CommandOutput}. Must only be called after the command was
+     * {@link #isCompletedByReply() completed by a reply}.
+     */
+    public void detach() {
+        this.args = null;
+        this.output = null;
+    }
+
+    private void onDone(Throwable throwable) {
+
+        Thread waiter = this.waiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+
+        List<BiConsumer<? super T, Throwable>> callbacks;
+        synchronized (this) {
+            callbacks = this.callbacks;
+            this.callbacks = null;
+        }
+
+        if (callbacks != null) {
+
+            // the result is only materialized if callbacks are registered
+            T result = throwable == null ? getResult() : null;
+            for (BiConsumer<? super T, Throwable> callback : callbacks) {
+                callback.accept(result, throwable);
+            }
+        }
+    }
+
+    private T getResult() {
+        return output != null ? output.get() : null;
+    }
+
+}
@@ -52,6 +52,12 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
     protected volatile byte status = ST_INITIAL;
 
+    // position in ArrayCommandStack, only accessed from the event loop
+    long stackPosition = -1;
+
+    // System.nanoTime() deadline tracked by CommandDeadlines, 0 if not tracked
+    long deadline;
+
     /**
      * Create a new command with the supplied type.
      *
@@ -119,12 +125,20 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     public void encode(ByteBuf buf) {
 
         buf.touch("Command.encode(…)");
-        buf.writeByte('*');
-        CommandArgs.IntegerArgument.writeInteger(buf, 1 + (args != null ? args.count() : 0));
 
-        buf.writeBytes(CommandArgs.CRLF);
+        int argumentCount = args != null ? args.count() : 0;
+
+        if (type instanceof CommandType && argumentCount <= CommandArgs.CommandHeaderCache.MAX_ARGUMENTS) {
+            buf.writeBytes(CommandArgs.CommandHeaderCache.get((CommandType) type, argumentCount));
+        } else {
 
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+            buf.writeByte('*');
+            CommandArgs.IntegerArgument.writeInteger(buf, 1 + argumentCount);
+
+            buf.writeBytes(CommandArgs.CRLF);
+
+            CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        }
 
         if (args != null) {
             args.encode(buf);
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
@@ -77,6 +78,18 @@ public class CommandArgs<K, V> {
         return singularArguments.size();
     }
 
+    /**
+     * Remove all arguments so that this instance can be reused for another command.
+     *
+     * @return the command args.
+     * @since 6.7
+     */
+    public CommandArgs<K, V> clear() {
+
+        singularArguments.clear();
+        return this;
+    }
+
     /**
      * Adds a key argument.
      *
@@ -89,6 +102,22 @@ public class CommandArgs<K, V> {
         return this;
     }
 
+    /**
+     * Adds a key argument that is already encoded. The encoded bytes are reused for cluster routing and for writing the command
+     * so the key is not encoded again.
+     *
+     * @param key the encoded key, must not be {@code null}.
+     * @return the command args.
+     * @since 6.7
+     */
+    public CommandArgs<K, V> addKey(EncodedKey<K> key) {
+
+        LettuceAssert.notNull(key, "EncodedKey must not be null");
+
+        singularArguments.add(KeyArgument.of(key, codec));
+        return this;
+    }
+
     /**
      * Add multiple key arguments.
      *
@@ -420,7 +449,7 @@ public class CommandArgs<K, V> {
 
     static class ProtocolKeywordArgument extends BytesArgument {
 
-        private final ProtocolKeyword protocolKeyword;
+        final ProtocolKeyword protocolKeyword;
 
         private ProtocolKeywordArgument(ProtocolKeyword protocolKeyword) {
             super(protocolKeyword.getBytes());
@@ -462,6 +491,58 @@ public class CommandArgs<K, V> {
 
     }
 
+    /**
+     * Cache of pre-encoded command headers consisting of the array header and the command name
+     * ({@code *<count>\r\n$<length>\r\n<name>\r\n}) for {@link CommandType} commands with up to {@link #MAX_ARGUMENTS}
+     * arguments. Headers are created lazily on first use.
+     */
+    static class CommandHeaderCache {
+
+        static final int MAX_ARGUMENTS = 8;
+
+        static final AtomicReferenceArray<byte[]> cache = new AtomicReferenceArray<>(
+                CommandType.values().length * (MAX_ARGUMENTS + 1));
+
+        /**
+         * Returns the pre-encoded header for {@code type} with {@code argumentCount} arguments.
+         *
+         * @param type the command type.
+         * @param argumentCount number of arguments excluding the command name, must not exceed {@link #MAX_ARGUMENTS}.
+         * @return the pre-encoded header.
+         */
+        static byte[] get(CommandType type, int argumentCount) {
+
+            int index = type.ordinal() * (MAX_ARGUMENTS + 1) + argumentCount;
+            byte[] header = cache.get(index);
+
+            if (header == null) {
+                header = createHeader(type.getBytes(), argumentCount);
+                cache.lazySet(index, header);
+            }
+
+            return header;
+        }
+
+        private static byte[] createHeader(byte[] name, int argumentCount) {
+
+            ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.heapBuffer(name.length + 16);
+
+            try {
+                buffer.writeByte('*');
+                IntegerArgument.writeInteger(buffer, 1 + argumentCount);
+                buffer.writeBytes(CRLF);
+                BytesArgument.writeBytes(buffer, name);
+
+                byte[] header = new byte[buffer.readableBytes()];
+                buffer.readBytes(header);
+                return header;
+            } finally {
+                buffer.release();
+            }
+        }
+
+    }
+
     static class CommandKeywordCache {
 
         static final ProtocolKeywordArgument cache[];
@@ -660,30 +741,53 @@ public class CommandArgs<K, V> {
 
         final RedisCodec<K, V> codec;
 
-        private KeyArgument(K key, RedisCodec<K, V> codec) {
+        // encoded once for routing and reused when writing the command, published to the I/O thread by the command write
+        private ByteBuffer encoded;
+
+        private KeyArgument(K key, RedisCodec<K, V> codec, ByteBuffer encoded) {
             this.key = key;
             this.codec = codec;
+            this.encoded = encoded;
         }
 
         static <K, V> KeyArgument<K, V> of(K key, RedisCodec<K, V> codec) {
-            return new KeyArgument<>(key, codec);
+            return new KeyArgument<>(key, codec, null);
+        }
+
+        static <K, V> KeyArgument<K, V> of(EncodedKey<K> key, RedisCodec<K, V> codec) {
+            return new KeyArgument<>(key.getKey(), codec, key.getEncoded());
+        }
+
+        /**
+         * @return the encoded key. The key is encoded on first access and the encoded bytes are retained.
+         */
+        ByteBuffer getEncodedKey() {
+
+            ByteBuffer encoded = this.encoded;
+
+            if (encoded == null) {
+                encoded = codec.encodeKey(key);
+                this.encoded = encoded;
+            }
+
+            return encoded.duplicate();
         }
 
         @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
 
-            if (codec instanceof ToByteBufEncoder) {
+            if (encoded == null && codec instanceof ToByteBufEncoder) {
                 CommandArgs.encode(target, (ToByteBufEncoder<K, K>) codec, key, ToByteBufEncoder::encodeKey);
                 return;
             }
 
-            ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
+            ByteBufferArgument.writeByteBuffer(target, getEncodedKey());
         }
 
         @Override
         public String toString() {
-            return String.format("key<%s>", new StringCodec().decodeKey(codec.encodeKey(key)));
+            return String.format("key<%s>", new StringCodec().decodeKey(getEncodedKey()));
         }
 
     }
@@ -29,7 +29,7 @@ public class CommandArgsAccessor {
         for (SingularArgument singularArgument : commandArgs.singularArguments) {
 
             if (singularArgument instanceof CommandArgs.KeyArgument) {
-                return commandArgs.codec.encodeKey(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+                return ((CommandArgs.KeyArgument<K, V>) singularArgument).getEncodedKey();
             }
         }
 
@@ -139,4 +139,25 @@ public class CommandArgsAccessor {
         return null;
     }
 
+    /**
+     * Check whether the {@link CommandArgs} contain the given {@link ProtocolKeyword keyword}.
+     *
+     * @param commandArgs must not be null.
+     * @param keyword the keyword to look up.
+     * @return {@code true} if the arguments contain {@code keyword}.
+     * @since 6.7
+     */
+    public static <K, V> boolean containsKeyword(CommandArgs<K, V> commandArgs, ProtocolKeyword keyword) {
+
+        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+
+            if (singularArgument instanceof CommandArgs.ProtocolKeywordArgument
+                    && ((CommandArgs.ProtocolKeywordArgument) singularArgument).protocolKeyword == keyword) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
 }
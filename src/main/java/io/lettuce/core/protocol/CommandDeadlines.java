@@ -0,0 +1,318 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import io.lettuce.core.internal.ExceptionFactory;
+import io.netty.util.Timer;
+
+/**
+ * Per-connection command deadline tracking in coarse buckets. Instead of scheduling a timer task per command,
+ * {@link CommandExpiryWriter} stores a deadline, rounded up to the bucket duration, on the command itself. The deadline is
+ * armed once the {@link CommandHandler} adds the command to its in-flight stack. The handler sweeps its stack once per bucket
+ * on the channel's event loop and expires overdue commands in place. A sweep is skipped entirely if no tracked deadline is due.
+ * <p>
+ * Commands that do not reach the stack directly because {@link DefaultEndpoint} buffers them (disabled auto-flush, disconnected
+ * connection, request queue backpressure) are handed over to the {@link Timer} through {@link #schedule(RedisCommand)}.
+ * Deadlines can only be stored on {@link Command}, {@link CommandWrapper} and {@link AsyncCommand}. Other commands and commands
+ * written while the connection is disconnected are expired using the {@link Timer}.
+ *
+ * @since 6.7
+ */
+final class CommandDeadlines {
+
+    private static final int MAX_DECORATION_DEPTH = 8;
+
+    private final long bucketNanos;
+
+    private final ToLongFunction<RedisCommand<?, ?, ?>> timeoutNanos;
+
+    private final Timer timer;
+
+    private final ScheduledExecutorService executorService;
+
+    // commands that expired during a sweep, completed after iterating the stack
+    private final List<RedisCommand<?, ?, ?>> expired = new ArrayList<>();
+
+    private volatile boolean active;
+
+    // earliest deadline in the stack, only accessed from the event loop
+    private long nextDeadline;
+
+    private boolean pending;
+
+    /**
+     * @param bucketDuration the bucket duration.
+     * @param timeoutNanos function to obtain the timeout of a command in nanoseconds, used for the timeout exception.
+     * @param timer timer for commands that cannot be tracked by a sweep.
+     * @param executorService executor to complete commands expired by the {@link Timer}.
+     */
+    CommandDeadlines(Duration bucketDuration, ToLongFunction<RedisCommand<?, ?, ?>> timeoutNanos, Timer timer,
+            ScheduledExecutorService executorService) {
+
+        this.bucketNanos = bucketDuration.toNanos();
+        this.timeoutNanos = timeoutNanos;
+        this.timer = timer;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Track the deadline of {@code command}. Tracking succeeds only while the connection is active and if the command is able
+     * to store its deadline. The deadline is swept once the command is added to the stack. The endpoint must
+     * {@link #schedule(RedisCommand) schedule} tracked commands that it does not write to the channel.
+     *
+     * @param command the command.
+     * @param timeoutNanos timeout in nanoseconds.
+     * @return {@code true} if the deadline is tracked; {@code false} if the caller should schedule the timeout otherwise.
+     */
+    boolean track(RedisCommand<?, ?, ?> command, long timeoutNanos) {
+
+        if (!active) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        // round up to the bucket boundary so that all commands of a bucket become due at the same sweep
+        long remainder = Math.floorMod(deadline, bucketNanos);
+        if (remainder != 0) {
+            deadline += bucketNanos - remainder;
+        }
+
+        return setDeadline(command, deadline == 0 ? 1 : deadline);
+    }
+
+    long getBucketNanos() {
+        return bucketNanos;
+    }
+
+    /**
+     * Notification that the connection became active. Must be called from the event loop.
+     */
+    void activated() {
+
+        pending = true;
+        nextDeadline = System.nanoTime();
+        active = true;
+    }
+
+    /**
+     * Notification that the connection became inactive. Commands in the stack that have a deadline are handed over to the
+     * {@link Timer} as they are no longer swept. Must be called from the event loop.
+     *
+     * @param stack the in-flight commands.
+     */
+    void deactivated(Iterable<RedisCommand<?, ?, ?>> stack) {
+
+        active = false;
+        pending = false;
+
+        long now = System.nanoTime();
+        for (RedisCommand<?, ?, ?> command : stack) {
+            schedule(command, now);
+        }
+    }
+
+    /**
+     * Hand over the deadline of {@code command} to the {@link Timer} because the command is not written to the stack, e.g.
+     * because it was buffered. The deadline is cleared so that the command is neither swept nor scheduled again.
+     *
+     * @param command the command.
+     */
+    void schedule(RedisCommand<?, ?, ?> command) {
+        schedule(command, System.nanoTime());
+    }
+
+    private void schedule(RedisCommand<?, ?, ?> command, long now) {
+
+        long deadline = getDeadline(command);
+
+        if (deadline == 0 || command.isDone()) {
+            return;
+        }
+
+        clearDeadline(command);
+        timer.newTimeout(t -> {
+            if (!command.isDone()) {
+                executorService.submit(() -> expire(command));
+            }
+        }, Math.max(0, deadline - now), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Notification that {@code command} was added to the stack. Must be called from the event loop.
+     *
+     * @param command the command.
+     */
+    void onAddToStack(RedisCommand<?, ?, ?> command) {
+
+        long deadline = getDeadline(command);
+
+        if (deadline != 0 && (!pending || deadline - nextDeadline < 0)) {
+            nextDeadline = deadline;
+            pending = true;
+        }
+    }
+
+    /**
+     * Expire overdue commands in {@code stack}. Must be called from the event loop.
+     *
+     * @param stack the in-flight commands.
+     */
+    void sweep(Iterable<RedisCommand<?, ?, ?>> stack) {
+        sweep(stack, Runnable::run);
+    }
+
+    /**
+     * Expire overdue commands in {@code stack} by running their expiry through {@code completions}. Must be called from the
+     * event loop.
+     *
+     * @param stack the in-flight commands.
+     * @param completions executor running the expiry of overdue commands.
+     */
+    void sweep(Iterable<RedisCommand<?, ?, ?>> stack, Executor completions) {
+
+        if (!pending) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (nextDeadline - now > 0) {
+            return;
+        }
+
+        pending = false;
+
+        for (RedisCommand<?, ?, ?> command : stack) {
+
+            if (command.isDone()) {
+                continue;
+            }
+
+            long deadline = getDeadline(command);
+
+            if (deadline == 0) {
+                continue;
+            }
+
+            if (deadline - now <= 0) {
+                expired.add(command);
+            } else if (!pending || deadline - nextDeadline < 0) {
+                nextDeadline = deadline;
+                pending = true;
+            }
+        }
+
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        // complete outside of the iteration as completion callbacks may write to the stack
+        List<RedisCommand<?, ?, ?>> toExpire = new ArrayList<>(expired);
+        expired.clear();
+
+        completions.execute(() -> toExpire.forEach(this::expire));
+    }
+
+    private void expire(RedisCommand<?, ?, ?> command) {
+        command.completeExceptionally(ExceptionFactory.createTimeoutException(command.getType().toString(),
+                Duration.ofNanos(timeoutNanos.applyAsLong(command))));
+    }
+
+    /**
+     * Obtain the deadline of {@code command} by inspecting the command and its delegates.
+     *
+     * @param command the command.
+     * @return the deadline or {@code 0} if the command has no deadline.
+     */
+    static long getDeadline(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> current = command;
+
+        for (int i = 0; i < MAX_DECORATION_DEPTH && current != null; i++) {
+
+            long deadline = 0;
+
+            if (current instanceof Command) {
+                deadline = ((Command<?, ?, ?>) current).deadline;
+            } else if (current instanceof CommandWrapper) {
+                deadline = ((CommandWrapper<?, ?, ?>) current).deadline;
+            } else if (current instanceof AsyncCommand) {
+                deadline = ((AsyncCommand<?, ?, ?>) current).deadline;
+            }
+
+            if (deadline != 0) {
+                return deadline;
+            }
+
+            if (!(current instanceof DecoratedCommand)) {
+                return 0;
+            }
+
+            current = ((DecoratedCommand<?, ?, ?>) current).getDelegate();
+        }
+
+        return 0;
+    }
+
+    private static void clearDeadline(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> current = command;
+
+        for (int i = 0; i < MAX_DECORATION_DEPTH && current != null; i++) {
+
+            setDeadline(current, 0);
+
+            if (!(current instanceof DecoratedCommand)) {
+                return;
+            }
+
+            current = ((DecoratedCommand<?, ?, ?>) current).getDelegate();
+        }
+    }
+
+    private static boolean setDeadline(RedisCommand<?, ?, ?> command, long deadline) {
+
+        if (command instanceof Command) {
+            ((Command<?, ?, ?>) command).deadline = deadline;
+            return true;
+        }
+
+        if (command instanceof CommandWrapper) {
+            ((CommandWrapper<?, ?, ?>) command).deadline = deadline;
+            return true;
+        }
+
+        if (command instanceof AsyncCommand) {
+            ((AsyncCommand<?, ?, ?>) command).deadline = deadline;
+            return true;
+        }
+
+        return false;
+    }
+
+}
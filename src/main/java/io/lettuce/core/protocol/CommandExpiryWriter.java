@@ -59,6 +59,8 @@ public class CommandExpiryWriter implements RedisChannelWriter {
 
     private final boolean applyConnectionTimeout;
 
+    private final CommandDeadlines deadlines;
+
     private volatile long timeout = -1;
 
     /**
@@ -81,6 +83,14 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         this.timeUnit = source.getTimeUnit();
         this.executorService = clientResources.eventExecutorGroup();
         this.timer = clientResources.timer();
+
+        if (timeoutOptions.isDeadlineBuckets() && delegate instanceof DefaultEndpoint) {
+            this.deadlines = new CommandDeadlines(timeoutOptions.getDeadlineBucketDuration(),
+                    command -> timeUnit.toNanos(getTimeout(command)), timer, executorService);
+            ((DefaultEndpoint) delegate).setCommandDeadlines(this.deadlines);
+        } else {
+            this.deadlines = null;
+        }
     }
 
     /**
@@ -169,14 +179,23 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         return this.executorService;
     }
 
+    private long getTimeout(RedisCommand<?, ?, ?> command) {
+        return applyConnectionTimeout ? this.timeout : source.getTimeout(command);
+    }
+
     private void potentiallyExpire(RedisCommand<?, ?, ?> command, ScheduledExecutorService executors) {
 
-        long timeout = applyConnectionTimeout ? this.timeout : source.getTimeout(command);
+        long timeout = getTimeout(command);
 
         if (timeout <= 0) {
             return;
         }
 
+        // swept once the command is on the stack, the endpoint hands buffered commands over to the timer
+        if (deadlines != null && deadlines.track(command, timeUnit.toNanos(timeout))) {
+            return;
+        }
+
         Timeout commandTimeout = timer.newTimeout(t -> {
             if (!command.isDone()) {
                 executors.submit(() -> command.completeExceptionally(ExceptionFactory
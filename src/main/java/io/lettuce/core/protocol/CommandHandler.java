@@ -33,6 +33,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.ClientOptions;
@@ -62,6 +65,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.local.LocalAddress;
 import io.netty.util.Recycler;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.internal.logging.InternalLogLevel;
@@ -119,6 +123,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private final BackpressureSource backpressureSource = new BackpressureSource();
 
+    private final EventExecutor completionExecutor;
+
     private RedisStateMachine rsm;
 
     private Channel channel;
@@ -139,6 +145,14 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private Tracing.Endpoint tracedEndpoint;
 
+    private CommandDeadlines deadlines;
+
+    private ScheduledFuture<?> deadlineSweep;
+
+    private boolean deferCompletions;
+
+    private List<RedisCommand<?, ?, ?>> completions;
+
     /**
      * Initialize a new instance that handles commands from the supplied queue.
      *
@@ -158,13 +172,23 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         this.commandLatencyRecorder = clientResources.commandLatencyRecorder();
         this.latencyMetricsEnabled = commandLatencyRecorder.isEnabled();
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
-        this.stack = clientOptions.isUseHashIndexedQueue() ? new HashIndexedQueue<>() : new ArrayDeque<>();
+        this.stack = newStack(clientOptions);
 
         Tracing tracing = clientResources.tracing();
 
         this.tracingEnabled = tracing.isEnabled();
 
         this.decodeBufferPolicy = clientOptions.getDecodeBufferPolicy();
+        this.completionExecutor = clientOptions.isCompleteOnScheduler() ? clientResources.eventExecutorGroup().next() : null;
+    }
+
+    private static Queue<RedisCommand<?, ?, ?>> newStack(ClientOptions clientOptions) {
+
+        if (clientOptions.isUseArrayIndexedQueue()) {
+            return new ArrayCommandStack();
+        }
+
+        return clientOptions.isUseHashIndexedQueue() ? new HashIndexedQueue<>() : new ArrayDeque<>();
     }
 
     public Endpoint getEndpoint() {
@@ -287,12 +311,14 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             }
             logLevel = InternalLogLevel.DEBUG;
 
-            try {
-                command.completeExceptionally(cause);
-            } catch (Exception ex) {
-                logger.warn("{} Unexpected exception during command completion exceptionally: {}", logPrefix, ex.toString(),
-                        ex);
-            }
+            completeInOrder(() -> {
+                try {
+                    command.completeExceptionally(cause);
+                } catch (Exception ex) {
+                    logger.warn("{} Unexpected exception during command completion exceptionally: {}", logPrefix, ex.toString(),
+                            ex);
+                }
+            });
         }
 
         if (channel == null || !channel.isActive() || !isConnected()) {
@@ -329,6 +355,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         tracedEndpoint = clientResources.tracing().createEndpoint(ctx.channel().remoteAddress());
 
+        startDeadlineSweep(ctx);
+
         endpoint.notifyChannelActive(ctx.channel());
         super.channelActive(ctx);
 
@@ -337,6 +365,31 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         }
     }
 
+    private void startDeadlineSweep(ChannelHandlerContext ctx) {
+
+        deadlines = endpoint instanceof DefaultEndpoint ? ((DefaultEndpoint) endpoint).getCommandDeadlines() : null;
+
+        if (deadlines == null) {
+            return;
+        }
+
+        long bucketNanos = deadlines.getBucketNanos();
+        deadlines.activated();
+        deadlineSweep = ctx.executor().scheduleAtFixedRate(() -> deadlines.sweep(stack, this::completeInOrder), bucketNanos,
+                bucketNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void stopDeadlineSweep() {
+
+        if (deadlineSweep == null) {
+            return;
+        }
+
+        deadlineSweep.cancel(false);
+        deadlines.deactivated(stack);
+        deadlineSweep = null;
+    }
+
     private static <T> List<T> drainCommands(Queue<T> source) {
 
         List<T> target = new ArrayList<>(source.size());
@@ -369,6 +422,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         setState(LifecycleState.DISCONNECTED);
         setState(LifecycleState.DEACTIVATING);
 
+        stopDeadlineSweep();
+
         endpoint.notifyChannelInactive(ctx.channel());
         endpoint.notifyDrainQueuedCommands(this);
 
@@ -444,8 +499,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
             if (isWriteable(command) && !deduplicated.add(command)) {
                 deduplicated.remove(command);
-                command.completeExceptionally(
-                        new RedisException("Attempting to write duplicate command that is already enqueued: " + command));
+                completeInOrder(() -> command.completeExceptionally(
+                        new RedisException("Attempting to write duplicate command that is already enqueued: " + command)));
             }
         }
 
@@ -453,9 +508,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             validateWrite(deduplicated.size());
         } catch (Exception e) {
 
-            for (RedisCommand<?, ?, ?> redisCommand : deduplicated) {
-                redisCommand.completeExceptionally(e);
-            }
+            completeInOrder(() -> {
+                for (RedisCommand<?, ?, ?> redisCommand : deduplicated) {
+                    redisCommand.completeExceptionally(e);
+                }
+            });
 
             throw e;
         }
@@ -528,11 +585,16 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
 
             stack.add(redisCommand);
+
+            if (deadlines != null) {
+                deadlines.onAddToStack(redisCommand);
+            }
+
             if (!promise.isVoid()) {
                 promise.addListener(AddToStack.newInstance(stack, redisCommand));
             }
         } catch (Exception e) {
-            command.completeExceptionally(e);
+            completeInOrder(() -> command.completeExceptionally(e));
             throw e;
         }
     }
@@ -618,12 +680,77 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             readBuffer.touch("CommandHandler.read(…)");
             readBuffer.writeBytes(input);
 
-            decode(ctx, readBuffer);
+            if (completionExecutor == null) {
+                decode(ctx, readBuffer);
+            } else {
+                deferCompletions = true;
+                try {
+                    decode(ctx, readBuffer);
+                } finally {
+                    deferCompletions = false;
+                    dispatchCompletions();
+                }
+            }
         } finally {
             input.release();
         }
     }
 
+    /**
+     * Hand off commands decoded during the current read to the completion executor. The executor is a single thread so batches
+     * and the commands within a batch complete in response order.
+     */
+    private void dispatchCompletions() {
+
+        List<RedisCommand<?, ?, ?>> batch = completions;
+        if (batch == null) {
+            return;
+        }
+
+        completions = null;
+
+        try {
+            completionExecutor.execute(() -> completeAll(batch));
+        } catch (RejectedExecutionException e) {
+            completeAll(batch);
+        }
+    }
+
+    /**
+     * Run a completion that is not the result of decoding a response, such as an exceptional completion or cancellation. If
+     * {@link ClientOptions#isCompleteOnScheduler()} is enabled, the completion is handed off to the completion executor after
+     * the commands decoded so far so that commands complete in order regardless of their outcome.
+     *
+     * @param completion the completion to run.
+     */
+    @Override
+    public void completeInOrder(Runnable completion) {
+
+        if (completionExecutor == null) {
+            completion.run();
+            return;
+        }
+
+        dispatchCompletions();
+
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    private void completeAll(List<RedisCommand<?, ?, ?>> batch) {
+
+        for (RedisCommand<?, ?, ?> command : batch) {
+            try {
+                command.complete();
+            } catch (Exception e) {
+                logger.warn("{} Unexpected exception during request: {}", logPrefix, e.toString(), e);
+            }
+        }
+    }
+
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) throws InterruptedException {
 
         if (pristine) {
@@ -760,12 +887,24 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     }
 
     /**
-     * Decoding hook: Complete a command.
+     * Decoding hook: Complete a command. Completion is deferred to the end of the current read if
+     * {@link ClientOptions#isCompleteOnScheduler()} is enabled.
      *
      * @param command
      * @see RedisCommand#complete()
      */
     protected void complete(RedisCommand<?, ?, ?> command) {
+
+        if (deferCompletions) {
+
+            if (completions == null) {
+                completions = new ArrayList<>();
+            }
+
+            completions.add(command);
+            return;
+        }
+
         command.complete();
     }
 
@@ -861,7 +1000,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     }
 
     protected boolean decode(ByteBuf buffer, RedisCommand<?, ?, ?> command, CommandOutput<?, ?, ?> output) {
-        return rsm != null && rsm.decode(buffer, output, command::completeExceptionally);
+        return rsm != null && rsm.decode(buffer, output, e -> completeInOrder(() -> command.completeExceptionally(e)));
     }
 
     /**
@@ -908,8 +1047,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         endpoint.notifyException(exception);
 
-        stack.forEach(cmd -> cmd.completeExceptionally(exception));
-        stack.clear();
+        List<RedisCommand<?, ?, ?>> commands = drainCommands(stack);
+        completeInOrder(() -> commands.forEach(cmd -> cmd.completeExceptionally(exception)));
 
         if (channel != null) {
             channel.disconnect();
@@ -956,7 +1095,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private void reset() {
 
         resetInternals();
-        cancelCommands("Reset", drainCommands(stack));
+
+        List<RedisCommand<?, ?, ?>> commands = drainCommands(stack);
+        completeInOrder(() -> cancelCommands("Reset", commands));
     }
 
     private void resetInternals() {
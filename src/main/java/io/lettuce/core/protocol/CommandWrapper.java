@@ -48,6 +48,12 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
     @SuppressWarnings("unused")
     private volatile Object[] onComplete = EMPTY;
 
+    // position in ArrayCommandStack, only accessed from the event loop
+    long stackPosition = -1;
+
+    // System.nanoTime() deadline tracked by CommandDeadlines, 0 if not tracked
+    long deadline;
+
     public CommandWrapper(RedisCommand<K, V, T> command) {
         this.command = command;
     }
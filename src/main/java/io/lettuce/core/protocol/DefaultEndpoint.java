@@ -22,6 +22,7 @@ package io.lettuce.core.protocol;
 import static io.lettuce.core.protocol.CommandHandler.*;
 
 import java.io.IOException;
+import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -45,10 +47,12 @@ import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.local.LocalAddress;
 import io.netty.handler.codec.EncoderException;
 import io.netty.util.Recycler;
 import io.netty.util.concurrent.Future;
@@ -106,6 +110,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
 
+    private final FlushCoalescer flushCoalescer;
+
+    private final SubmissionQueue submissionQueue;
+
+    private final RequestAdmission admission;
+
     private String logPrefix;
 
     private boolean autoFlushCommands = true;
@@ -116,6 +126,8 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private ConnectionFacade connectionFacade;
 
+    private volatile CommandDeadlines commandDeadlines;
+
     private volatile Throwable connectionError;
 
     // access via QUEUE_SIZE
@@ -148,6 +160,16 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
         this.cachedEndpointId = "0x" + Long.toHexString(endpointId);
+        this.flushCoalescer = clientOptions.getAutoFlushOptions().isCoalesceWrites()
+                ? new FlushCoalescer(clientOptions.getAutoFlushOptions())
+                : null;
+        this.submissionQueue = clientOptions.getAutoFlushOptions().isSubmissionQueue()
+                ? new SubmissionQueue(clientOptions.getAutoFlushOptions().getMaxPendingCommands(), () -> channel,
+                        this::writeBatchAndFlush)
+                : null;
+        this.admission = boundedQueues && clientOptions.isRequestQueueBackpressure()
+                ? new RequestAdmission(clientOptions.getRequestQueueSize(), this::onAdmit)
+                : null;
     }
 
     @Override
@@ -155,6 +177,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         this.connectionFacade = connectionFacade;
     }
 
+    void setCommandDeadlines(CommandDeadlines commandDeadlines) {
+        this.commandDeadlines = commandDeadlines;
+    }
+
+    CommandDeadlines getCommandDeadlines() {
+        return commandDeadlines;
+    }
+
     @Override
     public ClientResources getClientResources() {
         return clientResources;
@@ -191,6 +221,17 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             return command;
         }
 
+        if (admission != null && !inActivation) {
+
+            RedisCommand<K, V, T> admitted = admit(command);
+            return admitted != null ? doWrite(admitted) : command;
+        }
+
+        return doWrite(command);
+    }
+
+    private <K, V, T> RedisCommand<K, V, T> doWrite(RedisCommand<K, V, T> command) {
+
         try {
             sharedLock.incrementWriters();
 
@@ -232,6 +273,18 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             return (Collection<RedisCommand<K, V, ?>>) commands;
         }
 
+        if (admission != null && !inActivation) {
+
+            Collection<RedisCommand<K, V, ?>> admitted = admit(commands);
+            return admitted != null ? doWrite(admitted) : (Collection<RedisCommand<K, V, ?>>) commands;
+        }
+
+        return doWrite(commands);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Collection<RedisCommand<K, V, ?>> doWrite(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
         try {
             sharedLock.incrementWriters();
 
@@ -260,6 +313,127 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return (Collection<RedisCommand<K, V, ?>>) commands;
     }
 
+    /**
+     * Admit {@code command} or park it until capacity frees up.
+     *
+     * @return the command to write or {@code null} if the command was parked.
+     */
+    private <K, V, T> RedisCommand<K, V, T> admit(RedisCommand<K, V, T> command) {
+
+        if (ActivationCommand.isActivationCommand(command)) {
+            return command;
+        }
+
+        if (admission.tryAdmit(1)) {
+            return admission.hold(command);
+        }
+
+        admission.park(new RequestAdmission.Pending(command));
+        scheduleDeadline(command);
+        return null;
+    }
+
+    /**
+     * Admit {@code commands} or park them until capacity frees up.
+     *
+     * @return the commands to write or {@code null} if the commands were parked or rejected.
+     */
+    private <K, V> Collection<RedisCommand<K, V, ?>> admit(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        if (!admission.canAdmit(commands.size())) {
+
+            RedisException exception = new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
+                    + ". Batch of " + commands.size() + " commands cannot be admitted.");
+            commands.forEach(it -> it.completeExceptionally(exception));
+            return null;
+        }
+
+        if (admission.tryAdmit(commands.size())) {
+            return admission.hold(commands);
+        }
+
+        admission.park(new RequestAdmission.Pending(commands));
+        commands.forEach(this::scheduleDeadline);
+        return null;
+    }
+
+    /**
+     * Hand commands that were held back by request queue backpressure and are now admitted to the event loop. Permits are
+     * released on arbitrary threads (e.g. while cancelling commands during reset) so admitted commands are not written on the
+     * releasing thread.
+     */
+    private void onAdmit(RequestAdmission.Pending pending) {
+
+        Channel channel = this.channel;
+
+        if (channel == null) {
+            writeAdmitted(pending);
+            return;
+        }
+
+        try {
+            channel.eventLoop().execute(() -> writeAdmitted(pending));
+        } catch (RejectedExecutionException e) {
+            // event loop is shutting down, commands are buffered or rejected through the regular write path
+            writeAdmitted(pending);
+        }
+    }
+
+    /**
+     * Write admitted commands through the regular write path.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void writeAdmitted(RequestAdmission.Pending pending) {
+
+        try {
+            recordAdmissionLatency(pending);
+
+            RedisCommand<?, ?, ?> command = pending.getCommand();
+            Collection<RedisCommand<?, ?, ?>> commands = null;
+
+            if (command != null) {
+                command = admission.hold(command);
+            } else {
+                commands = admission.hold((Collection) pending.getCommands());
+            }
+
+            RedisException validation = validateWrite(command != null ? 1 : commands.size());
+            if (validation != null) {
+
+                if (command != null) {
+                    command.completeExceptionally(validation);
+                } else {
+                    commands.forEach(it -> it.completeExceptionally(validation));
+                }
+                return;
+            }
+
+            if (command != null) {
+                doWrite(command);
+            } else {
+                doWrite((Collection) commands);
+            }
+        } finally {
+            admission.admitted();
+        }
+    }
+
+    private void recordAdmissionLatency(RequestAdmission.Pending pending) {
+
+        CommandLatencyRecorder recorder = clientResources.commandLatencyRecorder();
+
+        if (!recorder.isEnabled()) {
+            return;
+        }
+
+        long waitTime = pending.getWaitTime();
+        Channel channel = this.channel;
+        SocketAddress local = channel != null && channel.localAddress() != null ? channel.localAddress() : LocalAddress.ANY;
+        SocketAddress remote = channel != null && channel.remoteAddress() != null ? channel.remoteAddress() : LocalAddress.ANY;
+
+        pending.forEach(it -> recorder.recordAdmissionLatency(local, remote, it.getType(), waitTime));
+    }
+
     private <K, V, T> RedisCommand<K, V, T> processActivationCommand(RedisCommand<K, V, T> command) {
 
         if (!ActivationCommand.isActivationCommand(command)) {
@@ -293,7 +467,9 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         }
 
         final boolean connected = isConnected(this.channel);
-        if (usesBoundedQueues()) {
+
+        // with backpressure, admission bounds the number of in-flight commands
+        if (usesBoundedQueues() && admission == null) {
 
             if (QUEUE_SIZE.get(this) + commands > clientOptions.getRequestQueueSize()) {
                 return new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
@@ -359,6 +535,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         }
 
         disconnectedBuffer.add(command);
+        scheduleDeadline(command);
     }
 
     protected <C extends RedisCommand<?, ?, T>, T> void writeToBuffer(C command) {
@@ -378,13 +555,39 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         }
 
         commandBuffer.add(command);
+        scheduleDeadline(command);
+    }
+
+    /**
+     * Hand over the deadline of a {@code command} that is buffered instead of written to the channel to the timer as only
+     * commands in the stack are swept.
+     */
+    private void scheduleDeadline(RedisCommand<?, ?, ?> command) {
+
+        CommandDeadlines commandDeadlines = this.commandDeadlines;
+
+        if (commandDeadlines != null) {
+            commandDeadlines.schedule(command);
+        }
     }
 
     private void writeToChannelAndFlush(Channel channel, RedisCommand<?, ?, ?> command) {
 
         QUEUE_SIZE.incrementAndGet(this);
 
-        ChannelFuture channelFuture = channelWriteAndFlush(channel, command);
+        if (submissionQueue != null) {
+            submissionQueue.submit(channel, command);
+            return;
+        }
+
+        ChannelFuture channelFuture;
+
+        if (flushCoalescer != null) {
+            channelFuture = channelWrite(channel, command);
+            flushCoalescer.onWrite(channel, 1);
+        } else {
+            channelFuture = channelWriteAndFlush(channel, command);
+        }
 
         if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -401,6 +604,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         QUEUE_SIZE.addAndGet(this, commands.size());
 
+        if (submissionQueue != null) {
+            submissionQueue.submit(channel, commands);
+            return;
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
 
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -417,7 +625,30 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             }
         }
 
-        channelFlush(channel);
+        if (flushCoalescer != null) {
+            flushCoalescer.onWrite(channel, commands.size());
+        } else {
+            channelFlush(channel);
+        }
+    }
+
+    private void writeBatchAndFlush(Channel channel, List<RedisCommand<?, ?, ?>> commands) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() writeAndFlush {} submitted commands", logPrefix(), commands.size());
+        }
+
+        ChannelFuture channelFuture = channel.writeAndFlush(commands);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, commands));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            channelFuture.addListener(RetryListener.newInstance(this, commands));
+        }
     }
 
     private void channelFlush(Channel channel) {
@@ -686,14 +917,24 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         if (isClosed()) {
 
             Lazy<RedisException> lazy = Lazy.of(() -> new RedisException("Connection closed"));
-            cancelCommands("Connection closed", queuedCommands.drainQueue(), it -> it.completeExceptionally(lazy.get()));
-            cancelCommands("Connection closed", drainCommands(), it -> it.completeExceptionally(lazy.get()));
+            Collection<RedisCommand<?, ?, ?>> queued = queuedCommands.drainQueue();
+            Collection<RedisCommand<?, ?, ?>> buffered = drainCommands();
+
+            queuedCommands.completeInOrder(() -> {
+                cancelCommands("Connection closed", queued, it -> it.completeExceptionally(lazy.get()));
+                cancelCommands("Connection closed", buffered, it -> it.completeExceptionally(lazy.get()));
+            });
             return;
         } else if (reliability == Reliability.AT_MOST_ONCE && rejectCommandsWhileDisconnected) {
 
             Lazy<RedisException> lazy = Lazy.of(() -> new RedisException("Connection disconnected"));
-            cancelCommands("Connection disconnected", queuedCommands.drainQueue(), it -> it.completeExceptionally(lazy.get()));
-            cancelCommands("Connection disconnected", drainCommands(), it -> it.completeExceptionally(lazy.get()));
+            Collection<RedisCommand<?, ?, ?>> queued = queuedCommands.drainQueue();
+            Collection<RedisCommand<?, ?, ?>> buffered = drainCommands();
+
+            queuedCommands.completeInOrder(() -> {
+                cancelCommands("Connection disconnected", queued, it -> it.completeExceptionally(lazy.get()));
+                cancelCommands("Connection disconnected", buffered, it -> it.completeExceptionally(lazy.get()));
+            });
             return;
         }
 
@@ -716,6 +957,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
             try {
                 disconnectedBuffer.addAll(commands);
+                commands.forEach(this::scheduleDeadline);
             } catch (RuntimeException e) {
 
                 if (debugEnabled) {
@@ -724,9 +966,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 }
                 commands.removeAll(disconnectedBuffer);
 
-                for (RedisCommand<?, ?, ?> command : commands) {
-                    command.completeExceptionally(e);
-                }
+                queuedCommands.completeInOrder(() -> {
+                    for (RedisCommand<?, ?, ?> command : commands) {
+                        command.completeExceptionally(e);
+                    }
+                });
             }
 
             flushCommands(this.channel, disconnectedBuffer);
@@ -797,6 +1041,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
     }
 
     private void cancelBufferedCommands(String message) {
+
+        // cancel parked commands first as cancelling buffered commands releases permits that would admit parked commands
+        if (admission != null) {
+            admission.drainPending(RedisCommand::cancel);
+        }
+
         cancelCommands(message, doExclusive(this::drainCommands), RedisCommand::cancel);
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * A key together with its encoded representation. Encoding a key once allows reusing the same bytes for slot-hash calculation,
+ * command routing and writing the command to the transport, which avoids repeated invocations of expensive codecs such as
+ * compression or encryption codecs.
+ * <p>
+ * Use {@link CommandArgs#addKey(EncodedKey)} to add the key to a command without encoding it again.
+ *
+ * @param <K> Key type.
+ * @since 6.7
+ */
+public final class EncodedKey<K> {
+
+    private final K key;
+
+    private final ByteBuffer encoded;
+
+    private EncodedKey(K key, ByteBuffer encoded) {
+        this.key = key;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Encode the given {@code key} using {@link RedisCodec#encodeKey(Object)}.
+     *
+     * @param codec the codec to encode the key, must not be {@code null}.
+     * @param key the key.
+     * @param <K> Key type.
+     * @return the {@link EncodedKey}.
+     */
+    public static <K> EncodedKey<K> of(RedisCodec<K, ?> codec, K key) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        return new EncodedKey<>(key, codec.encodeKey(key));
+    }
+
+    /**
+     * @return the key.
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the encoded key. Each call returns a new buffer view sharing the encoded content so callers may freely change its
+     * position and limit.
+     *
+     * @return the encoded key.
+     */
+    public ByteBuffer getEncoded() {
+        return encoded.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("key<%s>", StringCodec.UTF8.decodeKey(getEncoded()));
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import io.lettuce.core.AutoFlushOptions;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.EventLoop;
+
+/**
+ * Coalesces flushes of written commands into a single flush per event loop turn. Writes register themselves through
+ * {@link #onWrite(Channel, int)}. The first write after a flush schedules a flush task on the channel's event loop. As tasks
+ * are executed in submission order, the flush task runs after all writes that were submitted before it and flushes them
+ * together. A flush is issued immediately if the number of pending commands or the number of pending outbound bytes exceeds the
+ * configured bounds.
+ * <p>
+ * Writes are accounted for on the event loop only. Writes issued from other threads are queued as event loop tasks, so their
+ * accounting is queued right behind the write. This guarantees that a write is accounted for after it reached the outbound
+ * buffer and that a flush is scheduled after every write that is not covered by a flush yet.
+ *
+ * @since 6.7
+ * @see AutoFlushOptions
+ */
+class FlushCoalescer {
+
+    private final int maxPendingCommands;
+
+    private final long maxPendingBytes;
+
+    // accessed from the event loop only
+    private int pending;
+
+    // channel with a scheduled flush, tracked per channel as a reconnect moves writes to a different event loop
+    private volatile Channel scheduled;
+
+    FlushCoalescer(AutoFlushOptions options) {
+        this.maxPendingCommands = options.getMaxPendingCommands();
+        this.maxPendingBytes = options.getMaxPendingBytes();
+    }
+
+    /**
+     * Register {@code commands} written to {@code channel} without a flush. Either flushes immediately if a bound is exceeded
+     * or ensures a flush is scheduled on the channel's event loop. Must be called after the write was issued.
+     *
+     * @param channel the channel the commands were written to.
+     * @param commands number of written commands.
+     */
+    void onWrite(Channel channel, int commands) {
+
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (eventLoop.inEventLoop()) {
+            written(channel, commands);
+            return;
+        }
+
+        try {
+            eventLoop.execute(() -> written(channel, commands));
+        } catch (RejectedExecutionException e) {
+            // event loop is shutting down
+            channel.flush();
+        }
+    }
+
+    private void written(Channel channel, int commands) {
+
+        pending += commands;
+
+        if (pending >= maxPendingCommands || exceedsPendingBytes(channel)) {
+            pending = 0;
+            channel.flush();
+            return;
+        }
+
+        if (scheduled == channel) {
+            return;
+        }
+
+        scheduled = channel;
+
+        try {
+            channel.eventLoop().execute(() -> flushScheduled(channel));
+        } catch (RejectedExecutionException e) {
+            flushScheduled(channel);
+        }
+    }
+
+    private void flushScheduled(Channel channel) {
+
+        if (scheduled == channel) {
+            scheduled = null;
+        }
+
+        pending = 0;
+        channel.flush();
+    }
+
+    private boolean exceedsPendingBytes(Channel channel) {
+
+        Channel.Unsafe unsafe = channel.unsafe();
+        ChannelOutboundBuffer outboundBuffer = unsafe != null ? unsafe.outboundBuffer() : null;
+        return outboundBuffer != null && outboundBuffer.totalPendingWriteBytes() >= maxPendingBytes;
+    }
+
+}
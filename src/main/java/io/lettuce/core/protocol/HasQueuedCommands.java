@@ -12,4 +12,15 @@ interface HasQueuedCommands {
 
     Collection<RedisCommand<?, ?, ?>> drainQueue();
 
+    /**
+     * Run the completion of commands obtained from {@link #drainQueue()} that are not retried, e.g. because they are cancelled.
+     * Implementors may defer the completion to complete commands in the order of their responses.
+     *
+     * @param completion the completion to run.
+     * @since 6.7
+     */
+    default void completeInOrder(Runnable completion) {
+        completion.run();
+    }
+
 }
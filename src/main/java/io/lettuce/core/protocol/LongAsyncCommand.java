@@ -0,0 +1,67 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.lettuce.core.LongRedisFuture;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.IntegerOutput;
+
+/**
+ * {@link AsyncCommand} for commands using {@link IntegerOutput} that exposes the result as primitive {@code long}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class LongAsyncCommand<K, V> extends AsyncCommand<K, V, Long> implements LongRedisFuture {
+
+    /**
+     * @param command the command, must not be {@code null} and use {@link IntegerOutput}.
+     */
+    public LongAsyncCommand(RedisCommand<K, V, Long> command) {
+
+        super(command);
+
+        LettuceAssert.isTrue(command.getOutput() instanceof IntegerOutput, "Command output must be a IntegerOutput");
+    }
+
+    @Override
+    public long getLong() throws InterruptedException, ExecutionException {
+
+        get();
+        return getLongOutput();
+    }
+
+    @Override
+    public long getLong(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+
+        get(timeout, unit);
+        return getLongOutput();
+    }
+
+    private long getLongOutput() {
+        return ((IntegerOutput<K, V>) getOutput()).getLong();
+    }
+
+}
@@ -30,7 +30,6 @@ import io.lettuce.core.internal.LettuceStrings;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.util.ByteProcessor;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -255,8 +254,6 @@ public class RedisStateMachine {
 
     private final boolean debugEnabled = logger.isDebugEnabled();
 
-    private final Resp2LongProcessor longProcessor = new Resp2LongProcessor();
-
     private ProtocolVersion protocolVersion = null;
 
     private int stackElements;
@@ -593,6 +590,15 @@ public class RedisStateMachine {
 
     static State.Result handleBytes(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
             Consumer<Exception> errorHandler) {
+
+        if (output.isChunkAware()) {
+            return handleChunk(rsm, state, buffer, output, errorHandler);
+        }
+
+        if (output.isByteBufAware()) {
+            return handleByteBuf(rsm, state, buffer, output, errorHandler);
+        }
+
         ByteBuffer bytes;
 
         if ((bytes = rsm.readBytes(buffer, state.count)) == null) {
@@ -602,6 +608,40 @@ public class RedisStateMachine {
         return State.Result.NORMAL_END;
     }
 
+    static State.Result handleByteBuf(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
+            Consumer<Exception> errorHandler) {
+        ByteBuf bytes;
+
+        if ((bytes = rsm.readByteBuf(buffer, state.count)) == null) {
+            return State.Result.BREAK_LOOP;
+        }
+        rsm.safeSetByteBuf(output, bytes, errorHandler);
+        return State.Result.NORMAL_END;
+    }
+
+    static State.Result handleChunk(RedisStateMachine rsm, State state, ByteBuf buffer, CommandOutput<?, ?, ?> output,
+            Consumer<Exception> errorHandler) {
+        ByteBuffer bytes;
+
+        if ((bytes = rsm.readBytes(buffer, state.count)) != null) {
+            rsm.safeSetChunk(output, bytes, true, errorHandler);
+            return State.Result.NORMAL_END;
+        }
+
+        int available = Math.min(buffer.readableBytes(), state.count - TERMINATOR_LENGTH);
+
+        if (available > 0) {
+
+            bytes = rsm.readBytes0(buffer, available);
+            state.count -= available;
+            buffer.markReaderIndex();
+
+            rsm.safeSetChunk(output, bytes, false, errorHandler);
+        }
+
+        return State.Result.BREAK_LOOP;
+    }
+
     private static State.Result handleAttribute(RedisStateMachine rsm, State state, ByteBuf buffer,
             CommandOutput<?, ?, ?> output, Consumer<Exception> errorHandler) {
         throw new RedisProtocolException("Not implemented");
@@ -625,7 +665,7 @@ public class RedisStateMachine {
 
     private int findLineEnd(ByteBuf buffer) {
 
-        int index = buffer.forEachByte(ByteProcessor.FIND_LF);
+        int index = RespScanner.indexOfLf(buffer, buffer.readerIndex(), buffer.writerIndex());
         return (index > 0 && buffer.getByte(index - 1) == '\r') ? index - 1 : NOT_FOUND;
     }
 
@@ -642,7 +682,11 @@ public class RedisStateMachine {
     }
 
     private long readLong(ByteBuf buffer, int start, int end) {
-        return longProcessor.getValue(buffer, start, end);
+
+        long value = RespScanner.parseLong(buffer, start, end);
+        buffer.skipBytes(end - start + TERMINATOR_LENGTH);
+
+        return value;
     }
 
     private double readFloat(ByteBuf buffer, int start, int end) {
@@ -700,6 +744,21 @@ public class RedisStateMachine {
         return null;
     }
 
+    private ByteBuf readByteBuf(ByteBuf buffer, int count) {
+
+        if (buffer.readableBytes() >= count) {
+
+            ByteBuf slice = buffer.slice(buffer.readerIndex(), count - TERMINATOR_LENGTH);
+
+            buffer.skipBytes(count);
+            buffer.markReaderIndex();
+
+            return slice;
+        }
+
+        return null;
+    }
+
     private ByteBuffer readBytes0(ByteBuf buffer, int count) {
 
         ByteBuffer byteBuffer = buffer.internalNioBuffer(buffer.readerIndex(), count);
@@ -817,6 +876,43 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setChunk(ByteBuffer, boolean)}. Notifies the {@code errorHandler} if an exception
+     * occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param last
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeSetChunk(CommandOutput<?, ?, ?> output, ByteBuffer bytes, boolean last,
+            Consumer<Exception> errorHandler) {
+
+        try {
+            output.setChunk(bytes, last);
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Notifies the {@code errorHandler} if an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param errorHandler
+     * @since 6.7
+     */
+    protected void safeSetByteBuf(CommandOutput<?, ?, ?> output, ByteBuf bytes, Consumer<Exception> errorHandler) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Notifies the {@code errorHandler} if an exception occurs.
      *
@@ -929,54 +1025,4 @@ public class RedisStateMachine {
         }
     }
 
-    @SuppressWarnings("unused")
-    static class Resp2LongProcessor implements ByteProcessor {
-
-        long result;
-
-        boolean negative;
-
-        boolean first;
-
-        public long getValue(ByteBuf buffer, int start, int end) {
-
-            this.result = 0;
-            this.first = true;
-
-            int length = end - start;
-            buffer.forEachByte(start, length, this);
-
-            if (!this.negative) {
-                this.result = -this.result;
-            }
-
-            buffer.skipBytes(length + TERMINATOR_LENGTH);
-
-            return this.result;
-        }
-
-        @Override
-        public boolean process(byte value) {
-
-            if (first) {
-                first = false;
-
-                if (value == '-') {
-                    negative = true;
-                } else {
-                    negative = false;
-                    int digit = value - '0';
-                    result = result * 10 - digit;
-                }
-                return true;
-            }
-
-            int digit = value - '0';
-            result = result * 10 - digit;
-
-            return true;
-        }
-
-    }
-
 }
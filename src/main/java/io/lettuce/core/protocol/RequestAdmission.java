@@ -0,0 +1,411 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Admission gate for request queue backpressure. Limits the number of in-flight commands (admitted but not yet completed) to a
+ * fixed capacity. Commands that do not fit are parked in FIFO order and handed to the admission callback once earlier commands
+ * complete and release their permits. Parked commands that are completed in the meantime, e.g. cancelled after a synchronous
+ * caller timed out, are skipped without taking a permit.
+ * <p>
+ * Admission is fair: as long as commands are parked or admitted commands were not yet handed to the write path, new commands
+ * queue up behind them even if a permit is available. The admission callback must signal the hand-off through
+ * {@link #admitted()}.
+ *
+ * @since 6.7
+ */
+final class RequestAdmission {
+
+    private static final AtomicIntegerFieldUpdater<RequestAdmission> IN_FLIGHT = AtomicIntegerFieldUpdater
+            .newUpdater(RequestAdmission.class, "inFlight");
+
+    private static final AtomicIntegerFieldUpdater<RequestAdmission> WIP = AtomicIntegerFieldUpdater
+            .newUpdater(RequestAdmission.class, "wip");
+
+    private static final AtomicIntegerFieldUpdater<RequestAdmission> ADMITTING = AtomicIntegerFieldUpdater
+            .newUpdater(RequestAdmission.class, "admitting");
+
+    private final int capacity;
+
+    private final Consumer<Pending> onAdmit;
+
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+    // access via IN_FLIGHT
+    @SuppressWarnings("unused")
+    private volatile int inFlight;
+
+    // access via WIP
+    @SuppressWarnings("unused")
+    private volatile int wip;
+
+    // access via ADMITTING, number of admitted command groups not yet handed to the write path
+    @SuppressWarnings("unused")
+    private volatile int admitting;
+
+    /**
+     * @param capacity maximum number of in-flight commands.
+     * @param onAdmit callback receiving parked commands once they are admitted. Invoked on the thread that released the
+     *        permits, must call {@link #admitted()} once the commands were handed to the write path.
+     */
+    RequestAdmission(int capacity, Consumer<Pending> onAdmit) {
+        this.capacity = capacity;
+        this.onAdmit = onAdmit;
+    }
+
+    /**
+     * Try to admit {@code permits} commands immediately.
+     *
+     * @param permits number of commands.
+     * @return {@code true} if the commands were admitted; {@code false} if they must be {@link #park(Pending) parked}.
+     */
+    boolean tryAdmit(int permits) {
+        return pending.isEmpty() && ADMITTING.get(this) == 0 && tryAcquire(permits);
+    }
+
+    /**
+     * Notification that commands passed to the admission callback were handed to the write path.
+     */
+    void admitted() {
+
+        if (ADMITTING.decrementAndGet(this) == 0 && !pending.isEmpty()) {
+            drain();
+        }
+    }
+
+    /**
+     * @param permits number of commands.
+     * @return {@code true} if {@code permits} commands can ever be admitted.
+     */
+    boolean canAdmit(int permits) {
+        return permits <= capacity;
+    }
+
+    /**
+     * Park commands until capacity frees up.
+     *
+     * @param waiter the parked commands.
+     */
+    void park(Pending waiter) {
+
+        pending.add(waiter);
+
+        // permits may have been released between tryAdmit and enqueueing
+        drain();
+    }
+
+    /**
+     * Bind a permit to {@code command}. The permit is released once the command completes. Commands that do not accept
+     * completion callbacks are wrapped in an {@link AdmittedCommand} that must be written instead of {@code command}.
+     *
+     * @param command the admitted command.
+     * @return the command to write.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    <K, V, T> RedisCommand<K, V, T> hold(RedisCommand<K, V, T> command) {
+
+        Permit permit = new Permit(this);
+
+        if (!(command instanceof CompleteableCommand)) {
+            return new AdmittedCommand<>(command, permit);
+        }
+
+        ((CompleteableCommand) command).onComplete(permit);
+
+        // completion callbacks registered on an already completed command might not be invoked
+        if (command.isDone()) {
+            permit.accept(null, null);
+        }
+
+        return command;
+    }
+
+    /**
+     * Bind a permit to each of {@code commands}.
+     *
+     * @param commands the admitted commands.
+     * @return the commands to write, see {@link #hold(RedisCommand)}.
+     */
+    @SuppressWarnings("unchecked")
+    <K, V> Collection<RedisCommand<K, V, ?>> hold(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> held = null;
+        int index = 0;
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            RedisCommand<K, V, ?> toWrite = hold(command);
+
+            if (toWrite != command && held == null) {
+                held = new ArrayList<>(commands.size());
+                Iterator<? extends RedisCommand<K, V, ?>> iterator = commands.iterator();
+                for (int i = 0; i < index; i++) {
+                    held.add(iterator.next());
+                }
+            }
+
+            if (held != null) {
+                held.add(toWrite);
+            }
+
+            index++;
+        }
+
+        return held != null ? held : (Collection<RedisCommand<K, V, ?>>) commands;
+    }
+
+    /**
+     * Release permits and admit parked commands that fit into the freed capacity.
+     *
+     * @param permits number of permits to release.
+     */
+    void release(int permits) {
+
+        IN_FLIGHT.addAndGet(this, -permits);
+
+        if (!pending.isEmpty()) {
+            drain();
+        }
+    }
+
+    /**
+     * Remove all parked commands without admitting them.
+     *
+     * @param action callback for each removed command.
+     */
+    void drainPending(Consumer<RedisCommand<?, ?, ?>> action) {
+
+        Pending waiter;
+        while ((waiter = pending.poll()) != null) {
+            waiter.forEach(action);
+        }
+    }
+
+    /**
+     * @return number of in-flight commands.
+     */
+    int getInFlight() {
+        return IN_FLIGHT.get(this);
+    }
+
+    /**
+     * @return number of parked command groups.
+     */
+    int getPending() {
+        return pending.size();
+    }
+
+    private boolean tryAcquire(int permits) {
+
+        for (;;) {
+
+            int current = IN_FLIGHT.get(this);
+            if (current + permits > capacity) {
+                return false;
+            }
+
+            if (IN_FLIGHT.compareAndSet(this, current, current + permits)) {
+                return true;
+            }
+        }
+    }
+
+    private void drain() {
+
+        if (WIP.getAndIncrement(this) != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        for (;;) {
+
+            Pending waiter;
+            while ((waiter = pending.peek()) != null) {
+
+                if (waiter.isDone()) {
+                    pending.poll();
+                    continue;
+                }
+
+                if (!tryAcquire(waiter.permits)) {
+                    break;
+                }
+
+                // count before polling so that concurrent tryAdmit calls do not overtake the admitted commands
+                ADMITTING.incrementAndGet(this);
+                pending.poll();
+                onAdmit.accept(waiter);
+            }
+
+            missed = WIP.addAndGet(this, -missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A single command or a batch of commands waiting for admission.
+     */
+    static final class Pending {
+
+        private final RedisCommand<?, ?, ?> command;
+
+        private final Collection<? extends RedisCommand<?, ?, ?>> commands;
+
+        private final int permits;
+
+        private final long parkedAt = System.nanoTime();
+
+        Pending(RedisCommand<?, ?, ?> command) {
+            this.command = command;
+            this.commands = null;
+            this.permits = 1;
+        }
+
+        Pending(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+            this.command = null;
+            this.commands = commands;
+            this.permits = commands.size();
+        }
+
+        /**
+         * @return the single command, {@code null} for a batch.
+         */
+        RedisCommand<?, ?, ?> getCommand() {
+            return command;
+        }
+
+        /**
+         * @return the batch, {@code null} for a single command.
+         */
+        Collection<? extends RedisCommand<?, ?, ?>> getCommands() {
+            return commands;
+        }
+
+        /**
+         * @return time spent waiting for admission in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+         */
+        long getWaitTime() {
+            return System.nanoTime() - parkedAt;
+        }
+
+        void forEach(Consumer<RedisCommand<?, ?, ?>> action) {
+
+            if (command != null) {
+                action.accept(command);
+            } else {
+                commands.forEach(action);
+            }
+        }
+
+        private boolean isDone() {
+
+            if (command != null) {
+                return command.isDone();
+            }
+
+            for (RedisCommand<?, ?, ?> c : commands) {
+                if (!c.isDone()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+    /**
+     * Wrapper for admitted commands that do not accept completion callbacks. The permit is released when the wrapper is
+     * completed, or when the write path finds the wrapped command completed by its caller and drops it.
+     */
+    static final class AdmittedCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        private final Permit permit;
+
+        AdmittedCommand(RedisCommand<K, V, T> command, Permit permit) {
+            super(command);
+            this.permit = permit;
+        }
+
+        @Override
+        protected void doOnComplete() {
+            permit.accept(null, null);
+        }
+
+        @Override
+        protected void doOnError(Throwable throwable) {
+            permit.accept(null, throwable);
+        }
+
+        @Override
+        public boolean isDone() {
+
+            if (super.isDone()) {
+                permit.accept(null, null);
+                return true;
+            }
+
+            return false;
+        }
+
+    }
+
+    /**
+     * Releases a single permit exactly once.
+     */
+    static final class Permit implements BiConsumer<Object, Throwable> {
+
+        private static final AtomicIntegerFieldUpdater<Permit> RELEASED = AtomicIntegerFieldUpdater.newUpdater(Permit.class,
+                "released");
+
+        private final RequestAdmission admission;
+
+        // access via RELEASED
+        @SuppressWarnings("unused")
+        private volatile int released;
+
+        Permit(RequestAdmission admission) {
+            this.admission = admission;
+        }
+
+        @Override
+        public void accept(Object result, Throwable throwable) {
+
+            if (RELEASED.compareAndSet(this, 0, 1)) {
+                admission.release(1);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Word-at-a-time (SWAR, SIMD within a register) scanning and parsing utilities for RESP. Bytes are read eight at a time as
+ * little-endian {@code long} so that the first byte in the buffer is the least significant byte of the word.
+ *
+ * @since 6.7
+ */
+final class RespScanner {
+
+    private static final long LF_PATTERN = 0x0A0A0A0A0A0A0A0AL;
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long ZERO_DIGITS = 0x3030303030303030L;
+
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+    private static final long DIGIT_OVERFLOW = 0x0606060606060606L;
+
+    private RespScanner() {
+    }
+
+    /**
+     * Find the index of the first line feed ({@code \n}) between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive).
+     *
+     * @param buffer the buffer to scan.
+     * @param fromIndex the start index.
+     * @param toIndex the end index.
+     * @return the index of the first line feed or {@code -1} if not found.
+     */
+    static int indexOfLf(ByteBuf buffer, int fromIndex, int toIndex) {
+
+        int index = fromIndex;
+
+        for (; toIndex - index >= Long.BYTES; index += Long.BYTES) {
+
+            long match = matchLf(buffer.getLongLE(index));
+
+            if (match != 0) {
+                return index + (Long.numberOfTrailingZeros(match) >>> 3);
+            }
+        }
+
+        for (; index < toIndex; index++) {
+            if (buffer.getByte(index) == '\n') {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parse a decimal {@code long} from the bytes between {@code start} (inclusive) and {@code end} (exclusive). Digits are
+     * converted eight at a time if possible. The value is accumulated negatively to cover {@link Long#MIN_VALUE}.
+     *
+     * @param buffer the buffer to read from.
+     * @param start the start index.
+     * @param end the end index.
+     * @return the parsed value.
+     */
+    static long parseLong(ByteBuf buffer, int start, int end) {
+
+        int index = start;
+        boolean negative = false;
+
+        if (index < end && buffer.getByte(index) == '-') {
+            negative = true;
+            index++;
+        }
+
+        long result = 0;
+
+        for (; end - index >= Long.BYTES; index += Long.BYTES) {
+
+            long word = buffer.getLongLE(index);
+
+            if (!isEightDigits(word)) {
+                break;
+            }
+
+            result = result * 100_000_000L - parseEightDigits(word);
+        }
+
+        for (; index < end; index++) {
+            result = result * 10 - (buffer.getByte(index) - '0');
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Returns a word with the high bit set in each byte that matches {@code \n}. Bytes above the first match may report false
+     * positives due to borrow propagation, the lowest set bit is always exact.
+     */
+    static long matchLf(long word) {
+
+        long input = word ^ LF_PATTERN;
+        return (input - LOW_BITS) & ~input & HIGH_BITS;
+    }
+
+    static boolean isEightDigits(long word) {
+        // each byte must be 0x30-0x39: high nibble is 3 and adding 6 does not overflow into the high nibble
+        return (word & HIGH_NIBBLES) == ZERO_DIGITS && ((word + DIGIT_OVERFLOW) & HIGH_NIBBLES) == ZERO_DIGITS;
+    }
+
+    static long parseEightDigits(long word) {
+
+        long value = word - ZERO_DIGITS;
+        value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+        value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+        value = (value * 10000 + (value >>> 32)) & 0x00000000FFFFFFFFL;
+        return value;
+    }
+
+}
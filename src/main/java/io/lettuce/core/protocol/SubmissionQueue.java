@@ -0,0 +1,165 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import io.lettuce.core.AutoFlushOptions;
+import io.lettuce.core.internal.LettuceFactories;
+import io.netty.channel.Channel;
+
+/**
+ * Lock-free multi-producer submission queue for commands. Producers enqueue commands without acquiring locks and without
+ * submitting a task per command to the event loop. The first submission after the queue was drained schedules a drain task on
+ * the channel's event loop that polls commands in batches of at most {@code maxBatchSize} commands and hands each batch to the
+ * {@code batchWriter} so that a batch is encoded into a single outbound buffer and flushed once.
+ * <p>
+ * The channel to write to is resolved for each batch as the queue outlives reconnects. Commands submitted to a channel that was
+ * replaced in the meantime are written to the current channel.
+ * <p>
+ * Commands are written in the order of submission. The drain task yields to other event loop tasks after each full batch to not
+ * starve reads under sustained load.
+ *
+ * @since 6.7
+ * @see AutoFlushOptions#isSubmissionQueue()
+ */
+class SubmissionQueue {
+
+    private static final AtomicIntegerFieldUpdater<SubmissionQueue> WIP = AtomicIntegerFieldUpdater
+            .newUpdater(SubmissionQueue.class, "wip");
+
+    private final Queue<RedisCommand<?, ?, ?>> queue = LettuceFactories.newMpScQueue();
+
+    private final int maxBatchSize;
+
+    private final Supplier<Channel> channelSupplier;
+
+    private final BiConsumer<Channel, List<RedisCommand<?, ?, ?>>> batchWriter;
+
+    // access via WIP
+    @SuppressWarnings("unused")
+    private volatile int wip;
+
+    SubmissionQueue(int maxBatchSize, Supplier<Channel> channelSupplier,
+            BiConsumer<Channel, List<RedisCommand<?, ?, ?>>> batchWriter) {
+        this.maxBatchSize = maxBatchSize;
+        this.channelSupplier = channelSupplier;
+        this.batchWriter = batchWriter;
+    }
+
+    /**
+     * Submit a single {@link RedisCommand} to be written to {@code channel}.
+     *
+     * @param channel the channel to write to.
+     * @param command the command.
+     */
+    void submit(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        queue.offer(command);
+        scheduleDrain(channel);
+    }
+
+    /**
+     * Submit {@link RedisCommand commands} to be written to {@code channel}. The commands are enqueued in iteration order.
+     *
+     * @param channel the channel to write to.
+     * @param commands the commands.
+     */
+    void submit(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            queue.offer(command);
+        }
+
+        scheduleDrain(channel);
+    }
+
+    private void scheduleDrain(Channel channel) {
+
+        if (WIP.compareAndSet(this, 0, 1)) {
+            execute(channel);
+        }
+    }
+
+    private void execute(Channel channel) {
+
+        try {
+            channel.eventLoop().execute(() -> drain(channel));
+        } catch (RejectedExecutionException e) {
+            // event loop is shutting down, writes fail and commands are completed through the write listeners
+            drain(channel);
+        }
+    }
+
+    private void drain(Channel submittedTo) {
+
+        Channel channel = submittedTo;
+
+        for (;;) {
+
+            List<RedisCommand<?, ?, ?>> batch = poll();
+
+            if (!batch.isEmpty()) {
+                channel = currentChannel(submittedTo);
+                batchWriter.accept(channel, batch);
+            }
+
+            if (batch.size() == maxBatchSize) {
+                execute(channel);
+                return;
+            }
+
+            WIP.set(this, 0);
+
+            // re-check to not miss submissions that observed wip = 1 after the last poll
+            if (queue.isEmpty() || !WIP.compareAndSet(this, 0, 1)) {
+                return;
+            }
+        }
+    }
+
+    private Channel currentChannel(Channel submittedTo) {
+
+        Channel current = channelSupplier.get();
+
+        // fall back to the submitted channel while disconnected, the write fails and commands are requeued by the listeners
+        return current != null ? current : submittedTo;
+    }
+
+    private List<RedisCommand<?, ?, ?>> poll() {
+
+        List<RedisCommand<?, ?, ?>> batch = new ArrayList<>();
+        RedisCommand<?, ?, ?> command;
+
+        while (batch.size() < maxBatchSize && (command = queue.poll()) != null) {
+            batch.add(command);
+        }
+
+        return batch;
+    }
+
+}
@@ -248,7 +248,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             }
         }
 
-        getStack().poll().complete();
+        super.complete(getStack().poll());
     }
 
     private PubSubMessage<K, V> toPubSubMessage(PushMessage notification) {
@@ -1,8 +1,13 @@
 package io.lettuce.core.resource;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoop;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
@@ -42,6 +47,37 @@ public class Transports {
         return NioSocketChannel.class;
     }
 
+    /**
+     * Returns the socket {@link Channel} class that can be registered with the given {@link EventLoopGroup}. Resolves the
+     * transport of the group (or of the parent group of an {@link EventLoop}) and falls back to {@link #socketChannelClass()}
+     * if the transport cannot be determined.
+     *
+     * @param eventLoopGroup the group or event loop the channel is registered with, must not be {@code null}.
+     * @return the socket (network/TCP) {@link Channel} class compatible with {@code eventLoopGroup}.
+     * @since 6.7
+     */
+    public static Class<? extends Channel> socketChannelClass(EventLoopGroup eventLoopGroup) {
+
+        LettuceAssert.notNull(eventLoopGroup, "EventLoopGroup must not be null");
+
+        EventLoopGroup group = eventLoopGroup;
+        if (eventLoopGroup instanceof EventLoop && ((EventLoop) eventLoopGroup).parent() != null) {
+            group = ((EventLoop) eventLoopGroup).parent();
+        }
+
+        if (group instanceof NioEventLoopGroup || eventLoopGroup instanceof NioEventLoop) {
+            return NioSocketChannel.class;
+        }
+
+        for (EventLoopResources resources : NativeTransports.availableResources()) {
+            if (resources.matches(group.getClass())) {
+                return resources.socketChannelClass();
+            }
+        }
+
+        return socketChannelClass();
+    }
+
     /**
      * @return the default {@link DatagramChannel} for socket (network/UDP) transport.
      */
@@ -69,6 +105,28 @@ public class Transports {
             return EpollProvider.isAvailable() || KqueueProvider.isAvailable() || IOUringProvider.isAvailable();
         }
 
+        /**
+         * @return resources of all available native transports.
+         */
+        static List<EventLoopResources> availableResources() {
+
+            List<EventLoopResources> resources = new ArrayList<>(3);
+
+            if (EpollProvider.isAvailable()) {
+                resources.add(EpollProvider.getResources());
+            }
+
+            if (IOUringProvider.isAvailable()) {
+                resources.add(IOUringProvider.getResources());
+            }
+
+            if (KqueueProvider.isAvailable()) {
+                resources.add(KqueueProvider.getResources());
+            }
+
+            return resources;
+        }
+
         /**
          * @return {@code true} if a native transport for domain sockets is available.
          */
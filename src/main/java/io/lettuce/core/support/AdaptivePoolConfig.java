@@ -0,0 +1,266 @@
+package io.lettuce.core.support;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Configuration for {@link AdaptivePoolController}. The controller keeps the minimum number of idle objects of a
+ * {@link BoundedAsyncPool} between {@link #getMinIdle()} and {@link #getMaxIdle()}. Instances can be created through a
+ * {@link #builder()}.
+ *
+ * @since 6.7
+ * @see AdaptivePoolController
+ */
+public class AdaptivePoolConfig {
+
+    public static final int DEFAULT_MIN_IDLE = 0;
+
+    public static final int DEFAULT_MAX_IDLE = BoundedPoolConfig.DEFAULT_MAX_IDLE;
+
+    public static final int DEFAULT_STEP = 1;
+
+    public static final Duration DEFAULT_SAMPLING_INTERVAL = Duration.ofSeconds(1);
+
+    public static final Duration DEFAULT_MAX_ACQUIRE_WAIT_TIME = Duration.ofMillis(5);
+
+    public static final double DEFAULT_GROW_UTILIZATION = 0.8;
+
+    public static final double DEFAULT_SHRINK_UTILIZATION = 0.3;
+
+    private final int minIdle;
+
+    private final int maxIdle;
+
+    private final int step;
+
+    private final Duration samplingInterval;
+
+    private final Duration maxAcquireWaitTime;
+
+    private final double growUtilization;
+
+    private final double shrinkUtilization;
+
+    private AdaptivePoolConfig(Builder builder) {
+        this.minIdle = builder.minIdle;
+        this.maxIdle = builder.maxIdle;
+        this.step = builder.step;
+        this.samplingInterval = builder.samplingInterval;
+        this.maxAcquireWaitTime = builder.maxAcquireWaitTime;
+        this.growUtilization = builder.growUtilization;
+        this.shrinkUtilization = builder.shrinkUtilization;
+    }
+
+    /**
+     * Create a new {@link Builder} for {@link AdaptivePoolConfig}.
+     *
+     * @return a new {@link Builder} for {@link AdaptivePoolConfig}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new {@link AdaptivePoolConfig} using default settings.
+     *
+     * @return a new instance of default {@link AdaptivePoolConfig}.
+     */
+    public static AdaptivePoolConfig create() {
+        return builder().build();
+    }
+
+    /**
+     * @return the lower bound for the minimum number of idle objects.
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * @return the upper bound for the minimum number of idle objects.
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @return number of idle objects added or removed per adjustment.
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * @return interval between two adjustments.
+     */
+    public Duration getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * @return average acquire wait time above which the pool is grown.
+     */
+    public Duration getMaxAcquireWaitTime() {
+        return maxAcquireWaitTime;
+    }
+
+    /**
+     * @return utilization at or above which the pool is grown.
+     */
+    public double getGrowUtilization() {
+        return growUtilization;
+    }
+
+    /**
+     * @return utilization at or below which the pool is shrunk.
+     */
+    public double getShrinkUtilization() {
+        return shrinkUtilization;
+    }
+
+    /**
+     * Builder for {@link AdaptivePoolConfig}.
+     */
+    public static class Builder {
+
+        private int minIdle = DEFAULT_MIN_IDLE;
+
+        private int maxIdle = DEFAULT_MAX_IDLE;
+
+        private int step = DEFAULT_STEP;
+
+        private Duration samplingInterval = DEFAULT_SAMPLING_INTERVAL;
+
+        private Duration maxAcquireWaitTime = DEFAULT_MAX_ACQUIRE_WAIT_TIME;
+
+        private double growUtilization = DEFAULT_GROW_UTILIZATION;
+
+        private double shrinkUtilization = DEFAULT_SHRINK_UTILIZATION;
+
+        protected Builder() {
+        }
+
+        /**
+         * Configures the lower bound for the minimum number of idle objects. The controller never shrinks the pool below this
+         * value. Defaults to {@link #DEFAULT_MIN_IDLE}.
+         *
+         * @param minIdle the lower bound, must not be negative.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder minIdle(int minIdle) {
+
+            LettuceAssert.isTrue(minIdle >= 0, "Min idle must not be negative");
+
+            this.minIdle = minIdle;
+            return this;
+        }
+
+        /**
+         * Configures the upper bound for the minimum number of idle objects. The controller never grows the pool beyond this
+         * value. The pool's {@link BoundedPoolConfig#getMaxIdle() maxIdle} and {@link BoundedPoolConfig#getMaxTotal() maxTotal}
+         * remain effective. Defaults to {@link #DEFAULT_MAX_IDLE}.
+         *
+         * @param maxIdle the upper bound, must not be negative.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder maxIdle(int maxIdle) {
+
+            LettuceAssert.isTrue(maxIdle >= 0, "Max idle must not be negative");
+
+            this.maxIdle = maxIdle;
+            return this;
+        }
+
+        /**
+         * Configures the number of idle objects added or removed per adjustment. Defaults to {@link #DEFAULT_STEP}.
+         *
+         * @param step the step size, must be greater than zero.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder step(int step) {
+
+            LettuceAssert.isTrue(step > 0, "Step must be greater than zero");
+
+            this.step = step;
+            return this;
+        }
+
+        /**
+         * Configures the interval between two adjustments. Defaults to {@link #DEFAULT_SAMPLING_INTERVAL}.
+         *
+         * @param samplingInterval the sampling interval, must not be {@code null} and must be positive.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder samplingInterval(Duration samplingInterval) {
+
+            LettuceAssert.notNull(samplingInterval, "Sampling interval must not be null");
+            LettuceAssert.isTrue(!samplingInterval.isNegative() && !samplingInterval.isZero(),
+                    "Sampling interval must be positive");
+
+            this.samplingInterval = samplingInterval;
+            return this;
+        }
+
+        /**
+         * Configures the average acquire wait time above which the pool is grown. Acquisitions wait if no idle object is
+         * available and a new object must be created. Defaults to {@link #DEFAULT_MAX_ACQUIRE_WAIT_TIME}.
+         *
+         * @param maxAcquireWaitTime the wait time threshold, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder maxAcquireWaitTime(Duration maxAcquireWaitTime) {
+
+            LettuceAssert.notNull(maxAcquireWaitTime, "Max acquire wait time must not be null");
+
+            this.maxAcquireWaitTime = maxAcquireWaitTime;
+            return this;
+        }
+
+        /**
+         * Configures the utilization (objects in use relative to pooled objects) at or above which the pool is grown. Defaults
+         * to {@link #DEFAULT_GROW_UTILIZATION}.
+         *
+         * @param growUtilization the utilization threshold between {@code 0} and {@code 1}.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder growUtilization(double growUtilization) {
+
+            LettuceAssert.isTrue(growUtilization >= 0 && growUtilization <= 1, "Grow utilization must be between 0 and 1");
+
+            this.growUtilization = growUtilization;
+            return this;
+        }
+
+        /**
+         * Configures the utilization (objects in use relative to pooled objects) at or below which the pool is shrunk. Defaults
+         * to {@link #DEFAULT_SHRINK_UTILIZATION}.
+         *
+         * @param shrinkUtilization the utilization threshold between {@code 0} and {@code 1}.
+         * @return {@code this} {@link Builder}.
+         */
+        public Builder shrinkUtilization(double shrinkUtilization) {
+
+            LettuceAssert.isTrue(shrinkUtilization >= 0 && shrinkUtilization <= 1,
+                    "Shrink utilization must be between 0 and 1");
+
+            this.shrinkUtilization = shrinkUtilization;
+            return this;
+        }
+
+        /**
+         * Build a new {@link AdaptivePoolConfig} object.
+         *
+         * @return a new {@link AdaptivePoolConfig} object.
+         */
+        public AdaptivePoolConfig build() {
+
+            LettuceAssert.isTrue(minIdle <= maxIdle, "Min idle must not exceed max idle");
+            LettuceAssert.isTrue(shrinkUtilization < growUtilization, "Shrink utilization must be less than grow utilization");
+
+            return new AdaptivePoolConfig(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.lettuce.core.support;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.pool.PoolMetricsEvent;
+import io.lettuce.core.event.pool.PoolResizedEvent;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Controller that adapts the minimum number of idle objects of a {@link BoundedAsyncPool} to the observed load. Once
+ * {@link #start() started}, the controller samples the pool at the configured {@link AdaptivePoolConfig#getSamplingInterval()
+ * interval}:
+ * <ul>
+ * <li>The pool is grown by one {@link AdaptivePoolConfig#getStep() step} if acquisitions failed because the pool was exhausted,
+ * if the average acquire wait time exceeds {@link AdaptivePoolConfig#getMaxAcquireWaitTime()} or if the utilization reaches
+ * {@link AdaptivePoolConfig#getGrowUtilization()}. Growing creates the missing idle objects right away.</li>
+ * <li>The pool is shrunk by one step if the utilization drops to {@link AdaptivePoolConfig#getShrinkUtilization()}. Shrinking
+ * destroys surplus idle objects.</li>
+ * </ul>
+ * The target stays within {@link AdaptivePoolConfig#getMinIdle()} and {@link AdaptivePoolConfig#getMaxIdle()}; the pool's own
+ * {@code maxIdle} and {@code maxTotal} bounds remain effective. Each sample is published as {@link PoolMetricsEvent} and each
+ * change as {@link PoolResizedEvent} on the {@link EventBus}.
+ * <p>
+ * The controller must be {@link #close() closed} before closing the pool.
+ *
+ * @since 6.7
+ * @see AdaptivePoolConfig
+ */
+public class AdaptivePoolController implements Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(AdaptivePoolController.class);
+
+    private final BoundedAsyncPool<?> pool;
+
+    private final AdaptivePoolConfig config;
+
+    private final EventBus eventBus;
+
+    private final ScheduledExecutorService executor;
+
+    private volatile ScheduledFuture<?> schedule;
+
+    // only accessed from the scheduled adjustment
+    private int targetIdle;
+
+    AdaptivePoolController(BoundedAsyncPool<?> pool, AdaptivePoolConfig config, EventBus eventBus,
+            ScheduledExecutorService executor) {
+
+        this.pool = pool;
+        this.config = config;
+        this.eventBus = eventBus;
+        this.executor = executor;
+        this.targetIdle = Math.max(config.getMinIdle(), Math.min(config.getMaxIdle(), pool.getMinIdle()));
+    }
+
+    /**
+     * Create a new {@link AdaptivePoolController} for {@code pool}. The controller is not started.
+     *
+     * @param pool the pool to control, must not be {@code null}.
+     * @param config the controller configuration, must not be {@code null}.
+     * @param clientResources client resources providing the {@link EventBus} and the executor to schedule adjustments on, must
+     *        not be {@code null}.
+     * @return the {@link AdaptivePoolController}.
+     */
+    public static AdaptivePoolController create(BoundedAsyncPool<?> pool, AdaptivePoolConfig config,
+            ClientResources clientResources) {
+
+        LettuceAssert.notNull(pool, "BoundedAsyncPool must not be null");
+        LettuceAssert.notNull(config, "AdaptivePoolConfig must not be null");
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        return new AdaptivePoolController(pool, config, clientResources.eventBus(), clientResources.eventExecutorGroup());
+    }
+
+    /**
+     * Start sampling and adjusting the pool. Applies the initial target right away.
+     */
+    public synchronized void start() {
+
+        if (schedule != null) {
+            return;
+        }
+
+        pool.setMinIdle(targetIdle);
+
+        long interval = config.getSamplingInterval().toNanos();
+        schedule = executor.scheduleAtFixedRate(this::adjustSafely, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop sampling. The pool keeps its current minimum number of idle objects.
+     */
+    @Override
+    public synchronized void close() {
+
+        ScheduledFuture<?> schedule = this.schedule;
+
+        if (schedule != null) {
+            schedule.cancel(false);
+            this.schedule = null;
+        }
+    }
+
+    /**
+     * @return the current minimum number of idle objects.
+     */
+    public int getTargetIdle() {
+        return targetIdle;
+    }
+
+    private void adjustSafely() {
+
+        try {
+            adjust();
+        } catch (Exception e) {
+            logger.warn("Cannot adjust pool", e);
+        }
+    }
+
+    /**
+     * Sample the pool and adjust its minimum number of idle objects.
+     */
+    void adjust() {
+
+        BoundedAsyncPool.AcquireStatistics statistics = pool.drainStatistics();
+
+        int objectCount = pool.getObjectCount();
+        int idle = pool.getIdle();
+        double utilization = objectCount == 0 ? 0 : (double) Math.max(0, objectCount - idle) / objectCount;
+        long averageWaitTime = statistics.getAverageWaitTime();
+
+        int previous = targetIdle;
+
+        if (statistics.getExhausted() > 0 || averageWaitTime > config.getMaxAcquireWaitTime().toNanos()
+                || utilization >= config.getGrowUtilization()) {
+            targetIdle = Math.min(config.getMaxIdle(), previous + config.getStep());
+        } else if (utilization <= config.getShrinkUtilization()) {
+            targetIdle = Math.max(config.getMinIdle(), previous - config.getStep());
+        }
+
+        eventBus.publish(new PoolMetricsEvent(objectCount, idle, utilization, statistics.getAcquisitions(),
+                Duration.ofNanos(averageWaitTime), statistics.getExhausted(), targetIdle));
+
+        if (targetIdle == previous) {
+            return;
+        }
+
+        pool.setMinIdle(targetIdle);
+
+        if (targetIdle < previous) {
+            pool.trimIdle(targetIdle);
+        }
+
+        eventBus.publish(new PoolResizedEvent(previous, targetIdle));
+    }
+
+}
@@ -155,6 +155,96 @@ public abstract class AsyncConnectionPoolSupport {
         return future;
     }
 
+    /**
+     * Create and initialize asynchronously a new {@link ConcurrentBagAsyncPool} using the {@link Supplier}. Allocated instances
+     * are wrapped and must not be returned with {@link AsyncPool#release(Object)}.
+     * <p>
+     * This method is blocking as it awaits pool initialization (creation of idle connections). Use
+     * {@link #createConcurrentBagObjectPoolAsync(Supplier, BoundedPoolConfig, boolean)} to obtain a {@link CompletionStage} for
+     * non-blocking synchronization.
+     *
+     * @param connectionSupplier must not be {@code null}.
+     * @param config must not be {@code null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 6.7
+     */
+    public static <T extends StatefulConnection<?, ?>> ConcurrentBagAsyncPool<T> createConcurrentBagObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config) {
+
+        try {
+            return createConcurrentBagObjectPoolAsync(connectionSupplier, config, true).toCompletableFuture().join();
+        } catch (Exception e) {
+            throw Exceptions.bubble(Exceptions.unwrap(e));
+        }
+    }
+
+    /**
+     * Create and initialize asynchronously a new {@link ConcurrentBagAsyncPool} using the {@link Supplier}.
+     *
+     * @param connectionSupplier must not be {@code null}.
+     * @param config must not be {@code null}.
+     * @param wrapConnections {@code false} to return direct connections that need to be returned to the pool using
+     *        {@link AsyncPool#release(Object)}. {@code true} to return wrapped connection that are returned to the pool when
+     *        invoking {@link StatefulConnection#close()}/{@link StatefulConnection#closeAsync()}.
+     * @param <T> connection type.
+     * @return {@link CompletionStage} emitting the connection pool upon completion.
+     * @since 6.7
+     */
+    public static <T extends StatefulConnection<?, ?>> CompletionStage<ConcurrentBagAsyncPool<T>> createConcurrentBagObjectPoolAsync(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        AtomicReference<Origin<T>> poolRef = new AtomicReference<>();
+
+        ConcurrentBagAsyncPool<T> pool = new ConcurrentBagAsyncPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier),
+                config, false) {
+
+            @Override
+            public CompletableFuture<T> acquire() {
+
+                CompletableFuture<T> acquire = super.acquire();
+
+                if (wrapConnections) {
+                    return acquire.thenApply(it -> ConnectionWrapping.wrapConnection(it, poolRef.get()));
+                }
+
+                return acquire;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public CompletableFuture<Void> release(T object) {
+
+                if (wrapConnections && object instanceof HasTargetConnection) {
+                    return super.release((T) ((HasTargetConnection) object).getTargetConnection());
+                }
+
+                return super.release(object);
+            }
+
+        };
+
+        poolRef.set(new AsyncPoolWrapper<>(pool));
+
+        CompletableFuture<ConcurrentBagAsyncPool<T>> future = new CompletableFuture<>();
+
+        pool.createIdle().whenComplete((v, throwable) -> {
+
+            if (throwable == null) {
+                future.complete(pool);
+            } else {
+                pool.closeAsync().whenComplete((v1, throwable1) -> {
+                    future.completeExceptionally(new RedisConnectionException("Could not create pool", throwable));
+                });
+            }
+        });
+
+        return future;
+    }
+
     protected static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> doCreatePool(
             Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
 
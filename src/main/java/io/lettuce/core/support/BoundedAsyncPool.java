@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.internal.Futures;
@@ -45,7 +46,9 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
     private final int maxIdle;
 
-    private final int minIdle;
+    private volatile int minIdle;
+
+    private final int warmupParallelism;
 
     private final AsyncObjectFactory<T> factory;
 
@@ -59,6 +62,12 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
     private final AtomicInteger idleCount = new AtomicInteger();
 
+    private final LongAdder acquireCount = new LongAdder();
+
+    private final LongAdder acquireWaitTime = new LongAdder();
+
+    private final LongAdder exhaustedCount = new LongAdder();
+
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
 
     private volatile State state = State.ACTIVE;
@@ -94,6 +103,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         this.maxTotal = poolConfig.getMaxTotal();
         this.maxIdle = poolConfig.getMaxIdle();
         this.minIdle = poolConfig.getMinIdle();
+        this.warmupParallelism = poolConfig.getWarmupParallelism();
 
         this.factory = factory;
 
@@ -146,31 +156,38 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         long totalLimit = getAvailableCapacity();
         int toCreate = Math.toIntExact(Math.min(Math.max(0, totalLimit), potentialIdle));
 
-        CompletableFuture[] futures = new CompletableFuture[toCreate];
-        for (int i = 0; i < toCreate; i++) {
-
-            if (getAvailableCapacity() <= 0) {
+        // each sequence creates one object after another, sequences run concurrently
+        AtomicInteger remaining = new AtomicInteger(toCreate);
+        int sequences = Math.min(toCreate, warmupParallelism);
 
-                futures[i] = COMPLETED_FUTURE;
-                continue;
-            }
+        CompletableFuture[] futures = new CompletableFuture[sequences];
+        for (int i = 0; i < sequences; i++) {
+            futures[i] = createIdleSequence(remaining);
+        }
 
-            CompletableFuture<T> future = new CompletableFuture<>();
-            futures[i] = future;
-            makeObject0(future);
+        return CompletableFuture.allOf(futures);
+    }
 
-            future.thenAccept(it -> {
+    private CompletableFuture<Void> createIdleSequence(AtomicInteger remaining) {
 
-                if (isPoolActive()) {
-                    idleCount.incrementAndGet();
-                    cache.add(it);
-                } else {
-                    factory.destroy(it);
-                }
-            });
+        if (remaining.getAndDecrement() <= 0 || getAvailableCapacity() <= 0) {
+            return COMPLETED;
         }
 
-        return CompletableFuture.allOf(futures);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        makeObject0(future, 0);
+
+        return future.thenCompose(it -> {
+
+            if (isPoolActive()) {
+                idleCount.incrementAndGet();
+                cache.add(it);
+            } else {
+                factory.destroy(it);
+            }
+
+            return createIdleSequence(remaining);
+        });
     }
 
     private long getAvailableCapacity() {
@@ -180,6 +197,8 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     @Override
     public CompletableFuture<T> acquire() {
 
+        acquireCount.increment();
+
         T object = cache.poll();
 
         CompletableFuture<T> res = new CompletableFuture<>();
@@ -210,7 +229,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                         return;
                     }
 
-                    destroy0(object).whenComplete((aVoid, th) -> makeObject0(res));
+                    destroy0(object).whenComplete((aVoid, th) -> makeObject0(res, System.nanoTime()));
                 });
 
                 return;
@@ -229,20 +248,29 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         long objects = (long) (getObjectCount() + getCreationInProgress());
 
         if ((long) getActualMaxTotal() >= (objects + 1)) {
-            makeObject0(res);
+            makeObject0(res, System.nanoTime());
             return;
         }
 
+        exhaustedCount.increment();
         res.completeExceptionally(POOL_EXHAUSTED);
     }
 
-    private void makeObject0(CompletableFuture<T> res) {
+    /**
+     * @param acquireStart {@link System#nanoTime()} when the object was requested by {@link #acquire()}, {@code 0} when
+     *        creating an idle object.
+     */
+    private void makeObject0(CompletableFuture<T> res, long acquireStart) {
 
         long total = getObjectCount();
         long creations = objectsInCreationCount.incrementAndGet();
 
         if (((long) getActualMaxTotal()) < total + creations) {
 
+            if (acquireStart != 0) {
+                exhaustedCount.increment();
+            }
+
             res.completeExceptionally(POOL_EXHAUSTED);
             objectsInCreationCount.decrementAndGet();
             return;
@@ -267,6 +295,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                             objectCount.incrementAndGet();
                             all.add(o);
 
+                            recordAcquireWaitTime(acquireStart);
                             completeAcquire(res, o);
                             return;
                         }
@@ -295,6 +324,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                     objectCount.incrementAndGet();
                     all.add(o);
 
+                    recordAcquireWaitTime(acquireStart);
                     completeAcquire(res, o);
                 } else {
                     rejectPoolClosed(res, o);
@@ -312,6 +342,13 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         });
     }
 
+    private void recordAcquireWaitTime(long acquireStart) {
+
+        if (acquireStart != 0) {
+            acquireWaitTime.add(System.nanoTime() - acquireStart);
+        }
+    }
+
     private void completeAcquire(CompletableFuture<T> res, T o) {
 
         if (res.isCancelled()) {
@@ -380,6 +417,55 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         return factory.destroy(object);
     }
 
+    /**
+     * Change the target for the minimum number of idle objects and create missing idle objects.
+     *
+     * @param minIdle the new minimum number of idle objects.
+     * @return a future that completes once the missing idle objects are created.
+     * @since 6.7
+     */
+    CompletableFuture<Void> setMinIdle(int minIdle) {
+
+        this.minIdle = minIdle;
+        return createIdle();
+    }
+
+    /**
+     * Destroy idle objects until at most {@code maxIdle} idle objects remain.
+     *
+     * @param maxIdle the number of idle objects to retain.
+     * @return a future that completes once the surplus objects are destroyed.
+     * @since 6.7
+     */
+    CompletableFuture<Void> trimIdle(int maxIdle) {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        while (idleCount.get() > maxIdle) {
+
+            T cached = cache.poll();
+            if (cached == null) {
+                break;
+            }
+
+            idleCount.decrementAndGet();
+            futures.add(destroy0(cached));
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    /**
+     * Returns acquisition statistics gathered since the previous call and resets the counters.
+     *
+     * @return acquisition statistics.
+     * @since 6.7
+     */
+    AcquireStatistics drainStatistics() {
+        return new AcquireStatistics(acquireCount.sumThenReset(), acquireWaitTime.sumThenReset(),
+                exhaustedCount.sumThenReset());
+    }
+
     @Override
     public void clear() {
         clearAsync().join();
@@ -511,4 +597,54 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         ACTIVE, TERMINATING, TERMINATED;
     }
 
+    /**
+     * Acquisition statistics for a sampling period. Acquisitions served from idle objects do not contribute wait time.
+     *
+     * @since 6.7
+     */
+    static class AcquireStatistics {
+
+        private final long acquisitions;
+
+        private final long waitTime;
+
+        private final long exhausted;
+
+        AcquireStatistics(long acquisitions, long waitTime, long exhausted) {
+            this.acquisitions = acquisitions;
+            this.waitTime = waitTime;
+            this.exhausted = exhausted;
+        }
+
+        /**
+         * @return number of {@link BoundedAsyncPool#acquire()} calls.
+         */
+        long getAcquisitions() {
+            return acquisitions;
+        }
+
+        /**
+         * @return accumulated time in {@link java.util.concurrent.TimeUnit#NANOSECONDS} that acquisitions waited for object
+         *         creation.
+         */
+        long getWaitTime() {
+            return waitTime;
+        }
+
+        /**
+         * @return number of acquisitions that failed because the pool was exhausted.
+         */
+        long getExhausted() {
+            return exhausted;
+        }
+
+        /**
+         * @return average wait time per acquisition in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+         */
+        long getAverageWaitTime() {
+            return acquisitions == 0 ? 0 : waitTime / acquisitions;
+        }
+
+    }
+
 }
@@ -19,6 +19,8 @@
  */
 package io.lettuce.core.support;
 
+import io.lettuce.core.internal.LettuceAssert;
+
 /**
  * Configuration for asynchronous pooling using {@link BoundedAsyncPool}. Instances can be created through a {@link #builder()}.
  *
@@ -43,20 +45,57 @@ public class BoundedPoolConfig extends BasePoolConfig {
      */
     public static final int DEFAULT_MIN_IDLE = 0;
 
+    /**
+     * The default value for the {@code warmupParallelism} configuration attribute. Creates all idle objects concurrently.
+     *
+     * @since 6.7
+     */
+    public static final int DEFAULT_WARMUP_PARALLELISM = Integer.MAX_VALUE;
+
+    /**
+     * The default value for the {@code maxPendingAcquires} configuration attribute. Does not limit pending acquisitions.
+     *
+     * @since 6.7
+     */
+    public static final int DEFAULT_MAX_PENDING_ACQUIRES = -1;
+
     private final int maxTotal;
 
     private final int maxIdle;
 
     private final int minIdle;
 
+    private final int warmupParallelism;
+
+    private final int maxPendingAcquires;
+
     protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
             int minIdle) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, DEFAULT_WARMUP_PARALLELISM);
+    }
+
+    /**
+     * @since 6.7
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, int warmupParallelism) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, warmupParallelism,
+                DEFAULT_MAX_PENDING_ACQUIRES);
+    }
+
+    /**
+     * @since 6.7
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, int warmupParallelism, int maxPendingAcquires) {
 
         super(testOnCreate, testOnAcquire, testOnRelease);
 
         this.maxTotal = maxTotal;
         this.maxIdle = maxIdle;
         this.minIdle = minIdle;
+        this.warmupParallelism = warmupParallelism;
+        this.maxPendingAcquires = maxPendingAcquires;
     }
 
     /**
@@ -99,6 +138,28 @@ public class BoundedPoolConfig extends BasePoolConfig {
         return minIdle;
     }
 
+    /**
+     * Get the value for the {@code warmupParallelism} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code warmupParallelism} for this configuration instance.
+     * @since 6.7
+     */
+    public int getWarmupParallelism() {
+        return warmupParallelism;
+    }
+
+    /**
+     * Get the value for the {@code maxPendingAcquires} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code maxPendingAcquires} for this configuration instance.
+     * @since 6.7
+     */
+    public int getMaxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
     /**
      * Builder for {@link BoundedPoolConfig}.
      */
@@ -110,6 +171,10 @@ public class BoundedPoolConfig extends BasePoolConfig {
 
         private int minIdle = DEFAULT_MIN_IDLE;
 
+        private int warmupParallelism = DEFAULT_WARMUP_PARALLELISM;
+
+        private int maxPendingAcquires = DEFAULT_MAX_PENDING_ACQUIRES;
+
         protected Builder() {
         }
 
@@ -198,13 +263,48 @@ public class BoundedPoolConfig extends BasePoolConfig {
             return this;
         }
 
+        /**
+         * Configures the maximum number of objects that are created concurrently when warming up the pool with
+         * {@link #minIdle(int) idle objects}. Each completed creation starts the next one until the pool holds the required
+         * number of idle objects. Limiting parallelism avoids a burst of simultaneous connection handshakes for large pools.
+         * Defaults to {@link #DEFAULT_WARMUP_PARALLELISM} (all idle objects are created concurrently).
+         *
+         * @param warmupParallelism maximum number of concurrent object creations during warm-up, must be greater than zero.
+         * @return {@code this} {@link Builder}.
+         * @since 6.7
+         */
+        public Builder warmupParallelism(int warmupParallelism) {
+
+            LettuceAssert.isTrue(warmupParallelism > 0, "Warmup parallelism must be greater than zero");
+
+            this.warmupParallelism = warmupParallelism;
+            return this;
+        }
+
+        /**
+         * Configures the maximum number of acquisitions that wait for an object while the pool is exhausted. Pools that hand
+         * released objects over to waiting acquisitions, such as {@link ConcurrentBagAsyncPool}, fail further acquisitions once
+         * the limit is reached. When negative, there is no limit to the number of waiting acquisitions. Defaults to
+         * {@link #DEFAULT_MAX_PENDING_ACQUIRES}. {@link BoundedAsyncPool} does not park acquisitions and ignores this setting.
+         *
+         * @param maxPendingAcquires maximum number of acquisitions waiting for an object.
+         * @return {@code this} {@link Builder}.
+         * @since 6.7
+         */
+        public Builder maxPendingAcquires(int maxPendingAcquires) {
+
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
         /**
          * Build a new {@link BasePoolConfig} object.
          *
          * @return a new {@link BasePoolConfig} object.
          */
         public BoundedPoolConfig build() {
-            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle);
+            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle,
+                    warmupParallelism, maxPendingAcquires);
         }
 
     }
@@ -0,0 +1,691 @@
+package io.lettuce.core.support;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Bounded asynchronous object pool modeled after a concurrent bag. Unlike {@link BoundedAsyncPool}, acquiring and releasing an
+ * idle object does not update shared counters or queues:
+ * <ul>
+ * <li>Each thread keeps a short list of the objects it released most recently and tries to reclaim these first. The list
+ * references objects weakly so that it does not retain objects of a closed pool.</li>
+ * <li>If none is available, the thread steals an idle object from the shared list of all pooled objects. Ownership of an object
+ * is claimed with a single compare-and-set on its entry.</li>
+ * <li>If the pool is exhausted, the acquisition is parked in a handoff queue. A released object is handed over directly to the
+ * oldest waiter.</li>
+ * </ul>
+ * Apart from the number of idle objects, shared counters are only updated when objects are created or destroyed.
+ * <p>
+ * Exhausting the pool does not fail acquisition right away: the returned future completes once an object is released or
+ * capacity frees up. The number of waiting acquisitions is bounded by {@link BoundedPoolConfig#getMaxPendingAcquires()},
+ * acquisitions beyond that limit fail with {@link NoSuchElementException}. Callers can {@link CompletableFuture#cancel(boolean)
+ * cancel} the future to stop waiting. Waiting acquisitions are failed when the pool is closed.
+ * <p>
+ * The pool is stateful and requires {@link #closeAsync() cleanup} once it's no longer in use.
+ *
+ * @param <T> object type that is managed by the pool.
+ * @since 6.7
+ * @see BoundedPoolConfig
+ * @see AsyncObjectFactory
+ */
+public class ConcurrentBagAsyncPool<T> extends BasePool implements AsyncPool<T> {
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private static final NoSuchElementException POOL_EXHAUSTED = unknownStackTrace(new NoSuchElementException("Pool exhausted"),
+            ConcurrentBagAsyncPool.class, "acquire()");
+
+    private static final IllegalStateException POOL_SHUTDOWN = unknownStackTrace(
+            new IllegalStateException("AsyncPool is closed"), ConcurrentBagAsyncPool.class, "acquire()");
+
+    private static final IllegalStateException NOT_PART_OF_POOL = unknownStackTrace(
+            new IllegalStateException("Returned object not currently part of this pool"), ConcurrentBagAsyncPool.class,
+            "release()");
+
+    private static final int MAX_LOCAL_ENTRIES = 16;
+
+    private final int maxTotal;
+
+    private final int maxIdle;
+
+    private final int minIdle;
+
+    private final int maxPendingAcquires;
+
+    private final AsyncObjectFactory<T> factory;
+
+    private final List<Entry<T>> shared = new CopyOnWriteArrayList<>();
+
+    private final Map<T, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<List<WeakReference<Entry<T>>>> local = ThreadLocal.withInitial(ArrayList::new);
+
+    private final Deque<CompletableFuture<T>> waiters = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    // pooled objects including objects in creation
+    private final AtomicInteger totalCount = new AtomicInteger();
+
+    private final AtomicInteger objectsInCreationCount = new AtomicInteger();
+
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+    private volatile boolean active = true;
+
+    /**
+     * Create a new {@link ConcurrentBagAsyncPool} given {@link BoundedPoolConfig} and {@link AsyncObjectFactory}. The factory
+     * creates idle objects upon construction and requires {@link #closeAsync() termination} once it's no longer in use.
+     * <p>
+     * Please note that pre-initialization cannot be awaited when using this constructor. Please use
+     * {@link #create(AsyncObjectFactory, BoundedPoolConfig)} instead.
+     *
+     * @param factory must not be {@code null}.
+     * @param poolConfig must not be {@code null}.
+     */
+    public ConcurrentBagAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig) {
+        this(factory, poolConfig, true);
+    }
+
+    ConcurrentBagAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, boolean createIdle) {
+
+        super(poolConfig);
+
+        LettuceAssert.notNull(factory, "AsyncObjectFactory must not be null");
+
+        this.maxTotal = poolConfig.getMaxTotal();
+        this.maxIdle = poolConfig.getMaxIdle();
+        this.minIdle = poolConfig.getMinIdle();
+        this.maxPendingAcquires = poolConfig.getMaxPendingAcquires();
+        this.factory = factory;
+
+        if (createIdle) {
+            createIdle();
+        }
+    }
+
+    /**
+     * Create and initialize {@link ConcurrentBagAsyncPool} asynchronously.
+     *
+     * @param factory must not be {@code null}.
+     * @param poolConfig must not be {@code null}.
+     * @param <T> object type that is managed by the pool.
+     * @return a {@link CompletionStage} that completes with the {@link ConcurrentBagAsyncPool} when created and pre-initialized
+     *         successfully. Completes exceptionally if the pool initialization failed.
+     */
+    public static <T> CompletionStage<ConcurrentBagAsyncPool<T>> create(AsyncObjectFactory<T> factory,
+            BoundedPoolConfig poolConfig) {
+
+        ConcurrentBagAsyncPool<T> pool = new ConcurrentBagAsyncPool<>(factory, poolConfig, false);
+
+        CompletableFuture<ConcurrentBagAsyncPool<T>> future = new CompletableFuture<>();
+
+        pool.createIdle().whenComplete((v, throwable) -> {
+
+            if (throwable == null) {
+                future.complete(pool);
+            } else {
+                pool.closeAsync().whenComplete((v1, throwable1) -> {
+                    future.completeExceptionally(new RedisConnectionException("Could not create pool", throwable));
+                });
+            }
+        });
+
+        return future;
+    }
+
+    CompletableFuture<Void> createIdle() {
+
+        int toCreate = getMinIdle() - getIdle();
+        if (toCreate <= 0 || !active) {
+            return COMPLETED;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(toCreate);
+
+        for (int i = 0; i < toCreate && reserve(); i++) {
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+            makeObject0(future);
+
+            futures.add(future.thenAccept(it -> requeue(entries.get(it))));
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    @Override
+    public CompletableFuture<T> acquire() {
+
+        CompletableFuture<T> res = new CompletableFuture<>();
+
+        if (!active) {
+            res.completeExceptionally(POOL_SHUTDOWN);
+            return res;
+        }
+
+        Entry<T> entry = claimIdle();
+
+        if (entry != null) {
+            completeAcquire(res, entry);
+            return res;
+        }
+
+        if (reserve()) {
+            makeObject0(res);
+            return res;
+        }
+
+        park(res);
+        return res;
+    }
+
+    /**
+     * Park {@code res} in the handoff queue until an object is released or capacity frees up.
+     */
+    private void park(CompletableFuture<T> res) {
+
+        if (!reserveWaiter()) {
+            res.completeExceptionally(POOL_EXHAUSTED);
+            return;
+        }
+
+        waiters.add(res);
+        res.whenComplete((o, throwable) -> {
+            if (res.isCancelled()) {
+                removeWaiter(res);
+            }
+        });
+
+        // an object may have been released or destroyed after scanning but before parking
+        Entry<T> entry = claimIdle();
+        if (entry != null) {
+
+            if (removeWaiter(res)) {
+                completeAcquire(res, entry);
+            } else {
+                return0(entry);
+            }
+        } else if (reserve()) {
+
+            if (removeWaiter(res)) {
+                makeObject0(res);
+            } else {
+                replenish();
+            }
+        }
+
+        // the pool may have been closed after draining the handoff queue
+        if (!active && removeWaiter(res)) {
+            res.completeExceptionally(POOL_SHUTDOWN);
+        }
+    }
+
+    private boolean reserveWaiter() {
+
+        if (maxPendingAcquires < 0) {
+            waiterCount.incrementAndGet();
+            return true;
+        }
+
+        for (;;) {
+
+            int current = waiterCount.get();
+            if (current >= maxPendingAcquires) {
+                return false;
+            }
+
+            if (waiterCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean removeWaiter(CompletableFuture<T> waiter) {
+
+        if (waiters.remove(waiter)) {
+            waiterCount.decrementAndGet();
+            return true;
+        }
+
+        return false;
+    }
+
+    private CompletableFuture<T> pollWaiter() {
+
+        CompletableFuture<T> waiter = waiters.poll();
+        if (waiter != null) {
+            waiterCount.decrementAndGet();
+        }
+
+        return waiter;
+    }
+
+    private Entry<T> claimIdle() {
+
+        List<WeakReference<Entry<T>>> recent = local.get();
+        for (int i = recent.size() - 1; i >= 0; i--) {
+
+            Entry<T> entry = recent.remove(i).get();
+            if (entry != null && claim(entry)) {
+                return entry;
+            }
+        }
+
+        for (Entry<T> entry : shared) {
+            if (claim(entry)) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean claim(Entry<T> entry) {
+
+        if (entry.claim()) {
+            idleCount.decrementAndGet();
+            return true;
+        }
+
+        return false;
+    }
+
+    private void completeAcquire(CompletableFuture<T> res, Entry<T> entry) {
+
+        if (!isTestOnAcquire()) {
+            complete(res, entry);
+            return;
+        }
+
+        factory.validate(entry.object).whenComplete((state, throwable) -> {
+
+            if (!active) {
+                res.completeExceptionally(POOL_SHUTDOWN);
+                return;
+            }
+
+            if (state != null && state) {
+                complete(res, entry);
+                return;
+            }
+
+            destroy0(entry).whenComplete((v, th) -> {
+                if (reserve()) {
+                    makeObject0(res);
+                } else {
+                    park(res);
+                }
+            });
+        });
+    }
+
+    private void complete(CompletableFuture<T> res, Entry<T> entry) {
+
+        if (!res.complete(entry.object)) {
+            return0(entry);
+        }
+    }
+
+    private boolean reserve() {
+
+        int limit = getActualMaxTotal();
+
+        for (;;) {
+
+            int current = totalCount.get();
+            if (current >= limit) {
+                return false;
+            }
+
+            if (totalCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Create a new object for {@code res}. Requires a {@link #reserve() reserved} slot.
+     */
+    private void makeObject0(CompletableFuture<T> res) {
+
+        objectsInCreationCount.incrementAndGet();
+
+        factory.create().whenComplete((o, t) -> {
+
+            if (t != null) {
+                objectsInCreationCount.decrementAndGet();
+                totalCount.decrementAndGet();
+                res.completeExceptionally(new IllegalStateException("Cannot allocate object", t));
+                return;
+            }
+
+            if (!isTestOnCreate()) {
+                register(res, o);
+                return;
+            }
+
+            factory.validate(o).whenComplete((state, throwable) -> {
+
+                if (state != null && state) {
+                    register(res, o);
+                    return;
+                }
+
+                objectsInCreationCount.decrementAndGet();
+                totalCount.decrementAndGet();
+                factory.destroy(o).whenComplete((v, th) -> res.completeExceptionally(
+                        new IllegalStateException("Cannot allocate object: Validation failed", throwable)));
+            });
+        });
+    }
+
+    private void register(CompletableFuture<T> res, T o) {
+
+        objectsInCreationCount.decrementAndGet();
+
+        if (!active) {
+            totalCount.decrementAndGet();
+            factory.destroy(o);
+            res.completeExceptionally(POOL_SHUTDOWN);
+            return;
+        }
+
+        Entry<T> entry = new Entry<>(o);
+        entries.put(o, entry);
+        shared.add(entry);
+
+        complete(res, entry);
+    }
+
+    @Override
+    public CompletableFuture<Void> release(T object) {
+
+        Entry<T> entry = entries.get(object);
+
+        if (entry == null || entry.state != Entry.IN_USE) {
+            return Futures.failed(NOT_PART_OF_POOL);
+        }
+
+        if (!isTestOnRelease()) {
+            return return0(entry);
+        }
+
+        CompletableFuture<Void> res = new CompletableFuture<>();
+
+        factory.validate(object).whenComplete((state, throwable) -> {
+
+            if (state != null && state) {
+                return0(entry).whenComplete((x, y) -> res.complete(null));
+            } else {
+                destroy0(entry).whenComplete((x, y) -> res.complete(null));
+            }
+        });
+
+        return res;
+    }
+
+    private CompletableFuture<Void> return0(Entry<T> entry) {
+
+        if (!active || (waiterCount.get() == 0 && exceedsMaxIdle())) {
+            return destroy0(entry);
+        }
+
+        requeue(entry);
+        return COMPLETED;
+    }
+
+    /**
+     * Hand over an in-use entry to the oldest waiter or return it to the bag.
+     */
+    private void requeue(Entry<T> entry) {
+
+        CompletableFuture<T> waiter;
+        while (waiterCount.get() > 0 && (waiter = pollWaiter()) != null) {
+
+            if (!waiter.isDone()) {
+                completeAcquire(waiter, entry);
+                return;
+            }
+        }
+
+        entry.unclaim();
+        idleCount.incrementAndGet();
+
+        // a waiter may have parked after polling the handoff queue
+        if (waiterCount.get() > 0 && claim(entry)) {
+            requeue(entry);
+            return;
+        }
+
+        List<WeakReference<Entry<T>>> recent = local.get();
+        if (recent.size() < MAX_LOCAL_ENTRIES) {
+            recent.add(new WeakReference<>(entry));
+        }
+    }
+
+    private boolean exceedsMaxIdle() {
+
+        int maxIdle = getActualMaxIdle();
+        return maxIdle < getActualMaxTotal() && idleCount.get() >= maxIdle;
+    }
+
+    private CompletableFuture<Void> destroy0(Entry<T> entry) {
+
+        entry.remove();
+        entries.remove(entry.object);
+        shared.remove(entry);
+        totalCount.decrementAndGet();
+
+        CompletableFuture<Void> destroy = factory.destroy(entry.object);
+
+        // capacity freed up, create an object for the oldest waiter
+        if (active && waiterCount.get() > 0 && reserve()) {
+            replenish();
+        }
+
+        return destroy;
+    }
+
+    /**
+     * Create an object for the oldest waiter. Requires a {@link #reserve() reserved} slot that is released if there is no
+     * waiter.
+     */
+    private void replenish() {
+
+        CompletableFuture<T> waiter;
+        while ((waiter = pollWaiter()) != null) {
+
+            if (!waiter.isDone()) {
+                makeObject0(waiter);
+                return;
+            }
+        }
+
+        totalCount.decrementAndGet();
+    }
+
+    @Override
+    public void clear() {
+        clearAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> clearAsync() {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(shared.size());
+
+        for (Entry<T> entry : shared) {
+
+            if (claim(entry)) {
+                entry.remove();
+                entries.remove(entry.object);
+                shared.remove(entry);
+                totalCount.decrementAndGet();
+                futures.add(factory.destroy(entry.object));
+            }
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        if (!active) {
+            return closeFuture;
+        }
+
+        active = false;
+
+        CompletableFuture<T> waiter;
+        while ((waiter = pollWaiter()) != null) {
+            waiter.completeExceptionally(POOL_SHUTDOWN);
+        }
+
+        // caches of other threads only hold weak references and are discarded with the pool
+        local.remove();
+
+        clearAsync().whenComplete((aVoid, throwable) -> {
+
+            if (throwable != null) {
+                closeFuture.completeExceptionally(throwable);
+            } else {
+                closeFuture.complete(aVoid);
+            }
+        });
+
+        return closeFuture;
+    }
+
+    /**
+     * Returns the maximum number of objects that can be allocated by the pool (checked out to clients, or idle awaiting
+     * checkout) at a given time. When negative, there is no limit to the number of objects that can be managed by the pool at
+     * one time.
+     *
+     * @return the cap on the total number of object instances managed by the pool.
+     * @see BoundedPoolConfig#getMaxTotal()
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    private int getActualMaxTotal() {
+        return maxOrActual(maxTotal);
+    }
+
+    /**
+     * Returns the cap on the number of "idle" instances in the pool.
+     *
+     * @return the maximum number of "idle" instances that can be held in the pool.
+     * @see BoundedPoolConfig#getMaxIdle()
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    private int getActualMaxIdle() {
+        return maxOrActual(maxIdle);
+    }
+
+    /**
+     * Returns the target for the minimum number of idle objects to maintain in the pool. If the configured value of minIdle is
+     * greater than the configured value for {@code maxIdle} then the value of {@code maxIdle} will be used instead.
+     *
+     * @return The minimum number of objects.
+     * @see BoundedPoolConfig#getMinIdle()
+     */
+    public int getMinIdle() {
+        return Math.min(minIdle, getActualMaxIdle());
+    }
+
+    /**
+     * Returns the number of idle objects.
+     *
+     * @return the number of idle objects.
+     */
+    public int getIdle() {
+        return idleCount.get();
+    }
+
+    /**
+     * Returns the number of acquisitions waiting for an object.
+     *
+     * @return the number of waiting acquisitions.
+     */
+    public int getWaiting() {
+        return waiterCount.get();
+    }
+
+    public int getObjectCount() {
+        return shared.size();
+    }
+
+    public int getCreationInProgress() {
+        return objectsInCreationCount.get();
+    }
+
+    private static int maxOrActual(int count) {
+        return count > -1 ? count : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Pooled object along with its ownership state.
+     */
+    static final class Entry<T> {
+
+        static final int NOT_IN_USE = 0;
+
+        static final int IN_USE = 1;
+
+        static final int REMOVED = -1;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Entry> STATE = AtomicIntegerFieldUpdater.newUpdater(Entry.class,
+                "state");
+
+        final T object;
+
+        volatile int state = IN_USE;
+
+        Entry(T object) {
+            this.object = object;
+        }
+
+        boolean claim() {
+            return state == NOT_IN_USE && STATE.compareAndSet(this, NOT_IN_USE, IN_USE);
+        }
+
+        void unclaim() {
+            state = NOT_IN_USE;
+        }
+
+        void remove() {
+            state = REMOVED;
+        }
+
+    }
+
+}
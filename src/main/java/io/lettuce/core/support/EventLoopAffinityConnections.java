@@ -0,0 +1,180 @@
+package io.lettuce.core.support;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.AsyncCloseable;
+import io.lettuce.core.internal.Exceptions;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Set of connections with one connection registered per {@link EventLoop} of an {@link EventLoopGroup}. Code that runs on one
+ * of these event loops (e.g. a Netty server handler sharing its {@link EventLoopGroup} with the client) obtains the connection
+ * that is bound to its own event loop through {@link #get()}, so that commands are written and their responses are completed
+ * without a thread hop. Callers outside the event loops are assigned a connection round-robin.
+ * <p>
+ * Connections are opened through {@link RedisClient#connectAsync(RedisCodec, RedisURI, EventLoop)}; reconnects retain the event
+ * loop. Closing this object closes all connections but not the {@link EventLoopGroup}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 6.7
+ */
+public class EventLoopAffinityConnections<K, V> implements AsyncCloseable, Closeable {
+
+    private final List<EventLoop> eventLoops;
+
+    private final List<StatefulRedisConnection<K, V>> connections;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    EventLoopAffinityConnections(List<EventLoop> eventLoops, List<StatefulRedisConnection<K, V>> connections) {
+
+        LettuceAssert.isTrue(!eventLoops.isEmpty(), "EventLoops must not be empty");
+        LettuceAssert.isTrue(eventLoops.size() == connections.size(), "EventLoops and connections must have the same size");
+
+        this.eventLoops = Collections.unmodifiableList(new ArrayList<>(eventLoops));
+        this.connections = Collections.unmodifiableList(new ArrayList<>(connections));
+    }
+
+    /**
+     * Open one connection for each {@link EventLoop} of {@code eventLoopGroup}. Must not be called from one of the event loops
+     * as this method blocks until all connections are established.
+     *
+     * @param client the client to connect with, must not be {@code null}.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param eventLoopGroup the event loops to register the connections with, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the connected {@link EventLoopAffinityConnections}.
+     */
+    public static <K, V> EventLoopAffinityConnections<K, V> connect(RedisClient client, RedisCodec<K, V> codec,
+            RedisURI redisURI, EventLoopGroup eventLoopGroup) {
+
+        try {
+            return connectAsync(client, codec, redisURI, eventLoopGroup).join();
+        } catch (CompletionException e) {
+            throw Exceptions.bubble(e);
+        }
+    }
+
+    /**
+     * Open asynchronously one connection for each {@link EventLoop} of {@code eventLoopGroup}. If a connection cannot be
+     * established, all other connections are closed and the returned future completes exceptionally.
+     *
+     * @param client the client to connect with, must not be {@code null}.
+     * @param codec Use this codec to encode/decode keys and values, must not be {@code null}.
+     * @param redisURI the Redis server to connect to, must not be {@code null}.
+     * @param eventLoopGroup the event loops to register the connections with, must not be {@code null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return {@link CompletableFuture} to indicate success or failure to connect.
+     */
+    public static <K, V> CompletableFuture<EventLoopAffinityConnections<K, V>> connectAsync(RedisClient client,
+            RedisCodec<K, V> codec, RedisURI redisURI, EventLoopGroup eventLoopGroup) {
+
+        LettuceAssert.notNull(client, "RedisClient must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(redisURI, "RedisURI must not be null");
+        LettuceAssert.notNull(eventLoopGroup, "EventLoopGroup must not be null");
+
+        List<EventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : eventLoopGroup) {
+            LettuceAssert.isTrue(executor instanceof EventLoop, "EventLoopGroup must consist of EventLoops");
+            eventLoops.add((EventLoop) executor);
+        }
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(eventLoops.size());
+        for (EventLoop eventLoop : eventLoops) {
+            futures.add(client.connectAsync(codec, redisURI, eventLoop).toCompletableFuture());
+        }
+
+        return Futures.allOf(futures).handle((v, throwable) -> {
+
+            if (throwable != null) {
+                futures.forEach(it -> it.thenAccept(StatefulRedisConnection::closeAsync));
+                throw new CompletionException(Exceptions.unwrap(throwable));
+            }
+
+            List<StatefulRedisConnection<K, V>> connections = new ArrayList<>(futures.size());
+            futures.forEach(it -> connections.add(it.join()));
+
+            return new EventLoopAffinityConnections<>(eventLoops, connections);
+        });
+    }
+
+    /**
+     * Return the connection bound to the event loop of the calling thread. Threads that do not belong to one of the event loops
+     * are assigned a connection round-robin.
+     *
+     * @return the connection.
+     */
+    public StatefulRedisConnection<K, V> get() {
+
+        for (int i = 0; i < eventLoops.size(); i++) {
+            if (eventLoops.get(i).inEventLoop()) {
+                return connections.get(i);
+            }
+        }
+
+        return connections.get(Math.floorMod(counter.getAndIncrement(), connections.size()));
+    }
+
+    /**
+     * Return the connection bound to {@code eventLoop}.
+     *
+     * @param eventLoop the event loop, must not be {@code null}.
+     * @return the connection.
+     * @throws IllegalArgumentException if no connection is bound to {@code eventLoop}.
+     */
+    public StatefulRedisConnection<K, V> get(EventLoop eventLoop) {
+
+        LettuceAssert.notNull(eventLoop, "EventLoop must not be null");
+
+        int index = eventLoops.indexOf(eventLoop);
+        LettuceAssert.isTrue(index != -1, "No connection bound to " + eventLoop);
+
+        return connections.get(index);
+    }
+
+    /**
+     * @return all connections in the order of their event loops.
+     */
+    public List<StatefulRedisConnection<K, V>> getConnections() {
+        return connections;
+    }
+
+    /**
+     * Close all connections.
+     */
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(connections.size());
+        for (StatefulRedisConnection<K, V> connection : connections) {
+            futures.add(connection.closeAsync());
+        }
+
+        return Futures.allOf(futures);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core
+
+import io.lettuce.core.internal.LettuceClassUtils
+import io.lettuce.core.tracing.TraceContextProvider
+import kotlinx.coroutines.reactor.ReactorContext
+import kotlinx.coroutines.suspendCancellableCoroutine
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutionException
+import kotlin.coroutines.CoroutineContext
+import kotlin.coroutines.coroutineContext
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+
+private val reactorContextPresent = LettuceClassUtils.isPresent("kotlinx.coroutines.reactor.ReactorContext")
+
+/**
+ * Await completion of this [RedisFuture] without blocking a thread. Completed futures return immediately without suspending.
+ * Cancelling the calling coroutine cancels the future and thereby the Redis command so it is not retained in the command
+ * queue until its response arrives.
+ *
+ * @return the result of the command, `null` if the command completed with `null`.
+ * @since 6.7
+ */
+internal suspend fun <T> RedisFuture<T>.awaitOrNull(): T? {
+
+    if (isDone) {
+        try {
+            return get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    return suspendCancellableCoroutine { continuation ->
+
+        whenComplete { value, throwable ->
+            if (throwable == null) {
+                continuation.resume(value)
+            } else {
+                continuation.resumeWithException(if (throwable is CompletionException) throwable.cause ?: throwable else throwable)
+            }
+        }
+
+        continuation.invokeOnCancellation { cancel(false) }
+    }
+}
+
+/**
+ * Await completion of this [RedisFuture] for a command that is expected to return a value.
+ *
+ * @return the result of the command.
+ * @throws NoSuchElementException if the command completed with `null`.
+ * @since 6.7
+ * @see awaitOrNull
+ */
+internal suspend fun <T : Any> RedisFuture<T>.awaitValue(): T =
+    awaitOrNull() ?: throw NoSuchElementException("Command completed without a value")
+
+/**
+ * Dispatch a command through the async API using [dispatch] with the trace context of the calling coroutine and await its
+ * completion.
+ *
+ * @return the result of the command, `null` if the command completed with `null`.
+ * @since 6.7
+ * @see dispatchTraced
+ */
+internal suspend inline fun <T> awaitOrNull(dispatch: () -> RedisFuture<T>): T? = dispatchTraced(dispatch).awaitOrNull()
+
+/**
+ * Dispatch a command through the async API using [dispatch] with the trace context of the calling coroutine and await its
+ * completion for a command that is expected to return a value.
+ *
+ * @return the result of the command.
+ * @throws NoSuchElementException if the command completed with `null`.
+ * @since 6.7
+ * @see dispatchTraced
+ */
+internal suspend inline fun <T : Any> awaitValue(dispatch: () -> RedisFuture<T>): T = dispatchTraced(dispatch).awaitValue()
+
+/**
+ * Invoke [dispatch] with the [TraceContextProvider] of the calling coroutine bound to the current thread so that the async
+ * API attaches its trace context to the dispatched command. The provider is obtained from the `ReactorContext` of the
+ * coroutine, the same way the reactive API obtains it from the subscriber context. Without a provider, [dispatch] is invoked
+ * as-is.
+ *
+ * @return the future returned by [dispatch].
+ * @since 6.7
+ */
+internal suspend inline fun <T> dispatchTraced(dispatch: () -> RedisFuture<T>): RedisFuture<T> {
+
+    val provider = traceContextProvider(coroutineContext) ?: return dispatch()
+    val previous = bindTraceContextProvider(provider)
+
+    try {
+        return dispatch()
+    } finally {
+        restoreTraceContextProvider(previous)
+    }
+}
+
+/**
+ * Obtain the [TraceContextProvider] from the `ReactorContext` of [context].
+ *
+ * @return the provider, `null` if [context] does not carry a provider or `kotlinx-coroutines-reactor` is not on the class
+ * path.
+ * @since 6.7
+ */
+internal fun traceContextProvider(context: CoroutineContext): TraceContextProvider? =
+    if (reactorContextPresent) ReactorContextAccessor.traceContextProvider(context) else null
+
+internal fun bindTraceContextProvider(provider: TraceContextProvider): TraceContextProvider? = TraceContextScope.bind(provider)
+
+internal fun restoreTraceContextProvider(previous: TraceContextProvider?) = TraceContextScope.restore(previous)
+
+/**
+ * Accessor for `ReactorContext` isolated from the callers so that `kotlinx-coroutines-reactor` is only loaded if present.
+ */
+private object ReactorContextAccessor {
+
+    fun traceContextProvider(context: CoroutineContext): TraceContextProvider? =
+        context[ReactorContext]?.context?.getOrDefault<TraceContextProvider>(TraceContextProvider::class.java, null)
+
+}
@@ -21,19 +21,20 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
+import io.lettuce.core.api.async.BaseRedisAsyncCommands
 import io.lettuce.core.api.reactive.BaseRedisReactiveCommands
+import io.lettuce.core.awaitOrNull
+import io.lettuce.core.awaitValue
 import io.lettuce.core.output.CommandOutput
 import io.lettuce.core.protocol.CommandArgs
 import io.lettuce.core.protocol.ProtocolKeyword
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
-import kotlinx.coroutines.reactive.awaitSingle
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for basic commands.
+ * Coroutine executed commands (based on async and reactive commands) for basic commands.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -42,39 +43,42 @@ import kotlinx.coroutines.reactive.awaitSingle
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class BaseRedisCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: BaseRedisReactiveCommands<K, V>) : BaseRedisCoroutinesCommands<K, V> {
+internal class BaseRedisCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: BaseRedisReactiveCommands<K, V>,
+    internal val async: BaseRedisAsyncCommands<K, V>
+) : BaseRedisCoroutinesCommands<K, V> {
 
-    override suspend fun publish(channel: K, message: V): Long? = ops.publish(channel, message).awaitFirstOrNull()
+    override suspend fun publish(channel: K, message: V): Long? = awaitOrNull { async.publish(channel, message) }
 
     override suspend fun pubsubChannels(): List<K> = ops.pubsubChannels().asFlow().toList()
 
     override suspend fun pubsubChannels(channel: K): List<K> = ops.pubsubChannels(channel).asFlow().toList()
 
-    override suspend fun pubsubNumsub(vararg channels: K): Map<K, Long> = ops.pubsubNumsub(*channels).awaitSingle()
+    override suspend fun pubsubNumsub(vararg channels: K): Map<K, Long> = awaitValue { async.pubsubNumsub(*channels) }
 
     override suspend fun pubsubShardChannels(): List<K> = ops.pubsubShardChannels().asFlow().toList()
 
     override suspend fun pubsubShardChannels(pattern: K): List<K> = ops.pubsubShardChannels(pattern).asFlow().toList()
 
-    override suspend fun pubsubShardNumsub(vararg shardChannels: K): Map<K, Long> = ops.pubsubShardNumsub(*shardChannels).awaitSingle()
+    override suspend fun pubsubShardNumsub(vararg shardChannels: K): Map<K, Long> = awaitValue { async.pubsubShardNumsub(*shardChannels) }
 
-    override suspend fun pubsubNumpat(): Long = ops.pubsubNumpat().awaitSingle()
+    override suspend fun pubsubNumpat(): Long = awaitValue { async.pubsubNumpat() }
 
-    override suspend fun spublish(shardChannel: K, message: V): Long? = ops.spublish(shardChannel, message).awaitFirstOrNull()
+    override suspend fun spublish(shardChannel: K, message: V): Long? = awaitOrNull { async.spublish(shardChannel, message) }
 
-    override suspend fun echo(msg: V): V = ops.echo(msg).awaitSingle()
+    override suspend fun echo(msg: V): V = awaitValue { async.echo(msg) }
 
     override suspend fun role(): List<Any> = ops.role().asFlow().toList()
 
-    override suspend fun ping(): String = ops.ping().awaitSingle()
+    override suspend fun ping(): String = awaitValue { async.ping() }
 
-    override suspend fun readOnly(): String = ops.readOnly().awaitSingle()
+    override suspend fun readOnly(): String = awaitValue { async.readOnly() }
 
-    override suspend fun readWrite(): String = ops.readWrite().awaitSingle()
+    override suspend fun readWrite(): String = awaitValue { async.readWrite() }
 
-    override suspend fun quit(): String? = ops.quit().awaitFirstOrNull()
+    override suspend fun quit(): String? = awaitOrNull { async.quit() }
 
-    override suspend fun waitForReplication(replicas: Int, timeout: Long): Long? = ops.waitForReplication(replicas, timeout).awaitFirstOrNull()
+    override suspend fun waitForReplication(replicas: Int, timeout: Long): Long? = awaitOrNull { async.waitForReplication(replicas, timeout) }
 
     override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = ops.dispatch<T>(type, output).asFlow()
 
@@ -23,18 +23,19 @@ package io.lettuce.core.api.coroutines
 import io.lettuce.core.AclCategory
 import io.lettuce.core.AclSetuserArgs
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
+import io.lettuce.core.api.async.RedisAclAsyncCommands
 import io.lettuce.core.api.reactive.RedisAclReactiveCommands
+import io.lettuce.core.awaitOrNull
+import io.lettuce.core.awaitValue
 import io.lettuce.core.protocol.CommandType
 import io.lettuce.core.protocol.RedisCommand
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirst
 import kotlinx.coroutines.reactive.awaitFirstOrElse
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 /**
- * Coroutine executed commands (based on reactive commands) for basic commands.
+ * Coroutine executed commands (based on async and reactive commands) for basic commands.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -42,7 +43,10 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisAclCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisAclReactiveCommands<K, V>) : RedisAclCoroutinesCommands<K, V> {
+internal class RedisAclCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisAclReactiveCommands<K, V>,
+    internal val async: RedisAclAsyncCommands<K, V>
+) : RedisAclCoroutinesCommands<K, V> {
 
     override suspend fun aclCat(): Set<AclCategory> =
         ops.aclCat().awaitFirstOrElse { emptySet<AclCategory>() }
@@ -51,44 +55,44 @@ internal class RedisAclCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         ops.aclCat(category).awaitFirstOrElse { emptySet<CommandType>() }
 
     override suspend fun aclDeluser(vararg usernames: String): Long? =
-        ops.aclDeluser(*usernames).awaitFirstOrNull()
+        awaitOrNull { async.aclDeluser(*usernames) }
 
     override suspend fun aclDryRun(
         username: String,
         command: String,
         vararg args: String
-    ): String? = ops.aclDryRun(username, command, *args).awaitFirstOrNull()
+    ): String? = awaitOrNull { async.aclDryRun(username, command, *args) }
 
     override suspend fun aclDryRun(
         username: String,
         command: RedisCommand<K, V, *>
-    ): String? = ops.aclDryRun(username, command).awaitFirstOrNull()
+    ): String? = awaitOrNull { async.aclDryRun(username, command) }
 
-    override suspend fun aclGenpass(): String? = ops.aclGenpass().awaitFirstOrNull()
+    override suspend fun aclGenpass(): String? = awaitOrNull { async.aclGenpass() }
 
     override suspend fun aclGenpass(bits: Int): String? =
-        ops.aclGenpass(bits).awaitFirstOrNull()
+        awaitOrNull { async.aclGenpass(bits) }
 
     override suspend fun aclGetuser(username: String): List<Any> =
-        ops.aclGetuser(username).awaitFirst()
+        awaitValue { async.aclGetuser(username) }
 
     override fun aclList(): Flow<String> = ops.aclList().asFlow()
 
-    override suspend fun aclLoad(): String? = ops.aclLoad().awaitFirstOrNull()
+    override suspend fun aclLoad(): String? = awaitOrNull { async.aclLoad() }
 
     override fun aclLog(): Flow<Map<String, Any>> = ops.aclLog().asFlow()
 
     override fun aclLog(count: Int): Flow<Map<String, Any>> = ops.aclLog(count).asFlow()
 
-    override suspend fun aclLogReset(): String? = ops.aclLogReset().awaitFirstOrNull()
+    override suspend fun aclLogReset(): String? = awaitOrNull { async.aclLogReset() }
 
-    override suspend fun aclSave(): String? = ops.aclSave().awaitFirstOrNull()
+    override suspend fun aclSave(): String? = awaitOrNull { async.aclSave() }
 
-    override suspend fun aclSetuser(username: String, setuserArgs: AclSetuserArgs): String? = ops.aclSetuser(username, setuserArgs).awaitFirstOrNull()
+    override suspend fun aclSetuser(username: String, setuserArgs: AclSetuserArgs): String? = awaitOrNull { async.aclSetuser(username, setuserArgs) }
 
     override suspend fun aclUsers(): List<String> = ops.aclUsers().asFlow().toList()
 
-    override suspend fun aclWhoami(): String? = ops.aclWhoami().awaitFirstOrNull()
+    override suspend fun aclWhoami(): String? = awaitOrNull { async.aclWhoami() }
 
 }
 
@@ -22,12 +22,16 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
+import io.lettuce.core.api.async.RedisAsyncCommands
 import io.lettuce.core.api.reactive.RedisReactiveCommands
+import io.lettuce.core.awaitOrNull
 import io.lettuce.core.cluster.api.coroutines.RedisClusterCoroutinesCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 /**
- * Implementation of [RedisCoroutinesCommands].
+ * Implementation of [RedisCoroutinesCommands]. Commands that return a single value are executed through [RedisAsyncCommands]
+ * and awaited on their [io.lettuce.core.RedisFuture], commands returning multiple elements are streamed through
+ * [RedisReactiveCommands]. Commands dispatched through [RedisAsyncCommands] carry the trace context found in the
+ * `ReactorContext` of the calling coroutine.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -36,24 +40,33 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  */
 @ExperimentalLettuceCoroutinesApi
 open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
-    internal val ops: RedisReactiveCommands<K, V>
+    internal val ops: RedisReactiveCommands<K, V>,
+    internal val async: RedisAsyncCommands<K, V>
 ) : RedisCoroutinesCommands<K, V>, RedisClusterCoroutinesCommands<K, V>,
-    BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops),
-    RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops),
-    RedisFunctionCoroutinesCommands<K, V> by RedisFunctionCoroutinesCommandsImpl(ops),
-    RedisGeoCoroutinesCommands<K, V> by RedisGeoCoroutinesCommandsImpl(ops),
-    RedisHashCoroutinesCommands<K, V> by RedisHashCoroutinesCommandsImpl(ops),
-    RedisHLLCoroutinesCommands<K, V> by RedisHLLCoroutinesCommandsImpl(ops),
-    RedisKeyCoroutinesCommands<K, V> by RedisKeyCoroutinesCommandsImpl(ops),
-    RedisListCoroutinesCommands<K, V> by RedisListCoroutinesCommandsImpl(ops),
-    RedisScriptingCoroutinesCommands<K, V> by RedisScriptingCoroutinesCommandsImpl(ops),
-    RedisServerCoroutinesCommands<K, V> by RedisServerCoroutinesCommandsImpl(ops),
-    RedisSetCoroutinesCommands<K, V> by RedisSetCoroutinesCommandsImpl(ops),
-    RedisSortedSetCoroutinesCommands<K, V> by RedisSortedSetCoroutinesCommandsImpl(ops),
-    RedisStreamCoroutinesCommands<K, V> by RedisStreamCoroutinesCommandsImpl(ops),
-    RedisStringCoroutinesCommands<K, V> by RedisStringCoroutinesCommandsImpl(ops),
-    RedisTransactionalCoroutinesCommands<K, V> by RedisTransactionalCoroutinesCommandsImpl(ops),
-    RedisJsonCoroutinesCommands<K, V> by RedisJsonCoroutinesCommandsImpl(ops) {
+    BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops, async),
+    RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops, async),
+    RedisFunctionCoroutinesCommands<K, V> by RedisFunctionCoroutinesCommandsImpl(ops, async),
+    RedisGeoCoroutinesCommands<K, V> by RedisGeoCoroutinesCommandsImpl(ops, async),
+    RedisHashCoroutinesCommands<K, V> by RedisHashCoroutinesCommandsImpl(ops, async),
+    RedisHLLCoroutinesCommands<K, V> by RedisHLLCoroutinesCommandsImpl(ops, async),
+    RedisKeyCoroutinesCommands<K, V> by RedisKeyCoroutinesCommandsImpl(ops, async),
+    RedisListCoroutinesCommands<K, V> by RedisListCoroutinesCommandsImpl(ops, async),
+    RedisScriptingCoroutinesCommands<K, V> by RedisScriptingCoroutinesCommandsImpl(ops, async),
+    RedisServerCoroutinesCommands<K, V> by RedisServerCoroutinesCommandsImpl(ops, async),
+    RedisSetCoroutinesCommands<K, V> by RedisSetCoroutinesCommandsImpl(ops, async),
+    RedisSortedSetCoroutinesCommands<K, V> by RedisSortedSetCoroutinesCommandsImpl(ops, async),
+    RedisStreamCoroutinesCommands<K, V> by RedisStreamCoroutinesCommandsImpl(ops, async),
+    RedisStringCoroutinesCommands<K, V> by RedisStringCoroutinesCommandsImpl(ops, async),
+    RedisTransactionalCoroutinesCommands<K, V> by RedisTransactionalCoroutinesCommandsImpl(ops, async),
+    RedisJsonCoroutinesCommands<K, V> by RedisJsonCoroutinesCommandsImpl(ops, async) {
+
+    /**
+     * Create a new [RedisCoroutinesCommandsImpl] using the async API of the connection underlying [ops].
+     *
+     * @since 6.7
+     */
+    @Suppress("DEPRECATION")
+    constructor(ops: RedisReactiveCommands<K, V>) : this(ops, ops.statefulConnection.async())
 
     /**
      * Authenticate to the server.
@@ -61,7 +74,7 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param password the password
      * @return String simple-string-reply
      */
-    override suspend fun auth(password: CharSequence): String? = ops.auth(password).awaitFirstOrNull()
+    override suspend fun auth(password: CharSequence): String? = awaitOrNull { async.auth(password) }
 
     /**
      * Authenticate to the server with username and password. Requires Redis 6 or newer.
@@ -71,7 +84,7 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @return String simple-string-reply
      * @since 6.0
      */
-    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).awaitFirstOrNull()
+    override suspend fun auth(username: String, password: CharSequence): String? = awaitOrNull { async.auth(username, password) }
 
     /**
      * Change the selected database for the current connection.
@@ -79,7 +92,7 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param db the database number
      * @return String simple-string-reply
      */
-    override suspend fun select(db: Int): String? = ops.select(db).awaitFirstOrNull()
+    override suspend fun select(db: Int): String? = awaitOrNull { async.select(db) }
 
     /**
      * Swap two Redis databases, so that immediately all the clients connected to a given DB will see the data of the other DB,
@@ -89,6 +102,6 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param db2 the second database number
      * @return String simple-string-reply
      */
-    override suspend fun swapdb(db1: Int, db2: Int): String? = ops.swapdb(db1, db2).awaitFirstOrNull()
+    override suspend fun swapdb(db1: Int, db2: Int): String? = awaitOrNull { async.swapdb(db1, db2) }
 
 }
@@ -5,19 +5,23 @@ import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.FlushMode
 import io.lettuce.core.FunctionRestoreMode
 import io.lettuce.core.ScriptOutputType
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands
 import io.lettuce.core.api.reactive.RedisFunctionReactiveCommands
+import io.lettuce.core.awaitOrNull
 import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for the Function API.
+ * Coroutine executed commands (based on async and reactive commands) for the Function API.
  *
  * @author Mark Paluch
  * @since 6.3
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisFunctionCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisFunctionReactiveCommands<K, V>) :
-    RedisFunctionCoroutinesCommands<K, V> {
+internal class RedisFunctionCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisFunctionReactiveCommands<K, V>,
+    internal val async: RedisFunctionAsyncCommands<K, V>
+) : RedisFunctionCoroutinesCommands<K, V> {
 
     override suspend fun <T : Any> fcall(
         function: String,
@@ -46,26 +50,26 @@ internal class RedisFunctionCoroutinesCommandsImpl<K : Any, V : Any>(internal va
     ): T? = ops.fcallReadOnly<T>(function, type, keys, *values).awaitFirstOrNull()
 
     override suspend fun functionLoad(functionCode: String): String? =
-        ops.functionLoad(functionCode).awaitFirstOrNull()
+        awaitOrNull { async.functionLoad(functionCode) }
 
     override suspend fun functionLoad(functionCode: String, replace: Boolean): String? =
-        ops.functionLoad(functionCode, replace).awaitFirstOrNull()
+        awaitOrNull { async.functionLoad(functionCode, replace) }
 
     override suspend fun functionDump(): ByteArray? =
-        ops.functionDump().awaitFirstOrNull()
+        awaitOrNull { async.functionDump() }
 
     override suspend fun functionRestore(dump: ByteArray): String? =
-        ops.functionRestore(dump).awaitFirstOrNull()
+        awaitOrNull { async.functionRestore(dump) }
 
     override suspend fun functionRestore(
         dump: ByteArray,
         mode: FunctionRestoreMode
-    ): String? = ops.functionRestore(dump, mode).awaitFirstOrNull()
+    ): String? = awaitOrNull { async.functionRestore(dump, mode) }
 
     override suspend fun functionFlush(flushMode: FlushMode): String? =
-        ops.functionFlush(flushMode).awaitFirstOrNull()
+        awaitOrNull { async.functionFlush(flushMode) }
 
-    override suspend fun functionKill(): String? = ops.functionKill().awaitFirstOrNull()
+    override suspend fun functionKill(): String? = awaitOrNull { async.functionKill() }
 
     override suspend fun functionList(): List<Map<String, Any>> =
         ops.functionList().collectList().awaitFirstOrNull()!!
@@ -21,29 +21,32 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisGeoAsyncCommands
 import io.lettuce.core.api.reactive.RedisGeoReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for the Geo-API.
+ * Coroutine executed commands (based on async and reactive commands) for the Geo-API.
  *
  * @author Mikhael Sokolov
  * @author Mark Paluch
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisGeoReactiveCommands<K, V>) : RedisGeoCoroutinesCommands<K, V> {
+internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisGeoReactiveCommands<K, V>,
+    internal val async: RedisGeoAsyncCommands<K, V>
+) : RedisGeoCoroutinesCommands<K, V> {
 
     override suspend fun geoadd(
         key: K,
         longitude: Double,
         latitude: Double,
         member: V
-    ): Long? = ops.geoadd(key, longitude, latitude, member).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.geoadd(key, longitude, latitude, member) }
 
     override suspend fun geoadd(
         key: K,
@@ -51,31 +54,31 @@ internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         latitude: Double,
         member: V,
         args: GeoAddArgs
-    ): Long? = ops.geoadd(key, longitude, latitude, member, args).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.geoadd(key, longitude, latitude, member, args) }
 
     override suspend fun geoadd(key: K, vararg lngLatMember: Any): Long? =
-        ops.geoadd(key, *lngLatMember).awaitFirstOrNull()
+        awaitOrNull { async.geoadd(key, *lngLatMember) }
 
     override suspend fun geoadd(key: K, vararg values: GeoValue<V>): Long? =
-        ops.geoadd(key, *values).awaitFirstOrNull()
+        awaitOrNull { async.geoadd(key, *values) }
 
     override suspend fun geoadd(
         key: K,
         args: GeoAddArgs,
         vararg lngLatMember: Any
-    ): Long? = ops.geoadd(key, args, *lngLatMember).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.geoadd(key, args, *lngLatMember) }
 
     override suspend fun geoadd(
         key: K,
         args: GeoAddArgs,
         vararg values: GeoValue<V>
-    ): Long? = ops.geoadd(key, args, *values).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.geoadd(key, args, *values) }
 
     override suspend fun geopos(key: K, vararg members: V): List<GeoCoordinates> =
         ops.geopos(key, *members).map { it.value }.asFlow().toList()
 
     override suspend fun geodist(key: K, from: V, to: V, unit: GeoArgs.Unit): Double? =
-        ops.geodist(key, from, to, unit).awaitFirstOrNull()
+        awaitOrNull { async.geodist(key, from, to, unit) }
 
     override fun geohash(key: K, vararg members: V): Flow<Value<String>> =
         ops.geohash(key, *members).asFlow()
@@ -98,18 +101,18 @@ internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
     ): Flow<GeoWithin<V>> =
         ops.georadius(key, longitude, latitude, distance, unit, geoArgs).asFlow()
 
-    override suspend fun georadius(key: K, longitude: Double, latitude: Double, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs).awaitFirstOrNull()
+    override suspend fun georadius(key: K, longitude: Double, latitude: Double, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = awaitOrNull { async.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs) }
 
     override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit): Flow<V> = ops.georadiusbymember(key, member, distance, unit).asFlow()
 
     override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoArgs: GeoArgs): Flow<GeoWithin<V>> = ops.georadiusbymember(key, member, distance, unit, geoArgs).asFlow()
 
-    override suspend fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs).awaitFirstOrNull()
+    override suspend fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = awaitOrNull { async.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs) }
 
     override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate): Flow<V> = ops.geosearch(key, reference, predicate).asFlow()
 
     override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs): Flow<GeoWithin<V>>  = ops.geosearch(key, reference, predicate, geoArgs).asFlow()
 
-    override suspend fun geosearchstore(destination: K, key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs, storeDist: Boolean): Long? = ops.geosearchstore(destination, key, reference, predicate, geoArgs, storeDist).awaitFirstOrNull()
+    override suspend fun geosearchstore(destination: K, key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs, storeDist: Boolean): Long? = awaitOrNull { async.geosearchstore(destination, key, reference, predicate, geoArgs, storeDist) }
 }
 
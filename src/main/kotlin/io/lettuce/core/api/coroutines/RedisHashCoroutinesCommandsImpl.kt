@@ -21,18 +21,18 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisHashAsyncCommands
 import io.lettuce.core.api.reactive.RedisHashReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 import java.time.Duration
 import java.time.Instant
 import java.util.*
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Hashes (Key-Value pairs).
+ * Coroutine executed commands (based on async and reactive commands) for Hashes (Key-Value pairs).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -40,86 +40,89 @@ import java.util.*
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisHashCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisHashReactiveCommands<K, V>) : RedisHashCoroutinesCommands<K, V> {
+internal class RedisHashCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisHashReactiveCommands<K, V>,
+    internal val async: RedisHashAsyncCommands<K, V>
+) : RedisHashCoroutinesCommands<K, V> {
 
-    override suspend fun hdel(key: K, vararg fields: K): Long? = ops.hdel(key, *fields).awaitFirstOrNull()
+    override suspend fun hdel(key: K, vararg fields: K): Long? = awaitOrNull { async.hdel(key, *fields) }
 
-    override suspend fun hexists(key: K, field: K): Boolean? = ops.hexists(key, field).awaitFirstOrNull()
+    override suspend fun hexists(key: K, field: K): Boolean? = awaitOrNull { async.hexists(key, field) }
 
-    override suspend fun hget(key: K, field: K): V? = ops.hget(key, field).awaitFirstOrNull()
+    override suspend fun hget(key: K, field: K): V? = awaitOrNull { async.hget(key, field) }
 
-    override suspend fun hincrby(key: K, field: K, amount: Long): Long? = ops.hincrby(key, field, amount).awaitFirstOrNull()
+    override suspend fun hincrby(key: K, field: K, amount: Long): Long? = awaitOrNull { async.hincrby(key, field, amount) }
 
     override suspend fun hincrbyfloat(key: K, field: K, amount: Double): Double? =
-        ops.hincrbyfloat(key, field, amount).awaitFirstOrNull()
+        awaitOrNull { async.hincrbyfloat(key, field, amount) }
 
     override fun hgetall(key: K): Flow<KeyValue<K, V>> = ops.hgetall(key).asFlow()
 
     override fun hkeys(key: K): Flow<K> = ops.hkeys(key).asFlow()
 
-    override suspend fun hlen(key: K): Long? = ops.hlen(key).awaitFirstOrNull()
+    override suspend fun hlen(key: K): Long? = awaitOrNull { async.hlen(key) }
 
     override fun hmget(key: K, vararg fields: K): Flow<KeyValue<K, V>> =
         ops.hmget(key, *fields).asFlow()
 
     override suspend fun hsetex(key: K, hSetExArgs: HSetExArgs, map: Map<K, V>): Long? =
-        ops.hsetex(key, hSetExArgs, map).awaitFirstOrNull()
+        awaitOrNull { async.hsetex(key, hSetExArgs, map) }
 
     override fun hgetex(key: K, hGetExArgs: HGetExArgs, vararg fields: K): Flow<KeyValue<K, V>> = ops.hgetex(key, hGetExArgs, *fields).asFlow()
 
     override fun hgetdel(key: K, vararg fields: K): Flow<KeyValue<K, V>> = ops.hgetdel(key, *fields).asFlow()
 
-    override suspend fun hrandfield(key: K): K? = ops.hrandfield(key).awaitFirstOrNull();
+    override suspend fun hrandfield(key: K): K? = awaitOrNull { async.hrandfield(key) };
 
     override suspend fun hrandfield(key: K, count: Long): List<K> =
         ops.hrandfield(key, count).asFlow().toList()
 
     override suspend fun hrandfieldWithvalues(key: K): KeyValue<K, V>? =
-        ops.hrandfieldWithvalues(key).awaitFirstOrNull();
+        awaitOrNull { async.hrandfieldWithvalues(key) };
 
     override suspend fun hrandfieldWithvalues(key: K, count: Long): List<KeyValue<K, V>> =
         ops.hrandfieldWithvalues(key, count).asFlow().toList()
 
     override suspend fun hmset(key: K, map: Map<K, V>): String? =
-        ops.hmset(key, map).awaitFirstOrNull()
+        awaitOrNull { async.hmset(key, map) }
 
     override suspend fun hscan(key: K): MapScanCursor<K, V>? =
-        ops.hscan(key).awaitFirstOrNull()
+        awaitOrNull { async.hscan(key) }
 
     override suspend fun hscanNovalues(key: K): KeyScanCursor<K>? =
-        ops.hscanNovalues(key).awaitFirstOrNull()
+        awaitOrNull { async.hscanNovalues(key) }
 
     override suspend fun hscan(key: K, scanArgs: ScanArgs): MapScanCursor<K, V>? =
-        ops.hscan(key, scanArgs).awaitFirstOrNull()
+        awaitOrNull { async.hscan(key, scanArgs) }
 
     override suspend fun hscanNovalues(key: K, scanArgs: ScanArgs): KeyScanCursor<K>? =
-        ops.hscanNovalues(key, scanArgs).awaitFirstOrNull()
+        awaitOrNull { async.hscanNovalues(key, scanArgs) }
 
     override suspend fun hscan(
         key: K,
         scanCursor: ScanCursor,
         scanArgs: ScanArgs
-    ): MapScanCursor<K, V>? = ops.hscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    ): MapScanCursor<K, V>? = awaitOrNull { async.hscan(key, scanCursor, scanArgs) }
 
     override suspend fun hscanNovalues(
         key: K,
         scanCursor: ScanCursor,
         scanArgs: ScanArgs
-    ): KeyScanCursor<K>? = ops.hscanNovalues(key, scanCursor, scanArgs).awaitFirstOrNull()
+    ): KeyScanCursor<K>? = awaitOrNull { async.hscanNovalues(key, scanCursor, scanArgs) }
 
     override suspend fun hscan(key: K, scanCursor: ScanCursor): MapScanCursor<K, V>? =
-        ops.hscan(key, scanCursor).awaitFirstOrNull()
+        awaitOrNull { async.hscan(key, scanCursor) }
 
     override suspend fun hscanNovalues(key: K, scanCursor: ScanCursor): KeyScanCursor<K>? =
-        ops.hscanNovalues(key, scanCursor).awaitFirstOrNull()
+        awaitOrNull { async.hscanNovalues(key, scanCursor) }
 
-    override suspend fun hset(key: K, field: K, value: V): Boolean? = ops.hset(key, field, value).awaitFirstOrNull()
+    override suspend fun hset(key: K, field: K, value: V): Boolean? = awaitOrNull { async.hset(key, field, value) }
 
-    override suspend fun hset(key: K, map: Map<K, V>): Long? = ops.hset(key, map).awaitFirstOrNull()
+    override suspend fun hset(key: K, map: Map<K, V>): Long? = awaitOrNull { async.hset(key, map) }
 
-    override suspend fun hsetnx(key: K, field: K, value: V): Boolean? = ops.hsetnx(key, field, value).awaitFirstOrNull()
+    override suspend fun hsetnx(key: K, field: K, value: V): Boolean? = awaitOrNull { async.hsetnx(key, field, value) }
 
-    override suspend fun hstrlen(key: K, field: K): Long? = ops.hstrlen(key, field).awaitFirstOrNull()
+    override suspend fun hstrlen(key: K, field: K): Long? = awaitOrNull { async.hstrlen(key, field) }
 
     override fun hvals(key: K): Flow<V> = ops.hvals(key).asFlow()
 
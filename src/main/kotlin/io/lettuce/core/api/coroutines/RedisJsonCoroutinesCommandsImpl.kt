@@ -8,6 +8,7 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisJsonAsyncCommands
 import io.lettuce.core.api.reactive.RedisJsonReactiveCommands
 import io.lettuce.core.json.JsonPath
 import io.lettuce.core.json.JsonType
@@ -18,10 +19,9 @@ import io.lettuce.core.json.arguments.JsonRangeArgs
 import io.lettuce.core.json.arguments.JsonSetArgs
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 /**
- * Coroutine executed commands (based on reactive commands) for Keys (Key manipulation/querying).
+ * Coroutine executed commands (based on async and reactive commands) for Keys (Key manipulation/querying).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -29,8 +29,10 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.5
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisJsonReactiveCommands<K, V>) :
-    RedisJsonCoroutinesCommands<K, V> {
+internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisJsonReactiveCommands<K, V>,
+    internal val async: RedisJsonAsyncCommands<K, V>
+) : RedisJsonCoroutinesCommands<K, V> {
     override suspend fun jsonArrappend(key: K, jsonPath: JsonPath, vararg values: JsonValue): List<Long> =
         ops.jsonArrappend(key, jsonPath, *values).asFlow().toList()
 
@@ -71,14 +73,14 @@ internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
         ops.jsonArrtrim(key, jsonPath, range).asFlow().toList()
 
     override suspend fun jsonClear(key: K, jsonPath: JsonPath): Long? =
-        ops.jsonClear(key, jsonPath).awaitFirstOrNull()
+        awaitOrNull { async.jsonClear(key, jsonPath) }
 
-    override suspend fun jsonClear(key: K): Long? = ops.jsonClear(key).awaitFirstOrNull()
+    override suspend fun jsonClear(key: K): Long? = awaitOrNull { async.jsonClear(key) }
 
     override suspend fun jsonDel(key: K, jsonPath: JsonPath): Long? =
-        ops.jsonDel(key, jsonPath).awaitFirstOrNull()
+        awaitOrNull { async.jsonDel(key, jsonPath) }
 
-    override suspend fun jsonDel(key: K): Long? = ops.jsonDel(key).awaitFirstOrNull()
+    override suspend fun jsonDel(key: K): Long? = awaitOrNull { async.jsonDel(key) }
 
     override suspend fun jsonGet(key: K, options: JsonGetArgs, vararg jsonPaths: JsonPath): List<JsonValue> =
         ops.jsonGet(key, options, *jsonPaths).asFlow().toList()
@@ -87,13 +89,13 @@ internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
         ops.jsonGet(key, *jsonPaths).asFlow().toList()
 
     override suspend fun jsonMerge(key: K, jsonPath: JsonPath, value: JsonValue): String? =
-        ops.jsonMerge(key, jsonPath, value).awaitFirstOrNull()
+        awaitOrNull { async.jsonMerge(key, jsonPath, value) }
 
     override suspend fun jsonMGet(jsonPath: JsonPath, vararg keys: K): List<JsonValue> =
         ops.jsonMGet(jsonPath, *keys).asFlow().toList()
 
     override suspend fun jsonMSet(arguments: List<JsonMsetArgs<K, V>>): String? =
-        ops.jsonMSet(arguments).awaitFirstOrNull()
+        awaitOrNull { async.jsonMSet(arguments) }
 
     override suspend fun jsonType(key: K, jsonPath: JsonPath): List<JsonType> =
         ops.jsonType(key, jsonPath).asFlow().toList()
@@ -115,10 +117,10 @@ internal class RedisJsonCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
         ops.jsonStrappend(key, value).asFlow().toList()
 
     override suspend fun jsonSet(key: K, jsonPath: JsonPath, value: JsonValue, options: JsonSetArgs): String? =
-        ops.jsonSet(key, jsonPath, value, options).awaitFirstOrNull()
+        awaitOrNull { async.jsonSet(key, jsonPath, value, options) }
 
     override suspend fun jsonSet(key: K, jsonPath: JsonPath, value: JsonValue): String? =
-        ops.jsonSet(key, jsonPath, value).awaitFirstOrNull()
+        awaitOrNull { async.jsonSet(key, jsonPath, value) }
 
     override suspend fun jsonObjlen(key: K, jsonPath: JsonPath): List<Long> =
         ops.jsonObjlen(key, jsonPath).asFlow().toList()
@@ -21,16 +21,16 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisKeyAsyncCommands
 import io.lettuce.core.api.reactive.RedisKeyReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 import java.time.Duration
 import java.time.Instant
 import java.util.*
 
 /**
- * Coroutine executed commands (based on reactive commands) for Keys (Key manipulation/querying).
+ * Coroutine executed commands (based on async and reactive commands) for Keys (Key manipulation/querying).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -38,75 +38,77 @@ import java.util.*
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisKeyReactiveCommands<K, V>) :
-    RedisKeyCoroutinesCommands<K, V> {
+internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisKeyReactiveCommands<K, V>,
+    internal val async: RedisKeyAsyncCommands<K, V>
+) : RedisKeyCoroutinesCommands<K, V> {
 
     override suspend fun copy(source: K, destination: K): Boolean? =
-        ops.copy(source, destination).awaitFirstOrNull()
+        awaitOrNull { async.copy(source, destination) }
 
     override suspend fun copy(source: K, destination: K, copyArgs: CopyArgs): Boolean? =
-        ops.copy(source, destination, copyArgs).awaitFirstOrNull()
+        awaitOrNull { async.copy(source, destination, copyArgs) }
 
-    override suspend fun del(vararg keys: K): Long? = ops.del(*keys).awaitFirstOrNull()
+    override suspend fun del(vararg keys: K): Long? = awaitOrNull { async.del(*keys) }
 
     override suspend fun unlink(vararg keys: K): Long? =
-        ops.unlink(*keys).awaitFirstOrNull()
+        awaitOrNull { async.unlink(*keys) }
 
-    override suspend fun dump(key: K): ByteArray? = ops.dump(key).awaitFirstOrNull()
+    override suspend fun dump(key: K): ByteArray? = awaitOrNull { async.dump(key) }
 
     override suspend fun exists(vararg keys: K): Long? =
-        ops.exists(*keys).awaitFirstOrNull()
+        awaitOrNull { async.exists(*keys) }
 
     override suspend fun expire(key: K, seconds: Long): Boolean? =
-        ops.expire(key, seconds).awaitFirstOrNull()
+        awaitOrNull { async.expire(key, seconds) }
 
     override suspend fun expire(key: K, seconds: Long, expireArgs: ExpireArgs): Boolean? =
-        ops.expire(key, seconds, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.expire(key, seconds, expireArgs) }
 
 
     override suspend fun expire(key: K, seconds: Duration): Boolean? =
-        ops.expire(key, seconds).awaitFirstOrNull()
+        awaitOrNull { async.expire(key, seconds) }
 
     override suspend fun expire(
         key: K,
         seconds: Duration,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expire(key, seconds, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.expire(key, seconds, expireArgs) }
 
     override suspend fun expireat(key: K, timestamp: Date): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp) }
 
     override suspend fun expireat(
         key: K,
         timestamp: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp, expireArgs) }
 
     override suspend fun expireat(key: K, timestamp: Instant): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp) }
 
     override suspend fun expireat(
         key: K,
         timestamp: Instant,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp, expireArgs) }
 
     override suspend fun expireat(key: K, timestamp: Long): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp) }
 
     override suspend fun expireat(
         key: K,
         timestamp: Date,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.expireat(key, timestamp, expireArgs) }
 
 
     override suspend fun expiretime(key: K): Long? =
-        ops.expiretime(key).awaitFirstOrNull()
+        awaitOrNull { async.expiretime(key) }
 
     override fun keys(pattern: K): Flow<K> = ops.keys(pattern).asFlow()
 
@@ -116,7 +118,7 @@ internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         key: K,
         db: Int,
         timeout: Long
-    ): String? = ops.migrate(host, port, key, db, timeout).awaitFirstOrNull()
+    ): String? = awaitOrNull { async.migrate(host, port, key, db, timeout) }
 
     override suspend fun migrate(
         host: String,
@@ -124,93 +126,93 @@ internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         db: Int,
         timeout: Long,
         migrateArgs: MigrateArgs<K>
-    ): String? = ops.migrate(host, port, db, timeout, migrateArgs).awaitFirstOrNull()
+    ): String? = awaitOrNull { async.migrate(host, port, db, timeout, migrateArgs) }
 
     override suspend fun move(key: K, db: Int): Boolean? =
-        ops.move(key, db).awaitFirstOrNull()
+        awaitOrNull { async.move(key, db) }
 
     override suspend fun objectEncoding(key: K): String? =
-        ops.objectEncoding(key).awaitFirstOrNull()
+        awaitOrNull { async.objectEncoding(key) }
 
     override suspend fun objectFreq(key: K): Long? =
-        ops.objectFreq(key).awaitFirstOrNull()
+        awaitOrNull { async.objectFreq(key) }
 
     override suspend fun objectIdletime(key: K): Long? =
-        ops.objectIdletime(key).awaitFirstOrNull()
+        awaitOrNull { async.objectIdletime(key) }
 
     override suspend fun objectRefcount(key: K): Long? =
-        ops.objectRefcount(key).awaitFirstOrNull()
+        awaitOrNull { async.objectRefcount(key) }
 
-    override suspend fun persist(key: K): Boolean? = ops.persist(key).awaitFirstOrNull()
+    override suspend fun persist(key: K): Boolean? = awaitOrNull { async.persist(key) }
 
     override suspend fun pexpire(key: K, milliseconds: Long): Boolean? =
-        ops.pexpire(key, milliseconds).awaitFirstOrNull()
+        awaitOrNull { async.pexpire(key, milliseconds) }
 
     override suspend fun pexpire(
         key: K,
         milliseconds: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpire(key, milliseconds, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.pexpire(key, milliseconds, expireArgs) }
 
     override suspend fun pexpire(key: K, milliseconds: Duration): Boolean? =
-        ops.pexpire(key, milliseconds).awaitFirstOrNull()
+        awaitOrNull { async.pexpire(key, milliseconds) }
 
     override suspend fun pexpire(
         key: K,
         milliseconds: Duration,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpire(key, milliseconds, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.pexpire(key, milliseconds, expireArgs) }
 
     override suspend fun pexpireat(key: K, timestamp: Long): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp) }
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp, expireArgs) }
 
     override suspend fun pexpireat(key: K, timestamp: Date): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp) }
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Date,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp, expireArgs) }
 
     override suspend fun pexpireat(key: K, timestamp: Instant): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp) }
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Instant,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        awaitOrNull { async.pexpireat(key, timestamp, expireArgs) }
 
     override suspend fun pexpiretime(key: K): Long? =
-        ops.pexpiretime(key).awaitFirstOrNull()
+        awaitOrNull { async.pexpiretime(key) }
 
-    override suspend fun pttl(key: K): Long? = ops.pttl(key).awaitFirstOrNull()
+    override suspend fun pttl(key: K): Long? = awaitOrNull { async.pttl(key) }
 
-    override suspend fun randomkey(): K? = ops.randomkey().awaitFirstOrNull()
+    override suspend fun randomkey(): K? = awaitOrNull { async.randomkey() }
 
     override suspend fun rename(key: K, newKey: K): String? =
-        ops.rename(key, newKey).awaitFirstOrNull()
+        awaitOrNull { async.rename(key, newKey) }
 
     override suspend fun renamenx(key: K, newKey: K): Boolean? =
-        ops.renamenx(key, newKey).awaitFirstOrNull()
+        awaitOrNull { async.renamenx(key, newKey) }
 
     override suspend fun restore(key: K, ttl: Long, value: ByteArray): String? =
-        ops.restore(key, ttl, value).awaitFirstOrNull()
+        awaitOrNull { async.restore(key, ttl, value) }
 
     override suspend fun restore(key: K, value: ByteArray, args: RestoreArgs): String? =
-        ops.restore(key, value, args).awaitFirstOrNull()
+        awaitOrNull { async.restore(key, value, args) }
 
     override fun sort(key: K): Flow<V> = ops.sort(key).asFlow()
 
@@ -223,27 +225,27 @@ internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         ops.sortReadOnly(key, sortArgs).asFlow()
 
     override suspend fun sortStore(key: K, sortArgs: SortArgs, destination: K): Long? =
-        ops.sortStore(key, sortArgs, destination).awaitFirstOrNull()
+        awaitOrNull { async.sortStore(key, sortArgs, destination) }
 
     override suspend fun touch(vararg keys: K): Long? =
-        ops.touch(*keys).awaitFirstOrNull()
+        awaitOrNull { async.touch(*keys) }
 
-    override suspend fun ttl(key: K): Long? = ops.ttl(key).awaitFirstOrNull()
+    override suspend fun ttl(key: K): Long? = awaitOrNull { async.ttl(key) }
 
-    override suspend fun type(key: K): String? = ops.type(key).awaitFirstOrNull()
+    override suspend fun type(key: K): String? = awaitOrNull { async.type(key) }
 
-    override suspend fun scan(): KeyScanCursor<K>? = ops.scan().awaitFirstOrNull()
+    override suspend fun scan(): KeyScanCursor<K>? = awaitOrNull { async.scan() }
 
     override suspend fun scan(scanArgs: ScanArgs): KeyScanCursor<K>? =
-        ops.scan(scanArgs).awaitFirstOrNull()
+        awaitOrNull { async.scan(scanArgs) }
 
     override suspend fun scan(
         scanCursor: ScanCursor,
         scanArgs: ScanArgs
-    ): KeyScanCursor<K>? = ops.scan(scanCursor, scanArgs).awaitFirstOrNull()
+    ): KeyScanCursor<K>? = awaitOrNull { async.scan(scanCursor, scanArgs) }
 
     override suspend fun scan(scanCursor: ScanCursor): KeyScanCursor<K>? =
-        ops.scan(scanCursor).awaitFirstOrNull()
+        awaitOrNull { async.scan(scanCursor) }
 
 }
 
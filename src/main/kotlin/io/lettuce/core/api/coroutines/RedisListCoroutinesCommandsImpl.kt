@@ -21,14 +21,14 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisListAsyncCommands
 import io.lettuce.core.api.reactive.RedisListReactiveCommands
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Lists.
+ * Coroutine executed commands (based on async and reactive commands) for Lists.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -38,79 +38,81 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisListReactiveCommands<K, V>) :
-    RedisListCoroutinesCommands<K, V> {
+internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisListReactiveCommands<K, V>,
+    internal val async: RedisListAsyncCommands<K, V>
+) : RedisListCoroutinesCommands<K, V> {
 
     override suspend fun blmove(
         source: K,
         destination: K,
         args: LMoveArgs,
         timeout: Long
-    ): V? = ops.blmove(source, destination, args, timeout).awaitFirstOrNull()
+    ): V? = awaitOrNull { async.blmove(source, destination, args, timeout) }
 
     override suspend fun blmove(
         source: K,
         destination: K,
         args: LMoveArgs,
         timeout: Double
-    ): V? = ops.blmove(source, destination, args, timeout).awaitFirstOrNull()
+    ): V? = awaitOrNull { async.blmove(source, destination, args, timeout) }
 
     override suspend fun blmpop(
         timeout: Long,
         args: LMPopArgs,
         vararg keys: K
     ): KeyValue<K, List<V>>? =
-        ops.blmpop(timeout, args, *keys).awaitFirstOrNull()
+        awaitOrNull { async.blmpop(timeout, args, *keys) }
 
     override suspend fun blmpop(
         timeout: Double,
         args: LMPopArgs,
         vararg keys: K
     ): KeyValue<K, List<V>>? =
-        ops.blmpop(timeout, args, *keys).awaitFirstOrNull()
+        awaitOrNull { async.blmpop(timeout, args, *keys) }
 
     override suspend fun blpop(timeout: Long, vararg keys: K): KeyValue<K, V>? =
-        ops.blpop(timeout, *keys).awaitFirstOrNull()
+        awaitOrNull { async.blpop(timeout, *keys) }
 
     override suspend fun blpop(timeout: Double, vararg keys: K): KeyValue<K, V>? =
-        ops.blpop(timeout, *keys).awaitFirstOrNull()
+        awaitOrNull { async.blpop(timeout, *keys) }
 
     override suspend fun brpop(timeout: Long, vararg keys: K): KeyValue<K, V>? =
-        ops.brpop(timeout, *keys).awaitFirstOrNull()
+        awaitOrNull { async.brpop(timeout, *keys) }
 
     override suspend fun brpop(timeout: Double, vararg keys: K): KeyValue<K, V>? =
-        ops.brpop(timeout, *keys).awaitFirstOrNull()
+        awaitOrNull { async.brpop(timeout, *keys) }
 
     override suspend fun brpoplpush(timeout: Long, source: K, destination: K): V? =
-        ops.brpoplpush(timeout, source, destination).awaitFirstOrNull()
+        awaitOrNull { async.brpoplpush(timeout, source, destination) }
 
     override suspend fun brpoplpush(timeout: Double, source: K, destination: K): V? =
-        ops.brpoplpush(timeout, source, destination).awaitFirstOrNull()
+        awaitOrNull { async.brpoplpush(timeout, source, destination) }
 
     override suspend fun lindex(key: K, index: Long): V? =
-        ops.lindex(key, index).awaitFirstOrNull()
+        awaitOrNull { async.lindex(key, index) }
 
     override suspend fun linsert(key: K, before: Boolean, pivot: V, value: V): Long? =
-        ops.linsert(key, before, pivot, value).awaitFirstOrNull()
+        awaitOrNull { async.linsert(key, before, pivot, value) }
 
-    override suspend fun llen(key: K): Long? = ops.llen(key).awaitFirstOrNull()
+    override suspend fun llen(key: K): Long? = awaitOrNull { async.llen(key) }
 
     override suspend fun lmove(source: K, destination: K, args: LMoveArgs): V? =
-        ops.lmove(source, destination, args).awaitFirstOrNull()
+        awaitOrNull { async.lmove(source, destination, args) }
 
     override suspend fun lmpop(args: LMPopArgs, vararg keys: K): KeyValue<K, List<V>>? =
-        ops.lmpop(args, *keys).awaitFirstOrNull()
+        awaitOrNull { async.lmpop(args, *keys) }
 
-    override suspend fun lpop(key: K): V? = ops.lpop(key).awaitFirstOrNull()
+    override suspend fun lpop(key: K): V? = awaitOrNull { async.lpop(key) }
 
     override suspend fun lpop(key: K, count: Long): List<V> =
         ops.lpop(key, count).asFlow().toList()
 
     override suspend fun lpos(key: K, value: V): Long? =
-        ops.lpos(key, value).awaitFirstOrNull()
+        awaitOrNull { async.lpos(key, value) }
 
     override suspend fun lpos(key: K, value: V, args: LPosArgs): Long? =
-        ops.lpos(key, value, args).awaitFirstOrNull()
+        awaitOrNull { async.lpos(key, value, args) }
 
     override suspend fun lpos(key: K, value: V, count: Int): List<Long> =
         ops.lpos(key, value, count).asFlow().toList()
@@ -119,35 +121,35 @@ internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
         ops.lpos(key, value, count, args).asFlow().toList()
 
     override suspend fun lpush(key: K, vararg values: V): Long? =
-        ops.lpush(key, *values).awaitFirstOrNull()
+        awaitOrNull { async.lpush(key, *values) }
 
     override suspend fun lpushx(key: K, vararg values: V): Long? =
-        ops.lpushx(key, *values).awaitFirstOrNull()
+        awaitOrNull { async.lpushx(key, *values) }
 
     override suspend fun lrange(key: K, start: Long, stop: Long): List<V> =
         ops.lrange(key, start, stop).asFlow().toList()
 
     override suspend fun lrem(key: K, count: Long, value: V): Long? =
-        ops.lrem(key, count, value).awaitFirstOrNull()
+        awaitOrNull { async.lrem(key, count, value) }
 
     override suspend fun lset(key: K, index: Long, value: V): String? =
-        ops.lset(key, index, value).awaitFirstOrNull()
+        awaitOrNull { async.lset(key, index, value) }
 
     override suspend fun ltrim(key: K, start: Long, stop: Long): String? =
-        ops.ltrim(key, start, stop).awaitFirstOrNull()
+        awaitOrNull { async.ltrim(key, start, stop) }
 
-    override suspend fun rpop(key: K): V? = ops.rpop(key).awaitFirstOrNull()
+    override suspend fun rpop(key: K): V? = awaitOrNull { async.rpop(key) }
 
     override suspend fun rpop(key: K, count: Long): List<V> =
         ops.rpop(key, count).asFlow().toList()
 
     override suspend fun rpoplpush(source: K, destination: K): V? =
-        ops.rpoplpush(source, destination).awaitFirstOrNull()
+        awaitOrNull { async.rpoplpush(source, destination) }
 
     override suspend fun rpush(key: K, vararg values: V): Long? =
-        ops.rpush(key, *values).awaitFirstOrNull()
+        awaitOrNull { async.rpush(key, *values) }
 
     override suspend fun rpushx(key: K, vararg values: V): Long? =
-        ops.rpushx(key, *values).awaitFirstOrNull()
+        awaitOrNull { async.rpushx(key, *values) }
 }
 
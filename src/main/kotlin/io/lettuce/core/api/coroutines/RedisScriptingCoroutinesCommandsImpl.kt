@@ -23,14 +23,16 @@ package io.lettuce.core.api.coroutines
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.FlushMode
 import io.lettuce.core.ScriptOutputType
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands
 import io.lettuce.core.api.reactive.RedisScriptingReactiveCommands
+import io.lettuce.core.awaitOrNull
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Scripting. [Lua scripts][java.lang.String] are encoded by using the configured
+ * Coroutine executed commands (based on async and reactive commands) for Scripting. [Lua scripts][java.lang.String] are encoded by using the configured
  * [charset][io.lettuce.core.ClientOptions#getScriptCharset()].
  *
  * @param <K> Key type.
@@ -41,7 +43,10 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisScriptingCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisScriptingReactiveCommands<K, V>) : RedisScriptingCoroutinesCommands<K, V> {
+internal class RedisScriptingCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisScriptingReactiveCommands<K, V>,
+    internal val async: RedisScriptingAsyncCommands<K, V>
+) : RedisScriptingCoroutinesCommands<K, V> {
 
     override suspend fun <T> eval(script: String, type: ScriptOutputType, vararg keys: K): T? = ops.eval<T>(script, type, *keys).awaitFirstOrNull()
 
@@ -78,15 +83,15 @@ internal class RedisScriptingCoroutinesCommandsImpl<K : Any, V : Any>(internal v
 
     override suspend fun scriptExists(vararg digests: String): List<Boolean> = ops.scriptExists(*digests).asFlow().toList()
 
-    override suspend fun scriptFlush(): String? = ops.scriptFlush().awaitFirstOrNull()
+    override suspend fun scriptFlush(): String? = awaitOrNull { async.scriptFlush() }
 
-    override suspend fun scriptFlush(flushMode: FlushMode): String? = ops.scriptFlush(flushMode).awaitFirstOrNull()
+    override suspend fun scriptFlush(flushMode: FlushMode): String? = awaitOrNull { async.scriptFlush(flushMode) }
 
-    override suspend fun scriptKill(): String? = ops.scriptKill().awaitFirstOrNull()
+    override suspend fun scriptKill(): String? = awaitOrNull { async.scriptKill() }
 
-    override suspend fun scriptLoad(script: String): String? = ops.scriptLoad(script).awaitFirstOrNull()
+    override suspend fun scriptLoad(script: String): String? = awaitOrNull { async.scriptLoad(script) }
 
-    override suspend fun scriptLoad(script: ByteArray): String? = ops.scriptLoad(script).awaitFirstOrNull()
+    override suspend fun scriptLoad(script: ByteArray): String? = awaitOrNull { async.scriptLoad(script) }
 
     override suspend fun digest(script: String): String = ops.digest(script)
 
@@ -22,6 +22,7 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
 import io.lettuce.core.TrackingInfo
+import io.lettuce.core.api.async.RedisServerAsyncCommands
 import io.lettuce.core.api.reactive.RedisServerReactiveCommands
 import io.lettuce.core.protocol.CommandType
 import kotlinx.coroutines.flow.toList
@@ -31,7 +32,7 @@ import java.util.*
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Server Control.
+ * Coroutine executed commands (based on async and reactive commands) for Server Control.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -41,112 +42,115 @@ import java.util.*
  * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisServerCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisServerReactiveCommands<K, V>) : RedisServerCoroutinesCommands<K, V> {
+internal class RedisServerCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisServerReactiveCommands<K, V>,
+    internal val async: RedisServerAsyncCommands<K, V>
+) : RedisServerCoroutinesCommands<K, V> {
 
-    override suspend fun bgrewriteaof(): String? = ops.bgrewriteaof().awaitFirstOrNull()
+    override suspend fun bgrewriteaof(): String? = awaitOrNull { async.bgrewriteaof() }
 
-    override suspend fun bgsave(): String? = ops.bgsave().awaitFirstOrNull()
+    override suspend fun bgsave(): String? = awaitOrNull { async.bgsave() }
 
-    override suspend fun clientCaching(enabled: Boolean): String? = ops.clientCaching(enabled).awaitFirstOrNull()
+    override suspend fun clientCaching(enabled: Boolean): String? = awaitOrNull { async.clientCaching(enabled) }
 
-    override suspend fun clientGetname(): K? = ops.clientGetname().awaitFirstOrNull()
+    override suspend fun clientGetname(): K? = awaitOrNull { async.clientGetname() }
 
-    override suspend fun clientGetredir(): Long? = ops.clientGetredir().awaitFirstOrNull()
+    override suspend fun clientGetredir(): Long? = awaitOrNull { async.clientGetredir() }
 
-    override suspend fun clientId(): Long? = ops.clientId().awaitFirstOrNull()
+    override suspend fun clientId(): Long? = awaitOrNull { async.clientId() }
 
-    override suspend fun clientKill(addr: String): String? = ops.clientKill(addr).awaitFirstOrNull()
+    override suspend fun clientKill(addr: String): String? = awaitOrNull { async.clientKill(addr) }
 
-    override suspend fun clientKill(killArgs: KillArgs): Long? = ops.clientKill(killArgs).awaitFirstOrNull()
+    override suspend fun clientKill(killArgs: KillArgs): Long? = awaitOrNull { async.clientKill(killArgs) }
 
-    override suspend fun clientList(): String? = ops.clientList().awaitFirstOrNull()
+    override suspend fun clientList(): String? = awaitOrNull { async.clientList() }
 
-    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).awaitFirstOrNull()
+    override suspend fun clientList(clientListArgs: ClientListArgs): String? = awaitOrNull { async.clientList(clientListArgs) }
 
-    override suspend fun clientInfo(): String? = ops.clientInfo().awaitFirstOrNull()
+    override suspend fun clientInfo(): String? = awaitOrNull { async.clientInfo() }
 
-    override suspend fun clientNoEvict(on: Boolean): String? = ops.clientNoEvict(on).awaitFirstOrNull()
+    override suspend fun clientNoEvict(on: Boolean): String? = awaitOrNull { async.clientNoEvict(on) }
 
-    override suspend fun clientPause(timeout: Long): String? = ops.clientPause(timeout).awaitFirstOrNull()
+    override suspend fun clientPause(timeout: Long): String? = awaitOrNull { async.clientPause(timeout) }
 
     override suspend fun clientSetinfo(key: String, value: String): String? =
-        ops.clientSetinfo(key, value).awaitFirstOrNull()
+        awaitOrNull { async.clientSetinfo(key, value) }
 
-    override suspend fun clientSetname(name: K): String? = ops.clientSetname(name).awaitFirstOrNull()
+    override suspend fun clientSetname(name: K): String? = awaitOrNull { async.clientSetname(name) }
 
-    override suspend fun clientTracking(args: TrackingArgs): String? = ops.clientTracking(args).awaitFirstOrNull()
+    override suspend fun clientTracking(args: TrackingArgs): String? = awaitOrNull { async.clientTracking(args) }
 
-    override suspend fun clientTrackinginfo(): TrackingInfo? = ops.clientTrackinginfo().awaitFirstOrNull()
+    override suspend fun clientTrackinginfo(): TrackingInfo? = awaitOrNull { async.clientTrackinginfo() }
 
-    override suspend fun clientUnblock(id: Long, type: UnblockType): Long? = ops.clientUnblock(id, type).awaitFirstOrNull()
+    override suspend fun clientUnblock(id: Long, type: UnblockType): Long? = awaitOrNull { async.clientUnblock(id, type) }
 
     override suspend fun command(): List<Any> = ops.command().asFlow().toList()
 
-    override suspend fun commandCount(): Long? = ops.commandCount().awaitFirstOrNull()
+    override suspend fun commandCount(): Long? = awaitOrNull { async.commandCount() }
 
     override suspend fun commandInfo(vararg commands: String): List<Any> = ops.commandInfo(*commands).asFlow().toList()
 
     override suspend fun commandInfo(vararg commands: CommandType): List<Any> = ops.commandInfo(*commands).asFlow().toList()
 
-    override suspend fun configGet(parameter: String): Map<String, String>? = ops.configGet(parameter).awaitFirstOrNull()
+    override suspend fun configGet(parameter: String): Map<String, String>? = awaitOrNull { async.configGet(parameter) }
 
-    override suspend fun configGet(vararg parameters: String): Map<String, String>? = ops.configGet(*parameters).awaitFirstOrNull()
+    override suspend fun configGet(vararg parameters: String): Map<String, String>? = awaitOrNull { async.configGet(*parameters) }
 
-    override suspend fun configResetstat(): String? = ops.configResetstat().awaitFirstOrNull()
+    override suspend fun configResetstat(): String? = awaitOrNull { async.configResetstat() }
 
-    override suspend fun configRewrite(): String? = ops.configRewrite().awaitFirstOrNull()
+    override suspend fun configRewrite(): String? = awaitOrNull { async.configRewrite() }
 
-    override suspend fun configSet(parameter: String, value: String): String? = ops.configSet(parameter, value).awaitFirstOrNull()
+    override suspend fun configSet(parameter: String, value: String): String? = awaitOrNull { async.configSet(parameter, value) }
 
-    override suspend fun configSet(kvs: Map<String, String>): String? = ops.configSet(kvs).awaitFirstOrNull()
+    override suspend fun configSet(kvs: Map<String, String>): String? = awaitOrNull { async.configSet(kvs) }
 
-    override suspend fun dbsize(): Long? = ops.dbsize().awaitFirstOrNull()
+    override suspend fun dbsize(): Long? = awaitOrNull { async.dbsize() }
 
-    override suspend fun debugCrashAndRecover(delay: Long): String? = ops.debugCrashAndRecover(delay).awaitFirstOrNull()
+    override suspend fun debugCrashAndRecover(delay: Long): String? = awaitOrNull { async.debugCrashAndRecover(delay) }
 
-    override suspend fun debugHtstats(db: Int): String? = ops.debugHtstats(db).awaitFirstOrNull()
+    override suspend fun debugHtstats(db: Int): String? = awaitOrNull { async.debugHtstats(db) }
 
-    override suspend fun debugObject(key: K): String? = ops.debugObject(key).awaitFirstOrNull()
+    override suspend fun debugObject(key: K): String? = awaitOrNull { async.debugObject(key) }
 
     override suspend fun debugOom() = ops.debugOom().awaitFirstOrNull().let { Unit }
 
-    override suspend fun debugReload(): String? = ops.debugReload().awaitFirstOrNull()
+    override suspend fun debugReload(): String? = awaitOrNull { async.debugReload() }
 
-    override suspend fun debugRestart(delay: Long): String? = ops.debugRestart(delay).awaitFirstOrNull()
+    override suspend fun debugRestart(delay: Long): String? = awaitOrNull { async.debugRestart(delay) }
 
-    override suspend fun debugSdslen(key: K): String? = ops.debugSdslen(key).awaitFirstOrNull()
+    override suspend fun debugSdslen(key: K): String? = awaitOrNull { async.debugSdslen(key) }
 
     override suspend fun debugSegfault() = ops.debugSegfault().awaitFirstOrNull().let { Unit }
 
-    override suspend fun flushall(): String? = ops.flushall().awaitFirstOrNull()
+    override suspend fun flushall(): String? = awaitOrNull { async.flushall() }
 
-    override suspend fun flushall(flushMode: FlushMode): String? = ops.flushall(flushMode).awaitFirstOrNull()
+    override suspend fun flushall(flushMode: FlushMode): String? = awaitOrNull { async.flushall(flushMode) }
 
-    override suspend fun flushallAsync(): String? = ops.flushallAsync().awaitFirstOrNull()
+    override suspend fun flushallAsync(): String? = awaitOrNull { async.flushallAsync() }
 
-    override suspend fun flushdb(): String? = ops.flushdb().awaitFirstOrNull()
+    override suspend fun flushdb(): String? = awaitOrNull { async.flushdb() }
 
-    override suspend fun flushdb(flushMode: FlushMode): String? = ops.flushdb(flushMode).awaitFirstOrNull()
+    override suspend fun flushdb(flushMode: FlushMode): String? = awaitOrNull { async.flushdb(flushMode) }
 
-    override suspend fun flushdbAsync(): String? = ops.flushdbAsync().awaitFirstOrNull()
+    override suspend fun flushdbAsync(): String? = awaitOrNull { async.flushdbAsync() }
 
-    override suspend fun info(): String? = ops.info().awaitFirstOrNull()
+    override suspend fun info(): String? = awaitOrNull { async.info() }
 
     override suspend fun info(section: String): String? =
-        ops.info(section).awaitFirstOrNull()
+        awaitOrNull { async.info(section) }
 
-    override suspend fun lastsave(): Date? = ops.lastsave().awaitFirstOrNull()
+    override suspend fun lastsave(): Date? = awaitOrNull { async.lastsave() }
 
     override suspend fun memoryUsage(key: K): Long? =
-        ops.memoryUsage(key).awaitFirstOrNull()
+        awaitOrNull { async.memoryUsage(key) }
 
     override suspend fun replicaof(host: String, port: Int): String? =
-        ops.replicaof(host, port).awaitFirstOrNull()
+        awaitOrNull { async.replicaof(host, port) }
 
     override suspend fun replicaofNoOne(): String? =
-        ops.replicaofNoOne().awaitFirstOrNull()
+        awaitOrNull { async.replicaofNoOne() }
 
-    override suspend fun save(): String? = ops.save().awaitFirstOrNull()
+    override suspend fun save(): String? = awaitOrNull { async.save() }
 
     override suspend fun shutdown(save: Boolean) =
         ops.shutdown(save).awaitFirstOrNull().let { Unit }
@@ -155,18 +159,18 @@ internal class RedisServerCoroutinesCommandsImpl<K : Any, V : Any>(internal val
         ops.shutdown(args).awaitFirstOrNull().let { Unit }
 
     override suspend fun slaveof(host: String, port: Int): String? =
-        ops.slaveof(host, port).awaitFirstOrNull()
+        awaitOrNull { async.slaveof(host, port) }
 
-    override suspend fun slaveofNoOne(): String? = ops.slaveofNoOne().awaitFirstOrNull()
+    override suspend fun slaveofNoOne(): String? = awaitOrNull { async.slaveofNoOne() }
 
     override suspend fun slowlogGet(): List<Any> = ops.slowlogGet().asFlow().toList()
 
     override suspend fun slowlogGet(count: Int): List<Any> =
         ops.slowlogGet(count).asFlow().toList()
 
-    override suspend fun slowlogLen(): Long? = ops.slowlogLen().awaitFirstOrNull()
+    override suspend fun slowlogLen(): Long? = awaitOrNull { async.slowlogLen() }
 
-    override suspend fun slowlogReset(): String? = ops.slowlogReset().awaitFirstOrNull()
+    override suspend fun slowlogReset(): String? = awaitOrNull { async.slowlogReset() }
 
     override suspend fun time(): List<V> = ops.time().asFlow().toList()
 
@@ -24,15 +24,16 @@ import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.ScanArgs
 import io.lettuce.core.ScanCursor
 import io.lettuce.core.ValueScanCursor
+import io.lettuce.core.api.async.RedisSetAsyncCommands
 import io.lettuce.core.api.reactive.RedisSetReactiveCommands
+import io.lettuce.core.awaitOrNull
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toSet
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Sets.
+ * Coroutine executed commands (based on async and reactive commands) for Sets.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -42,54 +43,57 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSetReactiveCommands<K, V>) : RedisSetCoroutinesCommands<K, V> {
+internal class RedisSetCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisSetReactiveCommands<K, V>,
+    internal val async: RedisSetAsyncCommands<K, V>
+) : RedisSetCoroutinesCommands<K, V> {
 
-    override suspend fun sadd(key: K, vararg members: V): Long? = ops.sadd(key, *members).awaitFirstOrNull()
+    override suspend fun sadd(key: K, vararg members: V): Long? = awaitOrNull { async.sadd(key, *members) }
 
-    override suspend fun scard(key: K): Long? = ops.scard(key).awaitFirstOrNull()
+    override suspend fun scard(key: K): Long? = awaitOrNull { async.scard(key) }
 
     override fun sdiff(vararg keys: K): Flow<V> = ops.sdiff(*keys).asFlow()
 
-    override suspend fun sdiffstore(destination: K, vararg keys: K): Long? = ops.sdiffstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sdiffstore(destination: K, vararg keys: K): Long? = awaitOrNull { async.sdiffstore(destination, *keys) }
 
     override fun sinter(vararg keys: K): Flow<V> = ops.sinter(*keys).asFlow()
 
-    override suspend fun sintercard(vararg keys: K): Long? = ops.sintercard(*keys).awaitFirstOrNull()
+    override suspend fun sintercard(vararg keys: K): Long? = awaitOrNull { async.sintercard(*keys) }
 
     override suspend fun sintercard(limit: Long, vararg keys: K): Long? =
-        ops.sintercard(limit, *keys).awaitFirstOrNull()
+        awaitOrNull { async.sintercard(limit, *keys) }
 
-    override suspend fun sinterstore(destination: K, vararg keys: K): Long? = ops.sinterstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sinterstore(destination: K, vararg keys: K): Long? = awaitOrNull { async.sinterstore(destination, *keys) }
 
-    override suspend fun sismember(key: K, member: V): Boolean? = ops.sismember(key, member).awaitFirstOrNull()
+    override suspend fun sismember(key: K, member: V): Boolean? = awaitOrNull { async.sismember(key, member) }
 
     override fun smembers(key: K): Flow<V> = ops.smembers(key).asFlow()
 
     override fun smismember(key: K, vararg members: V): Flow<Boolean> = ops.smismember(key, *members).asFlow()
 
-    override suspend fun smove(source: K, destination: K, member: V): Boolean? = ops.smove(source, destination, member).awaitFirstOrNull()
+    override suspend fun smove(source: K, destination: K, member: V): Boolean? = awaitOrNull { async.smove(source, destination, member) }
 
-    override suspend fun spop(key: K): V? = ops.spop(key).awaitFirstOrNull()
+    override suspend fun spop(key: K): V? = awaitOrNull { async.spop(key) }
 
     override suspend fun spop(key: K, count: Long): Set<V> = ops.spop(key, count).asFlow().toSet()
 
-    override suspend fun srandmember(key: K): V? = ops.srandmember(key).awaitFirstOrNull()
+    override suspend fun srandmember(key: K): V? = awaitOrNull { async.srandmember(key) }
 
     override fun srandmember(key: K, count: Long): Flow<V> = ops.srandmember(key, count).asFlow()
 
-    override suspend fun srem(key: K, vararg members: V): Long? = ops.srem(key, *members).awaitFirstOrNull()
+    override suspend fun srem(key: K, vararg members: V): Long? = awaitOrNull { async.srem(key, *members) }
 
     override fun sunion(vararg keys: K): Flow<V> = ops.sunion(*keys).asFlow()
 
-    override suspend fun sunionstore(destination: K, vararg keys: K): Long? = ops.sunionstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sunionstore(destination: K, vararg keys: K): Long? = awaitOrNull { async.sunionstore(destination, *keys) }
 
-    override suspend fun sscan(key: K): ValueScanCursor<V>? = ops.sscan(key).awaitFirstOrNull()
+    override suspend fun sscan(key: K): ValueScanCursor<V>? = awaitOrNull { async.sscan(key) }
 
-    override suspend fun sscan(key: K, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanArgs).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanArgs: ScanArgs): ValueScanCursor<V>? = awaitOrNull { async.sscan(key, scanArgs) }
 
-    override suspend fun sscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ValueScanCursor<V>? = awaitOrNull { async.sscan(key, scanCursor, scanArgs) }
 
-    override suspend fun sscan(key: K, scanCursor: ScanCursor): ValueScanCursor<V>? = ops.sscan(key, scanCursor).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanCursor: ScanCursor): ValueScanCursor<V>? = awaitOrNull { async.sscan(key, scanCursor) }
 
 }
 
@@ -21,16 +21,15 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisSortedSetAsyncCommands
 import io.lettuce.core.api.reactive.RedisSortedSetReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirst
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Sorted Sets.
+ * Coroutine executed commands (based on async and reactive commands) for Sorted Sets.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -40,13 +39,16 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSortedSetReactiveCommands<K, V>) : RedisSortedSetCoroutinesCommands<K, V> {
+internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisSortedSetReactiveCommands<K, V>,
+    internal val async: RedisSortedSetAsyncCommands<K, V>
+) : RedisSortedSetCoroutinesCommands<K, V> {
 
     override suspend fun bzmpop(
         timeout: Long,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = awaitValue { async.bzmpop(timeout, args, *keys) }
 
     override suspend fun bzmpop(
         timeout: Long,
@@ -54,13 +56,13 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
         args: ZPopArgs,
         vararg keys: K
     ): KeyValue<K, List<ScoredValue<V>>> =
-        ops.bzmpop(timeout, count, args, *keys).awaitFirst()
+        awaitValue { async.bzmpop(timeout, count, args, *keys) }
 
     override suspend fun bzmpop(
         timeout: Double,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = awaitValue { async.bzmpop(timeout, args, *keys) }
 
     override suspend fun bzmpop(
         timeout: Double,
@@ -68,76 +70,76 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
         args: ZPopArgs,
         vararg keys: K
     ): KeyValue<K, List<ScoredValue<V>>> =
-        ops.bzmpop(timeout, count, args, *keys).awaitFirst()
+        awaitValue { async.bzmpop(timeout, count, args, *keys) }
 
     override suspend fun bzpopmin(
         timeout: Long,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = awaitOrNull { async.bzpopmin(timeout, *keys) }
 
     override suspend fun bzpopmin(
         timeout: Double,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = awaitOrNull { async.bzpopmin(timeout, *keys) }
 
     override suspend fun bzpopmax(
         timeout: Long,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = awaitOrNull { async.bzpopmax(timeout, *keys) }
 
     override suspend fun bzpopmax(
         timeout: Double,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = awaitOrNull { async.bzpopmax(timeout, *keys) }
 
     override suspend fun zadd(key: K, score: Double, member: V): Long? =
-        ops.zadd(key, score, member).awaitFirstOrNull()
+        awaitOrNull { async.zadd(key, score, member) }
 
     override suspend fun zadd(key: K, vararg scoresAndValues: Any): Long? =
-        ops.zadd(key, *scoresAndValues).awaitFirstOrNull()
+        awaitOrNull { async.zadd(key, *scoresAndValues) }
 
     override suspend fun zadd(key: K, vararg scoredValues: ScoredValue<V>): Long? =
-        ops.zadd(key, *scoredValues).awaitFirstOrNull()
+        awaitOrNull { async.zadd(key, *scoredValues) }
 
     override suspend fun zadd(
         key: K,
         zAddArgs: ZAddArgs,
         score: Double,
         member: V
-    ): Long? = ops.zadd(key, zAddArgs, score, member).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zadd(key, zAddArgs, score, member) }
 
     override suspend fun zadd(
         key: K,
         zAddArgs: ZAddArgs,
         vararg scoresAndValues: Any
-    ): Long? = ops.zadd(key, zAddArgs, *scoresAndValues).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zadd(key, zAddArgs, *scoresAndValues) }
 
-    override suspend fun zadd(key: K, zAddArgs: ZAddArgs, vararg scoredValues: ScoredValue<V>): Long? = ops.zadd(key, zAddArgs, *scoredValues).awaitFirstOrNull()
+    override suspend fun zadd(key: K, zAddArgs: ZAddArgs, vararg scoredValues: ScoredValue<V>): Long? = awaitOrNull { async.zadd(key, zAddArgs, *scoredValues) }
 
-    override suspend fun zaddincr(key: K, score: Double, member: V): Double? = ops.zaddincr(key, score, member).awaitFirstOrNull()
+    override suspend fun zaddincr(key: K, score: Double, member: V): Double? = awaitOrNull { async.zaddincr(key, score, member) }
 
-    override suspend fun zaddincr(key: K, zAddArgs: ZAddArgs, score: Double, member: V): Double? = ops.zaddincr(key, zAddArgs, score, member).awaitFirstOrNull()
+    override suspend fun zaddincr(key: K, zAddArgs: ZAddArgs, score: Double, member: V): Double? = awaitOrNull { async.zaddincr(key, zAddArgs, score, member) }
 
-    override suspend fun zcard(key: K): Long? = ops.zcard(key).awaitFirstOrNull()
+    override suspend fun zcard(key: K): Long? = awaitOrNull { async.zcard(key) }
 
-    override suspend fun zcount(key: K, range: Range<out Number>): Long? = ops.zcount(key, range).awaitFirstOrNull()
+    override suspend fun zcount(key: K, range: Range<out Number>): Long? = awaitOrNull { async.zcount(key, range) }
 
     override fun zdiff(vararg keys: K): Flow<V> = ops.zdiff(*keys).asFlow()
 
-    override suspend fun zdiffstore(destKey: K, vararg srcKeys: K): Long? = ops.zdiffstore(destKey, *srcKeys).awaitFirstOrNull()
+    override suspend fun zdiffstore(destKey: K, vararg srcKeys: K): Long? = awaitOrNull { async.zdiffstore(destKey, *srcKeys) }
 
     override fun zdiffWithScores(vararg keys: K): Flow<ScoredValue<V>> = ops.zdiffWithScores(*keys).asFlow()
 
-    override suspend fun zincrby(key: K, amount: Double, member: V): Double? = ops.zincrby(key, amount, member).awaitFirstOrNull()
+    override suspend fun zincrby(key: K, amount: Double, member: V): Double? = awaitOrNull { async.zincrby(key, amount, member) }
 
     override fun zinter(vararg keys: K): Flow<V> = ops.zinter(*keys).asFlow()
 
     override fun zinter(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<V> = ops.zinter(aggregateArgs, *keys).asFlow()
 
-    override suspend fun zintercard(vararg keys: K): Long? = ops.zintercard(*keys).awaitFirstOrNull()
+    override suspend fun zintercard(vararg keys: K): Long? = awaitOrNull { async.zintercard(*keys) }
 
     override suspend fun zintercard(limit: Long, vararg keys: K): Long? =
-        ops.zintercard(limit, *keys).awaitFirstOrNull()
+        awaitOrNull { async.zintercard(limit, *keys) }
 
     override fun zinterWithScores(vararg keys: K): Flow<ScoredValue<V>> = ops.zinterWithScores(*keys).asFlow()
 
@@ -147,50 +149,50 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
     ): Flow<ScoredValue<V>> = ops.zinterWithScores(aggregateArgs, *keys).asFlow()
 
     override suspend fun zinterstore(destination: K, vararg keys: K): Long? =
-        ops.zinterstore(destination, *keys).awaitFirstOrNull()
+        awaitOrNull { async.zinterstore(destination, *keys) }
 
     override suspend fun zinterstore(
         destination: K,
         storeArgs: ZStoreArgs,
         vararg keys: K
-    ): Long? = ops.zinterstore(destination, storeArgs, *keys).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zinterstore(destination, storeArgs, *keys) }
 
     override suspend fun zlexcount(key: K, range: Range<out V>): Long? =
-        ops.zlexcount(key, range).awaitFirstOrNull()
+        awaitOrNull { async.zlexcount(key, range) }
 
     override suspend fun zmscore(key: K, vararg members: V): List<Double?> =
-        ops.zmscore(key, *members).awaitFirstOrNull().orEmpty()
+        awaitOrNull { async.zmscore(key, *members) }.orEmpty()
 
     override suspend fun zmpop(
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.zmpop(args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = awaitValue { async.zmpop(args, *keys) }
 
     override suspend fun zmpop(
         count: Int,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, List<ScoredValue<V>>> = ops.zmpop(count, args, *keys).awaitFirst()
+    ): KeyValue<K, List<ScoredValue<V>>> = awaitValue { async.zmpop(count, args, *keys) }
 
     override suspend fun zpopmin(key: K): ScoredValue<V>? =
-        ops.zpopmin(key).awaitFirstOrNull()
+        awaitOrNull { async.zpopmin(key) }
 
     override fun zpopmin(key: K, count: Long): Flow<ScoredValue<V>> =
         ops.zpopmin(key, count).asFlow()
 
     override suspend fun zpopmax(key: K): ScoredValue<V>? =
-        ops.zpopmax(key).awaitFirstOrNull()
+        awaitOrNull { async.zpopmax(key) }
 
     override fun zpopmax(key: K, count: Long): Flow<ScoredValue<V>> =
         ops.zpopmax(key, count).asFlow()
 
-    override suspend fun zrandmember(key: K): V? = ops.zrandmember(key).awaitFirstOrNull()
+    override suspend fun zrandmember(key: K): V? = awaitOrNull { async.zrandmember(key) }
 
     override suspend fun zrandmember(key: K, count: Long): List<V> =
         ops.zrandmember(key, count).asFlow().toList()
 
     override suspend fun zrandmemberWithScores(key: K): ScoredValue<V>? =
-        ops.zrandmemberWithScores(key).awaitFirstOrNull()
+        awaitOrNull { async.zrandmemberWithScores(key) }
 
     override suspend fun zrandmemberWithScores(
         key: K,
@@ -227,37 +229,37 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
     ): Flow<ScoredValue<V>> = ops.zrangebyscoreWithScores(key, range, limit).asFlow()
 
     override suspend fun zrangestore(dstKey: K, srcKey: K, range: Range<Long>): Long? =
-        ops.zrangestore(dstKey, srcKey, range).awaitFirstOrNull()
+        awaitOrNull { async.zrangestore(dstKey, srcKey, range) }
 
     override suspend fun zrangestorebylex(
         dstKey: K,
         srcKey: K,
         range: Range<out V>,
         limit: Limit
-    ): Long? = ops.zrangestorebylex(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zrangestorebylex(dstKey, srcKey, range, limit) }
 
     override suspend fun zrangestorebyscore(
         dstKey: K,
         srcKey: K,
         range: Range<out Number>,
         limit: Limit
-    ): Long? = ops.zrangestorebyscore(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zrangestorebyscore(dstKey, srcKey, range, limit) }
 
     override suspend fun zrank(key: K, member: V): Long? =
-        ops.zrank(key, member).awaitFirstOrNull()
+        awaitOrNull { async.zrank(key, member) }
 
     override suspend fun zrankWithScore(key: K, member: V): ScoredValue<Long>? =
-        ops.zrankWithScore(key, member).awaitFirstOrNull()
+        awaitOrNull { async.zrankWithScore(key, member) }
 
     override suspend fun zrem(key: K, vararg members: V): Long? =
-        ops.zrem(key, *members).awaitFirstOrNull()
+        awaitOrNull { async.zrem(key, *members) }
 
     override suspend fun zremrangebylex(key: K, range: Range<out V>): Long? =
-        ops.zremrangebylex(key, range).awaitFirstOrNull()
+        awaitOrNull { async.zremrangebylex(key, range) }
 
-    override suspend fun zremrangebyrank(key: K, start: Long, stop: Long): Long? = ops.zremrangebyrank(key, start, stop).awaitFirstOrNull()
+    override suspend fun zremrangebyrank(key: K, start: Long, stop: Long): Long? = awaitOrNull { async.zremrangebyrank(key, start, stop) }
 
-    override suspend fun zremrangebyscore(key: K, range: Range<out Number>): Long? = ops.zremrangebyscore(key, range).awaitFirstOrNull()
+    override suspend fun zremrangebyscore(key: K, range: Range<out Number>): Long? = awaitOrNull { async.zremrangebyscore(key, range) }
 
     override fun zrevrange(key: K, start: Long, stop: Long): Flow<V> = ops.zrevrange(key, start, stop).asFlow()
 
@@ -289,39 +291,39 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
     ): Flow<ScoredValue<V>> = ops.zrevrangebyscoreWithScores(key, range, limit).asFlow()
 
     override suspend fun zrevrangestore(dstKey: K, srcKey: K, range: Range<Long>): Long? =
-        ops.zrevrangestore(dstKey, srcKey, range).awaitFirstOrNull()
+        awaitOrNull { async.zrevrangestore(dstKey, srcKey, range) }
 
     override suspend fun zrevrangestorebylex(
         dstKey: K,
         srcKey: K,
         range: Range<out V>,
         limit: Limit
-    ): Long? = ops.zrevrangestorebylex(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zrevrangestorebylex(dstKey, srcKey, range, limit) }
 
     override suspend fun zrevrangestorebyscore(
         dstKey: K,
         srcKey: K,
         range: Range<out Number>,
         limit: Limit
-    ): Long? = ops.zrevrangestorebyscore(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = awaitOrNull { async.zrevrangestorebyscore(dstKey, srcKey, range, limit) }
 
     override suspend fun zrevrank(key: K, member: V): Long? =
-        ops.zrevrank(key, member).awaitFirstOrNull()
+        awaitOrNull { async.zrevrank(key, member) }
 
     override suspend fun zrevrankWithScore(key: K, member: V): ScoredValue<Long>? =
-        ops.zrevrankWithScore(key, member).awaitFirstOrNull()
+        awaitOrNull { async.zrevrankWithScore(key, member) }
 
     override suspend fun zscan(key: K): ScoredValueScanCursor<V>? =
-        ops.zscan(key).awaitFirstOrNull()
+        awaitOrNull { async.zscan(key) }
 
     override suspend fun zscan(key: K, scanArgs: ScanArgs): ScoredValueScanCursor<V>? =
-        ops.zscan(key, scanArgs).awaitFirstOrNull()
+        awaitOrNull { async.zscan(key, scanArgs) }
 
-    override suspend fun zscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    override suspend fun zscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ScoredValueScanCursor<V>? = awaitOrNull { async.zscan(key, scanCursor, scanArgs) }
 
-    override suspend fun zscan(key: K, scanCursor: ScanCursor): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor).awaitFirstOrNull()
+    override suspend fun zscan(key: K, scanCursor: ScanCursor): ScoredValueScanCursor<V>? = awaitOrNull { async.zscan(key, scanCursor) }
 
-    override suspend fun zscore(key: K, member: V): Double? = ops.zscore(key, member).awaitFirstOrNull()
+    override suspend fun zscore(key: K, member: V): Double? = awaitOrNull { async.zscore(key, member) }
 
     override fun zunion(vararg keys: K): Flow<V> = ops.zunion(*keys).asFlow()
 
@@ -331,8 +333,8 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
 
     override fun zunionWithScores(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<ScoredValue<V>> = ops.zunionWithScores(aggregateArgs, *keys).asFlow()
 
-    override suspend fun zunionstore(destination: K, vararg keys: K): Long? = ops.zunionstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun zunionstore(destination: K, vararg keys: K): Long? = awaitOrNull { async.zunionstore(destination, *keys) }
 
-    override suspend fun zunionstore(destination: K, storeArgs: ZStoreArgs, vararg keys: K): Long? = ops.zunionstore(destination, storeArgs, *keys).awaitFirstOrNull()
+    override suspend fun zunionstore(destination: K, storeArgs: ZStoreArgs, vararg keys: K): Long? = awaitOrNull { async.zunionstore(destination, storeArgs, *keys) }
 }
 
@@ -22,6 +22,7 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
 import io.lettuce.core.XReadArgs.StreamOffset
+import io.lettuce.core.api.async.RedisStreamAsyncCommands
 import io.lettuce.core.api.reactive.RedisStreamReactiveCommands
 import io.lettuce.core.models.stream.ClaimedMessages
 import io.lettuce.core.models.stream.PendingMessage
@@ -29,10 +30,9 @@ import io.lettuce.core.models.stream.PendingMessages
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 /**
- * Coroutine executed commands (based on reactive commands) for Streams.
+ * Coroutine executed commands (based on async and reactive commands) for Streams.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -40,37 +40,40 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 5.1
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisStreamCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisStreamReactiveCommands<K, V>) : RedisStreamCoroutinesCommands<K, V> {
+internal class RedisStreamCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisStreamReactiveCommands<K, V>,
+    internal val async: RedisStreamAsyncCommands<K, V>
+) : RedisStreamCoroutinesCommands<K, V> {
 
-    override suspend fun xack(key: K, group: K, vararg messageIds: String): Long? = ops.xack(key, group, *messageIds).awaitFirstOrNull()
+    override suspend fun xack(key: K, group: K, vararg messageIds: String): Long? = awaitOrNull { async.xack(key, group, *messageIds) }
 
-    override suspend fun xadd(key: K, body: Map<K, V>): String? = ops.xadd(key, body).awaitFirstOrNull()
+    override suspend fun xadd(key: K, body: Map<K, V>): String? = awaitOrNull { async.xadd(key, body) }
 
-    override suspend fun xadd(key: K, args: XAddArgs, body: Map<K, V>): String? = ops.xadd(key, args, body).awaitFirstOrNull()
+    override suspend fun xadd(key: K, args: XAddArgs, body: Map<K, V>): String? = awaitOrNull { async.xadd(key, args, body) }
 
-    override suspend fun xadd(key: K, vararg keysAndValues: Any): String? = ops.xadd(key, *keysAndValues).awaitFirstOrNull()
+    override suspend fun xadd(key: K, vararg keysAndValues: Any): String? = awaitOrNull { async.xadd(key, *keysAndValues) }
 
-    override suspend fun xadd(key: K, args: XAddArgs, vararg keysAndValues: Any): String? = ops.xadd(key, args, *keysAndValues).awaitFirstOrNull()
+    override suspend fun xadd(key: K, args: XAddArgs, vararg keysAndValues: Any): String? = awaitOrNull { async.xadd(key, args, *keysAndValues) }
 
-    override suspend fun xautoclaim(key: K, args: XAutoClaimArgs<K>): ClaimedMessages<K, V>? = ops.xautoclaim(key, args).awaitFirstOrNull()
+    override suspend fun xautoclaim(key: K, args: XAutoClaimArgs<K>): ClaimedMessages<K, V>? = awaitOrNull { async.xautoclaim(key, args) }
 
     override fun xclaim(key: K, consumer: Consumer<K>, minIdleTime: Long, vararg messageIds: String): Flow<StreamMessage<K, V>> = ops.xclaim(key, consumer, minIdleTime, *messageIds).asFlow()
 
     override fun xclaim(key: K, consumer: Consumer<K>, args: XClaimArgs, vararg messageIds: String): Flow<StreamMessage<K, V>> = ops.xclaim(key, consumer, args, *messageIds).asFlow()
 
-    override suspend fun xdel(key: K, vararg messageIds: String): Long? = ops.xdel(key, *messageIds).awaitFirstOrNull()
+    override suspend fun xdel(key: K, vararg messageIds: String): Long? = awaitOrNull { async.xdel(key, *messageIds) }
 
-    override suspend fun xgroupCreate(streamOffset: StreamOffset<K>, group: K): String? = ops.xgroupCreate(streamOffset, group).awaitFirstOrNull()
+    override suspend fun xgroupCreate(streamOffset: StreamOffset<K>, group: K): String? = awaitOrNull { async.xgroupCreate(streamOffset, group) }
 
-    override suspend fun xgroupCreate(streamOffset: StreamOffset<K>, group: K, args: XGroupCreateArgs): String? = ops.xgroupCreate(streamOffset, group, args).awaitFirstOrNull()
+    override suspend fun xgroupCreate(streamOffset: StreamOffset<K>, group: K, args: XGroupCreateArgs): String? = awaitOrNull { async.xgroupCreate(streamOffset, group, args) }
 
-    override suspend fun xgroupCreateconsumer(key: K, consumer: Consumer<K>): Boolean? = ops.xgroupCreateconsumer(key, consumer).awaitFirstOrNull()
+    override suspend fun xgroupCreateconsumer(key: K, consumer: Consumer<K>): Boolean? = awaitOrNull { async.xgroupCreateconsumer(key, consumer) }
 
-    override suspend fun xgroupDelconsumer(key: K, consumer: Consumer<K>): Long? = ops.xgroupDelconsumer(key, consumer).awaitFirstOrNull()
+    override suspend fun xgroupDelconsumer(key: K, consumer: Consumer<K>): Long? = awaitOrNull { async.xgroupDelconsumer(key, consumer) }
 
-    override suspend fun xgroupDestroy(key: K, group: K): Boolean? = ops.xgroupDestroy(key, group).awaitFirstOrNull()
+    override suspend fun xgroupDestroy(key: K, group: K): Boolean? = awaitOrNull { async.xgroupDestroy(key, group) }
 
-    override suspend fun xgroupSetid(streamOffset: StreamOffset<K>, group: K): String? = ops.xgroupSetid(streamOffset, group).awaitFirstOrNull()
+    override suspend fun xgroupSetid(streamOffset: StreamOffset<K>, group: K): String? = awaitOrNull { async.xgroupSetid(streamOffset, group) }
 
     override suspend fun xinfoStream(key: K): List<Any> = ops.xinfoStream(key).asFlow().toList()
 
@@ -78,9 +81,9 @@ internal class RedisStreamCoroutinesCommandsImpl<K : Any, V : Any>(internal val
 
     override suspend fun xinfoConsumers(key: K, group: K): List<Any> = ops.xinfoConsumers(key, group).asFlow().toList()
 
-    override suspend fun xlen(key: K): Long? = ops.xlen(key).awaitFirstOrNull()
+    override suspend fun xlen(key: K): Long? = awaitOrNull { async.xlen(key) }
 
-    override suspend fun xpending(key: K, group: K): PendingMessages? = ops.xpending(key, group).awaitFirstOrNull()
+    override suspend fun xpending(key: K, group: K): PendingMessages? = awaitOrNull { async.xpending(key, group) }
 
     override fun xpending(key: K, group: K, range: Range<String>, limit: Limit): Flow<PendingMessage> = ops.xpending(key, group, range, limit).asFlow()
 
@@ -104,10 +107,10 @@ internal class RedisStreamCoroutinesCommandsImpl<K : Any, V : Any>(internal val
 
     override fun xrevrange(key: K, range: Range<String>, limit: Limit): Flow<StreamMessage<K, V>> = ops.xrevrange(key, range, limit).asFlow()
 
-    override suspend fun xtrim(key: K, count: Long): Long? = ops.xtrim(key, count).awaitFirstOrNull()
+    override suspend fun xtrim(key: K, count: Long): Long? = awaitOrNull { async.xtrim(key, count) }
 
-    override suspend fun xtrim(key: K, approximateTrimming: Boolean, count: Long): Long? = ops.xtrim(key, approximateTrimming, count).awaitFirstOrNull()
+    override suspend fun xtrim(key: K, approximateTrimming: Boolean, count: Long): Long? = awaitOrNull { async.xtrim(key, approximateTrimming, count) }
 
-    override suspend fun xtrim(key: K, args: XTrimArgs): Long? = ops.xtrim(key, args).awaitFirstOrNull()
+    override suspend fun xtrim(key: K, args: XTrimArgs): Long? = awaitOrNull { async.xtrim(key, args) }
 }
 
@@ -21,15 +21,15 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
+import io.lettuce.core.api.async.RedisStringAsyncCommands
 import io.lettuce.core.api.reactive.RedisStringReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Strings.
+ * Coroutine executed commands (based on async and reactive commands) for Strings.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -38,87 +38,90 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisStringCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisStringReactiveCommands<K, V>) : RedisStringCoroutinesCommands<K, V> {
+internal class RedisStringCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisStringReactiveCommands<K, V>,
+    internal val async: RedisStringAsyncCommands<K, V>
+) : RedisStringCoroutinesCommands<K, V> {
 
-    override suspend fun append(key: K, value: V): Long? = ops.append(key, value).awaitFirstOrNull()
+    override suspend fun append(key: K, value: V): Long? = awaitOrNull { async.append(key, value) }
 
-    override suspend fun bitcount(key: K): Long? = ops.bitcount(key).awaitFirstOrNull()
+    override suspend fun bitcount(key: K): Long? = awaitOrNull { async.bitcount(key) }
 
-    override suspend fun bitcount(key: K, start: Long, end: Long): Long? = ops.bitcount(key, start, end).awaitFirstOrNull()
+    override suspend fun bitcount(key: K, start: Long, end: Long): Long? = awaitOrNull { async.bitcount(key, start, end) }
 
     override suspend fun bitfield(key: K, bitFieldArgs: BitFieldArgs): List<Long> = ops.bitfield(key, bitFieldArgs).map { it.value }.asFlow().toList()
 
-    override suspend fun bitpos(key: K, state: Boolean): Long? = ops.bitpos(key, state).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean): Long? = awaitOrNull { async.bitpos(key, state) }
 
-    override suspend fun bitpos(key: K, state: Boolean, start: Long): Long? = ops.bitpos(key, state, start).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean, start: Long): Long? = awaitOrNull { async.bitpos(key, state, start) }
 
-    override suspend fun bitpos(key: K, state: Boolean, start: Long, end: Long): Long? = ops.bitpos(key, state, start, end).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean, start: Long, end: Long): Long? = awaitOrNull { async.bitpos(key, state, start, end) }
 
-    override suspend fun bitopAnd(destination: K, vararg keys: K): Long? = ops.bitopAnd(destination, *keys).awaitFirstOrNull()
+    override suspend fun bitopAnd(destination: K, vararg keys: K): Long? = awaitOrNull { async.bitopAnd(destination, *keys) }
 
-    override suspend fun bitopNot(destination: K, source: K): Long? = ops.bitopNot(destination, source).awaitFirstOrNull()
+    override suspend fun bitopNot(destination: K, source: K): Long? = awaitOrNull { async.bitopNot(destination, source) }
 
-    override suspend fun bitopOr(destination: K, vararg keys: K): Long? = ops.bitopOr(destination, *keys).awaitFirstOrNull()
+    override suspend fun bitopOr(destination: K, vararg keys: K): Long? = awaitOrNull { async.bitopOr(destination, *keys) }
 
     override suspend fun bitopXor(destination: K, vararg keys: K): Long? =
-        ops.bitopXor(destination, *keys).awaitFirstOrNull()
+        awaitOrNull { async.bitopXor(destination, *keys) }
 
-    override suspend fun decr(key: K): Long? = ops.decr(key).awaitFirstOrNull()
+    override suspend fun decr(key: K): Long? = awaitOrNull { async.decr(key) }
 
     override suspend fun decrby(key: K, amount: Long): Long? =
-        ops.decrby(key, amount).awaitFirstOrNull()
+        awaitOrNull { async.decrby(key, amount) }
 
-    override suspend fun get(key: K): V? = ops.get(key).awaitFirstOrNull()
+    override suspend fun get(key: K): V? = awaitOrNull { async.get(key) }
 
     override suspend fun getbit(key: K, offset: Long): Long? =
-        ops.getbit(key, offset).awaitFirstOrNull()
+        awaitOrNull { async.getbit(key, offset) }
 
-    override suspend fun getdel(key: K): V? = ops.getdel(key).awaitFirstOrNull()
+    override suspend fun getdel(key: K): V? = awaitOrNull { async.getdel(key) }
 
     override suspend fun getex(key: K, args: GetExArgs): V? =
-        ops.getex(key, args).awaitFirstOrNull()
+        awaitOrNull { async.getex(key, args) }
 
     override suspend fun getrange(key: K, start: Long, end: Long): V? =
-        ops.getrange(key, start, end).awaitFirstOrNull()
+        awaitOrNull { async.getrange(key, start, end) }
 
     override suspend fun getset(key: K, value: V): V? =
-        ops.getset(key, value).awaitFirstOrNull()
+        awaitOrNull { async.getset(key, value) }
 
-    override suspend fun incr(key: K): Long? = ops.incr(key).awaitFirstOrNull()
+    override suspend fun incr(key: K): Long? = awaitOrNull { async.incr(key) }
 
     override suspend fun incrby(key: K, amount: Long): Long? =
-        ops.incrby(key, amount).awaitFirstOrNull()
+        awaitOrNull { async.incrby(key, amount) }
 
     override suspend fun incrbyfloat(key: K, amount: Double): Double? =
-        ops.incrbyfloat(key, amount).awaitFirstOrNull()
+        awaitOrNull { async.incrbyfloat(key, amount) }
 
     override fun mget(vararg keys: K): Flow<KeyValue<K, V>> = ops.mget(*keys).asFlow()
 
-    override suspend fun mset(map: Map<K, V>): String? = ops.mset(map).awaitFirstOrNull()
+    override suspend fun mset(map: Map<K, V>): String? = awaitOrNull { async.mset(map) }
 
-    override suspend fun msetnx(map: Map<K, V>): Boolean? = ops.msetnx(map).awaitFirstOrNull()
+    override suspend fun msetnx(map: Map<K, V>): Boolean? = awaitOrNull { async.msetnx(map) }
 
-    override suspend fun set(key: K, value: V): String? = ops.set(key, value).awaitFirstOrNull()
+    override suspend fun set(key: K, value: V): String? = awaitOrNull { async.set(key, value) }
 
-    override suspend fun set(key: K, value: V, setArgs: SetArgs): String? = ops.set(key, value, setArgs).awaitFirstOrNull()
+    override suspend fun set(key: K, value: V, setArgs: SetArgs): String? = awaitOrNull { async.set(key, value, setArgs) }
 
-    override suspend fun setGet(key: K, value: V): V? = ops.setGet(key, value).awaitFirstOrNull()
+    override suspend fun setGet(key: K, value: V): V? = awaitOrNull { async.setGet(key, value) }
 
-    override suspend fun setGet(key: K, value: V, setArgs: SetArgs): V? = ops.setGet(key, value, setArgs).awaitFirstOrNull()
+    override suspend fun setGet(key: K, value: V, setArgs: SetArgs): V? = awaitOrNull { async.setGet(key, value, setArgs) }
 
-    override suspend fun setbit(key: K, offset: Long, value: Int): Long? = ops.setbit(key, offset, value).awaitFirstOrNull()
+    override suspend fun setbit(key: K, offset: Long, value: Int): Long? = awaitOrNull { async.setbit(key, offset, value) }
 
-    override suspend fun setex(key: K, seconds: Long, value: V): String? = ops.setex(key, seconds, value).awaitFirstOrNull()
+    override suspend fun setex(key: K, seconds: Long, value: V): String? = awaitOrNull { async.setex(key, seconds, value) }
 
-    override suspend fun psetex(key: K, milliseconds: Long, value: V): String? = ops.psetex(key, milliseconds, value).awaitFirstOrNull()
+    override suspend fun psetex(key: K, milliseconds: Long, value: V): String? = awaitOrNull { async.psetex(key, milliseconds, value) }
 
-    override suspend fun setnx(key: K, value: V): Boolean? = ops.setnx(key, value).awaitFirstOrNull()
+    override suspend fun setnx(key: K, value: V): Boolean? = awaitOrNull { async.setnx(key, value) }
 
-    override suspend fun setrange(key: K, offset: Long, value: V): Long? = ops.setrange(key, offset, value).awaitFirstOrNull()
+    override suspend fun setrange(key: K, offset: Long, value: V): Long? = awaitOrNull { async.setrange(key, offset, value) }
 
-    override suspend fun lcs(lcsArgs: LcsArgs): StringMatchResult? = ops.lcs(lcsArgs).awaitFirstOrNull()
+    override suspend fun lcs(lcsArgs: LcsArgs): StringMatchResult? = awaitOrNull { async.lcs(lcsArgs) }
 
-    override suspend fun strlen(key: K): Long? = ops.strlen(key).awaitFirstOrNull()
+    override suspend fun strlen(key: K): Long? = awaitOrNull { async.strlen(key) }
 
 }
 
@@ -22,12 +22,13 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.TransactionResult
+import io.lettuce.core.api.async.RedisTransactionalAsyncCommands
 import io.lettuce.core.api.reactive.RedisTransactionalReactiveCommands
-import kotlinx.coroutines.reactive.awaitLast
+import io.lettuce.core.awaitValue
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Transactions.
+ * Coroutine executed commands (based on async and reactive commands) for Transactions.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -35,17 +36,20 @@ import kotlinx.coroutines.reactive.awaitLast
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisTransactionalCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisTransactionalReactiveCommands<K, V>) : RedisTransactionalCoroutinesCommands<K, V> {
+internal class RedisTransactionalCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisTransactionalReactiveCommands<K, V>,
+    internal val async: RedisTransactionalAsyncCommands<K, V>
+) : RedisTransactionalCoroutinesCommands<K, V> {
 
-    override suspend fun discard(): String = ops.discard().awaitLast()
+    override suspend fun discard(): String = awaitValue { async.discard() }
 
-    override suspend fun exec(): TransactionResult = ops.exec().awaitLast()
+    override suspend fun exec(): TransactionResult = awaitValue { async.exec() }
 
-    override suspend fun multi(): String = ops.multi().awaitLast()
+    override suspend fun multi(): String = awaitValue { async.multi() }
 
-    override suspend fun watch(vararg keys: K): String = ops.watch(*keys).awaitLast()
+    override suspend fun watch(vararg keys: K): String = awaitValue { async.watch(*keys) }
 
-    override suspend fun unwatch(): String = ops.unwatch().awaitLast()
+    override suspend fun unwatch(): String = awaitValue { async.unwatch() }
 
 }
 
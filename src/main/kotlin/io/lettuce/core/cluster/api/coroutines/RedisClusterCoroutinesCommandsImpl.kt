@@ -23,8 +23,9 @@ package io.lettuce.core.cluster.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.api.coroutines.*
+import io.lettuce.core.awaitOrNull
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands
 import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
 
 /**
  * Implementation of [RedisClusterCoroutinesCommands].
@@ -37,21 +38,22 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  */
 @ExperimentalLettuceCoroutinesApi
 internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
-    internal val ops: RedisClusterReactiveCommands<K, V>
+    internal val ops: RedisClusterReactiveCommands<K, V>,
+    internal val async: RedisClusterAsyncCommands<K, V>
 ) : RedisClusterCoroutinesCommands<K, V>,
-    BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops),
-    RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops),
-    RedisGeoCoroutinesCommands<K, V> by RedisGeoCoroutinesCommandsImpl(ops),
-    RedisHashCoroutinesCommands<K, V> by RedisHashCoroutinesCommandsImpl(ops),
-    RedisHLLCoroutinesCommands<K, V> by RedisHLLCoroutinesCommandsImpl(ops),
-    RedisKeyCoroutinesCommands<K, V> by RedisKeyCoroutinesCommandsImpl(ops),
-    RedisListCoroutinesCommands<K, V> by RedisListCoroutinesCommandsImpl(ops),
-    RedisScriptingCoroutinesCommands<K, V> by RedisScriptingCoroutinesCommandsImpl(ops),
-    RedisServerCoroutinesCommands<K, V> by RedisServerCoroutinesCommandsImpl(ops),
-    RedisSetCoroutinesCommands<K, V> by RedisSetCoroutinesCommandsImpl(ops),
-    RedisSortedSetCoroutinesCommands<K, V> by RedisSortedSetCoroutinesCommandsImpl(ops),
-    RedisStreamCoroutinesCommands<K, V> by RedisStreamCoroutinesCommandsImpl(ops),
-    RedisStringCoroutinesCommands<K, V> by RedisStringCoroutinesCommandsImpl(ops) {
+    BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops, async),
+    RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops, async),
+    RedisGeoCoroutinesCommands<K, V> by RedisGeoCoroutinesCommandsImpl(ops, async),
+    RedisHashCoroutinesCommands<K, V> by RedisHashCoroutinesCommandsImpl(ops, async),
+    RedisHLLCoroutinesCommands<K, V> by RedisHLLCoroutinesCommandsImpl(ops, async),
+    RedisKeyCoroutinesCommands<K, V> by RedisKeyCoroutinesCommandsImpl(ops, async),
+    RedisListCoroutinesCommands<K, V> by RedisListCoroutinesCommandsImpl(ops, async),
+    RedisScriptingCoroutinesCommands<K, V> by RedisScriptingCoroutinesCommandsImpl(ops, async),
+    RedisServerCoroutinesCommands<K, V> by RedisServerCoroutinesCommandsImpl(ops, async),
+    RedisSetCoroutinesCommands<K, V> by RedisSetCoroutinesCommandsImpl(ops, async),
+    RedisSortedSetCoroutinesCommands<K, V> by RedisSortedSetCoroutinesCommandsImpl(ops, async),
+    RedisStreamCoroutinesCommands<K, V> by RedisStreamCoroutinesCommandsImpl(ops, async),
+    RedisStringCoroutinesCommands<K, V> by RedisStringCoroutinesCommandsImpl(ops, async) {
 
     /**
      * Authenticate to the server.
@@ -59,7 +61,7 @@ internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param password the password
      * @return String simple-string-reply
      */
-    override suspend fun auth(password: CharSequence): String? = ops.auth(password).awaitFirstOrNull()
+    override suspend fun auth(password: CharSequence): String? = awaitOrNull { async.auth(password) }
 
     /**
      * Authenticate to the server with username and password. Requires Redis 6 or newer.
@@ -69,6 +71,6 @@ internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
      * @return String simple-string-reply
      * @since 6.0
      */
-    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).awaitFirstOrNull()
+    override suspend fun auth(username: String, password: CharSequence): String? = awaitOrNull { async.auth(username, password) }
 
 }
@@ -23,19 +23,20 @@ package io.lettuce.core.sentinel.api.coroutines
 import io.lettuce.core.ClientListArgs
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.KillArgs
+import io.lettuce.core.awaitOrNull
+import io.lettuce.core.awaitValue
 import io.lettuce.core.output.CommandOutput
 import io.lettuce.core.protocol.CommandArgs
 import io.lettuce.core.protocol.ProtocolKeyword
+import io.lettuce.core.sentinel.api.async.RedisSentinelAsyncCommands
 import io.lettuce.core.sentinel.api.reactive.RedisSentinelReactiveCommands
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
-import kotlinx.coroutines.reactive.awaitLast
 import java.net.SocketAddress
 
 /**
- * Coroutine executed commands (based on reactive commands) for Redis Sentinel.
+ * Coroutine executed commands (based on async and reactive commands) for Redis Sentinel.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -43,14 +44,17 @@ import java.net.SocketAddress
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSentinelCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSentinelReactiveCommands<K, V>) : RedisSentinelCoroutinesCommands<K, V> {
+internal class RedisSentinelCoroutinesCommandsImpl<K : Any, V : Any>(
+    internal val ops: RedisSentinelReactiveCommands<K, V>,
+    internal val async: RedisSentinelAsyncCommands<K, V>
+) : RedisSentinelCoroutinesCommands<K, V> {
 
     override suspend fun getMasterAddrByName(key: K): SocketAddress =
-        ops.getMasterAddrByName(key).awaitLast()
+        awaitValue { async.getMasterAddrByName(key) }
 
     override suspend fun masters(): List<Map<K, V>> = ops.masters().asFlow().toList()
 
-    override suspend fun master(key: K): Map<K, V> = ops.master(key).awaitLast()
+    override suspend fun master(key: K): Map<K, V> = awaitValue { async.master(key) }
 
     override suspend fun slaves(key: K): List<Map<K, V>> =
         ops.slaves(key).asFlow().toList()
@@ -58,42 +62,42 @@ internal class RedisSentinelCoroutinesCommandsImpl<K : Any, V : Any>(internal va
     override suspend fun replicas(key: K): List<Map<K, V>> =
         ops.replicas(key).asFlow().toList()
 
-    override suspend fun reset(key: K): Long = ops.reset(key).awaitLast()
+    override suspend fun reset(key: K): Long = awaitValue { async.reset(key) }
 
-    override suspend fun failover(key: K): String = ops.failover(key).awaitLast()
+    override suspend fun failover(key: K): String = awaitValue { async.failover(key) }
 
     override suspend fun monitor(key: K, ip: String, port: Int, quorum: Int): String =
-        ops.monitor(key, ip, port, quorum).awaitLast()
+        awaitValue { async.monitor(key, ip, port, quorum) }
 
     override suspend fun set(key: K, option: String, value: V): String =
-        ops.set(key, option, value).awaitLast()
+        awaitValue { async.set(key, option, value) }
 
-    override suspend fun remove(key: K): String = ops.remove(key).awaitLast()
+    override suspend fun remove(key: K): String = awaitValue { async.remove(key) }
 
-    override suspend fun clientGetname(): K? = ops.clientGetname().awaitFirstOrNull()
+    override suspend fun clientGetname(): K? = awaitOrNull { async.clientGetname() }
 
     override suspend fun clientSetinfo(key: String, value: String): String? =
-        ops.clientSetinfo(key, value).awaitFirstOrNull()
+        awaitOrNull { async.clientSetinfo(key, value) }
 
-    override suspend fun clientSetname(name: K): String = ops.clientSetname(name).awaitLast()
+    override suspend fun clientSetname(name: K): String = awaitValue { async.clientSetname(name) }
 
-    override suspend fun clientKill(addr: String): String = ops.clientKill(addr).awaitLast()
+    override suspend fun clientKill(addr: String): String = awaitValue { async.clientKill(addr) }
 
-    override suspend fun clientKill(killArgs: KillArgs): Long = ops.clientKill(killArgs).awaitLast()
+    override suspend fun clientKill(killArgs: KillArgs): Long = awaitValue { async.clientKill(killArgs) }
 
-    override suspend fun clientPause(timeout: Long): String = ops.clientPause(timeout).awaitLast()
+    override suspend fun clientPause(timeout: Long): String = awaitValue { async.clientPause(timeout) }
 
-    override suspend fun clientList(): String = ops.clientList().awaitLast()
+    override suspend fun clientList(): String = awaitValue { async.clientList() }
 
-    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).awaitLast()
+    override suspend fun clientList(clientListArgs: ClientListArgs): String? = awaitValue { async.clientList(clientListArgs) }
 
-    override suspend fun clientInfo(): String? = ops.clientInfo().awaitFirstOrNull()
+    override suspend fun clientInfo(): String? = awaitOrNull { async.clientInfo() }
 
-    override suspend fun info(): String = ops.info().awaitLast()
+    override suspend fun info(): String = awaitValue { async.info() }
 
-    override suspend fun info(section: String): String = ops.info(section).awaitLast()
+    override suspend fun info(section: String): String = awaitValue { async.info(section) }
 
-    override suspend fun ping(): String = ops.ping().awaitLast()
+    override suspend fun ping(): String = awaitValue { async.ping() }
 
     override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = ops.dispatch<T>(type, output).asFlow()
 
@@ -0,0 +1,58 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link ChunkedValueStream}.
+ */
+@Tag(UNIT_TEST)
+class ChunkedValueStreamUnitTests {
+
+    @Test
+    void shouldReadChunksAsInputStream() throws IOException {
+
+        Flux<ByteBuffer> chunks = Flux.just(chunk("foo"), chunk(""), chunk("bar"));
+
+        try (InputStream stream = ChunkedValueStream.toInputStream(chunks)) {
+
+            byte[] buffer = new byte[2];
+            assertThat(stream.read(buffer)).isEqualTo(2);
+            assertThat(new String(buffer, StandardCharsets.US_ASCII)).isEqualTo("fo");
+            assertThat(stream.read()).isEqualTo('o');
+            assertThat(new String(stream.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("bar");
+            assertThat(stream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void shouldCancelSubscriptionOnClose() throws IOException {
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<ByteBuffer> chunks = Flux.just(chunk("foo")).concatWith(Flux.never()).doOnCancel(() -> cancelled.set(true));
+
+        InputStream stream = ChunkedValueStream.toInputStream(chunks);
+        assertThat(stream.read()).isEqualTo('f');
+        stream.close();
+
+        assertThat(cancelled).isTrue();
+        assertThatThrownBy(stream::read).isInstanceOf(IOException.class);
+    }
+
+    private static ByteBuffer chunk(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+}
@@ -110,6 +110,11 @@ class ClientOptionsUnitTests {
         assertThat(sut.getProtocolVersion()).isEqualTo(ProtocolVersion.RESP3);
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isFalse();
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
+        assertThat(sut.getAutoFlushOptions().isCoalesceWrites()).isFalse();
+        assertThat(sut.isUseArrayIndexedQueue()).isFalse();
+        assertThat(sut.isRequestQueueBackpressure()).isFalse();
+        assertThat(sut.isParkingSyncExecution()).isFalse();
+        assertThat(sut.isCompleteOnScheduler()).isFalse();
     }
 
 }
@@ -0,0 +1,152 @@
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link PrimitiveRedisCommands} and {@link PrimitiveRedisAsyncCommands}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+class PrimitiveRedisCommandsUnitTests {
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    private PrimitiveRedisCommands<String, String> sync;
+
+    private PrimitiveRedisAsyncCommands<String, String> async;
+
+    @BeforeEach
+    void before() {
+        sync = PrimitiveRedisCommands.create(connection, StringCodec.UTF8);
+        async = PrimitiveRedisAsyncCommands.create(connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void incrShouldReturnPrimitive() {
+
+        respondWith(output -> output.set(42L));
+
+        assertThat(sync.incr("key")).isEqualTo(42L);
+    }
+
+    @Test
+    void zscoreShouldReturnNaNForNullReply() {
+
+        respondWith(output -> output.set((ByteBuffer) null));
+
+        assertThat(sync.zscore("key", "member")).isNaN();
+    }
+
+    @Test
+    void errorReplyShouldThrowExecutionException() {
+
+        respondWith(output -> output.setError("ERR value is not an integer"));
+
+        assertThatExceptionOfType(RedisCommandExecutionException.class).isThrownBy(() -> sync.hincrby("key", "field", 1))
+                .withMessageContaining("not an integer");
+    }
+
+    @Test
+    void shouldTimeOutIfNotCompleted() {
+
+        when(connection.getTimeout()).thenReturn(Duration.ofMillis(10));
+
+        assertThatExceptionOfType(RedisCommandTimeoutException.class).isThrownBy(() -> sync.incr("key"));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void pooledShouldReuseArgsAndOutput() {
+
+        PrimitiveRedisCommands<String, String> pooled = PrimitiveRedisCommands.pooled(connection, StringCodec.UTF8);
+        List<CommandOutput<?, ?, ?>> outputs = new ArrayList<>();
+
+        respondWith(output -> {
+            outputs.add(output);
+            output.set(outputs.size());
+        });
+
+        assertThat(pooled.incr("key")).isEqualTo(1L);
+        assertThat(pooled.hincrby("key", "field", 1)).isEqualTo(2L);
+
+        assertThat(outputs.get(0)).isSameAs(outputs.get(1));
+        ArgumentCaptor<RedisCommand> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(connection, times(2)).dispatch(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(command -> {
+            assertThat(command.getOutput()).isNull();
+            assertThat(command.getArgs()).isNull();
+        });
+    }
+
+    @Test
+    void pooledShouldDiscardResourcesOfTimedOutCommand() {
+
+        PrimitiveRedisCommands<String, String> pooled = PrimitiveRedisCommands.pooled(connection, StringCodec.UTF8);
+        List<RedisCommand<?, ?, ?>> commands = new ArrayList<>();
+
+        when(connection.getTimeout()).thenReturn(Duration.ofMillis(10));
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+            RedisCommand<?, ?, ?> command = invocation.getArgument(0);
+            commands.add(command);
+            return command;
+        });
+
+        assertThatExceptionOfType(RedisCommandTimeoutException.class).isThrownBy(() -> pooled.incr("key"));
+        assertThatExceptionOfType(RedisCommandTimeoutException.class).isThrownBy(() -> pooled.incr("key"));
+
+        assertThat(commands.get(0).getOutput()).isNotNull().isNotSameAs(commands.get(1).getOutput());
+        assertThat(commands.get(0).getArgs().count()).isEqualTo(1);
+    }
+
+    @Test
+    void asyncShouldExposePrimitiveResults() throws Exception {
+
+        respondWith(output -> output.set(7L));
+
+        LongRedisFuture future = async.pfcount("key");
+
+        assertThat(future.getLong()).isEqualTo(7L);
+        assertThat(future.get()).isEqualTo(7L);
+
+        respondWith(output -> output.set(1.5d));
+
+        assertThat(async.zscore("key", "member").getDouble()).isEqualTo(1.5d);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void respondWith(Consumer<CommandOutput<?, ?, ?>> response) {
+
+        lenient().when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand command = invocation.getArgument(0);
+            response.accept(command.getOutput());
+            command.complete();
+            return command;
+        });
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.TraceContextProvider;
+import io.lettuce.core.tracing.Tracing;
+
+/**
+ * Unit tests for {@link AbstractRedisReactiveCommands#pipeline(org.reactivestreams.Publisher, int)}.
+ */
+@Tag(UNIT_TEST)
+class ReactivePipelineUnitTests {
+
+    private final List<Integer> batches = new ArrayList<>();
+
+    private StatefulRedisConnection<String, String> connection;
+
+    private RedisReactiveCommandsImpl<String, String> reactive;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        ClientResources clientResources = mock(ClientResources.class);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = mock(StatefulRedisConnection.class);
+        when(connection.getResources()).thenReturn(clientResources);
+        when(connection.getOptions()).thenReturn(ClientOptions.create());
+
+        reactive = new RedisReactiveCommandsImpl<>(connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void shouldDispatchBatchesAndEmitInOrder() {
+
+        completeBatches();
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 5).map(i -> reactive.get("key" + i)), 2))
+                .expectNext("key0", "key1", "key2", "key3", "key4").verifyComplete();
+
+        assertThat(batches).containsExactly(2, 2, 1);
+        verify(connection, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldDispatchNextBatchOnDemand() {
+
+        completeBatches();
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 4).map(i -> reactive.get("key" + i)), 2), 1).expectNext("key0")
+                .then(() -> assertThat(batches).containsExactly(2)).thenRequest(1).expectNext("key1").thenRequest(2)
+                .expectNext("key2", "key3").verifyComplete();
+
+        assertThat(batches).containsExactly(2, 2);
+    }
+
+    @Test
+    void shouldBatchWithinWindow() {
+
+        completeBatches();
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 3).map(i -> reactive.get("key" + i)), 100, Duration.ofMillis(10)))
+                .expectNext("key0", "key1", "key2").verifyComplete();
+
+        assertThat(batches).containsExactly(3);
+    }
+
+    @Test
+    void shouldBatchTracedCommands() {
+
+        TraceContext traceContext = mock(TraceContext.class);
+        Tracing tracing = mock(Tracing.class);
+        when(tracing.isEnabled()).thenReturn(true);
+        when(tracing.initialTraceContextProvider()).thenReturn(() -> traceContext);
+        when(connection.getResources().tracing()).thenReturn(tracing);
+        reactive = new RedisReactiveCommandsImpl<>(connection, StringCodec.UTF8);
+
+        List<RedisCommand<?, ?, ?>> dispatched = new ArrayList<>();
+        completeBatches(dispatched);
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 3).map(i -> reactive.get("key" + i)), 3))
+                .expectNext("key0", "key1", "key2").verifyComplete();
+
+        assertThat(batches).containsExactly(3);
+        assertThat(dispatched)
+                .allSatisfy(command -> assertThat(CommandWrapper.unwrap(command, TraceContextProvider.class).getTraceContext())
+                        .isSameAs(traceContext));
+        verify(connection, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepSingleBatchInFlight() {
+
+        List<Collection<RedisCommand<?, ?, ?>>> pending = new ArrayList<>();
+        when(connection.dispatch(anyCollection())).thenAnswer(invocation -> {
+            pending.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 4).map(i -> reactive.get("key" + i)), 2))
+                .then(() -> assertThat(pending).hasSize(1)).then(() -> complete(pending.get(0))).expectNext("key0", "key1")
+                .then(() -> assertThat(pending).hasSize(2)).then(() -> complete(pending.get(1))).expectNext("key2", "key3")
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFailCommandsIfBatchCannotBeDispatched() {
+
+        when(connection.dispatch(anyCollection())).thenThrow(new RedisException("Connection is closed"));
+
+        StepVerifier.create(reactive.pipeline(Flux.range(0, 2).map(i -> reactive.get("key" + i)), 2))
+                .expectError(RedisException.class).verify();
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> reactive.pipeline(Flux.empty(), 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> reactive.pipeline(Flux.empty(), 1, Duration.ZERO));
+    }
+
+    private void completeBatches() {
+        completeBatches(new ArrayList<>());
+    }
+
+    /**
+     * Complete each command of a dispatched batch with its key.
+     */
+    @SuppressWarnings("unchecked")
+    private void completeBatches(List<RedisCommand<?, ?, ?>> dispatched) {
+
+        when(connection.dispatch(anyCollection())).thenAnswer(invocation -> {
+
+            Collection<RedisCommand<?, ?, ?>> commands = invocation.getArgument(0);
+            batches.add(commands.size());
+            dispatched.addAll(commands);
+            complete(commands);
+
+            return commands;
+        });
+    }
+
+    private static void complete(Collection<RedisCommand<?, ?, ?>> commands) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            ByteBuffer key = command.getArgs().getFirstEncodedKey();
+            command.getOutput().set(key);
+            command.complete();
+        }
+    }
+
+}
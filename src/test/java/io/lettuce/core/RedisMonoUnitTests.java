@@ -0,0 +1,153 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Unit tests for {@link RedisMono}.
+ */
+@Tag(UNIT_TEST)
+class RedisMonoUnitTests {
+
+    private final List<RedisCommand<?, ?, ?>> dispatched = new ArrayList<>();
+
+    private StatefulConnection<String, String> connection;
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        connection = mock(StatefulConnection.class);
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<?, ?, ?> command = invocation.getArgument(0);
+            dispatched.add(command);
+            return command;
+        });
+    }
+
+    @Test
+    void shouldDispatchOnRequestAndEmitResult() {
+
+        StepVerifier.create(createMono(), 0).then(() -> assertThat(dispatched).isEmpty()).thenRequest(1)
+                .then(() -> complete("OK")).expectNext("OK").verifyComplete();
+
+        assertThat(dispatched).hasSize(1);
+    }
+
+    @Test
+    void shouldCompleteEmptyWithoutResult() {
+
+        StepVerifier.create(createMono()).then(() -> complete(null)).verifyComplete();
+    }
+
+    @Test
+    void shouldEmitErrorReply() {
+
+        StepVerifier.create(createMono()).then(() -> {
+            RedisCommand<?, ?, ?> command = dispatched.get(0);
+            command.getOutput().setError(ByteBuffer.wrap("ERR failed".getBytes(StandardCharsets.UTF_8)));
+            command.complete();
+        }).expectError(RedisCommandExecutionException.class).verify();
+    }
+
+    @Test
+    void shouldEmitCommandFailure() {
+
+        StepVerifier.create(createMono()).then(() -> dispatched.get(0).completeExceptionally(new RedisException("failed")))
+                .expectError(RedisException.class).verify();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEmitDispatchFailure() {
+
+        when(connection.dispatch(any(RedisCommand.class))).thenThrow(new RedisException("Connection is closed"));
+
+        StepVerifier.create(createMono()).expectError(RedisException.class).verify();
+    }
+
+    @Test
+    void cancelShouldCancelCommand() {
+
+        StepVerifier.create(createMono()).then(() -> assertThat(dispatched).hasSize(1)).thenCancel().verify();
+
+        assertThat(dispatched.get(0).isCancelled()).isTrue();
+
+        // late completion is dropped
+        complete("OK");
+    }
+
+    @Test
+    void shouldCreateCommandPerSubscription() {
+
+        Mono<String> mono = createMono();
+
+        StepVerifier.create(mono).then(() -> complete("first")).expectNext("first").verifyComplete();
+        StepVerifier.create(mono).then(() -> complete("second")).expectNext("second").verifyComplete();
+
+        assertThat(created).hasValue(2);
+        assertThat(dispatched).hasSize(2);
+    }
+
+    private Mono<String> createMono() {
+
+        return RedisMono.create(() -> {
+            created.incrementAndGet();
+            return new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+        }, connection, ImmediateEventExecutor.INSTANCE);
+    }
+
+    private void complete(String value) {
+
+        RedisCommand<?, ?, ?> command = dispatched.get(dispatched.size() - 1);
+        if (value != null) {
+            command.getOutput().set(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        command.complete();
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ConnectionFacade;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.TransactionalCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link StripedChannelWriter}.
+ */
+@Tag(UNIT_TEST)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StripedChannelWriterUnitTests {
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private StatefulRedisConnection<String, String> stripe0;
+
+    @Mock
+    private StatefulRedisConnection<String, String> stripe1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> stripe2;
+
+    @Mock
+    private StatefulRedisConnection<String, String> transactions;
+
+    @Mock
+    private StatefulRedisConnection<String, String> blocking;
+
+    private StripedChannelWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new StripedChannelWriter(Arrays.asList(stripe0, stripe1, stripe2), transactions, blocking, StringCodec.UTF8,
+                clientResources);
+    }
+
+    @Test
+    void shouldRouteByKeySlot() {
+
+        Command<String, String, String> command = keyed(CommandType.GET, "key");
+
+        writer.write(command);
+        writer.write(keyed(CommandType.SET, "key"));
+
+        StatefulRedisConnection<String, String> expected = stripe(SlotHash.getSlot("key") % 3);
+        verify(expected).dispatch(command);
+        verify(expected, times(2)).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldRouteHashTagsToSameStripe() {
+
+        assertThat(writer.stripeFor(keyed(CommandType.GET, "{user1}.name")))
+                .isEqualTo(writer.stripeFor(keyed(CommandType.GET, "{user1}.email")));
+    }
+
+    @Test
+    void shouldDistributeKeylessCommandsRoundRobin() {
+
+        writer.write(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        writer.write(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        writer.write(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+
+        verify(stripe0).dispatch(any(RedisCommand.class));
+        verify(stripe1).dispatch(any(RedisCommand.class));
+        verify(stripe2).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldConfineTransactionToTransactionConnection() {
+
+        writer.write(keyed(CommandType.WATCH, "a"));
+        writer.write(new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)));
+        writer.write(new TransactionalCommand<>(keyed(CommandType.SET, "b")));
+        writer.write(new TransactionalCommand<>(keyed(CommandType.SET, "c")));
+        writer.write(new Command<>(CommandType.EXEC, new StatusOutput<>(StringCodec.UTF8)));
+
+        verify(transactions, times(5)).dispatch(any(RedisCommand.class));
+        verifyNoInteractions(stripe0, stripe1, stripe2);
+    }
+
+    @Test
+    void shouldNotRouteCommandsOutsideOfTransactionToTransactionConnection() {
+
+        writer.write(new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)));
+
+        Command<String, String, String> command = keyed(CommandType.GET, "key");
+        writer.write(command);
+
+        verify(stripe(SlotHash.getSlot("key") % 3)).dispatch(command);
+        verify(transactions, never()).dispatch(command);
+    }
+
+    @Test
+    void shouldRouteBlockingCommandsToBlockingConnection() {
+
+        Command<String, String, String> command = keyed(CommandType.BLPOP, "a");
+        writer.write(command);
+
+        for (String key : Arrays.asList("b", "c", "d")) {
+            assertThat(writer.stripeFor(keyed(CommandType.BRPOP, key))).isEqualTo(4);
+            assertThat(writer.stripeFor(keyed(CommandType.BZPOPMIN, key))).isEqualTo(4);
+        }
+
+        verify(blocking).dispatch(command);
+        verifyNoInteractions(stripe0, stripe1, stripe2, transactions);
+    }
+
+    @Test
+    void shouldRouteBlockingStreamReadsToBlockingConnection() {
+
+        CommandArgs<String, String> blockingArgs = new CommandArgs<>(StringCodec.UTF8);
+        XReadArgs.Builder.block(100).build(blockingArgs);
+        blockingArgs.add("STREAMS").addKey("stream").add("0");
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        args.add("STREAMS").addKey("stream").add("0");
+
+        assertThat(writer.stripeFor(new Command<>(CommandType.XREAD, new StatusOutput<>(StringCodec.UTF8), blockingArgs)))
+                .isEqualTo(4);
+        assertThat(writer.stripeFor(new Command<>(CommandType.XREAD, new StatusOutput<>(StringCodec.UTF8), args)))
+                .isEqualTo(SlotHash.getSlot("stream") % 3);
+    }
+
+    @Test
+    void shouldRejectWaitOutsideOfTransaction() {
+
+        AsyncCommand<String, String, String> wait = new AsyncCommand<>(new Command<>(CommandType.WAIT,
+                new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(1).add(100)));
+        AsyncCommand<String, String, String> batched = new AsyncCommand<>(
+                new Command<>(CommandType.WAIT, new StatusOutput<>(StringCodec.UTF8)));
+
+        writer.write(wait);
+        writer.write(Collections.singletonList(batched));
+
+        assertThat(wait).isCompletedExceptionally();
+        assertThat(batched).isCompletedExceptionally();
+        assertThatThrownBy(wait::join).hasCauseInstanceOf(RedisException.class);
+        verifyNoInteractions(stripe0, stripe1, stripe2, transactions, blocking);
+
+        TransactionalCommand<String, String, String> transactional = new TransactionalCommand<>(
+                new Command<>(CommandType.WAIT, new StatusOutput<>(StringCodec.UTF8)));
+        writer.write(transactional);
+
+        verify(transactions).dispatch(transactional);
+    }
+
+    @Test
+    void shouldPinKeylessConnectionScopedCommandsToFirstStripe() {
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(writer.stripeFor(new Command<>(CommandType.CLIENT, new StatusOutput<>(StringCodec.UTF8)))).isZero();
+        }
+    }
+
+    @Test
+    void shouldBroadcastSelect() {
+
+        Command<String, String, String> select = new Command<>(CommandType.SELECT, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(2));
+
+        writer.write(select);
+
+        verify(stripe0).dispatch(select);
+
+        ArgumentCaptor<RedisCommand<String, String, ?>> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(stripe1).dispatch(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(CommandType.SELECT);
+        assertThat(captor.getValue().getArgs()).isSameAs(select.getArgs());
+        verify(stripe2).dispatch(any(RedisCommand.class));
+        verify(transactions).dispatch(any(RedisCommand.class));
+        verify(blocking).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldPartitionBatchByStripe() {
+
+        List<RedisCommand<String, String, ?>> batch = new ArrayList<>();
+        for (String key : Arrays.asList("a", "b", "c", "d", "a", "e")) {
+            batch.add(keyed(CommandType.SET, key));
+        }
+
+        writer.write(batch);
+
+        for (int i = 0; i < 3; i++) {
+
+            List<RedisCommand<String, String, ?>> expected = new ArrayList<>();
+            for (RedisCommand<String, String, ?> command : batch) {
+                if (writer.stripeFor(command) == i) {
+                    expected.add(command);
+                }
+            }
+
+            if (expected.isEmpty()) {
+                verifyNoInteractions(stripe(i));
+            } else {
+                verify(stripe(i)).dispatch(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldDispatchTransactionalBatchToTransactionConnection() {
+
+        List<RedisCommand<String, String, ?>> batch = Arrays.asList(
+                new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)),
+                new TransactionalCommand<>(keyed(CommandType.SET, "a")),
+                new TransactionalCommand<>(keyed(CommandType.SET, "b")));
+
+        writer.write(batch);
+
+        verify(transactions).dispatch(batch);
+        verifyNoInteractions(stripe0, stripe1, stripe2);
+        assertThat(writer.stripeFor(keyed(CommandType.SET, "c"))).isEqualTo(SlotHash.getSlot("c") % 3);
+    }
+
+    @Test
+    void shouldCloseAllStripes() {
+
+        when(stripe0.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(stripe1.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(stripe2.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(transactions.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        when(blocking.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        writer.close();
+
+        verify(stripe0).closeAsync();
+        verify(stripe1).closeAsync();
+        verify(stripe2).closeAsync();
+        verify(transactions).closeAsync();
+        verify(blocking).closeAsync();
+        assertThatThrownBy(() -> writer.write(keyed(CommandType.GET, "a"))).isInstanceOf(RedisException.class);
+    }
+
+    @Test
+    void shouldRegisterPushListenerWithAllStripes() {
+
+        PushListener listener = message -> {
+        };
+
+        writer.getPushHandler().addListener(listener);
+
+        verify(stripe0).addListener(listener);
+        verify(stripe1).addListener(listener);
+        verify(stripe2).addListener(listener);
+        verify(transactions).addListener(listener);
+        verify(blocking).addListener(listener);
+        assertThat(writer.getPushHandler().getPushListeners()).containsOnly(listener);
+    }
+
+    @Test
+    void shouldFlushAllStripes() {
+
+        writer.setAutoFlushCommands(false);
+        writer.flushCommands();
+
+        for (int i = 0; i < 3; i++) {
+            verify(stripe(i)).setAutoFlushCommands(false);
+            verify(stripe(i)).flushCommands();
+        }
+    }
+
+    @Test
+    void shouldPropagateActivationStateToConnectionFacade() {
+
+        StatefulRedisConnectionImpl<String, String> first = mock(StatefulRedisConnectionImpl.class);
+        StatefulRedisConnectionImpl<String, String> second = mock(StatefulRedisConnectionImpl.class);
+        StatefulRedisConnectionImpl<String, String> third = mock(StatefulRedisConnectionImpl.class);
+        RedisChannelWriter firstWriter = mock(RedisChannelWriter.class);
+        RedisChannelWriter secondWriter = mock(RedisChannelWriter.class);
+        RedisChannelWriter thirdWriter = mock(RedisChannelWriter.class);
+        when(first.getChannelWriter()).thenReturn(firstWriter);
+        when(second.getChannelWriter()).thenReturn(secondWriter);
+        when(third.getChannelWriter()).thenReturn(thirdWriter);
+        ConnectionFacade facade = mock(ConnectionFacade.class);
+
+        writer = new StripedChannelWriter(Collections.singletonList(first), second, third, StringCodec.UTF8, clientResources);
+        writer.setConnectionFacade(facade);
+
+        ArgumentCaptor<ConnectionFacade> captor = ArgumentCaptor.forClass(ConnectionFacade.class);
+        verify(firstWriter).setConnectionFacade(captor.capture());
+        ConnectionFacade firstFacade = captor.getValue();
+        verify(secondWriter).setConnectionFacade(captor.capture());
+        ConnectionFacade secondFacade = captor.getValue();
+        verify(thirdWriter).setConnectionFacade(captor.capture());
+        ConnectionFacade thirdFacade = captor.getValue();
+
+        firstFacade.deactivated();
+        secondFacade.deactivated();
+        thirdFacade.deactivated();
+
+        verify(first).deactivated();
+        verify(second).deactivated();
+        verify(facade).deactivated();
+
+        firstFacade.activated();
+        verify(facade, never()).activated();
+
+        secondFacade.activated();
+        verify(facade, never()).activated();
+
+        thirdFacade.activated();
+        verify(facade).activated();
+    }
+
+    private StatefulRedisConnection<String, String> stripe(int index) {
+        return index == 0 ? stripe0 : index == 1 ? stripe1 : stripe2;
+    }
+
+    private static Command<String, String, String> keyed(CommandType type, String key) {
+        return new Command<>(type, new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+
+}
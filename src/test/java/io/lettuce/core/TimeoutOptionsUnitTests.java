@@ -3,6 +3,7 @@ package io.lettuce.core;
 import static io.lettuce.TestTags.UNIT_TEST;
 import static io.lettuce.core.TimeoutOptions.TimeoutSource;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -47,4 +48,17 @@ class TimeoutOptionsUnitTests {
         assertThat(source.getTimeout(null)).isEqualTo(TimeUnit.MINUTES.toNanos(1));
     }
 
+    @Test
+    void deadlineBuckets() {
+
+        assertThat(TimeoutOptions.enabled().isDeadlineBuckets()).isFalse();
+
+        TimeoutOptions timeoutOptions = TimeoutOptions.builder().connectionTimeout().deadlineBuckets().build();
+
+        assertThat(timeoutOptions.isDeadlineBuckets()).isTrue();
+        assertThat(timeoutOptions.getDeadlineBucketDuration()).isEqualTo(TimeoutOptions.DEFAULT_DEADLINE_BUCKET_DURATION);
+        assertThatThrownBy(() -> TimeoutOptions.builder().deadlineBuckets(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
 }
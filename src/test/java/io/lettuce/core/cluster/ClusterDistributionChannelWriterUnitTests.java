@@ -25,8 +25,12 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -242,6 +246,71 @@ class ClusterDistributionChannelWriterUnitTests {
         verify(defaultWriter).disconnect();
     }
 
+    @Test
+    void shouldRouteKeyedCommandsThroughRoutingTable() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 6379), "1", true, null, 0, 0, 0,
+                IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.updateCache();
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+        clusterDistributionChannelWriter.setPartitions(partitions);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(connection));
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        clusterDistributionChannelWriter.write(newKeyedCommand(CommandType.SET));
+        clusterDistributionChannelWriter.write(newKeyedCommand(CommandType.SET));
+        clusterDistributionChannelWriter.write(newKeyedCommand(CommandType.GET));
+
+        verify(pooledClusterConnectionProvider, times(1)).getConnectionAsync(any(ConnectionIntent.class), anyInt());
+        verify(clusterNodeEndpoint, times(3)).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+
+        clusterDistributionChannelWriter.setPartitions(partitions);
+        clusterDistributionChannelWriter.write(newKeyedCommand(CommandType.SET));
+
+        verify(pooledClusterConnectionProvider, times(1)).getConnectionAsync(any(ConnectionIntent.class), anyInt());
+    }
+
+    @Test
+    void shouldWriteCommandsForMultipleSlotsOfOneNodeAsSingleBatch() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 6379), "1", true, null, 0, 0, 0,
+                IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.updateCache();
+
+        clusterDistributionChannelWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+        clusterDistributionChannelWriter.setPartitions(partitions);
+
+        when(pooledClusterConnectionProvider.getConnectionAsync(any(ConnectionIntent.class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(connection));
+        when(connection.getChannelWriter()).thenReturn(clusterNodeEndpoint);
+
+        List<Command<String, String, String>> commands = Arrays.asList(newKeyedCommand(CommandType.SET, "a"),
+                newKeyedCommand(CommandType.SET, "b"), newKeyedCommand(CommandType.SET, "c"));
+
+        clusterDistributionChannelWriter.write(commands);
+        clusterDistributionChannelWriter.write(commands);
+
+        verify(pooledClusterConnectionProvider, times(3)).getConnectionAsync(any(ConnectionIntent.class), anyInt());
+        verify(clusterNodeEndpoint, times(2))
+                .write(ArgumentMatchers.<Collection<RedisCommand<String, String, ?>>> argThat(batch -> batch.size() == 3));
+        verify(clusterNodeEndpoint, never()).write(ArgumentMatchers.<RedisCommand<String, String, String>> any());
+    }
+
+    private static Command<String, String, String> newKeyedCommand(CommandType type) {
+        return newKeyedCommand(type, "KEY");
+    }
+
+    private static Command<String, String, String> newKeyedCommand(CommandType type, String key) {
+        return new Command<>(type, new ValueOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+
     @Test
     void shouldWriteOneCommandWhenMoved() {
         verifyWriteCommandCountWhenRedirecting(true);
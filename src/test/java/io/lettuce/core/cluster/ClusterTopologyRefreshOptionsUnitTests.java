@@ -29,6 +29,7 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .incrementalRefresh(true)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(Duration.ofMinutes(10));
@@ -38,6 +39,7 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isIncrementalRefresh()).isTrue();
     }
 
     @Test
@@ -50,6 +52,7 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .incrementalRefresh(true)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -61,6 +64,7 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isIncrementalRefresh()).isTrue();
     }
 
     @Test
@@ -80,6 +84,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts())
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.isIncrementalRefresh()).isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_INCREMENTAL_REFRESH)
+                .isFalse();
     }
 
     @Test
@@ -0,0 +1,195 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.TraceContextProvider;
+import io.lettuce.core.tracing.Tracing;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link RedisAdvancedClusterReactiveCommandsImpl}.
+ */
+@Tag(UNIT_TEST)
+class RedisAdvancedClusterReactiveCommandsImplUnitTests {
+
+    private final List<Collection<RedisCommand<?, ?, ?>>> batches = new ArrayList<>();
+
+    private final ClientResources clientResources = mock(ClientResources.class);
+
+    private StatefulRedisClusterConnection<String, String> connection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = mock(StatefulRedisClusterConnection.class);
+        when(connection.getResources()).thenReturn(clientResources);
+        when(connection.getOptions()).thenReturn(ClusterClientOptions.create());
+        when(connection.dispatch(anyCollection())).thenAnswer(invocation -> {
+
+            Collection<RedisCommand<?, ?, ?>> commands = invocation.getArgument(0);
+            batches.add(commands);
+            return commands;
+        });
+    }
+
+    @Test
+    void mgetShouldDispatchSlotsAsSingleBatchAndRestoreKeyOrder() {
+
+        RedisAdvancedClusterReactiveCommandsImpl<String, String> reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(
+                connection, StringCodec.UTF8);
+
+        StepVerifier.create(reactive.mget("a", "b", "c", "a2")).then(this::completeWithKeys).expectNext(KeyValue.just("a", "a"),
+                KeyValue.just("b", "b"), KeyValue.just("c", "c"), KeyValue.just("a2", "a2")).verifyComplete();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(4);
+    }
+
+    @Test
+    void delShouldSumSlotResults() {
+
+        RedisAdvancedClusterReactiveCommandsImpl<String, String> reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(
+                connection, StringCodec.UTF8);
+
+        StepVerifier.create(reactive.del("a", "b", "c")).then(() -> batches.get(0).forEach(command -> {
+            command.getOutput().set(1);
+            command.complete();
+        })).expectNext(3L).verifyComplete();
+
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void cancelShouldCancelSlotCommands() {
+
+        RedisAdvancedClusterReactiveCommandsImpl<String, String> reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(
+                connection, StringCodec.UTF8);
+
+        Disposable subscription = reactive.unlink("a", "b", "c").subscribe();
+        subscription.dispose();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3).allMatch(RedisCommand::isCancelled);
+    }
+
+    @Test
+    void shouldAttachTraceContextToSlotCommands() {
+
+        TraceContext traceContext = mock(TraceContext.class);
+        Tracing tracing = mock(Tracing.class);
+        when(tracing.isEnabled()).thenReturn(true);
+        when(tracing.initialTraceContextProvider()).thenReturn(() -> traceContext);
+        when(clientResources.tracing()).thenReturn(tracing);
+
+        RedisAdvancedClusterReactiveCommandsImpl<String, String> reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(
+                connection, StringCodec.UTF8);
+
+        reactive.exists("a", "b").subscribe();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2)
+                .allSatisfy(command -> assertThat(CommandWrapper.unwrap(command, TraceContextProvider.class).getTraceContext())
+                        .isSameAs(traceContext));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEncodeEachKeyOnce() {
+
+        AtomicInteger encodedKeys = new AtomicInteger();
+        RedisCodec<String, String> codec = new RedisCodec<String, String>() {
+
+            @Override
+            public String decodeKey(ByteBuffer bytes) {
+                return StringCodec.UTF8.decodeKey(bytes);
+            }
+
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                return StringCodec.UTF8.decodeValue(bytes);
+            }
+
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                encodedKeys.incrementAndGet();
+                return StringCodec.UTF8.encodeKey(key);
+            }
+
+            @Override
+            public ByteBuffer encodeValue(String value) {
+                return StringCodec.UTF8.encodeValue(value);
+            }
+
+        };
+
+        List<RedisCommand<?, ?, ?>> dispatched = new ArrayList<>();
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            dispatched.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        RedisAdvancedClusterReactiveCommandsImpl<String, String> reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(
+                connection, codec);
+
+        reactive.del("{a}1", "{a}2").subscribe();
+        reactive.del("a", "b", "c").subscribe();
+
+        assertThat(dispatched).hasSize(1);
+        assertThat(batches).hasSize(1);
+
+        dispatched.forEach(command -> command.getArgs().encode(Unpooled.buffer()));
+        batches.get(0).forEach(command -> command.getArgs().encode(Unpooled.buffer()));
+
+        assertThat(encodedKeys).hasValue(5);
+    }
+
+    /**
+     * Complete each MGET command of the dispatched batch with its keys as values.
+     */
+    private void completeWithKeys() {
+
+        for (RedisCommand<?, ?, ?> command : batches.get(0)) {
+
+            String[] args = command.getArgs().toCommandString().split(" ");
+            command.getOutput().multi(args.length);
+
+            for (String arg : args) {
+                String key = arg.substring("key<".length(), arg.length() - 1);
+                command.getOutput().set(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)));
+            }
+
+            command.complete();
+        }
+    }
+
+}
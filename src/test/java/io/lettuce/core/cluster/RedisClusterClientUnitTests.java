@@ -0,0 +1,81 @@
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.test.resource.FastShutdown;
+import io.lettuce.test.resource.TestClientResources;
+
+/**
+ * Unit tests for {@link RedisClusterClient}.
+ */
+@Tag(UNIT_TEST)
+class RedisClusterClientUnitTests {
+
+    private static final String NODE_1 = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 connected 0-16383\n";
+
+    private static final String NODE_2 = "2 127.0.0.1:7381 slave 1 0 1401258245007 2 connected\n";
+
+    private final TestClusterClient sut = new TestClusterClient();
+
+    @AfterEach
+    void tearDown() {
+        FastShutdown.shutdown(sut);
+    }
+
+    @Test
+    void incrementalRefreshShouldUpdateConnectionsWhenReplicaOffsetChanges() {
+
+        sut.setOptions(ClusterClientOptions.builder()
+                .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder().incrementalRefresh(true).build()).build());
+
+        Partitions current = ClusterPartitionParser.parse(NODE_1 + NODE_2);
+        sut.setPartitions(current);
+
+        RedisClusterNode replica = current.getPartitionByNodeId("2");
+        replica.setReplOffset(0);
+
+        sut.loaded = ClusterPartitionParser.parse(NODE_1 + NODE_2);
+        sut.loaded.getPartitionByNodeId("2").setReplOffset(100);
+
+        sut.refreshPartitionsAsync().toCompletableFuture().join();
+
+        assertThat(sut.getPartitions().getPartitionByNodeId("2")).isSameAs(replica);
+        assertThat(replica.getReplOffset()).isEqualTo(100);
+        assertThat(sut.connectionUpdates).isEqualTo(1);
+    }
+
+    static class TestClusterClient extends RedisClusterClient {
+
+        Partitions loaded;
+
+        int connectionUpdates;
+
+        TestClusterClient() {
+            super(TestClientResources.get(), Collections.singletonList(RedisURI.create("redis://localhost")));
+        }
+
+        @Override
+        protected CompletableFuture<Partitions> loadPartitionsAsync() {
+            return CompletableFuture.completedFuture(loaded);
+        }
+
+        @Override
+        protected void updatePartitionsInConnections() {
+            connectionUpdates++;
+        }
+
+    }
+
+}
@@ -4,10 +4,16 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.EncodedKey;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -47,4 +53,18 @@ class SlotHashUnitTests {
         assertThat(result).isEqualTo(0x31C3);
     }
 
+    @Test
+    void shouldPartitionEncodedKeys() {
+
+        List<String> keys = Arrays.asList("a", "{a}b", "b", "{a}c");
+
+        Map<Integer, List<EncodedKey<String>>> partitioned = SlotHash.partitionEncoded(StringCodec.UTF8, keys);
+
+        assertThat(partitioned).hasSize(2);
+        assertThat(partitioned.keySet()).containsExactly(SlotHash.getSlot("a"), SlotHash.getSlot("b"));
+        assertThat(partitioned.get(SlotHash.getSlot("a"))).extracting(EncodedKey::getKey).containsExactly("a", "{a}b", "{a}c");
+        assertThat(partitioned.get(SlotHash.getSlot("b"))).extracting(EncodedKey::getKey).containsExactly("b");
+        assertThat(StringCodec.UTF8.decodeKey(partitioned.get(SlotHash.getSlot("b")).get(0).getEncoded())).isEqualTo("b");
+    }
+
 }
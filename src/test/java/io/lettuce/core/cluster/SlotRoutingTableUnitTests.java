@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.protocol.ConnectionIntent;
+
+/**
+ * Unit tests for {@link SlotRoutingTable}.
+ */
+@Tag(UNIT_TEST)
+class SlotRoutingTableUnitTests {
+
+    private final RedisChannelWriter writer = mock(RedisChannelWriter.class);
+
+    @Test
+    void shouldRouteInstalledWriters() {
+
+        SlotRoutingTable table = SlotRoutingTable.EMPTY.rebuild(partitions(6379, 6380));
+
+        assertThat(table.getWriter(ConnectionIntent.WRITE, 1)).isNull();
+
+        table.setWriter(ConnectionIntent.WRITE, 1, writer);
+
+        assertThat(table.getWriter(ConnectionIntent.WRITE, 1)).isSameAs(writer);
+        assertThat(table.getWriter(ConnectionIntent.READ, 1)).isSameAs(writer);
+        assertThat(table.getWriter(ConnectionIntent.WRITE, 2)).isNull();
+    }
+
+    @Test
+    void shouldNotRouteUncoveredSlots() {
+
+        SlotRoutingTable.EMPTY.setWriter(ConnectionIntent.WRITE, 1, writer);
+
+        assertThat(SlotRoutingTable.EMPTY.getWriter(ConnectionIntent.WRITE, 1)).isNull();
+    }
+
+    @Test
+    void rebuildShouldRetainRoutesOfUnchangedOwners() {
+
+        SlotRoutingTable table = SlotRoutingTable.EMPTY.rebuild(partitions(6379, 6380));
+        table.setWriter(ConnectionIntent.WRITE, 1, writer);
+        table.setWriter(ConnectionIntent.WRITE, SlotHash.SLOT_COUNT - 1, writer);
+
+        SlotRoutingTable rebuilt = table.rebuild(partitions(6379, 6381));
+
+        assertThat(rebuilt.getWriter(ConnectionIntent.WRITE, 1)).isSameAs(writer);
+        assertThat(rebuilt.getWriter(ConnectionIntent.WRITE, SlotHash.SLOT_COUNT - 1)).isNull();
+        assertThat(table.getWriter(ConnectionIntent.WRITE, SlotHash.SLOT_COUNT - 1)).isSameAs(writer);
+    }
+
+    @Test
+    void shouldNotRouteReadsFromReplicas() {
+
+        SlotRoutingTable table = SlotRoutingTable.EMPTY.rebuild(partitions(6379, 6380));
+        table.setWriter(ConnectionIntent.WRITE, 1, writer);
+
+        SlotRoutingTable replicaReads = table.withReadFromUpstream(false);
+        replicaReads.setWriter(ConnectionIntent.READ, 2, writer);
+
+        assertThat(replicaReads.getWriter(ConnectionIntent.WRITE, 1)).isSameAs(writer);
+        assertThat(replicaReads.getWriter(ConnectionIntent.READ, 1)).isNull();
+        assertThat(replicaReads.getWriter(ConnectionIntent.WRITE, 2)).isNull();
+        assertThat(replicaReads.withReadFromUpstream(true).getWriter(ConnectionIntent.READ, 1)).isSameAs(writer);
+    }
+
+    private static Partitions partitions(int firstPort, int secondPort) {
+
+        int half = SlotHash.SLOT_COUNT / 2;
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", firstPort), "1", true, null, 0, 0, 0,
+                IntStream.range(0, half).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", secondPort), "2", true, null, 0, 0, 0,
+                IntStream.range(half, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()),
+                Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+        partitions.updateCache();
+
+        return partitions;
+    }
+
+}
@@ -3,13 +3,17 @@ package io.lettuce.core.cluster.models.partitions;
 import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.internal.LettuceLists;
 
@@ -115,6 +119,62 @@ class ClusterPartitionParserUnitTests {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    void shouldParseNodesFromBytes() {
+
+        for (String reply : Arrays.asList(nodes, nodesWithBusPort, nodesWithHostname, nodesWithIPv6Addresses)) {
+
+            ByteBuffer buffer = ByteBuffer.wrap(reply.getBytes(StandardCharsets.UTF_8));
+
+            Partitions expected = ClusterPartitionParser.parse(reply);
+            Partitions actual = ClusterPartitionParser.parse(buffer);
+
+            assertThat(buffer.remaining()).isEqualTo(reply.length());
+            assertThat(actual.getPartitions()).hasSameSizeAs(expected.getPartitions());
+
+            for (int i = 0; i < expected.size(); i++) {
+
+                RedisClusterNode expectedNode = expected.getPartition(i);
+                RedisClusterNode actualNode = actual.getPartition(i);
+
+                assertThat(actualNode.getNodeId()).isEqualTo(expectedNode.getNodeId());
+                assertThat(actualNode.getUri()).isEqualTo(expectedNode.getUri());
+                assertThat(actualNode.getFlags()).isEqualTo(expectedNode.getFlags());
+                assertThat(actualNode.getSlaveOf()).isEqualTo(expectedNode.getSlaveOf());
+                assertThat(actualNode.getPingSentTimestamp()).isEqualTo(expectedNode.getPingSentTimestamp());
+                assertThat(actualNode.getPongReceivedTimestamp()).isEqualTo(expectedNode.getPongReceivedTimestamp());
+                assertThat(actualNode.getConfigEpoch()).isEqualTo(expectedNode.getConfigEpoch());
+                assertThat(actualNode.isConnected()).isEqualTo(expectedNode.isConnected());
+                assertThat(actualNode.getReplOffset()).isEqualTo(expectedNode.getReplOffset());
+                assertThat(actualNode.hasSameSlotsAs(expectedNode)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void shouldParseNodesFromBytesWithAuxiliaryFields() {
+
+        String reply = "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381@17381,my-host.name.com,shard-id=69bc master - 0 1454482721690 3 connected 0-10\r\n";
+
+        Partitions result = ClusterPartitionParser.parse(ByteBuffer.wrap(reply.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getPartitions()).hasSize(1);
+
+        RedisClusterNode node = result.getPartition(0);
+
+        assertThat(node.getUri().getHost()).isEqualTo("my-host.name.com");
+        assertThat(node.getSlots()).hasSize(11).contains(0, 10);
+    }
+
+    @Test
+    void shouldRejectMalformedNodesFromBytes() {
+
+        ByteBuffer reply = ByteBuffer
+                .wrap("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 0 x".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(RedisException.class).isThrownBy(() -> ClusterPartitionParser.parse(reply));
+    }
+
     @Test
     void getNodeByHashShouldReturnCorrectNode() {
 
@@ -4,6 +4,7 @@ import static io.lettuce.TestTags.UNIT_TEST;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -251,6 +252,42 @@ class PartitionsUnitTests {
         assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
     }
 
+    @Test
+    void reloadChangedSlots() {
+
+        RedisClusterNode upstream1 = new RedisClusterNode(RedisURI.create("localhost", 6379), "a", true, "", 0, 0, 0,
+                Arrays.asList(1, 2, 3), EnumSet.of(RedisClusterNode.NodeFlag.UPSTREAM));
+        RedisClusterNode upstream2 = new RedisClusterNode(RedisURI.create("localhost", 6380), "b", true, "", 0, 0, 0,
+                Arrays.asList(4, 5, 6), EnumSet.of(RedisClusterNode.NodeFlag.UPSTREAM));
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(upstream1, upstream2));
+
+        RedisClusterNode moved = new RedisClusterNode(RedisURI.create("localhost", 6380), "b", true, "", 0, 0, 0,
+                Arrays.asList(3, 4, 5, 6), EnumSet.of(RedisClusterNode.NodeFlag.UPSTREAM));
+        upstream1.setSlots(Arrays.asList(1, 2));
+
+        BitSet changedSlots = new BitSet();
+        changedSlots.set(3, 7);
+
+        partitions.reload(Arrays.asList(upstream1, moved), changedSlots);
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(upstream1);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(moved);
+        assertThat(partitions.getMasterBySlot(6)).isSameAs(moved);
+        assertThat(partitions.getPartitionByNodeId("b")).isSameAs(moved);
+    }
+
+    @Test
+    void reloadChangedSlotsShouldInitializeCache() {
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(node1, node2), new BitSet());
+
+        assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
+        assertThat(partitions.getPartitionBySlot(4)).isEqualTo(node2);
+    }
+
     @Test
     void reloadEmpty() {
 
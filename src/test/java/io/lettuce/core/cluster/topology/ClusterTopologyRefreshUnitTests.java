@@ -415,6 +415,60 @@ class ClusterTopologyRefreshUnitTests {
         verifyNoMoreInteractions(nodeConnectionFactory);
     }
 
+    @Test
+    void shouldLoadViewsUsingClusterShards() {
+
+        List<RedisURI> seed = Collections.singletonList(RedisURI.create("127.0.0.1", 7380));
+
+        List<Object> shards = Arrays.asList(
+                Arrays.asList("slots", Arrays.asList(0L, 8191L), "nodes",
+                        Arrays.asList(shardNode("1", 7380, "master"), shardNode("3", 7382, "replica"))),
+                Arrays.asList("slots", Arrays.asList(8192L, 16383L), "nodes",
+                        Collections.singletonList(shardNode("2", 7381, "master"))));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class),
+                eq(InetSocketAddress.createUnresolved("127.0.0.1", 7380))))
+                        .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(connection1.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            TimedAsyncCommand command = invocation.getArgument(0);
+            String args = command.getArgs().toCommandString();
+
+            if (args.equals("SHARDS")) {
+                command.complete(shards);
+            }
+
+            if (args.equals("MYID")) {
+                command.complete("1");
+            }
+
+            if (command.getType() == CommandType.INFO) {
+                command.getOutput().set(ByteBuffer.wrap("# Clients\nconnected_clients:2\n".getBytes()));
+                command.complete();
+            }
+
+            return command;
+        });
+
+        Map<RedisURI, Partitions> views = sut.loadViews(seed, Duration.ofSeconds(1), false, true).toCompletableFuture().join();
+
+        assertThat(views).hasSize(1);
+        Partitions partitions = views.values().iterator().next();
+
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.getPartitionByNodeId("1").is(RedisClusterNode.NodeFlag.MYSELF)).isTrue();
+        assertThat(partitions.getPartitionByNodeId("2").is(RedisClusterNode.NodeFlag.MYSELF)).isFalse();
+        assertThat(partitions.getPartitionByNodeId("3").getSlaveOf()).isEqualTo("1");
+        assertThat(partitions.getPartitionByNodeId("3").hasNoSlots()).isTrue();
+        assertThat(partitions.getMasterBySlot(8192).getNodeId()).isEqualTo("2");
+        assertThat(partitions.getPartitionBySlot(0).getNodeId()).isEqualTo("1");
+    }
+
+    private static List<Object> shardNode(String id, long port, String role) {
+        return Arrays.asList("id", id, "port", port, "ip", "127.0.0.1", "endpoint", "127.0.0.1", "role", role,
+                "replication-offset", 100L, "health", "online");
+    }
+
     @Test
     void shouldNotFailOnDuplicateSeedNodes() {
 
@@ -609,7 +663,7 @@ class ClusterTopologyRefreshUnitTests {
         Connections connections = new Connections(clientResources, new HashMap<>());
         connections.addConnection(redisURI, connection);
 
-        Requests requests = connections.requestTopology(100, TimeUnit.SECONDS);
+        Requests requests = connections.requestInfo(100, TimeUnit.SECONDS);
         TimedAsyncCommand<String, String, String> command = requests.getRequest(redisURI);
 
         command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
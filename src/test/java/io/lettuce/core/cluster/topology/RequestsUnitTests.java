@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ByteArrayOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
@@ -47,7 +48,7 @@ class RequestsUnitTests {
 
         Requests clusterNodesRequests = new Requests();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
         Requests infoClientRequests = new Requests();
         String infoClientOutput = "# Clients\r\nconnected_clients:100\r\nclient_longest_output_list:0\r\nclient_biggest_input_buf:0\r\nblocked_clients:0";
@@ -69,7 +70,7 @@ class RequestsUnitTests {
 
         Requests clusterNodesRequests = new Requests();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
         Requests clientListRequests = new Requests();
 
@@ -81,6 +82,15 @@ class RequestsUnitTests {
         assertThat(nodeTopologyView.getClusterNodes()).isNull();
     }
 
+    private TimedAsyncCommand getClusterNodesCommand(String response) {
+        Command<String, String, byte[]> command = new Command<>(CommandType.TYPE, new ByteArrayOutput<>(StringCodec.UTF8));
+        TimedAsyncCommand timedAsyncCommand = new TimedAsyncCommand(command);
+
+        command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
+        timedAsyncCommand.complete();
+        return timedAsyncCommand;
+    }
+
     private TimedAsyncCommand getCommand(String response) {
         Command<String, String, String> command = new Command<>(CommandType.TYPE, new StatusOutput<>(StringCodec.UTF8));
         TimedAsyncCommand timedAsyncCommand = new TimedAsyncCommand(command);
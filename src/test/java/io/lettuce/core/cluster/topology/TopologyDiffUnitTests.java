@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster.topology;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Unit tests for {@link TopologyDiff}.
+ */
+@Tag(UNIT_TEST)
+class TopologyDiffUnitTests {
+
+    private static final String NODE_1 = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 connected 0-8191\n";
+
+    private static final String NODE_2 = "2 127.0.0.1:7381 master - 0 1401258245007 3 connected 8192-16383\n";
+
+    private static final String NODE_3 = "3 127.0.0.1:7382 slave 1 0 1401258245007 2 connected\n";
+
+    @Test
+    void unchangedTopologyShouldRetainNodes() {
+
+        Partitions current = ClusterPartitionParser.parse(NODE_1 + NODE_2);
+        Partitions loaded = ClusterPartitionParser.parse(NODE_1.replace("master,myself", "master")
+                + NODE_2.replace("master", "master,myself").replace(" 3 connected", " 4 connected"));
+
+        TopologyDiff diff = TopologyDiff.compute(current, loaded);
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.getChangedSlots().isEmpty()).isTrue();
+        assertThat(diff.getNodes()).containsExactly(current.getPartition(0), current.getPartition(1));
+        assertThat(diff.getNodes().get(1)).isSameAs(current.getPartitionByNodeId("2"));
+        assertThat(diff.getNodes().get(1).getConfigEpoch()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDetectSlotMove() {
+
+        Partitions current = ClusterPartitionParser.parse(NODE_1 + NODE_2);
+        Partitions loaded = ClusterPartitionParser
+                .parse(NODE_1.replace("0-8191", "0-8190") + NODE_2.replace("8192-16383", "8191-16383"));
+
+        TopologyDiff diff = TopologyDiff.compute(current, loaded);
+
+        assertThat(diff.isEmpty()).isFalse();
+        assertThat(diff.getAdded()).isEmpty();
+        assertThat(diff.getRemoved()).isEmpty();
+        assertThat(diff.getUpdated()).containsExactly(loaded.getPartition(0), loaded.getPartition(1));
+        assertThat(diff.getNodes().get(0)).isSameAs(loaded.getPartitionByNodeId("1"));
+        assertThat(diff.getChangedSlots().cardinality()).isEqualTo(16384);
+    }
+
+    @Test
+    void shouldDetectAddedAndRemovedNodes() {
+
+        Partitions current = ClusterPartitionParser.parse(NODE_1 + NODE_2);
+        Partitions loaded = ClusterPartitionParser.parse(NODE_1 + NODE_3);
+
+        TopologyDiff diff = TopologyDiff.compute(current, loaded);
+
+        assertThat(diff.getAdded()).extracting(RedisClusterNode::getNodeId).containsExactly("3");
+        assertThat(diff.getRemoved()).extracting(RedisClusterNode::getNodeId).containsExactly("2");
+        assertThat(diff.getUpdated()).isEmpty();
+        assertThat(diff.getNodes().get(0)).isSameAs(current.getPartitionByNodeId("1"));
+        assertThat(diff.getChangedSlots().get(8191)).isFalse();
+        assertThat(diff.getChangedSlots().get(8192)).isTrue();
+        assertThat(diff.getChangedSlots().cardinality()).isEqualTo(8192);
+    }
+
+    @Test
+    void shouldDetectRoleChange() {
+
+        Partitions current = ClusterPartitionParser.parse(NODE_1 + NODE_3);
+        Partitions loaded = ClusterPartitionParser
+                .parse(NODE_1.replace("master,myself", "slave,myself").replace(" - ", " 3 ").replace("0-8191", "")
+                        + NODE_3.replace("slave 1", "master -").replace("connected\n", "connected 0-8191\n"));
+
+        TopologyDiff diff = TopologyDiff.compute(current, loaded);
+
+        assertThat(diff.getUpdated()).extracting(RedisClusterNode::getNodeId).containsExactly("1", "3");
+        assertThat(diff.getChangedSlots().cardinality()).isEqualTo(8192);
+    }
+
+}
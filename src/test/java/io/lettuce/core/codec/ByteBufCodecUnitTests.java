@@ -0,0 +1,60 @@
+package io.lettuce.core.codec;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link ByteBufCodec}.
+ */
+@Tag(UNIT_TEST)
+class ByteBufCodecUnitTests {
+
+    private final ByteBufCodec codec = ByteBufCodec.INSTANCE;
+
+    @Test
+    void shouldEncodeWithoutConsumingSource() {
+
+        ByteBuf key = Unpooled.copiedBuffer("key", StandardCharsets.US_ASCII);
+        ByteBuf target = Unpooled.buffer();
+
+        codec.encodeKey(key, target);
+
+        assertThat(target.toString(StandardCharsets.US_ASCII)).isEqualTo("key");
+        assertThat(key.readableBytes()).isEqualTo(3);
+        assertThat(codec.estimateSize(key)).isEqualTo(3);
+        assertThat(codec.isEstimateExact()).isTrue();
+    }
+
+    @Test
+    void shouldDecodeByteBufIntoIndependentBuffer() {
+
+        ByteBuf source = Unpooled.copiedBuffer("value", StandardCharsets.US_ASCII);
+
+        ByteBuf result = codec.decodeValue(source.slice(0, 5));
+        source.setByte(0, 'x');
+
+        assertThat(result.toString(StandardCharsets.US_ASCII)).isEqualTo("value");
+        assertThat(result.refCnt()).isEqualTo(1);
+        assertThat(source.refCnt()).isEqualTo(1);
+        result.release();
+    }
+
+    @Test
+    void shouldDecodeByteBuffer() {
+
+        ByteBuf result = codec.decodeKey(ByteBuffer.wrap("key".getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(result.toString(StandardCharsets.US_ASCII)).isEqualTo("key");
+        assertThat(codec.decodeValue((ByteBuffer) null).readableBytes()).isZero();
+    }
+
+}
@@ -80,6 +80,21 @@ class MicrometerCommandLatencyRecorderUnitTests {
                 .hasFieldOrPropertyWithValue("max", 1500.0).hasFieldOrPropertyWithValue("total", 3000.0);
     }
 
+    @Test
+    void verifyAdmissionMetrics() {
+
+        MicrometerOptions options = MicrometerOptions.create();
+        MicrometerCommandLatencyRecorder commandLatencyRecorder = new MicrometerCommandLatencyRecorder(meterRegistry, options);
+
+        commandLatencyRecorder.recordAdmissionLatency(LOCAL_ADDRESS, REMOTE_ADDRESS, CommandType.GET, 100);
+        commandLatencyRecorder.recordAdmissionLatency(LOCAL_ADDRESS, REMOTE_ADDRESS, CommandType.GET, 300);
+
+        assertThat(meterRegistry.find(METRIC_ADMISSION).tag(LABEL_COMMAND, CommandType.GET.name()).timers()).hasSize(1)
+                .element(0).extracting(Timer::takeSnapshot).hasFieldOrPropertyWithValue("count", 2L)
+                .hasFieldOrPropertyWithValue("max", 300.0).hasFieldOrPropertyWithValue("total", 400.0);
+        assertThat(meterRegistry.find(METRIC_COMPLETION).timers()).isEmpty();
+    }
+
     @Test
     void disabled() {
 
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link ArrayCommandStack}.
+ */
+@Tag(UNIT_TEST)
+class ArrayCommandStackUnitTests {
+
+    private final ArrayCommandStack stack = new ArrayCommandStack(4);
+
+    @Test
+    void shouldPollInInsertionOrder() {
+
+        List<Command<String, String, String>> commands = commands(3);
+        stack.addAll(commands);
+
+        assertThat(stack).hasSize(3);
+        assertThat(stack.peek()).isSameAs(commands.get(0));
+        assertThat(stack.poll()).isSameAs(commands.get(0));
+        assertThat(stack.poll()).isSameAs(commands.get(1));
+        assertThat(stack.poll()).isSameAs(commands.get(2));
+        assertThat(stack.poll()).isNull();
+        assertThat(stack).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveUsingTombstone() {
+
+        List<Command<String, String, String>> commands = commands(3);
+        stack.addAll(commands);
+
+        assertThat(stack.remove(commands.get(1))).isTrue();
+        assertThat(commands.get(1).stackPosition).isEqualTo(-1);
+        assertThat(stack.remove(commands.get(1))).isFalse();
+
+        assertThat(stack).hasSize(2).containsExactly(commands.get(0), commands.get(2));
+        assertThat(stack.poll()).isSameAs(commands.get(0));
+        assertThat(stack.poll()).isSameAs(commands.get(2));
+        assertThat(stack.poll()).isNull();
+    }
+
+    @Test
+    void shouldRemoveHeadAndTail() {
+
+        List<Command<String, String, String>> commands = commands(3);
+        stack.addAll(commands);
+
+        stack.remove(commands.get(0));
+        stack.remove(commands.get(2));
+
+        assertThat(stack.peek()).isSameAs(commands.get(1));
+        assertThat(stack).containsExactly(commands.get(1));
+    }
+
+    @Test
+    void shouldKeepOrderAndPositionsWhenResizing() {
+
+        List<Command<String, String, String>> commands = commands(20);
+
+        for (int i = 0; i < 10; i++) {
+            stack.add(commands.get(i));
+        }
+
+        stack.poll();
+        stack.poll();
+        stack.remove(commands.get(5));
+
+        for (int i = 10; i < 20; i++) {
+            stack.add(commands.get(i));
+        }
+
+        assertThat(stack.capacity()).isGreaterThanOrEqualTo(17);
+        assertThat(stack.remove(commands.get(15))).isTrue();
+        assertThat(stack.remove(commands.get(3))).isTrue();
+
+        List<RedisCommand<?, ?, ?>> polled = new ArrayList<>();
+        RedisCommand<?, ?, ?> command;
+        while ((command = stack.poll()) != null) {
+            polled.add(command);
+        }
+
+        List<Command<String, String, String>> expected = new ArrayList<>(commands.subList(2, 20));
+        expected.remove(commands.get(3));
+        expected.remove(commands.get(5));
+        expected.remove(commands.get(15));
+
+        assertThat(polled).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldCompactTombstonesInsteadOfGrowing() {
+
+        List<Command<String, String, String>> commands = commands(4);
+        stack.addAll(commands);
+
+        stack.remove(commands.get(1));
+        stack.remove(commands.get(2));
+
+        Command<String, String, String> next = command();
+        stack.add(next);
+        stack.add(command());
+
+        assertThat(stack.capacity()).isEqualTo(4);
+        assertThat(stack.remove(next)).isTrue();
+        assertThat(stack).hasSize(3);
+    }
+
+    @Test
+    void shouldWrapAround() {
+
+        for (int i = 0; i < 100; i++) {
+
+            Command<String, String, String> first = command();
+            Command<String, String, String> second = command();
+
+            stack.add(first);
+            stack.add(second);
+
+            assertThat(stack.remove(second)).isTrue();
+            assertThat(stack.poll()).isSameAs(first);
+        }
+
+        assertThat(stack.capacity()).isEqualTo(4);
+        assertThat(stack).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveAsyncCommands() {
+
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(command());
+        AsyncCommand<String, String, String> second = new AsyncCommand<>(command());
+
+        stack.add(first);
+        stack.add(second);
+
+        assertThat(first.stackPosition).isNotEqualTo(-1);
+        assertThat(stack.contains(first)).isTrue();
+        assertThat(stack.remove(first)).isTrue();
+        assertThat(stack.contains(first)).isFalse();
+        assertThat(stack).containsExactly(second);
+    }
+
+    @Test
+    void shouldRemoveCommandsWithoutPositionByScanning() {
+
+        RedisCommand<?, ?, ?> first = mock(RedisCommand.class);
+        RedisCommand<?, ?, ?> second = mock(RedisCommand.class);
+
+        stack.add(first);
+        stack.add(second);
+
+        assertThat(stack.contains(second)).isTrue();
+        assertThat(stack.remove(first)).isTrue();
+        assertThat(stack.remove(first)).isFalse();
+        assertThat(stack).containsExactly(second);
+    }
+
+    @Test
+    void shouldRemoveFirstOccurrenceOfDuplicates() {
+
+        Command<String, String, String> duplicate = command();
+        Command<String, String, String> other = command();
+
+        stack.add(duplicate);
+        stack.add(other);
+        stack.add(duplicate);
+
+        assertThat(stack.remove(duplicate)).isTrue();
+        assertThat(stack).containsExactly(other, duplicate);
+        assertThat(stack.remove(duplicate)).isTrue();
+        assertThat(stack).containsExactly(other);
+    }
+
+    @Test
+    void shouldRemoveThroughIterator() {
+
+        List<Command<String, String, String>> commands = commands(3);
+        stack.addAll(commands);
+
+        Iterator<RedisCommand<?, ?, ?>> iterator = stack.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(stack).containsExactly(commands.get(0), commands.get(2));
+    }
+
+    @Test
+    void shouldClear() {
+
+        List<Command<String, String, String>> commands = commands(3);
+        stack.addAll(commands);
+
+        stack.clear();
+
+        assertThat(stack).isEmpty();
+        assertThat(stack.poll()).isNull();
+        assertThat(commands).allMatch(command -> command.stackPosition == -1);
+
+        stack.add(commands.get(2));
+        assertThat(stack.remove(commands.get(2))).isTrue();
+    }
+
+    private static List<Command<String, String, String>> commands(int count) {
+
+        List<Command<String, String, String>> commands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            commands.add(command());
+        }
+        return commands;
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
@@ -178,6 +180,60 @@ public class AsyncCommandUnitTests {
         assertThatThrownBy(() -> sut.await(5, TimeUnit.MILLISECONDS)).isInstanceOf(RedisCommandInterruptedException.class);
     }
 
+    @Test
+    void awaitParkedReturnsCompleted() {
+        sut.getOutput().set(StandardCharsets.US_ASCII.encode("one"));
+        sut.complete();
+        assertThat(Futures.awaitOrCancel(sut, 0, TimeUnit.NANOSECONDS, true)).isEqualTo("one");
+        assertThat(Futures.awaitOrCancel(sut, 1, TimeUnit.NANOSECONDS, true)).isEqualTo("one");
+    }
+
+    @Test
+    void awaitParkedIsUnparkedByCompletion() {
+
+        new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            sut.getOutput().set(StandardCharsets.US_ASCII.encode("one"));
+            sut.complete();
+        }).start();
+
+        assertThat(Futures.awaitOrCancel(sut, 0, TimeUnit.NANOSECONDS, true)).isEqualTo("one");
+    }
+
+    @Test
+    void awaitParkedIsUnparkedByCancellation() {
+
+        new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            sut.cancel();
+        }).start();
+
+        assertThatThrownBy(() -> Futures.awaitOrCancel(sut, 5, TimeUnit.SECONDS, true))
+                .isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void awaitParkedWithExecutionException() {
+        sut.completeExceptionally(new RedisException("error"));
+        assertThatThrownBy(() -> Futures.awaitOrCancel(sut, 1, TimeUnit.SECONDS, true)).isInstanceOf(RedisException.class);
+    }
+
+    @Test
+    void awaitParkedTimeoutCancelsCommand() {
+        assertThat(sut.awaitParked(2, TimeUnit.MILLISECONDS)).isFalse();
+        assertThatThrownBy(() -> Futures.awaitOrCancel(sut, 2, TimeUnit.MILLISECONDS, true))
+                .isInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(sut.isCancelled()).isTrue();
+    }
+
+    @Test
+    void awaitParkedInterrupted() {
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> sut.awaitParked(5, TimeUnit.MILLISECONDS))
+                .isInstanceOf(RedisCommandInterruptedException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
     @Test
     void outputSubclassOverride1() {
         CommandOutput<String, String, String> output = new CommandOutput<String, String, String>(codec, null) {
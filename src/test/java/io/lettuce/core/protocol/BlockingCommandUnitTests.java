@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link BlockingCommand}.
+ */
+@Tag(UNIT_TEST)
+class BlockingCommandUnitTests {
+
+    private final BlockingCommand<String, String, String> sut = new BlockingCommand<>(CommandType.PING,
+            new StatusOutput<>(StringCodec.UTF8), null);
+
+    @Test
+    void shouldNotifyCallbacksOnlyOnce() {
+
+        AtomicInteger notifications = new AtomicInteger();
+        sut.onComplete((result, throwable) -> notifications.incrementAndGet());
+
+        sut.complete();
+        sut.cancel();
+        sut.completeExceptionally(new IllegalStateException());
+
+        assertThat(notifications).hasValue(1);
+        assertThat(sut.isCompletedByReply()).isTrue();
+    }
+
+    @Test
+    void shouldNotCompleteExceptionallyAfterCancel() {
+
+        sut.cancel();
+
+        assertThat(sut.completeExceptionally(new IllegalStateException())).isFalse();
+        assertThat(sut.isCancelled()).isTrue();
+    }
+
+    @Test
+    void awaitShouldCancelOnTimeout() {
+
+        assertThatThrownBy(() -> sut.await(Duration.ofMillis(10))).isInstanceOf(RedisCommandTimeoutException.class);
+
+        assertThat(sut.isCancelled()).isTrue();
+    }
+
+    @Test
+    void awaitShouldCancelOnInterrupt() {
+
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThatThrownBy(() -> sut.await(Duration.ofSeconds(10))).isInstanceOf(RedisCommandInterruptedException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        assertThat(sut.isCancelled()).isTrue();
+    }
+
+}
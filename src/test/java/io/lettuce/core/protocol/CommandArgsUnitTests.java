@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -185,4 +186,65 @@ class CommandArgsUnitTests {
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
 
+    @Test
+    void addKeyShouldEncodeKeyOnceForRoutingAndWriting() {
+
+        CountingCodec codec = new CountingCodec();
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("key");
+
+        assertThat(StringCodec.UTF8.decodeKey(args.getFirstEncodedKey())).isEqualTo("key");
+        assertThat(StringCodec.UTF8.decodeKey(args.getFirstEncodedKey())).isEqualTo("key");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$3\r\nkey\r\n");
+        assertThat(codec.encodedKeys).isEqualTo(1);
+    }
+
+    @Test
+    void addEncodedKeyShouldReuseEncodedBytes() {
+
+        CountingCodec codec = new CountingCodec();
+        EncodedKey<String> key = EncodedKey.of(codec, "key");
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey(key).addKey(key);
+
+        assertThat(StringCodec.UTF8.decodeKey(args.getFirstEncodedKey())).isEqualTo("key");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII))
+                .isEqualTo("$3\r\nkey\r\n$3\r\nkey\r\n$3\r\nkey\r\n$3\r\nkey\r\n");
+        assertThat(codec.encodedKeys).isEqualTo(1);
+    }
+
+    static class CountingCodec implements RedisCodec<String, String> {
+
+        int encodedKeys;
+
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return StringCodec.UTF8.decodeKey(bytes);
+        }
+
+        @Override
+        public String decodeValue(ByteBuffer bytes) {
+            return StringCodec.UTF8.decodeValue(bytes);
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            encodedKeys++;
+            return StringCodec.UTF8.encodeKey(key);
+        }
+
+        @Override
+        public ByteBuffer encodeValue(String value) {
+            return StringCodec.UTF8.encodeValue(value);
+        }
+
+    }
+
 }
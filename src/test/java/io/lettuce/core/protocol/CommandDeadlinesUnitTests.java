@@ -0,0 +1,212 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Tag;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+/**
+ * Unit tests for {@link CommandDeadlines}.
+ */
+@Tag(UNIT_TEST)
+class CommandDeadlinesUnitTests {
+
+    private static final long TIMEOUT = Duration.ofSeconds(5).toNanos();
+
+    private final Timer timer = mock(Timer.class);
+
+    private final CommandDeadlines deadlines = new CommandDeadlines(Duration.ofMillis(100), command -> TIMEOUT, timer,
+            mock(ScheduledExecutorService.class));
+
+    private final Queue<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        deadlines.activated();
+    }
+
+    @Test
+    void shouldNotTrackWhileInactive() {
+
+        deadlines.deactivated(stack);
+
+        assertThat(deadlines.track(command(), TIMEOUT)).isFalse();
+    }
+
+    @Test
+    void shouldNotTrackUnsupportedCommands() {
+        assertThat(deadlines.track(mock(RedisCommand.class), TIMEOUT)).isFalse();
+    }
+
+    @Test
+    void shouldRoundDeadlineUpToBucket() {
+
+        Command<String, String, String> command = command();
+
+        long before = System.nanoTime();
+        assertThat(deadlines.track(command, TIMEOUT)).isTrue();
+
+        long deadline = CommandDeadlines.getDeadline(command);
+        assertThat(deadline - (before + TIMEOUT)).isGreaterThanOrEqualTo(0);
+        assertThat(deadline - (before + TIMEOUT)).isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100) + 1);
+        assertThat(Math.floorMod(deadline, TimeUnit.MILLISECONDS.toNanos(100))).isZero();
+    }
+
+    @Test
+    void shouldResolveDeadlineOfDecoratedCommands() {
+
+        Command<String, String, String> command = command();
+        deadlines.track(command, TIMEOUT);
+
+        AsyncCommand<String, String, String> asyncCommand = new AsyncCommand<>(command);
+        CommandWrapper<String, String, String> wrapper = new CommandWrapper<>(asyncCommand);
+
+        assertThat(CommandDeadlines.getDeadline(wrapper)).isEqualTo(CommandDeadlines.getDeadline(command)).isNotZero();
+        assertThat(CommandDeadlines.getDeadline(command())).isZero();
+    }
+
+    @Test
+    void shouldExpireOverdueCommands() {
+
+        AsyncCommand<String, String, String> overdue = new AsyncCommand<>(command());
+        AsyncCommand<String, String, String> pending = new AsyncCommand<>(command());
+        AsyncCommand<String, String, String> untracked = new AsyncCommand<>(command());
+
+        deadlines.track(overdue, -TIMEOUT);
+        deadlines.track(pending, TIMEOUT);
+
+        stack.addAll(Arrays.asList(overdue, pending, untracked));
+        stack.forEach(deadlines::onAddToStack);
+
+        deadlines.sweep(stack);
+
+        assertThat(overdue).isCompletedExceptionally();
+        assertThat(overdue.handle((v, t) -> t).join()).isInstanceOf(RedisCommandTimeoutException.class)
+                .hasMessageContaining("5 second");
+        assertThat(pending).isNotDone();
+        assertThat(untracked).isNotDone();
+    }
+
+    @Test
+    void shouldAllowWritesFromCompletionCallbacksDuringSweep() {
+
+        AsyncCommand<String, String, String> overdue = new AsyncCommand<>(command());
+        deadlines.track(overdue, -TIMEOUT);
+        stack.add(overdue);
+        deadlines.onAddToStack(overdue);
+
+        overdue.whenComplete((v, t) -> stack.add(new AsyncCommand<>(command())));
+
+        deadlines.sweep(stack);
+
+        assertThat(overdue).isCompletedExceptionally();
+        assertThat(stack).hasSize(2);
+    }
+
+    @Test
+    void shouldExpireOverdueCommandsThroughCompletionExecutor() {
+
+        AsyncCommand<String, String, String> overdue = new AsyncCommand<>(command());
+        deadlines.track(overdue, -TIMEOUT);
+        stack.add(overdue);
+        deadlines.onAddToStack(overdue);
+
+        List<Runnable> completions = new ArrayList<>();
+        deadlines.sweep(stack, completions::add);
+
+        assertThat(overdue).isNotDone();
+        assertThat(completions).hasSize(1);
+
+        completions.get(0).run();
+
+        assertThat(overdue).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldHandOverToTimerWhenDeactivated() {
+
+        AsyncCommand<String, String, String> tracked = new AsyncCommand<>(command());
+        AsyncCommand<String, String, String> untracked = new AsyncCommand<>(command());
+        deadlines.track(tracked, TIMEOUT);
+        stack.addAll(Arrays.asList(tracked, untracked));
+
+        deadlines.deactivated(stack);
+
+        verify(timer).newTimeout(any(TimerTask.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void shouldNotHandOverCompletedCommands() {
+
+        AsyncCommand<String, String, String> tracked = new AsyncCommand<>(command());
+        deadlines.track(tracked, TIMEOUT);
+        tracked.complete("OK");
+        stack.add(tracked);
+
+        deadlines.deactivated(stack);
+
+        verify(timer, never()).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void shouldHandOverBufferedCommandsToTimerOnce() {
+
+        AsyncCommand<String, String, String> buffered = new AsyncCommand<>(command());
+        deadlines.track(buffered, TIMEOUT);
+
+        deadlines.schedule(buffered);
+        deadlines.schedule(buffered);
+        stack.add(buffered);
+        deadlines.deactivated(stack);
+
+        verify(timer).newTimeout(any(TimerTask.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertThat(CommandDeadlines.getDeadline(buffered)).isZero();
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+    }
+
+}
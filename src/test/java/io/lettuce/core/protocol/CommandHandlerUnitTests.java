@@ -31,6 +31,7 @@ import java.net.Inet4Address;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -56,6 +57,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ConnectionEvents;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.push.PushListener;
@@ -79,6 +81,8 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
 /**
@@ -370,6 +374,24 @@ class CommandHandlerUnitTests {
         assertThat(stack).hasSize(1).allMatch(o -> o instanceof LatencyMeteredCommand);
     }
 
+    @Test
+    void shouldRemoveFailedWriteFromArrayIndexedQueue() throws Exception {
+
+        sut = new CommandHandler(ClientOptions.builder().useArrayIndexedQueue(true).build(), clientResources, endpoint);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        assertThat(stack).isInstanceOf(ArrayCommandStack.class);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        sut.write(context, command, channelPromise);
+
+        assertThat(stack).hasSize(1);
+
+        channelPromise.setFailure(new IOException());
+
+        assertThat(stack).isEmpty();
+    }
+
     @Test
     void shouldConsiderQueueLimits() throws Exception {
 
@@ -638,6 +660,132 @@ class CommandHandlerUnitTests {
         assertThat(hmgetCommand.get()).hasSize(3);
     }
 
+    @Test
+    void shouldCompleteCommandsOfOneReadAsBatchOnScheduler() throws Exception {
+
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        EventExecutor executor = mock(EventExecutor.class);
+        when(clientResources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(executorGroup.next()).thenReturn(executor);
+
+        CommandHandler commandHandler = new CommandHandler(ClientOptions.builder().completeOnScheduler(true).build(),
+                clientResources, endpoint);
+
+        commandHandler.channelRegistered(context);
+        commandHandler.channelActive(context);
+
+        List<String> completionOrder = new ArrayList<>();
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(
+                new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, String> second = new AsyncCommand<>(
+                new Command<>(CommandType.ECHO, new StatusOutput<>(StringCodec.UTF8)));
+        first.thenAccept(completionOrder::add);
+        second.thenAccept(completionOrder::add);
+
+        commandHandler.getStack().add(first);
+        commandHandler.getStack().add(second);
+
+        commandHandler.channelRead(context, Unpooled.wrappedBuffer("+PONG\r\n+hello\r\n".getBytes()));
+
+        assertThat(commandHandler.getStack()).isEmpty();
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+
+        captor.getValue().run();
+
+        assertThat(completionOrder).containsExactly("PONG", "hello");
+
+        commandHandler.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldCancelOnResetAfterDeferredCompletions() throws Exception {
+
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        EventExecutor executor = mock(EventExecutor.class);
+        when(clientResources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(executorGroup.next()).thenReturn(executor);
+
+        CommandHandler commandHandler = new CommandHandler(ClientOptions.builder().completeOnScheduler(true).build(),
+                clientResources, endpoint);
+
+        commandHandler.channelRegistered(context);
+        commandHandler.channelActive(context);
+
+        List<String> completionOrder = new ArrayList<>();
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(
+                new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, String> second = new AsyncCommand<>(
+                new Command<>(CommandType.ECHO, new StatusOutput<>(StringCodec.UTF8)));
+        first.whenComplete((value, throwable) -> completionOrder.add("first"));
+        second.whenComplete((value, throwable) -> completionOrder.add("second"));
+
+        commandHandler.getStack().add(first);
+        commandHandler.getStack().add(second);
+
+        commandHandler.channelRead(context, Unpooled.wrappedBuffer("+PONG\r\n".getBytes()));
+        commandHandler.userEventTriggered(context, new ConnectionEvents.Reset());
+
+        assertThat(commandHandler.getStack()).isEmpty();
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).execute(captor.capture());
+
+        captor.getAllValues().forEach(Runnable::run);
+
+        assertThat(completionOrder).containsExactly("first", "second");
+        assertThat(first.get()).isEqualTo("PONG");
+        assertThat(second).isCancelled();
+
+        commandHandler.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyAfterDeferredCompletions() throws Exception {
+
+        EventExecutorGroup executorGroup = mock(EventExecutorGroup.class);
+        EventExecutor executor = mock(EventExecutor.class);
+        when(clientResources.eventExecutorGroup()).thenReturn(executorGroup);
+        when(executorGroup.next()).thenReturn(executor);
+
+        CommandHandler commandHandler = new CommandHandler(ClientOptions.builder().completeOnScheduler(true).build(),
+                clientResources, endpoint);
+
+        commandHandler.channelRegistered(context);
+        commandHandler.channelActive(context);
+
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(
+                new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, String> second = new AsyncCommand<>(
+                new Command<>(CommandType.ECHO, new StatusOutput<>(StringCodec.UTF8)));
+
+        commandHandler.getStack().add(first);
+        commandHandler.getStack().add(second);
+
+        commandHandler.channelRead(context, Unpooled.wrappedBuffer("+PONG\r\n".getBytes()));
+        commandHandler.exceptionCaught(context, new IOException("Connection reset by peer"));
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).execute(captor.capture());
+
+        captor.getAllValues().get(0).run();
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+
+        captor.getAllValues().get(1).run();
+        assertThat(second).isCompletedExceptionally();
+
+        commandHandler.channelUnregistered(context);
+    }
+
     /**
      * @see <a href="https://github.com/redis/lettuce/issues/3087">Issue 3087</a>
      */
@@ -13,6 +13,8 @@ import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * Unit test for {@link Command}.
@@ -45,6 +47,30 @@ public class CommandUnitTests {
         sut.cancel();
     }
 
+    @Test
+    void shouldEncodeCommandWithCachedHeader() {
+
+        Command<String, String, String> command = new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue("value"));
+
+        assertThat(encode(command)).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat(encode(command)).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat(encode(sut)).isEqualTo("*1\r\n$4\r\nINFO\r\n");
+    }
+
+    @Test
+    void shouldEncodeCommandExceedingCachedHeaderArity() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        for (int i = 0; i < CommandArgs.CommandHeaderCache.MAX_ARGUMENTS + 1; i++) {
+            args.addKey("k");
+        }
+
+        Command<String, String, String> command = new Command<>(CommandType.DEL, new StatusOutput<>(StringCodec.UTF8), args);
+
+        assertThat(encode(command)).startsWith("*10\r\n$3\r\nDEL\r\n$1\r\nk\r\n");
+    }
+
     @Test
     void isDone() {
         assertThat(sut.isCancelled()).isFalse();
@@ -156,4 +182,13 @@ public class CommandUnitTests {
 
     }
 
+    private static String encode(RedisCommand<?, ?, ?> command) {
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+        String result = buffer.toString(StandardCharsets.US_ASCII);
+        buffer.release();
+        return result;
+    }
+
 }
@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Queue;
@@ -33,20 +35,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import io.lettuce.core.AutoFlushOptions;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisCommandTimeoutException;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.test.ConnectionTestUtil;
 import io.lettuce.test.ReflectionTestUtils;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.EncoderException;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
 /**
@@ -164,6 +174,341 @@ class DefaultEndpointUnitTests {
         verify(channel).writeAndFlush(command);
     }
 
+    @Test
+    void writeWithCoalescingShouldFlushOncePerEventLoopTurn() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoFlushOptions(AutoFlushOptions.coalescing()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        sut.write(new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null));
+
+        assertThat(queue).hasSize(2);
+        verify(channel, never()).writeAndFlush(any());
+        verify(channel, never()).flush();
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(runnableCaptor.capture());
+
+        runnableCaptor.getValue().run();
+
+        verify(channel).flush();
+    }
+
+    @Test
+    void writeWithCoalescingShouldFlushWhenPendingCommandsExceeded() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        when(channel.isActive()).thenReturn(true);
+
+        AutoFlushOptions autoFlushOptions = AutoFlushOptions.builder().coalesceWrites().maxPendingCommands(2).build();
+        sut = new DefaultEndpoint(ClientOptions.builder().autoFlushOptions(autoFlushOptions).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        verify(channel, never()).flush();
+
+        sut.write(new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null));
+
+        verify(channel).flush();
+        verify(eventLoop, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void writeWithSubmissionQueueShouldWriteBatchOnEventLoop() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoFlushOptions(AutoFlushOptions.submissionQueue()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> second = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null);
+
+        sut.write(command);
+        sut.write(Collections.singletonList(second));
+
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(2);
+        verify(channel, never()).write(any());
+        verify(channel, never()).writeAndFlush(any());
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(runnableCaptor.capture());
+
+        runnableCaptor.getValue().run();
+
+        verify(channel).writeAndFlush(Arrays.asList(command, second));
+        assertThat(queue).containsExactly(command, second);
+    }
+
+    @Test
+    void writeWithSubmissionQueueShouldYieldAfterFullBatch() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        AutoFlushOptions autoFlushOptions = AutoFlushOptions.builder().submissionQueue().maxPendingCommands(1).build();
+        sut = new DefaultEndpoint(ClientOptions.builder().autoFlushOptions(autoFlushOptions).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> second = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null);
+
+        sut.write(command);
+        sut.write(second);
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        verify(channel).writeAndFlush(Collections.singletonList(command));
+        verify(eventLoop, times(2)).execute(runnableCaptor.capture());
+
+        runnableCaptor.getValue().run();
+
+        verify(channel).writeAndFlush(Collections.singletonList(second));
+        assertThat(queue).containsExactly(command, second);
+    }
+
+    @Test
+    void writeWithSubmissionQueueShouldDrainToCurrentChannel() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().autoFlushOptions(AutoFlushOptions.submissionQueue()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+
+        Channel reconnected = mock(Channel.class);
+        when(reconnected.writeAndFlush(any())).thenReturn(new DefaultChannelPromise(reconnected));
+        sut.channel = reconnected;
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        verify(channel, never()).writeAndFlush(any());
+        verify(reconnected).writeAndFlush(Collections.singletonList(command));
+    }
+
+    @Test
+    void bufferedCommandWithDeadlineShouldTimeOut() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        when(clientResources.timer()).thenReturn(timer);
+        when(clientResources.eventExecutorGroup()).thenReturn(ImmediateEventExecutor.INSTANCE);
+        when(channel.isActive()).thenReturn(true);
+
+        ClientOptions options = ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(1)).deadlineBuckets().build()).build();
+        sut = new DefaultEndpoint(options, clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        CommandExpiryWriter writer = new CommandExpiryWriter(sut, options, clientResources);
+
+        sut.getCommandDeadlines().activated();
+        sut.notifyChannelActive(channel);
+        writer.setAutoFlushCommands(false);
+
+        AsyncCommand<String, String, String> buffered = new AsyncCommand<>(command);
+        writer.write(buffered);
+
+        ArgumentCaptor<TimerTask> taskCaptor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(taskCaptor.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertThat(CommandDeadlines.getDeadline(buffered)).isZero();
+
+        taskCaptor.getValue().run(mock(Timeout.class));
+
+        assertThat(buffered.handle((v, t) -> t).join()).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    void writeWithBackpressureShouldParkCommandsUntilCapacityFrees() {
+
+        CommandLatencyRecorder recorder = mock(CommandLatencyRecorder.class);
+        when(recorder.isEnabled()).thenReturn(true);
+        when(clientResources.commandLatencyRecorder()).thenReturn(recorder);
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(2).requestQueueBackpressure(true).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        AsyncCommand<String, String, String> first = newAsyncCommand();
+        AsyncCommand<String, String, String> second = newAsyncCommand();
+        AsyncCommand<String, String, String> third = newAsyncCommand();
+
+        sut.write(first);
+        sut.write(second);
+        sut.write(third);
+
+        assertThat(queue).containsExactly(first, second);
+        assertThat(third).isNotDone();
+        verify(recorder, never()).recordAdmissionLatency(any(), any(), any(), anyLong());
+
+        first.complete();
+
+        assertThat(queue).containsExactly(first, second);
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        assertThat(queue).containsExactly(first, second, third);
+        verify(recorder).recordAdmissionLatency(any(), any(), eq(CommandType.APPEND), anyLong());
+    }
+
+    @Test
+    void writeWithBackpressureShouldSkipCancelledParkedCommands() {
+
+        when(clientResources.commandLatencyRecorder()).thenReturn(CommandLatencyRecorder.disabled());
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(eventLoop).execute(any(Runnable.class));
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(1).requestQueueBackpressure(true).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        AsyncCommand<String, String, String> first = newAsyncCommand();
+        AsyncCommand<String, String, String> timedOut = newAsyncCommand();
+        AsyncCommand<String, String, String> third = newAsyncCommand();
+
+        sut.write(first);
+        sut.write(timedOut);
+        sut.write(third);
+
+        timedOut.cancel();
+        first.complete();
+
+        assertThat(queue).containsExactly(first, third);
+    }
+
+    @Test
+    void writeWithBackpressureShouldHoldPermitOfBareCommandUntilCompletion() {
+
+        when(clientResources.commandLatencyRecorder()).thenReturn(CommandLatencyRecorder.disabled());
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(eventLoop).execute(any(Runnable.class));
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(1).requestQueueBackpressure(true).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> bare = new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null);
+        AsyncCommand<String, String, String> second = newAsyncCommand();
+
+        RedisCommand<String, String, String> written = sut.write(bare);
+        sut.write(second);
+
+        assertThat(queue).containsExactly(written);
+        assertThat(CommandWrapper.unwrap(written)).isSameAs(bare);
+
+        written.complete();
+
+        assertThat(bare.isDone()).isTrue();
+        assertThat(queue).containsExactly(written, second);
+    }
+
+    @Test
+    void writeWithBackpressureShouldRejectOversizedBatch() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(1).requestQueueBackpressure(true).build(),
+                clientResources);
+
+        AsyncCommand<String, String, String> first = newAsyncCommand();
+        AsyncCommand<String, String, String> second = newAsyncCommand();
+
+        sut.write(Arrays.asList(first, second));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+    }
+
+    @Test
+    void closeShouldCancelParkedCommands() {
+
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(1).requestQueueBackpressure(true).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        AsyncCommand<String, String, String> parked = newAsyncCommand();
+
+        sut.write(newAsyncCommand());
+        sut.write(parked);
+
+        when(channel.close()).thenReturn(mock(ChannelFuture.class));
+        sut.closeAsync();
+
+        assertThat(parked).isCancelled();
+    }
+
+    @Test
+    void resetShouldCancelParkedCommandsWithoutAdmittingThem() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.pipeline()).thenReturn(mock(ChannelPipeline.class));
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(ClientOptions.builder().requestQueueSize(1).requestQueueBackpressure(true).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+        sut.setAutoFlushCommands(false);
+
+        AsyncCommand<String, String, String> buffered = newAsyncCommand();
+        AsyncCommand<String, String, String> parked = newAsyncCommand();
+
+        sut.write(buffered);
+        sut.write(parked);
+
+        sut.reset();
+
+        assertThat(buffered).isCancelled();
+        assertThat(parked).isCancelled();
+        verify(eventLoop, never()).execute(any(Runnable.class));
+    }
+
+    private static AsyncCommand<String, String, String> newAsyncCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null));
+    }
+
     @Test
     void writeDisconnectedShouldBufferCommands() {
 
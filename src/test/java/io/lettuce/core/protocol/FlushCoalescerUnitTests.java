@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.AutoFlushOptions;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Unit tests for {@link FlushCoalescer}.
+ */
+@Tag(UNIT_TEST)
+class FlushCoalescerUnitTests {
+
+    @Test
+    void shouldFlushInlineIfEventLoopRejectsFlushTask() {
+
+        Channel channel = mock(Channel.class);
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        doThrow(new RejectedExecutionException()).doNothing().when(eventLoop).execute(any(Runnable.class));
+
+        FlushCoalescer sut = new FlushCoalescer(AutoFlushOptions.builder().coalesceWrites().build());
+
+        sut.onWrite(channel, 1);
+
+        verify(channel).flush();
+
+        sut.onWrite(channel, 1);
+
+        verify(eventLoop, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldFlushWritesOfConcurrentWritersQueuedBehindScheduledFlush() {
+
+        Channel channel = mock(Channel.class);
+        EventLoop eventLoop = mock(EventLoop.class);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AtomicBoolean inEventLoop = new AtomicBoolean();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger flushed = new AtomicInteger();
+
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(eventLoop.inEventLoop()).thenAnswer(invocation -> inEventLoop.get());
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+        when(channel.flush()).thenAnswer(invocation -> {
+            flushed.set(written.get());
+            return channel;
+        });
+
+        FlushCoalescer sut = new FlushCoalescer(AutoFlushOptions.builder().coalesceWrites().build());
+
+        // writer A writes and schedules a flush
+        tasks.add(written::incrementAndGet);
+        sut.onWrite(channel, 1);
+
+        // event loop processes the write of writer A, the flush is still pending
+        inEventLoop.set(true);
+        tasks.poll().run();
+        inEventLoop.set(false);
+
+        // writer B writes while the flush is pending, its write is queued behind the flush
+        tasks.add(written::incrementAndGet);
+        sut.onWrite(channel, 1);
+
+        inEventLoop.set(true);
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        assertThat(written).hasValue(2);
+        assertThat(flushed).hasValue(2);
+    }
+
+    @Test
+    void shouldFlushWhenPendingBytesExceededOnEventLoop() {
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        FlushCoalescer sut = new FlushCoalescer(AutoFlushOptions.builder().coalesceWrites().maxPendingBytes(1024).build());
+
+        channel.write(Unpooled.wrappedBuffer(new byte[8]));
+        sut.onWrite(channel, 1);
+
+        assertThat(channel.outboundMessages()).isEmpty();
+
+        channel.write(Unpooled.wrappedBuffer(new byte[1024]));
+        sut.onWrite(channel, 1);
+
+        assertThat(channel.outboundMessages()).hasSize(2);
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldFlushScheduledWrites() {
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        FlushCoalescer sut = new FlushCoalescer(AutoFlushOptions.builder().coalesceWrites().build());
+
+        channel.write(Unpooled.wrappedBuffer(new byte[8]));
+        sut.onWrite(channel, 1);
+
+        assertThat(channel.outboundMessages()).isEmpty();
+
+        channel.runPendingTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(1);
+
+        channel.finishAndReleaseAll();
+    }
+
+}
@@ -24,6 +24,7 @@ import static io.lettuce.core.protocol.RedisStateMachine.State;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -38,6 +39,7 @@ import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.junit.jupiter.api.*;
 
 import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.ByteBufCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.output.*;
@@ -149,6 +151,66 @@ class RedisStateMachineResp2UnitTests {
         assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok"));
     }
 
+    @Test
+    void bulkByteBuf() {
+        CommandOutput<ByteBuf, ByteBuf, ByteBuf> output = new ValueOutput<>(ByteBufCodec.INSTANCE);
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(buffer.readerIndex()).isEqualTo(9);
+
+        buffer.setByte(4, 'x');
+        assertThat(output.get().toString(charset)).isEqualTo("foo");
+        assertThat(output.get().release()).isTrue();
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void multiByteBuf() {
+        CommandOutput<ByteBuf, ByteBuf, List<ByteBuf>> output = new ValueListOutput<>(ByteBufCodec.INSTANCE);
+        ByteBuf buffer = buffer("*2\r\n$-1\r\n$2\r\nok\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).hasSize(2);
+        assertThat(output.get().get(0)).isNull();
+        assertThat(output.get().get(1).toString(charset)).isEqualTo("ok");
+        output.get().get(1).release();
+    }
+
+    @Test
+    void bulkChunked() {
+        ChunkedValueOutput<String, String> output = new ChunkedValueOutput<>(codec);
+        StringBuilder chunks = new StringBuilder();
+        output.setSubscriber(new StreamingOutput.Subscriber<ByteBuffer>() {
+
+            @Override
+            public void onNext(ByteBuffer chunk) {
+                chunks.append(charset.decode(chunk)).append('|');
+            }
+
+        });
+
+        ByteBuf buffer = buffer("$6\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(buffer.readerIndex()).isEqualTo(7);
+        assertThat(chunks.toString()).isEqualTo("foo|");
+
+        buffer.discardReadBytes();
+        buffer.writeCharSequence("bar\r", charset);
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(chunks.toString()).isEqualTo("foo|bar|");
+        assertThat(output.get()).isNull();
+
+        buffer.writeCharSequence("\n", charset);
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(6);
+    }
+
+    @Test
+    void bulkChunkedNull() {
+        ChunkedValueOutput<String, String> output = new ChunkedValueOutput<>(codec);
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+    }
+
     @Test
     void multiEmptyArray1() {
         CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<>(codec);
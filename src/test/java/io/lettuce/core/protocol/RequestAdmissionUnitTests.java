@@ -0,0 +1,203 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link RequestAdmission}.
+ */
+@Tag(UNIT_TEST)
+class RequestAdmissionUnitTests {
+
+    private final List<RequestAdmission.Pending> admitted = new ArrayList<>();
+
+    private final RequestAdmission sut = new RequestAdmission(2, admitted::add);
+
+    @Test
+    void shouldAdmitUpToCapacity() {
+
+        assertThat(sut.tryAdmit(1)).isTrue();
+        assertThat(sut.tryAdmit(1)).isTrue();
+        assertThat(sut.tryAdmit(1)).isFalse();
+        assertThat(sut.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAdmitParkedCommandsInOrderOnRelease() {
+
+        AsyncCommand<String, String, String> first = newCommand();
+        AsyncCommand<String, String, String> second = newCommand();
+
+        sut.tryAdmit(2);
+        sut.park(new RequestAdmission.Pending(first));
+        sut.park(new RequestAdmission.Pending(second));
+
+        assertThat(sut.tryAdmit(1)).isFalse();
+
+        sut.release(1);
+
+        assertThat(admitted).extracting(RequestAdmission.Pending::getCommand).containsExactly(first);
+
+        sut.release(1);
+
+        assertThat(admitted).extracting(RequestAdmission.Pending::getCommand).containsExactly(first, second);
+        assertThat(sut.getPending()).isZero();
+    }
+
+    @Test
+    void shouldNotAdmitDirectlyUntilAdmittedCommandsWereHandedOff() {
+
+        sut.tryAdmit(2);
+        sut.park(new RequestAdmission.Pending(newCommand()));
+        sut.release(2);
+
+        assertThat(admitted).hasSize(1);
+        assertThat(sut.tryAdmit(1)).isFalse();
+
+        sut.admitted();
+
+        assertThat(sut.tryAdmit(1)).isTrue();
+    }
+
+    @Test
+    void shouldAdmitBatchOnlyIfAllPermitsAreAvailable() {
+
+        sut.tryAdmit(1);
+        sut.park(new RequestAdmission.Pending(Arrays.asList(newCommand(), newCommand())));
+
+        assertThat(admitted).isEmpty();
+
+        sut.release(1);
+
+        assertThat(admitted).hasSize(1);
+        assertThat(sut.getInFlight()).isEqualTo(2);
+        assertThat(sut.canAdmit(3)).isFalse();
+    }
+
+    @Test
+    void shouldSkipCompletedParkedCommands() {
+
+        AsyncCommand<String, String, String> cancelled = newCommand();
+
+        sut.tryAdmit(2);
+        sut.park(new RequestAdmission.Pending(cancelled));
+        cancelled.cancel();
+        sut.release(1);
+
+        assertThat(admitted).isEmpty();
+        assertThat(sut.getPending()).isZero();
+        assertThat(sut.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void heldPermitShouldBeReleasedOnceOnCompletion() {
+
+        AsyncCommand<String, String, String> command = newCommand();
+
+        sut.tryAdmit(1);
+        sut.hold(command);
+
+        command.complete();
+        command.cancel();
+
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+    @Test
+    void holdShouldReleaseImmediatelyForCompletedCommand() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+        CommandWrapper<String, String, String> wrapper = new CommandWrapper<>(command);
+        wrapper.complete();
+
+        sut.tryAdmit(1);
+        sut.hold(wrapper);
+
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+    @Test
+    void holdShouldKeepPermitOfBareCommandUntilCompletion() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+
+        sut.tryAdmit(1);
+        RedisCommand<String, String, String> held = sut.hold(command);
+
+        assertThat(held).isInstanceOf(RequestAdmission.AdmittedCommand.class);
+        assertThat(sut.getInFlight()).isEqualTo(1);
+
+        held.complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+    @Test
+    void holdShouldReleasePermitOfBareCommandCompletedByCaller() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+
+        sut.tryAdmit(1);
+        RedisCommand<String, String, String> held = sut.hold(command);
+
+        command.cancel();
+
+        assertThat(sut.getInFlight()).isEqualTo(1);
+        assertThat(held.isDone()).isTrue();
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+    @Test
+    void holdShouldWrapOnlyBareCommandsOfBatch() {
+
+        AsyncCommand<String, String, String> completeable = newCommand();
+        Command<String, String, String> bare = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+
+        sut.tryAdmit(2);
+        List<RedisCommand<String, String, ?>> held = new ArrayList<>(sut.hold(Arrays.asList(completeable, bare)));
+
+        assertThat(held.get(0)).isSameAs(completeable);
+        assertThat(held.get(1)).isInstanceOf(RequestAdmission.AdmittedCommand.class);
+
+        held.get(1).completeExceptionally(new IllegalStateException());
+        assertThat(sut.getInFlight()).isEqualTo(1);
+
+        completeable.complete();
+        assertThat(sut.getInFlight()).isZero();
+    }
+
+    private static AsyncCommand<String, String, String> newCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link RespScanner}.
+ */
+@Tag(UNIT_TEST)
+class RespScannerUnitTests {
+
+    @Test
+    void shouldFindLfAtEveryPosition() {
+
+        for (int position = 0; position < 24; position++) {
+
+            byte[] bytes = new byte[24];
+            Arrays.fill(bytes, (byte) 'a');
+            bytes[position] = '\n';
+
+            ByteBuf buffer = Unpooled.wrappedBuffer(bytes);
+
+            assertThat(RespScanner.indexOfLf(buffer, 0, bytes.length)).isEqualTo(position);
+        }
+    }
+
+    @Test
+    void shouldReportFirstOfMultipleLf() {
+
+        ByteBuf buffer = buffer("ab\n\n\ncdefghij\n");
+
+        assertThat(RespScanner.indexOfLf(buffer, 0, buffer.writerIndex())).isEqualTo(2);
+        assertThat(RespScanner.indexOfLf(buffer, 5, buffer.writerIndex())).isEqualTo(13);
+    }
+
+    @Test
+    void shouldNotFindLfOutsideOfRange() {
+
+        ByteBuf buffer = buffer("0123456789abcdef\n");
+
+        assertThat(RespScanner.indexOfLf(buffer, 0, 16)).isEqualTo(-1);
+        assertThat(RespScanner.indexOfLf(buffer, 3, 3)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldNotMatchBytesAdjacentToLf() {
+
+        ByteBuf buffer = buffer("\t\u000b\u000b\t\u000b\t\u000b\u000b\u000b\t\r\n");
+
+        assertThat(RespScanner.indexOfLf(buffer, 0, buffer.writerIndex())).isEqualTo(11);
+    }
+
+    @Test
+    void shouldParseLongs() {
+
+        long[] values = { 0, 1, -1, 7, 12345678, -12345678, 123456789, 9999999999999999L, 1234567890123456789L, Long.MAX_VALUE,
+                Long.MIN_VALUE };
+
+        for (long value : values) {
+
+            ByteBuf buffer = buffer(value + "\r\n");
+
+            assertThat(RespScanner.parseLong(buffer, 0, buffer.writerIndex() - 2)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void shouldParseLongWithinRange() {
+
+        ByteBuf buffer = buffer(":-000123456789012\r\n");
+
+        assertThat(RespScanner.parseLong(buffer, 1, buffer.writerIndex() - 2)).isEqualTo(-123456789012L);
+    }
+
+    @Test
+    void shouldDetectEightDigits() {
+
+        assertThat(RespScanner.isEightDigits(buffer("01234567").getLongLE(0))).isTrue();
+        assertThat(RespScanner.isEightDigits(buffer("98765432").getLongLE(0))).isTrue();
+        assertThat(RespScanner.isEightDigits(buffer("0123456:").getLongLE(0))).isFalse();
+        assertThat(RespScanner.isEightDigits(buffer("/1234567").getLongLE(0))).isFalse();
+        assertThat(RespScanner.isEightDigits(buffer("1234\r\n12").getLongLE(0))).isFalse();
+    }
+
+    @Test
+    void shouldParseEightDigits() {
+        assertThat(RespScanner.parseEightDigits(buffer("12345678").getLongLE(0))).isEqualTo(12345678L);
+        assertThat(RespScanner.parseEightDigits(buffer("00000009").getLongLE(0))).isEqualTo(9L);
+        assertThat(RespScanner.parseEightDigits(buffer("99999999").getLongLE(0))).isEqualTo(99999999L);
+    }
+
+    private static ByteBuf buffer(String value) {
+        return Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+}
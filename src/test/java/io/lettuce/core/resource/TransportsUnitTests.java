@@ -0,0 +1,44 @@
+package io.lettuce.core.resource;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Unit tests for {@link Transports}.
+ */
+@Tag(UNIT_TEST)
+class TransportsUnitTests {
+
+    @Test
+    void shouldResolveSocketChannelClassForNioEventLoop() {
+
+        NioEventLoopGroup group = new NioEventLoopGroup(1);
+        try {
+            assertThat(Transports.socketChannelClass(group)).isEqualTo(NioSocketChannel.class);
+            assertThat(Transports.socketChannelClass(group.next())).isEqualTo(NioSocketChannel.class);
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void shouldFallBackToDefaultSocketChannelClass() {
+
+        DefaultEventLoopGroup group = new DefaultEventLoopGroup(1);
+        try {
+            assertThat(Transports.socketChannelClass(group.next())).isEqualTo(Transports.socketChannelClass());
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.lettuce.core.support;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.pool.PoolMetricsEvent;
+import io.lettuce.core.event.pool.PoolResizedEvent;
+import io.lettuce.test.TestFutures;
+
+/**
+ * Unit tests for {@link AdaptivePoolController}.
+ */
+@Tag(UNIT_TEST)
+class AdaptivePoolControllerUnitTests {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private final List<Event> events = new ArrayList<>();
+
+    private final EventBus eventBus = mock(EventBus.class);
+
+    private final AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+
+        @Override
+        public CompletableFuture<String> create() {
+            return CompletableFuture.completedFuture(counter.incrementAndGet() + "");
+        }
+
+        @Override
+        public CompletableFuture<Void> destroy(String object) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> validate(String object) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+    };
+
+    AdaptivePoolControllerUnitTests() {
+        doAnswer(invocation -> events.add(invocation.getArgument(0))).when(eventBus).publish(any());
+    }
+
+    @Test
+    void shouldGrowOnHighUtilization() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(4).build());
+        AdaptivePoolController controller = createController(pool, AdaptivePoolConfig.builder().maxIdle(2).build());
+
+        TestFutures.getOrTimeout(pool.acquire());
+        controller.adjust();
+
+        assertThat(controller.getTargetIdle()).isEqualTo(1);
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(events).hasSize(2).element(1).isInstanceOf(PoolResizedEvent.class);
+        assertThat(((PoolResizedEvent) events.get(1)).isGrown()).isTrue();
+
+        PoolMetricsEvent metrics = (PoolMetricsEvent) events.get(0);
+        assertThat(metrics.getObjectCount()).isEqualTo(1);
+        assertThat(metrics.getUtilization()).isEqualTo(1.0);
+        assertThat(metrics.getAcquisitions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGrowOnExhaustionWithinBounds() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory,
+                BoundedPoolConfig.builder().maxTotal(1).maxIdle(1).build());
+        AdaptivePoolController controller = createController(pool, AdaptivePoolConfig.builder().maxIdle(1).build());
+
+        for (int i = 0; i < 2; i++) {
+
+            String object = TestFutures.getOrTimeout(pool.acquire());
+            assertThat(pool.acquire()).isCompletedExceptionally();
+            pool.release(object);
+
+            controller.adjust();
+        }
+
+        assertThat(controller.getTargetIdle()).isEqualTo(1);
+        assertThat(events).filteredOn(PoolResizedEvent.class::isInstance).hasSize(1);
+    }
+
+    @Test
+    void shouldShrinkOnLowUtilization() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory,
+                BoundedPoolConfig.builder().minIdle(3).maxIdle(4).maxTotal(4).build());
+        AdaptivePoolController controller = createController(pool, AdaptivePoolConfig.builder().minIdle(1).maxIdle(4).build());
+
+        assertThat(pool.getIdle()).isEqualTo(3);
+
+        controller.adjust();
+
+        assertThat(controller.getTargetIdle()).isEqualTo(2);
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+
+        controller.adjust();
+        controller.adjust();
+
+        assertThat(controller.getTargetIdle()).isEqualTo(1);
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGrowOnAcquireWaitTime() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(4).build());
+        AdaptivePoolController controller = createController(pool,
+                AdaptivePoolConfig.builder().maxAcquireWaitTime(Duration.ZERO).growUtilization(1).build());
+
+        pool.release(TestFutures.getOrTimeout(pool.acquire()));
+        pool.release(TestFutures.getOrTimeout(pool.acquire()));
+
+        controller.adjust();
+
+        assertThat(controller.getTargetIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void startShouldScheduleAdjustments() {
+
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.create());
+        AdaptivePoolController controller = new AdaptivePoolController(pool, AdaptivePoolConfig.builder().minIdle(2).build(),
+                eventBus, executor);
+
+        controller.start();
+
+        assertThat(pool.getIdle()).isEqualTo(2);
+        verify(executor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+    }
+
+    private AdaptivePoolController createController(BoundedAsyncPool<String> pool, AdaptivePoolConfig config) {
+        return new AdaptivePoolController(pool, config, eventBus, mock(ScheduledExecutorService.class));
+    }
+
+}
@@ -116,6 +116,49 @@ class BoundedAsyncPoolUnitTests {
         assertThat(pool.getObjectCount()).isEqualTo(2);
     }
 
+    @Test
+    void shouldLimitWarmupParallelism() {
+
+        List<CompletableFuture<String>> progress = new ArrayList<>();
+        AsyncObjectFactory<String> IN_PROGRESS = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+
+                CompletableFuture<String> future = new CompletableFuture<>();
+                progress.add(future);
+
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(true);
+            }
+
+        };
+
+        CompletionStage<BoundedAsyncPool<String>> pool = BoundedAsyncPool.create(IN_PROGRESS,
+                BoundedPoolConfig.builder().minIdle(5).warmupParallelism(2).build());
+
+        assertThat(progress).hasSize(2);
+
+        progress.get(0).complete("1");
+        assertThat(progress).hasSize(3);
+
+        for (int i = 1; i < 5; i++) {
+            progress.get(i).complete("" + (i + 1));
+        }
+
+        assertThat(progress).hasSize(5);
+        assertThat(pool.toCompletableFuture().join().getIdle()).isEqualTo(5);
+    }
+
     @Test
     void shouldCreateMaintainMinIdleObject() {
 
@@ -0,0 +1,417 @@
+package io.lettuce.core.support;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.test.TestFutures;
+
+/**
+ * Unit tests for {@link ConcurrentBagAsyncPool}.
+ */
+@Tag(UNIT_TEST)
+class ConcurrentBagAsyncPoolUnitTests {
+
+    private AtomicInteger counter = new AtomicInteger();
+
+    private List<String> destroyed = new ArrayList<>();
+
+    private AsyncObjectFactory<String> STRING_OBJECT_FACTORY = new AsyncObjectFactory<String>() {
+
+        @Override
+        public CompletableFuture<String> create() {
+            return CompletableFuture.completedFuture(counter.incrementAndGet() + "");
+        }
+
+        @Override
+        public CompletableFuture<Void> destroy(String object) {
+            destroyed.add(object);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> validate(String object) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+    };
+
+    @Test
+    void shouldCreateMinIdleObjects() {
+
+        ConcurrentBagAsyncPool<String> pool = ConcurrentBagAsyncPool
+                .create(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().minIdle(3).build()).toCompletableFuture().join();
+
+        assertThat(pool.getIdle()).isEqualTo(3);
+        assertThat(pool.getObjectCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReuseObjects() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.create());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        assertThat(pool.getIdle()).isZero();
+
+        pool.release(object);
+        assertThat(pool.getIdle()).isEqualTo(1);
+
+        assertThat(TestFutures.getOrTimeout(pool.acquire())).isEqualTo("1");
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPreferRecentlyReleasedObject() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.create());
+
+        String first = TestFutures.getOrTimeout(pool.acquire());
+        String second = TestFutures.getOrTimeout(pool.acquire());
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(TestFutures.getOrTimeout(pool.acquire())).isEqualTo(second);
+    }
+
+    @Test
+    void shouldDestroyIdle() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxIdle(2).maxTotal(5).build());
+
+        List<String> objects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            objects.add(TestFutures.getOrTimeout(pool.acquire()));
+        }
+
+        objects.forEach(pool::release);
+
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+        assertThat(destroyed).containsOnly("3");
+    }
+
+    @Test
+    void shouldRejectForeignAndDuplicateRelease() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.create());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object);
+
+        assertThat(pool.release(object)).isCompletedExceptionally();
+        assertThat(pool.release("foreign")).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldHandOverReleasedObjectToWaiter() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThat(waiter).isNotDone();
+        assertThat(pool.getWaiting()).isEqualTo(1);
+
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue(object);
+        assertThat(pool.getWaiting()).isZero();
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailAcquireWhenPendingAcquiresExceeded() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxPendingAcquires(1).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+        CompletableFuture<String> exhausted = pool.acquire();
+
+        assertThat(waiter).isNotDone();
+        assertThat(exhausted).isCompletedExceptionally();
+        assertThat(exhausted.handle((v, t) -> t).join()).isInstanceOf(NoSuchElementException.class);
+
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue(object);
+    }
+
+    @Test
+    void shouldSkipCancelledWaiter() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).maxPendingAcquires(1).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> cancelled = pool.acquire();
+        cancelled.cancel(false);
+
+        assertThat(pool.getWaiting()).isZero();
+
+        CompletableFuture<String> waiter = pool.acquire();
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue(object);
+    }
+
+    @Test
+    void shouldValidateHandedOverObject() {
+
+        AtomicBoolean valid = new AtomicBoolean(true);
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(valid.get());
+            }
+
+        }, BoundedPoolConfig.builder().maxTotal(1).testOnAcquire(true).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        valid.set(false);
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue("2");
+        assertThat(destroyed).containsOnly("1");
+    }
+
+    @Test
+    void shouldCreateObjectForWaiterAfterDestroy() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+        }, BoundedPoolConfig.builder().maxTotal(1).testOnRelease(true).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.release(object);
+
+        assertThat(destroyed).containsOnly("1");
+        assertThat(waiter).isCompletedWithValue("2");
+    }
+
+    @Test
+    void shouldCreateObjectAfterDestroy() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+        }, BoundedPoolConfig.builder().maxTotal(1).testOnRelease(true).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+
+        pool.release(object);
+
+        assertThat(destroyed).containsOnly("1");
+        assertThat(pool.acquire()).isCompletedWithValue("2");
+    }
+
+    @Test
+    void shouldValidateRecentlyReleasedObjectOnAcquire() {
+
+        AtomicBoolean valid = new AtomicBoolean(true);
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(valid.get());
+            }
+
+        }, BoundedPoolConfig.builder().maxTotal(1).testOnAcquire(true).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object);
+        valid.set(false);
+
+        assertThat(pool.acquire()).isCompletedWithValue("2");
+        assertThat(destroyed).containsOnly("1");
+    }
+
+    @Test
+    void closeShouldFailAcquire() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        pool.release(object);
+
+        pool.close();
+
+        assertThat(pool.acquire()).isCompletedExceptionally();
+        assertThat(destroyed).containsOnly(object);
+    }
+
+    @Test
+    void closeShouldFailWaiters() {
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(1).build());
+
+        TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.close();
+
+        assertThat(waiter).isCompletedExceptionally();
+        assertThat(pool.getWaiting()).isZero();
+    }
+
+    @Test
+    void cancelShouldReturnObjectToPool() {
+
+        List<CompletableFuture<String>> progress = new ArrayList<>();
+        AsyncObjectFactory<String> IN_PROGRESS = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+
+                CompletableFuture<String> future = new CompletableFuture<>();
+                progress.add(future);
+
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                destroyed.add(object);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(true);
+            }
+
+        };
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(IN_PROGRESS,
+                BoundedPoolConfig.builder().maxTotal(1).maxIdle(0).build());
+
+        CompletableFuture<String> acquire = pool.acquire();
+        acquire.cancel(false);
+
+        progress.get(0).complete("after-cancel");
+
+        assertThat(destroyed).contains("after-cancel");
+        assertThat(pool.getObjectCount()).isZero();
+    }
+
+    @Test
+    void shouldNotExceedMaxTotalUnderContention() throws Exception {
+
+        int threads = 8;
+        int iterations = 2000;
+
+        ConcurrentBagAsyncPool<String> pool = new ConcurrentBagAsyncPool<>(STRING_OBJECT_FACTORY,
+                BoundedPoolConfig.builder().maxTotal(3).build());
+
+        Set<String> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+
+                    for (int i = 0; i < iterations; i++) {
+
+                        String object = pool.acquire().join();
+                        if (!inUse.add(object)) {
+                            overlaps.incrementAndGet();
+                        }
+                        inUse.remove(object);
+                        pool.release(object).join();
+                    }
+
+                    done.countDown();
+                });
+            }
+
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(overlaps).hasValue(0);
+        assertThat(counter.get()).isLessThanOrEqualTo(3);
+        assertThat(pool.getIdle()).isEqualTo(pool.getObjectCount());
+    }
+
+}
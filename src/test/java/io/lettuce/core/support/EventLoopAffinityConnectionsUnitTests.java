@@ -0,0 +1,98 @@
+package io.lettuce.core.support;
+
+import static io.lettuce.TestTags.UNIT_TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Unit tests for {@link EventLoopAffinityConnections}.
+ */
+@Tag(UNIT_TEST)
+class EventLoopAffinityConnectionsUnitTests {
+
+    private DefaultEventLoopGroup group;
+
+    private List<EventLoop> eventLoops;
+
+    private List<StatefulRedisConnection<String, String>> connections;
+
+    private EventLoopAffinityConnections<String, String> sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        group = new DefaultEventLoopGroup(2);
+        eventLoops = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            eventLoops.add((EventLoop) executor);
+        }
+
+        connections = Arrays.asList(mock(StatefulRedisConnection.class), mock(StatefulRedisConnection.class));
+        sut = new EventLoopAffinityConnections<>(eventLoops, connections);
+    }
+
+    @AfterEach
+    void after() {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldReturnConnectionOfCurrentEventLoop() throws Exception {
+
+        for (int i = 0; i < eventLoops.size(); i++) {
+            assertThat(eventLoops.get(i).submit(() -> sut.get()).get(1, TimeUnit.SECONDS)).isSameAs(connections.get(i));
+        }
+    }
+
+    @Test
+    void shouldDistributeRoundRobinOutsideOfEventLoops() {
+
+        assertThat(sut.get()).isSameAs(connections.get(0));
+        assertThat(sut.get()).isSameAs(connections.get(1));
+        assertThat(sut.get()).isSameAs(connections.get(0));
+    }
+
+    @Test
+    void shouldReturnConnectionForEventLoop() {
+
+        assertThat(sut.get(eventLoops.get(1))).isSameAs(connections.get(1));
+
+        DefaultEventLoopGroup other = new DefaultEventLoopGroup(1);
+        try {
+            assertThatIllegalArgumentException().isThrownBy(() -> sut.get(other.next()));
+        } finally {
+            other.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void closeShouldCloseAllConnections() {
+
+        connections.forEach(it -> when(it.closeAsync()).thenReturn(CompletableFuture.completedFuture(null)));
+
+        sut.close();
+
+        connections.forEach(it -> verify(it).closeAsync());
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisCommand;
+import kotlin.coroutines.Continuation;
+import kotlin.coroutines.CoroutineContext;
+import kotlin.coroutines.EmptyCoroutineContext;
+import kotlin.coroutines.intrinsics.IntrinsicsKt;
+import kotlinx.coroutines.reactive.AwaitKt;
+
+/**
+ * Benchmark for the suspend adapters used by the Kotlin Coroutines API. Suspend functions are invoked with a plain
+ * {@link Continuation} so that only the adapter and command dispatch are measured. Run with {@code -prof gc} to compare
+ * allocation rates.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>{@code awaitFirstOrNull()} on the reactive API (reactive bridge)</li>
+ * <li>{@code awaitOrNull()} on the {@link RedisFuture} of the async API</li>
+ * </ul>
+ * Commands are either completed upon dispatch ({@code IMMEDIATE}) or after the caller suspended ({@code DEFERRED}).
+ */
+@State(Scope.Benchmark)
+public class CoroutinesBenchmark {
+
+    private static final ByteBuffer OK = StandardCharsets.US_ASCII.encode("OK");
+
+    @Param({ "IMMEDIATE", "DEFERRED" })
+    private Completion completion;
+
+    private CompletingConnection connection;
+
+    private RedisReactiveCommands<String, String> reactive;
+
+    private RedisAsyncCommands<String, String> async;
+
+    private final BlackholeContinuation continuation = new BlackholeContinuation();
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+
+        connection = new CompletingConnection(completion);
+        reactive = new RedisReactiveCommandsImpl<>(connection, StringCodec.UTF8);
+        async = new RedisAsyncCommandsImpl<>(connection, StringCodec.UTF8);
+        continuation.blackhole = blackhole;
+    }
+
+    @Benchmark
+    public void measureReactiveBridge(Blackhole blackhole) {
+        consume(blackhole, AwaitKt.awaitFirstOrNull(reactive.set("key", "value"), continuation));
+    }
+
+    @Benchmark
+    public void measureRedisFutureAdapter(Blackhole blackhole) {
+        consume(blackhole, RedisFutureAwaitKt.awaitOrNull(async.set("key", "value"), continuation));
+    }
+
+    private void consume(Blackhole blackhole, Object result) {
+
+        if (result != IntrinsicsKt.getCOROUTINE_SUSPENDED()) {
+            blackhole.consume(result);
+        }
+
+        connection.completePending();
+    }
+
+    public enum Completion {
+        IMMEDIATE, DEFERRED
+    }
+
+    /**
+     * Connection that completes commands upon dispatch or retains them for {@link #completePending()}.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static class CompletingConnection extends EmptyStatefulRedisConnection {
+
+        private final Completion completion;
+
+        private final ClientOptions options = ClientOptions.create();
+
+        private RedisCommand pending;
+
+        CompletingConnection(Completion completion) {
+            super(EmptyRedisChannelWriter.INSTANCE);
+            this.completion = completion;
+        }
+
+        @Override
+        public ClientOptions getOptions() {
+            return options;
+        }
+
+        @Override
+        public RedisCommand dispatch(RedisCommand command) {
+
+            if (completion == Completion.IMMEDIATE) {
+                complete(command);
+            } else {
+                pending = command;
+            }
+
+            return command;
+        }
+
+        void completePending() {
+
+            RedisCommand command = pending;
+            if (command != null) {
+                pending = null;
+                complete(command);
+            }
+        }
+
+        private static void complete(RedisCommand command) {
+            command.getOutput().set(OK.duplicate());
+            command.complete();
+        }
+
+    }
+
+    static class BlackholeContinuation implements Continuation<Object> {
+
+        Blackhole blackhole;
+
+        @Override
+        public CoroutineContext getContext() {
+            return EmptyCoroutineContext.INSTANCE;
+        }
+
+        @Override
+        public void resumeWith(Object result) {
+            blackhole.consume(result);
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ public class JmhMain {
 
     public static void main(String... args) throws RunnerException {
         runRedisClientBenchmark();
+        // runRedisClientSyncAllocationBenchmark();
     }
 
     private static void runBenchmarks() throws RunnerException {
@@ -30,6 +31,13 @@ public class JmhMain {
                 .build()).run();
     }
 
+    private static void runRedisClientSyncAllocationBenchmark() throws RunnerException {
+
+        // reports allocations per operation as gc.alloc.rate.norm
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).addProfiler("gc")
+                .include(".RedisClientBenchmark.syncIncr.*").build()).run();
+    }
+
     private static ChainedOptionsBuilder prepareOptions() {
         return new OptionsBuilder().forks(1).warmupIterations(5).threads(1).measurementIterations(5)
                 .timeout(TimeValue.seconds(2)).output("benchmark.log");
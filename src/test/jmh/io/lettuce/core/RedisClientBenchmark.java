@@ -18,6 +18,7 @@ import io.lettuce.test.settings.TestSettings;
  * Test cases:
  * <ul>
  * <li>synchronous command execution</li>
+ * <li>synchronous counter execution through the sync API, primitive commands and pooled primitive commands</li>
  * <li>asynchronous command execution</li>
  * <li>asynchronous command execution with batching</li>
  * <li>asynchronous command execution with delayed flushing</li>
@@ -37,6 +38,8 @@ public class RedisClientBenchmark {
 
     private RedisClient redisClient;
     private StatefulRedisConnection<byte[], byte[]> connection;
+    private PrimitiveRedisCommands<byte[], byte[]> primitiveCommands;
+    private PrimitiveRedisCommands<byte[], byte[]> pooledPrimitiveCommands;
     private RedisFuture commands[];
     private Mono monos[];
 
@@ -47,6 +50,8 @@ public class RedisClientBenchmark {
         redisClient.setOptions(ClientOptions.builder()
                 .timeoutOptions(TimeoutOptions.builder().fixedTimeout(Duration.ofSeconds(10)).build()).build());
         connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        primitiveCommands = PrimitiveRedisCommands.create(connection, ByteArrayCodec.INSTANCE);
+        pooledPrimitiveCommands = PrimitiveRedisCommands.pooled(connection, ByteArrayCodec.INSTANCE);
         commands = new RedisFuture[BATCH_SIZE];
         monos = new Mono[BATCH_SIZE];
     }
@@ -99,6 +104,21 @@ public class RedisClientBenchmark {
         connection.sync().set(KEY, KEY);
     }
 
+    @Benchmark
+    public long syncIncr() {
+        return connection.sync().incr(KEY);
+    }
+
+    @Benchmark
+    public long syncIncrPrimitive() {
+        return primitiveCommands.incr(KEY);
+    }
+
+    @Benchmark
+    public long syncIncrPrimitivePooled() {
+        return pooledPrimitiveCommands.incr(KEY);
+    }
+
     @Benchmark
     public void syncList() {
         connection.async().del(FOO);
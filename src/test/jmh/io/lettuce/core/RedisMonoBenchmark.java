@@ -0,0 +1,100 @@
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Benchmark for the per-subscription overhead of single-result reactive commands. The connection completes each dispatched
+ * command immediately so that only subscription, dispatch and signal emission are measured.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>{@link Mono} backed by {@link RedisPublisher}</li>
+ * <li>{@link RedisMono}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class RedisMonoBenchmark {
+
+    private static final ByteBuffer OK = StandardCharsets.US_ASCII.encode("OK");
+
+    private static final Supplier<RedisCommand<String, String, String>> COMMAND = () -> new Command<>(CommandType.SET,
+            new StatusOutput<>(StringCodec.UTF8));
+
+    private final CompletingConnection connection = new CompletingConnection();
+
+    @Benchmark
+    public void measureRedisPublisher(Blackhole blackhole) {
+        Mono.from(new RedisPublisher<>(COMMAND, connection, false, ImmediateEventExecutor.INSTANCE))
+                .subscribe(new BlackholeSubscriber(blackhole));
+    }
+
+    @Benchmark
+    public void measureRedisMono(Blackhole blackhole) {
+        RedisMono.create(COMMAND, connection, ImmediateEventExecutor.INSTANCE).subscribe(new BlackholeSubscriber(blackhole));
+    }
+
+    /**
+     * Connection that completes commands upon dispatch.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static class CompletingConnection extends EmptyStatefulRedisConnection {
+
+        CompletingConnection() {
+            super(EmptyRedisChannelWriter.INSTANCE);
+        }
+
+        @Override
+        public RedisCommand dispatch(RedisCommand command) {
+
+            command.getOutput().set(OK.duplicate());
+            command.complete();
+            return command;
+        }
+
+    }
+
+    static class BlackholeSubscriber implements CoreSubscriber<Object> {
+
+        private final Blackhole blackhole;
+
+        BlackholeSubscriber(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Object o) {
+            blackhole.consume(o);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            blackhole.consume(t);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+    }
+
+}
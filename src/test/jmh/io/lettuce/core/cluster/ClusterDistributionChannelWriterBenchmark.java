@@ -20,7 +20,7 @@
 package io.lettuce.core.cluster;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -79,10 +79,10 @@ public class ClusterDistributionChannelWriterBenchmark {
         Partitions partitions = new Partitions();
 
         partitions.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, IntStream.range(0, 8191)
-                .boxed().collect(Collectors.toList()), new HashSet<>()));
+                .boxed().collect(Collectors.toList()), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
 
         partitions.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, IntStream
-                .range(8192, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()), new HashSet<>()));
+                .range(8192, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()), Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
 
         partitions.updateCache();
 
@@ -19,9 +19,19 @@ public class JmhMain {
     public static void main(String... args) throws RunnerException {
 
         // runClusterDistributionChannelWriterBenchmark();
+        // runClusterTopologyBenchmark();
         runSlotHashBenchmark();
     }
 
+    private static void runClusterTopologyBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .include(".*ClusterTopologyBenchmark.*") //
+                .include(".*PartitionsConsensusBenchmark.*") //
+                .build()).run();
+    }
+
     private static void runClusterDistributionChannelWriterBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime) //
@@ -0,0 +1,54 @@
+package io.lettuce.core.cluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.topology.SyntheticClusterTopology;
+
+/**
+ * Benchmark for {@link PartitionsConsensus} voting across topology views of synthetic topologies.
+ */
+@State(Scope.Benchmark)
+public class PartitionsConsensusBenchmark {
+
+    private static final int VIEWS = 3;
+
+    @Param({ "100", "500", "1000" })
+    int nodeCount;
+
+    private Partitions current;
+
+    private Map<RedisURI, Partitions> topologyViews;
+
+    @Setup
+    public void setup() {
+
+        current = ClusterPartitionParser.parse(SyntheticClusterTopology.clusterNodes(nodeCount, 0));
+        topologyViews = new LinkedHashMap<>();
+
+        for (int i = 0; i < VIEWS; i++) {
+            topologyViews.put(RedisURI.create("redis://10.0.0." + i),
+                    ClusterPartitionParser.parse(SyntheticClusterTopology.clusterNodes(nodeCount, i)));
+        }
+    }
+
+    @Benchmark
+    public Partitions knownMajority() {
+        return PartitionsConsensus.KNOWN_MAJORITY.getPartitions(current, topologyViews);
+    }
+
+    @Benchmark
+    public Partitions healthyMajority() {
+        return PartitionsConsensus.HEALTHY_MAJORITY.getPartitions(null, topologyViews);
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.lettuce.core.cluster.topology;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.ClusterPartitionParser;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+
+/**
+ * Benchmark for topology refresh cost at scale: {@code CLUSTER NODES} parsing, {@link Partitions#updateCache()},
+ * {@link NodeTopologyViews} aggregation and {@link TopologyDiff} computation for synthetic topologies.
+ */
+@State(Scope.Benchmark)
+public class ClusterTopologyBenchmark {
+
+    private static final int VIEWS = 3;
+
+    @Param({ "100", "500", "1000" })
+    int nodeCount;
+
+    private String clusterNodes;
+
+    private byte[] clusterNodesBytes;
+
+    private Partitions partitions;
+
+    private Partitions loadedPartitions;
+
+    private List<NodeTopologyView> views;
+
+    @Setup
+    public void setup() {
+
+        clusterNodes = SyntheticClusterTopology.clusterNodes(nodeCount, 0);
+        clusterNodesBytes = clusterNodes.getBytes(StandardCharsets.UTF_8);
+        partitions = ClusterPartitionParser.parse(clusterNodes);
+        loadedPartitions = ClusterPartitionParser.parse(SyntheticClusterTopology.clusterNodes(nodeCount, 1));
+
+        views = new ArrayList<>(VIEWS);
+        for (int i = 0; i < VIEWS; i++) {
+            views.add(new NodeTopologyView(RedisURI.create("redis://10.0.0." + i), SyntheticClusterTopology
+                    .clusterNodes(nodeCount, i).getBytes(StandardCharsets.UTF_8), "connected_clients:1", i));
+        }
+    }
+
+    @Benchmark
+    public Partitions parseClusterNodesString() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseClusterNodesBytes() {
+        return ClusterPartitionParser.parse(ByteBuffer.wrap(clusterNodesBytes));
+    }
+
+    @Benchmark
+    public Partitions updateCache() {
+        partitions.updateCache();
+        return partitions;
+    }
+
+    @Benchmark
+    public Map<RedisURI, Partitions> nodeTopologyViewsToMap() {
+        return new NodeTopologyViews(views).toMap();
+    }
+
+    @Benchmark
+    public Set<RedisURI> nodeTopologyViewsClusterNodes() {
+        return new NodeTopologyViews(views).getClusterNodes();
+    }
+
+    @Benchmark
+    public TopologyDiff topologyDiff() {
+        return TopologyDiff.compute(partitions, loadedPartitions);
+    }
+
+}
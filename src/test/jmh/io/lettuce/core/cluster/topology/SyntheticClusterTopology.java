@@ -0,0 +1,57 @@
+package io.lettuce.core.cluster.topology;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Generator for synthetic {@code CLUSTER NODES} replies. Half of the nodes are masters with evenly distributed slot ranges,
+ * each master is followed by one replica.
+ */
+public class SyntheticClusterTopology {
+
+    private SyntheticClusterTopology() {
+    }
+
+    /**
+     * Create a {@code CLUSTER NODES} reply.
+     *
+     * @param nodeCount number of nodes, at least {@code 2}.
+     * @param myself index of the node that carries the {@code myself} flag.
+     * @return the {@code CLUSTER NODES} reply.
+     */
+    public static String clusterNodes(int nodeCount, int myself) {
+
+        int masters = nodeCount / 2;
+        int slotsPerMaster = SlotHash.SLOT_COUNT / masters;
+        StringBuilder builder = new StringBuilder(nodeCount * 160);
+
+        for (int i = 0; i < nodeCount; i++) {
+
+            int master = i / 2;
+            boolean isMaster = i % 2 == 0;
+
+            builder.append(nodeId(i)).append(' ');
+            builder.append("10.0.").append(i / 250).append('.').append(i % 250).append(":6379@16379,node-").append(i)
+                    .append(".redis.local ");
+            builder.append(i == myself ? "myself," : "").append(isMaster ? "master" : "slave").append(' ');
+            builder.append(isMaster ? "-" : nodeId(i - 1)).append(' ');
+            builder.append("0 1700000000").append(String.format("%03d", i)).append(' ').append(master + 1);
+            builder.append(" connected");
+
+            if (isMaster) {
+
+                int from = master * slotsPerMaster;
+                int to = master == masters - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+                builder.append(' ').append(from).append('-').append(to);
+            }
+
+            builder.append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    private static String nodeId(int index) {
+        return String.format("%040x", index);
+    }
+
+}
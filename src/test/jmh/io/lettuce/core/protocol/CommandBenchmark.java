@@ -4,21 +4,29 @@ import java.nio.charset.StandardCharsets;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.output.ValueOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Encode fixed-arity commands ({@code GET}, {@code SET}, {@code HGET}) using pre-encoded command headers compared to
+ * per-element header encoding</li>
  * </ul>
+ * Run with {@code -prof gc} to report the allocation rate.
  *
  * @author Mark Paluch
  */
@@ -32,6 +40,19 @@ public class CommandBenchmark {
 
     private static final String KEY = "key";
     private static final byte[] BYTE_KEY = "key".getBytes();
+    private static final byte[] BYTE_VALUE = "value".getBytes();
+
+    private ByteBuf target;
+
+    @Setup
+    public void setup() {
+        target = Unpooled.directBuffer(256);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
 
     @Benchmark
     public void createCommandUsingByteArrayCodec(Blackhole blackhole) {
@@ -63,6 +84,41 @@ public class CommandBenchmark {
         createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void encodeGetCommand() {
+        target.clear();
+        createCommand(BYTE_KEY, BYTE_ARRAY_CODEC).encode(target);
+    }
+
+    @Benchmark
+    public void encodeSetCommand() {
+        target.clear();
+        new Command<>(CommandType.SET, new StatusOutput<>(BYTE_ARRAY_CODEC),
+                new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).addValue(BYTE_VALUE)).encode(target);
+    }
+
+    @Benchmark
+    public void encodeHgetCommand() {
+        target.clear();
+        new Command<>(CommandType.HGET, new ValueOutput<>(BYTE_ARRAY_CODEC),
+                new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(BYTE_KEY).addKey(BYTE_KEY)).encode(target);
+    }
+
+    @Benchmark
+    public void encodeHeaderPreEncoded() {
+        target.clear();
+        target.writeBytes(CommandArgs.CommandHeaderCache.get(CommandType.SET, 2));
+    }
+
+    @Benchmark
+    public void encodeHeaderPerElement() {
+        target.clear();
+        target.writeByte('*');
+        CommandArgs.IntegerArgument.writeInteger(target, 3);
+        target.writeBytes(CommandArgs.CRLF);
+        CommandArgs.BytesArgument.writeBytes(target, CommandType.SET.getBytes());
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
@@ -56,6 +56,7 @@ public class CommandHandlerBenchmark {
     private final EmptyPromise PROMISE = new EmptyPromise();
 
     private CommandHandler commandHandler;
+    private ByteBuf encodeBuffer;
     private ByteBuf reply1;
     private ByteBuf reply10;
     private ByteBuf reply100;
@@ -73,6 +74,7 @@ public class CommandHandlerBenchmark {
         commandHandler.channelRegistered(CHANNEL_HANDLER_CONTEXT);
         commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
 
+        encodeBuffer = CHANNEL_HANDLER_CONTEXT.alloc().directBuffer(256);
         reply1 = createByteBuf(String.format("+%s", VALUE));
         reply10 = createByteBuf(createBulkReply(10));
         reply100 = createByteBuf(createBulkReply(100));
@@ -89,7 +91,7 @@ public class CommandHandlerBenchmark {
 
         commandHandler.channelUnregistered(CHANNEL_HANDLER_CONTEXT);
 
-        Arrays.asList(reply1, reply10, reply100, reply1000).forEach(ByteBuf::release);
+        Arrays.asList(encodeBuffer, reply1, reply10, reply100, reply1000).forEach(ByteBuf::release);
     }
 
     private static List<Command> createCommands(int count) {
@@ -135,6 +137,24 @@ public class CommandHandlerBenchmark {
         reply1.readerIndex(index);
     }
 
+    @Benchmark
+    public void measureNettyWriteEncodeAndRead() throws Exception {
+
+        Command command = createCommand();
+
+        commandHandler.write(CHANNEL_HANDLER_CONTEXT, command, PROMISE);
+        encodeBuffer.clear();
+        command.encode(encodeBuffer);
+
+        int index = reply1.readerIndex();
+        reply1.retain();
+
+        commandHandler.channelRead(CHANNEL_HANDLER_CONTEXT, reply1);
+
+        // cleanup
+        reply1.readerIndex(index);
+    }
+
     @Benchmark
     public void measureNettyWriteAndReadBatch1() throws Exception {
         doBenchmark(commands1, reply1);
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.datastructure.queue.HashIndexedQueue;
+import io.lettuce.core.output.ValueOutput;
+
+/**
+ * Benchmark for command stack implementations used by {@link CommandHandler} with deep pipelines.
+ */
+@State(Scope.Thread)
+public class CommandStackBenchmark {
+
+    private static final ByteArrayCodec CODEC = new ByteArrayCodec();
+
+    @Param({ "array", "hash", "deque" })
+    String stackType;
+
+    @Param({ "10000", "100000" })
+    int depth;
+
+    private RedisCommand<?, ?, ?>[] commands;
+
+    private Queue<RedisCommand<?, ?, ?>> stack;
+
+    @Setup
+    public void setup() {
+
+        commands = new RedisCommand[depth];
+        for (int i = 0; i < depth; i++) {
+            commands[i] = new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(CODEC)));
+        }
+
+        stack = newStack();
+    }
+
+    private Queue<RedisCommand<?, ?, ?>> newStack() {
+
+        switch (stackType) {
+            case "array":
+                return new ArrayCommandStack();
+            case "hash":
+                return new HashIndexedQueue<>();
+            case "deque":
+                return new ArrayDeque<>();
+            default:
+                throw new IllegalArgumentException(stackType);
+        }
+    }
+
+    /**
+     * Pipeline {@code depth} commands and then drain the stack as replies arrive.
+     */
+    @Benchmark
+    public void measureFillAndDrain(Blackhole blackhole) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            stack.add(command);
+        }
+
+        RedisCommand<?, ?, ?> command;
+        while ((command = stack.poll()) != null) {
+            blackhole.consume(command);
+        }
+    }
+
+    /**
+     * Pipeline {@code depth} commands, fail the write of every hundredth command and drain the remaining commands.
+     */
+    @Benchmark
+    public void measureFillRemoveAndDrain(Blackhole blackhole) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            stack.add(command);
+        }
+
+        for (int i = commands.length - 1; i >= 0; i -= 100) {
+            stack.remove(commands[i]);
+        }
+
+        RedisCommand<?, ?, ?> command;
+        while ((command = stack.poll()) != null) {
+            blackhole.consume(command);
+        }
+    }
+
+    /**
+     * Keep {@code depth} commands in flight and complete the oldest command for each newly written one while cancelling every
+     * hundredth command from the middle of the stack.
+     */
+    @Benchmark
+    public void measureSteadyStateWithCancellation(Blackhole blackhole) {
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            stack.add(command);
+        }
+
+        int half = commands.length / 2;
+        for (int i = 0; i < half; i++) {
+            RedisCommand<?, ?, ?> command = stack.poll();
+            if (i % 100 == 0) {
+                stack.remove(commands[half + i]);
+            }
+            stack.add(command);
+            blackhole.consume(command);
+        }
+
+        stack.clear();
+    }
+
+}
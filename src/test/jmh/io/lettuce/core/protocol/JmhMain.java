@@ -41,6 +41,8 @@ public class JmhMain {
         // runCommandBenchmark();
         // runCommandHandlerBenchmark();
         // runRedisEndpointBenchmark();
+        // runRedisEndpointSubmissionBenchmark();
+        // runCommandStackBenchmark();
         runRedisStateMachineBenchmark();
         // runCommandEncoderBenchmark();
 
@@ -77,6 +79,19 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runRedisEndpointSubmissionBenchmark() throws RunnerException {
+
+        // producer threads are configured per benchmark method
+        new Runner(new OptionsBuilder().forks(1).warmupIterations(5).measurementIterations(5).timeout(TimeValue.seconds(2))
+                .mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*RedisEndpointSubmissionBenchmark.*").build()).run();
+    }
+
+    private static void runCommandStackBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS).include(".*CommandStackBenchmark.*")
+                .build()).run();
+    }
+
     private static void runCommandEncoderBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
@@ -2,6 +2,7 @@ package io.lettuce.core.protocol;
 
 import org.openjdk.jmh.annotations.*;
 
+import io.lettuce.core.AutoFlushOptions;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.EmptyStatefulRedisConnection;
 import io.lettuce.core.codec.ByteArrayCodec;
@@ -16,6 +17,7 @@ import io.netty.channel.embedded.EmbeddedChannel;
  * Test cases:
  * <ul>
  * <li>user command writes</li>
+ * <li>batches of user command writes within a single event loop turn, flushed per command or coalesced</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -24,21 +26,29 @@ import io.netty.channel.embedded.EmbeddedChannel;
 public class RedisEndpointBenchmark {
 
     private static final ByteArrayCodec CODEC = new ByteArrayCodec();
-    private static final ClientOptions CLIENT_OPTIONS = ClientOptions.create();
+    private static final int BATCH_SIZE = 16;
     private static final byte[] KEY = "key".getBytes();
     private static final ChannelFuture EMPTY = new EmptyFuture();
 
+    @Param({ "false", "true" })
+    private boolean coalesceWrites;
+
     private DefaultEndpoint defaultEndpoint;
+    private MyLocalChannel channel;
     private Command command;
 
     @Setup
     public void setup() {
 
-        defaultEndpoint = new DefaultEndpoint(CLIENT_OPTIONS, EmptyClientResources.INSTANCE);
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoFlushOptions(AutoFlushOptions.builder().coalesceWrites(coalesceWrites).build()).build();
+
+        defaultEndpoint = new DefaultEndpoint(clientOptions, EmptyClientResources.INSTANCE);
+        channel = new MyLocalChannel();
         command = new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
 
         defaultEndpoint.setConnectionFacade(EmptyStatefulRedisConnection.INSTANCE);
-        defaultEndpoint.notifyChannelActive(new MyLocalChannel());
+        defaultEndpoint.notifyChannelActive(channel);
     }
 
     @TearDown(Level.Iteration)
@@ -49,6 +59,18 @@ public class RedisEndpointBenchmark {
     @Benchmark
     public void measureUserWrite() {
         defaultEndpoint.write(command);
+        channel.runPendingTasks();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void measureUserWriteBatch() {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            defaultEndpoint.write(command);
+        }
+
+        channel.runPendingTasks();
     }
 
     private static final class MyLocalChannel extends EmbeddedChannel {
@@ -0,0 +1,139 @@
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.AutoFlushOptions;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.EmptyStatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.ValueOutput;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+
+/**
+ * Benchmark for concurrent {@link DefaultEndpoint} writes from multiple producer threads sharing a single endpoint.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>per-command writes submitting a write task to the event loop for each command</li>
+ * <li>writes through the multi-producer submission queue drained by the event loop</li>
+ * </ul>
+ * Each case runs with 1, 8 and 64 producer threads.
+ */
+@State(Scope.Benchmark)
+public class RedisEndpointSubmissionBenchmark {
+
+    private static final ByteArrayCodec CODEC = new ByteArrayCodec();
+
+    private static final byte[] KEY = "key".getBytes();
+
+    private static final ChannelFuture EMPTY = new EmptyFuture();
+
+    @Param({ "false", "true" })
+    private boolean submissionQueue;
+
+    private EventLoop eventLoop;
+
+    private DefaultEndpoint defaultEndpoint;
+
+    private Command command;
+
+    @Setup
+    public void setup() {
+
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoFlushOptions(AutoFlushOptions.builder().submissionQueue(submissionQueue).build()).build();
+
+        eventLoop = new DefaultEventLoop();
+        defaultEndpoint = new DefaultEndpoint(clientOptions, EmptyClientResources.INSTANCE);
+        command = new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
+
+        defaultEndpoint.setConnectionFacade(EmptyStatefulRedisConnection.INSTANCE);
+        defaultEndpoint.notifyChannelActive(new EventLoopChannel(eventLoop));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+
+        // let the event loop catch up with pending writes before resetting
+        eventLoop.submit(() -> {
+        }).get(1, TimeUnit.MINUTES);
+        defaultEndpoint.reset();
+    }
+
+    @TearDown
+    public void shutdown() {
+        eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void measureUserWrite1Producer() {
+        defaultEndpoint.write(command);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void measureUserWrite8Producers() {
+        defaultEndpoint.write(command);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void measureUserWrite64Producers() {
+        defaultEndpoint.write(command);
+    }
+
+    /**
+     * {@link EmptyChannel} bound to an {@link EventLoop}. Writes from outside the event loop submit a task to the event loop
+     * like a pipeline write does.
+     */
+    private static final class EventLoopChannel extends EmptyChannel {
+
+        private final EventLoop eventLoop;
+
+        EventLoopChannel(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public EventLoop eventLoop() {
+            return eventLoop;
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public ChannelFuture write(Object msg) {
+            return submit();
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg) {
+            return submit();
+        }
+
+        private ChannelFuture submit() {
+
+            if (!eventLoop.inEventLoop()) {
+                eventLoop.execute(() -> {
+                });
+            }
+
+            return EMPTY;
+        }
+
+    }
+
+}
@@ -62,8 +62,14 @@ public class RedisStateMachineBenchmark {
                 }
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
+    private static final int LARGE_REPLY_ELEMENTS = 10_000;
+
     private ByteBuf masterBuffer;
 
+    private ByteBuf zrangeWithScoresBuffer;
+
+    private ByteBuf hgetallBuffer;
+
     private final RedisStateMachine stateMachine = new RedisStateMachine();
     private final byte[] payload = ("*3\r\n" + //
             "$4\r\n" + //
@@ -77,11 +83,49 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        zrangeWithScoresBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer();
+        zrangeWithScoresBuffer.writeBytes(zrangeWithScoresReply(LARGE_REPLY_ELEMENTS));
+
+        hgetallBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer();
+        hgetallBuffer.writeBytes(hgetallReply(LARGE_REPLY_ELEMENTS));
+    }
+
+    private static byte[] zrangeWithScoresReply(int members) {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append('*').append(members * 2).append("\r\n");
+
+        for (int i = 0; i < members; i++) {
+            appendBulkString(builder, "member:" + i);
+            appendBulkString(builder, Double.toString(i * 1.5d));
+        }
+
+        return builder.toString().getBytes();
+    }
+
+    private static byte[] hgetallReply(int fields) {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append('*').append(fields * 2).append("\r\n");
+
+        for (int i = 0; i < fields; i++) {
+            appendBulkString(builder, "field:" + i);
+            appendBulkString(builder, "value:" + (i * 31L));
+        }
+
+        return builder.toString().getBytes();
+    }
+
+    private static void appendBulkString(StringBuilder builder, String value) {
+        builder.append('$').append(value.length()).append("\r\n").append(value).append("\r\n");
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        zrangeWithScoresBuffer.release();
+        hgetallBuffer.release();
     }
 
     @Benchmark
@@ -90,6 +134,18 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    @Benchmark
+    public void measureDecodeZrangeWithScores() {
+        stateMachine.decode(zrangeWithScoresBuffer, byteArrayCommand.getOutput());
+        zrangeWithScoresBuffer.readerIndex(0);
+    }
+
+    @Benchmark
+    public void measureDecodeHgetall() {
+        stateMachine.decode(hgetallBuffer, byteArrayCommand.getOutput());
+        hgetallBuffer.readerIndex(0);
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();
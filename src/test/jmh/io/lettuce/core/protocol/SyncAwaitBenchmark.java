@@ -0,0 +1,168 @@
+package io.lettuce.core.protocol;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.EmptyRedisChannelWriter;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+
+/**
+ * Benchmark for synchronous command execution with 10000 concurrent callers sharing a small number of connections. Callers
+ * invoke commands through {@link StatefulRedisConnection#sync()} so that each invocation passes the synchronous invocation
+ * handler, the async API and the connection's {@link io.lettuce.core.RedisChannelWriter}. The writer is stubbed: instead of
+ * encoding the command to a channel, it completes the command on the {@link EventLoop} owned by the connection, so the
+ * benchmark measures the client-side sync path and awaiting, not network I/O or protocol decoding.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>awaiting the command's {@link java.util.concurrent.CompletableFuture}</li>
+ * <li>parking the caller until the command completes ({@link ClientOptions#isParkingSyncExecution()})</li>
+ * </ul>
+ * Callers run on virtual threads when running on Java 21 or newer and on platform threads otherwise.
+ */
+@State(Scope.Benchmark)
+public class SyncAwaitBenchmark {
+
+    private static final ByteArrayCodec CODEC = new ByteArrayCodec();
+
+    private static final byte[] KEY = "key".getBytes();
+
+    private static final int CALLERS = 10000;
+
+    private static final int COMMANDS_PER_CALLER = 10;
+
+    @Param({ "false", "true" })
+    private boolean parking;
+
+    @Param({ "1", "4" })
+    private int connections;
+
+    private final List<EventLoop> eventLoops = new ArrayList<>();
+
+    private final List<StatefulRedisConnection<byte[], byte[]>> statefulConnections = new ArrayList<>();
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+
+        ClientOptions options = ClientOptions.builder().parkingSyncExecution(parking).build();
+
+        for (int i = 0; i < connections; i++) {
+
+            EventLoop eventLoop = new DefaultEventLoop();
+            StatefulRedisConnectionImpl<byte[], byte[]> connection = new StatefulRedisConnectionImpl<>(
+                    new CompletingChannelWriter(eventLoop), NoOpPushHandler.INSTANCE, CODEC, Duration.ofMinutes(1));
+            connection.setOptions(options);
+
+            eventLoops.add(eventLoop);
+            statefulConnections.add(connection);
+        }
+
+        executor = newVirtualThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        executor.shutdownNow();
+        statefulConnections.forEach(StatefulRedisConnection::close);
+        statefulConnections.clear();
+        eventLoops.forEach(it -> it.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly());
+        eventLoops.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLERS * COMMANDS_PER_CALLER)
+    public void measureSyncAwait() throws InterruptedException {
+
+        CountDownLatch latch = new CountDownLatch(CALLERS);
+
+        for (int i = 0; i < CALLERS; i++) {
+
+            RedisCommands<byte[], byte[]> sync = statefulConnections.get(i % connections).sync();
+            executor.execute(() -> {
+
+                for (int j = 0; j < COMMANDS_PER_CALLER; j++) {
+                    sync.get(KEY);
+                }
+
+                latch.countDown();
+            });
+        }
+
+        latch.await();
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Writer that completes commands on the connection's {@link EventLoop} instead of writing them to a channel.
+     */
+    static class CompletingChannelWriter extends EmptyRedisChannelWriter {
+
+        private final EventLoop eventLoop;
+
+        CompletingChannelWriter(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+            eventLoop.execute(command::complete);
+            return command;
+        }
+
+        @Override
+        public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> redisCommands) {
+
+            eventLoop.execute(() -> redisCommands.forEach(RedisCommand::complete));
+            return (Collection) redisCommands;
+        }
+
+    }
+
+    enum NoOpPushHandler implements PushHandler {
+
+        INSTANCE;
+
+        @Override
+        public void addListener(PushListener listener) {
+        }
+
+        @Override
+        public void removeListener(PushListener listener) {
+        }
+
+        @Override
+        public Collection<PushListener> getPushListeners() {
+            return Collections.emptyList();
+        }
+
+    }
+
+}
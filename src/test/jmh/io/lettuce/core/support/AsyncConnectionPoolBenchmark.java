@@ -1,6 +1,8 @@
 package io.lettuce.core.support;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.openjdk.jmh.annotations.*;
 
@@ -9,27 +11,49 @@ import io.lettuce.core.EmptyStatefulRedisConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 
 /**
+ * Benchmark for {@link BoundedAsyncPool} and {@link ConcurrentBagAsyncPool}. The contended benchmark uses a pool large enough
+ * for all threads so that it measures acquire/release churn rather than exhaustion.
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
 public class AsyncConnectionPoolBenchmark {
 
+    private static final int CONTENDED_THREADS = 200;
+
+    @Param({ "bounded", "concurrentBag" })
+    String poolType;
+
     private AsyncPool<StatefulRedisConnection<String, String>> pool;
+
+    private AsyncPool<StatefulRedisConnection<String, String>> contendedPool;
+
     private StatefulRedisConnection[] holder = new StatefulRedisConnection[20];
 
     @Setup
     public void setup() {
 
-        BoundedPoolConfig config = BoundedPoolConfig.builder().minIdle(0).maxIdle(20).maxTotal(20).build();
+        pool = createPool(BoundedPoolConfig.builder().minIdle(0).maxIdle(20).maxTotal(20).build());
+        contendedPool = createPool(BoundedPoolConfig.builder().minIdle(0).maxIdle(CONTENDED_THREADS)
+                .maxTotal(CONTENDED_THREADS).build());
+    }
+
+    private AsyncPool<StatefulRedisConnection<String, String>> createPool(BoundedPoolConfig config) {
+
+        Supplier<CompletionStage<StatefulRedisConnection<String, String>>> supplier = () -> CompletableFuture
+                .completedFuture(new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE));
 
-        pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
-                () -> CompletableFuture.completedFuture(new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE)),
-                config);
+        if (poolType.equals("concurrentBag")) {
+            return AsyncConnectionPoolSupport.createConcurrentBagObjectPool(supplier, config);
+        }
+
+        return AsyncConnectionPoolSupport.createBoundedObjectPool(supplier, config);
     }
 
     @TearDown(Level.Iteration)
     public void tearDown() {
         pool.clear();
+        contendedPool.clear();
     }
 
     @Benchmark
@@ -48,4 +72,11 @@ public class AsyncConnectionPoolBenchmark {
             pool.release(holder[i]).join();
         }
     }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public void contendedSingleConnection() {
+        contendedPool.release(contendedPool.acquire().join()).join();
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-Present, Redis Ltd. and Contributors
+ * All rights reserved.
+ *
+ * Licensed under the MIT License.
+ *
+ * This file contains contributions from third-party contributors
+ * licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core
+
+import io.lettuce.TestTags
+import io.lettuce.core.api.StatefulRedisConnection
+import io.lettuce.core.codec.StringCodec
+import io.lettuce.core.output.StatusOutput
+import io.lettuce.core.protocol.AsyncCommand
+import io.lettuce.core.protocol.Command
+import io.lettuce.core.protocol.CommandType
+import io.lettuce.core.protocol.CommandWrapper
+import io.lettuce.core.protocol.RedisCommand
+import io.lettuce.core.protocol.TracedCommand
+import io.lettuce.core.tracing.TraceContext
+import io.lettuce.core.tracing.TraceContextProvider
+import io.lettuce.core.tracing.Tracing
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.async
+import kotlinx.coroutines.reactor.ReactorContext
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.`when`
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Unit tests for [awaitOrNull], [awaitValue] and [dispatchTraced].
+ */
+@Tag(TestTags.UNIT_TEST)
+class RedisFutureAwaitUnitTests {
+
+    @Test
+    fun shouldReturnValueOfCompletedFuture() {
+
+        val command = newCommand()
+        command.complete("OK")
+
+        runBlocking {
+            assertThat(command.awaitOrNull()).isEqualTo("OK")
+            assertThat(command.awaitValue()).isEqualTo("OK")
+        }
+    }
+
+    @Test
+    fun shouldResumeOnCompletion() {
+
+        val command = newCommand()
+
+        runBlocking {
+
+            val result = async(start = CoroutineStart.UNDISPATCHED) { command.awaitOrNull() }
+            assertThat(result.isActive).isTrue()
+
+            command.complete("OK")
+
+            assertThat(result.await()).isEqualTo("OK")
+        }
+    }
+
+    @Test
+    fun shouldPropagateException() {
+
+        val command = newCommand()
+
+        runBlocking {
+
+            val result = async(start = CoroutineStart.UNDISPATCHED) { runCatching { command.awaitOrNull() } }
+            command.completeExceptionally(RedisCommandExecutionException("ERR"))
+
+            assertThat(result.await().exceptionOrNull()).isInstanceOf(RedisCommandExecutionException::class.java)
+        }
+
+        assertThatThrownBy { runBlocking { command.awaitOrNull() } }.isInstanceOf(RedisCommandExecutionException::class.java)
+    }
+
+    @Test
+    fun shouldCancelCommandOnCancellation() {
+
+        val command = newCommand()
+
+        runBlocking {
+
+            val result = async(start = CoroutineStart.UNDISPATCHED) { command.awaitOrNull() }
+            result.cancel()
+
+            assertThat(command.isCancelled).isTrue()
+        }
+    }
+
+    @Test
+    fun awaitValueShouldRejectNull() {
+
+        val command = newCommand()
+        command.complete(null)
+
+        assertThatThrownBy { runBlocking { command.awaitValue() } }.isInstanceOf(NoSuchElementException::class.java)
+    }
+
+    @Test
+    fun dispatchTracedShouldBindTraceContextProviderOfCoroutine() {
+
+        val provider = TraceContextProvider { mock(TraceContext::class.java) }
+        var bound: TraceContextProvider? = null
+
+        runBlocking(ReactorContext(Tracing.withTraceContextProvider(provider))) {
+            dispatchTraced {
+                bound = TraceContextScope.current()
+                newCommand()
+            }
+        }
+
+        assertThat(bound).isSameAs(provider)
+        assertThat(TraceContextScope.current()).isNull()
+    }
+
+    @Test
+    fun dispatchTracedShouldNotBindWithoutTraceContextProvider() {
+
+        var bound: TraceContextProvider? = mock(TraceContextProvider::class.java)
+
+        runBlocking {
+            dispatchTraced {
+                bound = TraceContextScope.current()
+                newCommand()
+            }
+        }
+
+        assertThat(bound).isNull()
+    }
+
+    @Test
+    @Suppress("UNCHECKED_CAST")
+    fun awaitOrNullShouldAttachTraceContextToAsyncCommand() {
+
+        val traceContext = mock(TraceContext::class.java)
+        val connection = mock(StatefulRedisConnection::class.java) as StatefulRedisConnection<String, String>
+        val dispatched = AtomicReference<RedisCommand<String, String, *>>()
+        `when`(connection.dispatch(any(RedisCommand::class.java) as RedisCommand<String, String, Any>?)).thenAnswer {
+            val command = it.getArgument<RedisCommand<String, String, Any>>(0)
+            dispatched.set(command)
+            command.complete()
+            command
+        }
+
+        val async = RedisAsyncCommandsImpl(connection, StringCodec.UTF8)
+
+        runBlocking(ReactorContext(Tracing.withTraceContextProvider { traceContext })) {
+            awaitOrNull { async.ping() }
+        }
+
+        assertThat(CommandWrapper.unwrap(dispatched.get(), TracedCommand::class.java).traceContext).isSameAs(traceContext)
+    }
+
+    private fun newCommand() = AsyncCommand(Command(CommandType.PING, StatusOutput<String, String>(StringCodec.UTF8)))
+
+}